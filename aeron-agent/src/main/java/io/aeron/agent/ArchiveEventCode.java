@@ -234,7 +234,22 @@ public enum ArchiveEventCode implements EventCode
      * Archive logging event for {@code max-recorded-position} command.
      */
     CMD_IN_MAX_RECORDED_POSITION(
-        45, MaxRecordedPositionRequestDecoder.TEMPLATE_ID, ArchiveEventDissector::dissectControlRequest);
+        45, MaxRecordedPositionRequestDecoder.TEMPLATE_ID, ArchiveEventDissector::dissectControlRequest),
+    /**
+     * Archive logging event for {@code recording-position-for-timestamp} command.
+     */
+    CMD_IN_RECORDING_POSITION_FOR_TIMESTAMP(
+        46, RecordingPositionForTimestampRequestDecoder.TEMPLATE_ID, ArchiveEventDissector::dissectControlRequest),
+    /**
+     * Archive logging event for {@code segment-checksum} command.
+     */
+    CMD_IN_SEGMENT_CHECKSUM(
+        47, SegmentChecksumRequestDecoder.TEMPLATE_ID, ArchiveEventDissector::dissectControlRequest),
+    /**
+     * Archive logging event for {@code query-recordings} command.
+     */
+    CMD_IN_QUERY_RECORDINGS(
+        48, QueryRecordingsRequestDecoder.TEMPLATE_ID, ArchiveEventDissector::dissectControlRequest);
 
     static final int EVENT_CODE_TYPE = EventCodeType.ARCHIVE.getTypeCode();
     private static final ArchiveEventCode[] EVENT_CODE_BY_ID;
@@ -87,6 +87,12 @@ final class ArchiveEventDissector
     private static final ControlResponseDecoder CONTROL_RESPONSE_DECODER = new ControlResponseDecoder();
     private static final RecordingSignalEventDecoder RECORDING_SIGNAL_EVENT_DECODER = new RecordingSignalEventDecoder();
     private static final ReplayTokenRequestDecoder REPLAY_TOKEN_REQUEST_DECODER = new ReplayTokenRequestDecoder();
+    private static final RecordingPositionForTimestampRequestDecoder POSITION_FOR_TIMESTAMP_REQUEST_DECODER =
+        new RecordingPositionForTimestampRequestDecoder();
+    private static final SegmentChecksumRequestDecoder SEGMENT_CHECKSUM_REQUEST_DECODER =
+        new SegmentChecksumRequestDecoder();
+    private static final QueryRecordingsRequestDecoder QUERY_RECORDINGS_REQUEST_DECODER =
+        new QueryRecordingsRequestDecoder();
 
     private ArchiveEventDissector()
     {
@@ -421,6 +427,33 @@ final class ArchiveEventDissector
                 appendReplayToken(builder);
                 break;
 
+            case CMD_IN_RECORDING_POSITION_FOR_TIMESTAMP:
+                POSITION_FOR_TIMESTAMP_REQUEST_DECODER.wrap(
+                    buffer,
+                    offset + encodedLength,
+                    HEADER_DECODER.blockLength(),
+                    HEADER_DECODER.version());
+                appendRecordingPositionForTimestamp(builder);
+                break;
+
+            case CMD_IN_SEGMENT_CHECKSUM:
+                SEGMENT_CHECKSUM_REQUEST_DECODER.wrap(
+                    buffer,
+                    offset + encodedLength,
+                    HEADER_DECODER.blockLength(),
+                    HEADER_DECODER.version());
+                appendSegmentChecksum(builder);
+                break;
+
+            case CMD_IN_QUERY_RECORDINGS:
+                QUERY_RECORDINGS_REQUEST_DECODER.wrap(
+                    buffer,
+                    offset + encodedLength,
+                    HEADER_DECODER.blockLength(),
+                    HEADER_DECODER.version());
+                appendQueryRecordings(builder);
+                break;
+
             default:
                 builder.append(": unknown command");
         }
@@ -991,4 +1024,41 @@ final class ArchiveEventDissector
             .append(" correlationId=").append(REPLAY_TOKEN_REQUEST_DECODER.correlationId())
             .append(" recordingId=").append(REPLAY_TOKEN_REQUEST_DECODER.recordingId());
     }
+
+    private static void appendRecordingPositionForTimestamp(final StringBuilder builder)
+    {
+        builder
+            .append(": controlSessionId=").append(POSITION_FOR_TIMESTAMP_REQUEST_DECODER.controlSessionId())
+            .append(" correlationId=").append(POSITION_FOR_TIMESTAMP_REQUEST_DECODER.correlationId())
+            .append(" recordingId=").append(POSITION_FOR_TIMESTAMP_REQUEST_DECODER.recordingId())
+            .append(" timestamp=").append(POSITION_FOR_TIMESTAMP_REQUEST_DECODER.timestamp());
+    }
+
+    private static void appendSegmentChecksum(final StringBuilder builder)
+    {
+        builder
+            .append(": controlSessionId=").append(SEGMENT_CHECKSUM_REQUEST_DECODER.controlSessionId())
+            .append(" correlationId=").append(SEGMENT_CHECKSUM_REQUEST_DECODER.correlationId())
+            .append(" recordingId=").append(SEGMENT_CHECKSUM_REQUEST_DECODER.recordingId())
+            .append(" position=").append(SEGMENT_CHECKSUM_REQUEST_DECODER.position())
+            .append(" length=").append(SEGMENT_CHECKSUM_REQUEST_DECODER.length());
+    }
+
+    private static void appendQueryRecordings(final StringBuilder builder)
+    {
+        builder
+            .append(": controlSessionId=").append(QUERY_RECORDINGS_REQUEST_DECODER.controlSessionId())
+            .append(" correlationId=").append(QUERY_RECORDINGS_REQUEST_DECODER.correlationId())
+            .append(" fromRecordingId=").append(QUERY_RECORDINGS_REQUEST_DECODER.fromRecordingId())
+            .append(" recordCount=").append(QUERY_RECORDINGS_REQUEST_DECODER.recordCount())
+            .append(" streamId=").append(QUERY_RECORDINGS_REQUEST_DECODER.streamId())
+            .append(" activity=").append(QUERY_RECORDINGS_REQUEST_DECODER.activity())
+            .append(" projection=").append(QUERY_RECORDINGS_REQUEST_DECODER.projection())
+            .append(" minStartTimestamp=").append(QUERY_RECORDINGS_REQUEST_DECODER.minStartTimestamp())
+            .append(" maxStartTimestamp=").append(QUERY_RECORDINGS_REQUEST_DECODER.maxStartTimestamp())
+            .append(" minLength=").append(QUERY_RECORDINGS_REQUEST_DECODER.minLength())
+            .append(" channel=");
+
+        QUERY_RECORDINGS_REQUEST_DECODER.getChannel(builder);
+    }
 }
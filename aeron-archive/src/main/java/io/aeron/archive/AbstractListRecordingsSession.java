@@ -17,6 +17,8 @@ package io.aeron.archive;
 
 import org.agrona.concurrent.UnsafeBuffer;
 
+import static io.aeron.Aeron.NULL_VALUE;
+
 abstract class AbstractListRecordingsSession implements Session
 {
     static final int MAX_SCANS_PER_WORK_CYCLE = 64;
@@ -80,30 +82,22 @@ abstract class AbstractListRecordingsSession implements Session
             return 0;
         }
 
-        final CatalogIndex catalogIndex = catalog.index();
-        final int lastPosition = catalogIndex.lastPosition();
-        final long[] index = catalogIndex.index();
-        int position = CatalogIndex.find(index, recordingId, lastPosition);
-
-        if (position < 0)
+        int cursor = seek(recordingId);
+        final int batchStartCursor = cursor;
+        for (int recordsScanned = 0; sent < count && recordsScanned < MAX_SCANS_PER_WORK_CYCLE; recordsScanned++)
         {
-            for (int i = 0; i <= lastPosition; i += 2)
+            final long candidateRecordingId = candidateRecordingId(cursor);
+            if (NULL_VALUE == candidateRecordingId)
             {
-                if (index[i] >= recordingId)
-                {
-                    position = i;
-                    break;
-                }
+                controlSession.sendRecordingUnknown(correlationId, endOfScanRecordingId());
+                isDone = true;
+                break;
             }
-        }
 
-        final int batchStartPosition = position;
-        for (int recordsScanned = 0; sent < count && recordsScanned < MAX_SCANS_PER_WORK_CYCLE; recordsScanned++)
-        {
-            final boolean noMoreRecordings = position < 0 || position > lastPosition;
-            if (noMoreRecordings || catalog.wrapDescriptorAtOffset(descriptorBuffer, (int)index[position + 1]) < 0)
+            final int descriptorOffset = candidateDescriptorOffset(cursor, candidateRecordingId);
+            if (descriptorOffset < 0 || catalog.wrapDescriptorAtOffset(descriptorBuffer, descriptorOffset) < 0)
             {
-                controlSession.sendRecordingUnknown(correlationId, noMoreRecordings ? recordingId : index[position]);
+                controlSession.sendRecordingUnknown(correlationId, candidateRecordingId);
                 isDone = true;
                 break;
             }
@@ -118,15 +112,8 @@ abstract class AbstractListRecordingsSession implements Session
                 ++sent;
             }
 
-            if (position < lastPosition)
-            {
-                recordingId = index[position + 2];
-            }
-            else
-            {
-                recordingId++;
-            }
-            position += 2;
+            recordingId = candidateRecordingId + 1;
+            cursor++;
         }
 
         if (sent == count)
@@ -134,7 +121,7 @@ abstract class AbstractListRecordingsSession implements Session
             isDone = true;
         }
 
-        return (position - batchStartPosition) / 2;
+        return cursor - batchStartCursor;
     }
 
     /**
@@ -145,5 +132,54 @@ abstract class AbstractListRecordingsSession implements Session
         controlSession.activeListing(null);
     }
 
+    final Catalog catalog()
+    {
+        return catalog;
+    }
+
+    /**
+     * Find the cursor of the first candidate recording which has an id greater than or equal to the given id.
+     *
+     * @param fromRecordingId from which to continue the scan.
+     * @return cursor of the first candidate to be scanned.
+     */
+    int seek(final long fromRecordingId)
+    {
+        final CatalogIndex catalogIndex = catalog.index();
+        return CatalogIndex.ceilingPosition(catalogIndex.index(), fromRecordingId, catalogIndex.lastPosition()) >> 1;
+    }
+
+    /**
+     * Recording id of the candidate at the cursor.
+     *
+     * @param cursor of the candidate.
+     * @return recording id of the candidate or {@link io.aeron.Aeron#NULL_VALUE} if there are no more candidates.
+     */
+    long candidateRecordingId(final int cursor)
+    {
+        final CatalogIndex catalogIndex = catalog.index();
+        return cursor < catalogIndex.size() ? catalogIndex.index()[cursor << 1] : NULL_VALUE;
+    }
+
+    /**
+     * Offset of the descriptor in the catalog for the candidate at the cursor.
+     *
+     * @param cursor      of the candidate.
+     * @param recordingId of the candidate.
+     * @return offset of the descriptor in the catalog or a negative value if not found.
+     */
+    int candidateDescriptorOffset(final int cursor, final long recordingId)
+    {
+        return (int)catalog.index().index()[(cursor << 1) + 1];
+    }
+
     abstract boolean acceptDescriptor(UnsafeBuffer descriptorBuffer);
+
+    private long endOfScanRecordingId()
+    {
+        final CatalogIndex catalogIndex = catalog.index();
+        final int lastPosition = catalogIndex.lastPosition();
+
+        return lastPosition >= 0 ? Math.max(recordingId, catalogIndex.index()[lastPosition] + 1) : recordingId;
+    }
 }
@@ -62,6 +62,7 @@ import static io.aeron.CommonContext.ENDPOINT_PARAM_NAME;
 import static io.aeron.archive.Archive.Configuration.*;
 import static io.aeron.archive.ArchiveThreadingMode.DEDICATED;
 import static io.aeron.exceptions.AeronException.Category.ERROR;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static java.lang.System.getProperty;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -236,6 +237,82 @@ public final class Archive implements AutoCloseable
         @Config
         public static final String FILE_IO_MAX_LENGTH_PROP_NAME = "aeron.archive.file.io.max.length";
 
+        /**
+         * Recording time index file suffix extension.
+         */
+        static final String RECORDING_INDEX_SUFFIX = ".idx";
+
+        /**
+         * Interval in bytes of recorded data between entries in the sparse time index kept for each recording. Each
+         * entry maps the time a block was recorded to its position so a replay can be started from a timestamp.
+         */
+        @Config
+        public static final String RECORDING_INDEX_INTERVAL_PROP_NAME = "aeron.archive.recording.index.interval";
+
+        /**
+         * Default interval in bytes between entries in the recording time index. Default of 0 adds no entries by
+         * recorded length.
+         */
+        @Config
+        public static final int RECORDING_INDEX_INTERVAL_DEFAULT = 0;
+
+        /**
+         * Interval of time between entries in the sparse time index kept for each recording, so a slow stream still
+         * gets an entry for the first block recorded after each interval. Applies in addition to
+         * {@link #RECORDING_INDEX_INTERVAL_PROP_NAME}, and the index is kept when either is greater than 0.
+         */
+        @Config
+        public static final String RECORDING_INDEX_TIME_INTERVAL_PROP_NAME =
+            "aeron.archive.recording.index.time.interval";
+
+        /**
+         * Default interval of time between entries in the recording time index. Default of 0 adds no entries by
+         * elapsed time.
+         *
+         * @see #RECORDING_INDEX_TIME_INTERVAL_PROP_NAME
+         */
+        @Config
+        public static final long RECORDING_INDEX_TIME_INTERVAL_DEFAULT_NS = 0;
+
+        /**
+         * Should replays read recorded data from memory mapped segment files rather than with a read per block.
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false)
+        public static final String REPLAY_MAP_SEGMENT_FILES_PROP_NAME = "aeron.archive.replay.map.segment.files";
+
+        /**
+         * Length in bytes of the window of a mapped segment file which is read ahead of a replay, with positional file
+         * reads on a thread separate from the replayer, so the pages are read into the page cache in bulk rather than
+         * faulted in a page at a time by the replayer. A value of 0 disables read-ahead.
+         */
+        @Config
+        public static final String REPLAY_READ_AHEAD_LENGTH_PROP_NAME = "aeron.archive.replay.read.ahead.length";
+
+        /**
+         * Default length of the replay read-ahead window which is disabled.
+         *
+         * @see #REPLAY_READ_AHEAD_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int REPLAY_READ_AHEAD_LENGTH_DEFAULT = 0;
+
+        /**
+         * Length in bytes of the start of the next segment file of a recording which is read ahead of a replay, on
+         * a thread separate from the replayer, once the replay is within that length of the end of its current
+         * segment. A value of 0 disables segment prefetch.
+         */
+        @Config
+        public static final String REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME =
+            "aeron.archive.replay.segment.prefetch.length";
+
+        /**
+         * Default length of the replay segment prefetch which is disabled.
+         *
+         * @see #REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int REPLAY_SEGMENT_PREFETCH_LENGTH_DEFAULT = 0;
+
         /**
          * Directory in which the archive stores it files such as the catalog and recordings.
          */
@@ -256,6 +333,135 @@ public final class Archive implements AutoCloseable
         @Config(defaultType = DefaultType.STRING, defaultString = "")
         public static final String MARK_FILE_DIR_PROP_NAME = "aeron.archive.mark.file.dir";
 
+        /**
+         * Directory on a secondary, typically slower and larger, filesystem to which cold recording segments are
+         * moved. Segments are resolved across both directories so replay is unaffected by where a segment lives.
+         */
+        @Config(defaultType = DefaultType.STRING, defaultString = "")
+        public static final String COLD_DIR_PROP_NAME = "aeron.archive.cold.dir";
+
+        /**
+         * Age since last modified after which a recording segment is moved to the {@link #COLD_DIR_PROP_NAME}.
+         */
+        @Config
+        public static final String COLD_SEGMENT_AGE_PROP_NAME = "aeron.archive.cold.segment.age";
+
+        /**
+         * Default age after which a segment is moved to the cold directory. Default of 0 disables the age policy.
+         *
+         * @see #COLD_SEGMENT_AGE_PROP_NAME
+         */
+        @Config
+        public static final long COLD_SEGMENT_AGE_DEFAULT_NS = 0;
+
+        /**
+         * Length of each recording, behind its latest position, which is kept in the archive directory with older
+         * segments moved to the {@link #COLD_DIR_PROP_NAME}.
+         */
+        @Config
+        public static final String COLD_SEGMENT_HOT_LENGTH_PROP_NAME = "aeron.archive.cold.segment.hot.length";
+
+        /**
+         * Default length of each recording kept in the archive directory. Default of 0 disables the length policy.
+         *
+         * @see #COLD_SEGMENT_HOT_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final long COLD_SEGMENT_HOT_LENGTH_DEFAULT = 0;
+
+        /**
+         * Interval at which the catalog is checked for segments to be moved to the {@link #COLD_DIR_PROP_NAME}.
+         */
+        @Config
+        public static final String COLD_CHECK_INTERVAL_PROP_NAME = "aeron.archive.cold.check.interval";
+
+        /**
+         * Default interval at which the catalog is checked for segments to be moved to the cold directory.
+         *
+         * @see #COLD_CHECK_INTERVAL_PROP_NAME
+         */
+        @Config(defaultType = DefaultType.LONG, defaultLong = 1000L * 1000 * 1000)
+        public static final long COLD_CHECK_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+
+        /**
+         * Should segments moved to the {@link #COLD_DIR_PROP_NAME} be compressed into independently compressed blocks
+         * which are decompressed on replay.
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false)
+        public static final String COLD_SEGMENT_COMPRESSION_PROP_NAME = "aeron.archive.cold.segment.compression";
+
+        /**
+         * Length of the uncompressed blocks into which a cold segment is compressed. Must be a power of two.
+         */
+        @Config
+        public static final String COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME =
+            "aeron.archive.cold.segment.compression.block.length";
+
+        /**
+         * Default length of the uncompressed blocks into which a cold segment is compressed.
+         *
+         * @see #COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_DEFAULT = 64 * 1024;
+
+        /**
+         * Interval at which a recovery checkpoint is stored in the catalog for each active recording. After an
+         * unclean shutdown the stop position of the recording is recovered by scanning from the checkpoint rather
+         * than from the start of its last segment file.
+         */
+        @Config
+        public static final String RECORDING_CHECKPOINT_INTERVAL_PROP_NAME =
+            "aeron.archive.recording.checkpoint.interval";
+
+        /**
+         * Default interval at which a recovery checkpoint is stored for each active recording. A value of 0 disables
+         * checkpoints.
+         *
+         * @see #RECORDING_CHECKPOINT_INTERVAL_PROP_NAME
+         */
+        @Config(defaultType = DefaultType.LONG, defaultLong = 1000L * 1000 * 1000)
+        public static final long RECORDING_CHECKPOINT_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+
+        /**
+         * Maximum rate in bytes per second at which all replication sessions into this archive combined will record.
+         * When the limit is reached the replication recordings stop consuming, so back pressure slows the replays
+         * from the source archives.
+         */
+        @Config
+        public static final String REPLICATION_BANDWIDTH_PROP_NAME = "aeron.archive.replication.bandwidth";
+
+        /**
+         * Default maximum rate in bytes per second for replication into this archive. A value of 0 means no limit.
+         *
+         * @see #REPLICATION_BANDWIDTH_PROP_NAME
+         */
+        @Config
+        public static final long REPLICATION_BANDWIDTH_DEFAULT = 0;
+
+        /**
+         * Should a replication which extends an existing recording compare the checksums of the segments it already
+         * has with those of the source archive, so only the data after the last matching segment is replayed.
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false)
+        public static final String REPLICATION_SEGMENT_VERIFICATION_PROP_NAME =
+            "aeron.archive.replication.segment.verification";
+
+        /**
+         * Length in bytes of the cache of recently read segment blocks shared by the replay sessions of each replayer
+         * so concurrent replays of the same recording read it from disk once. A value of 0 disables the cache.
+         */
+        @Config
+        public static final String REPLAY_READ_CACHE_LENGTH_PROP_NAME = "aeron.archive.replay.read.cache.length";
+
+        /**
+         * Default length of the replay read cache which is disabled.
+         *
+         * @see #REPLAY_READ_CACHE_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int REPLAY_READ_CACHE_LENGTH_DEFAULT = 0;
+
         /**
          * Recordings will be segmented on disk in files limited to the segment length which must be a multiple of
          * the term length for each stream. For lots of small recording this value may be reduced.
@@ -304,6 +510,31 @@ public final class Archive implements AutoCloseable
         @Config
         public static final int FILE_SYNC_LEVEL_DEFAULT = 0;
 
+        /**
+         * Should recording file syncs be performed asynchronously on a dedicated thread when
+         * {@link #FILE_SYNC_LEVEL_PROP_NAME} is greater than 0. The recorded position of a recording is then only
+         * advanced once the data has been synced to storage.
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false)
+        public static final String FILE_SYNC_ASYNC_PROP_NAME = "aeron.archive.file.sync.async";
+
+        /**
+         * Window over which the recorder gathers recordings with data to be synced when
+         * {@link #FILE_SYNC_LEVEL_PROP_NAME} is greater than 0 so their files are synced together as a group commit
+         * rather than after every block. The recorded position of a recording only advances once its data is synced.
+         */
+        @Config
+        public static final String FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME =
+            "aeron.archive.file.sync.group.commit.window";
+
+        /**
+         * Default window for group commit of file syncs. Default of 0 syncs each block as it is written.
+         *
+         * @see #FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME
+         */
+        @Config
+        public static final long FILE_SYNC_GROUP_COMMIT_WINDOW_DEFAULT_NS = 0;
+
         /**
          * The level at which catalog updates and directory should be sync'ed to disk.
          * <ul>
@@ -422,6 +653,38 @@ public final class Archive implements AutoCloseable
         @Config
         public static final long CATALOG_CAPACITY_DEFAULT = Catalog.DEFAULT_CAPACITY;
 
+        /**
+         * Number of deleted recording descriptors in the {@link Catalog} at which the conductor starts an online
+         * compaction pass to reclaim their space. A value of 0 disables online compaction.
+         */
+        @Config
+        public static final String CATALOG_COMPACTION_THRESHOLD_PROP_NAME =
+            "aeron.archive.catalog.compaction.threshold";
+
+        /**
+         * Default threshold for online compaction of the {@link Catalog} which is disabled.
+         *
+         * @see #CATALOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        @Config
+        public static final int CATALOG_COMPACTION_THRESHOLD_DEFAULT = 0;
+
+        /**
+         * Length in bytes of recording descriptors examined by each duty cycle of the conductor during an online
+         * compaction pass of the {@link Catalog}.
+         */
+        @Config
+        public static final String CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME =
+            "aeron.archive.catalog.compaction.slice.length";
+
+        /**
+         * Default length in bytes of recording descriptors examined by each duty cycle of a compaction pass.
+         *
+         * @see #CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int CATALOG_COMPACTION_SLICE_LENGTH_DEFAULT = 64 * 1024;
+
         /**
          * Timeout for making a connection back to a client for a control session or replay.
          */
@@ -495,6 +758,53 @@ public final class Archive implements AutoCloseable
         @Config(defaultType = DefaultType.LONG, defaultLong = 1000L * 1000 * 1000)
         public static final long RECORDER_CYCLE_THRESHOLD_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(1000);
 
+        /**
+         * Number of recorder threads, each with its own share of the recording sessions, when running in
+         * {@link ArchiveThreadingMode#DEDICATED} mode.
+         */
+        @Config
+        public static final String RECORDER_THREAD_COUNT_PROP_NAME = "aeron.archive.recorder.thread.count";
+
+        /**
+         * Default number of recorder threads.
+         *
+         * @see #RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        @Config
+        public static final int RECORDER_THREAD_COUNT_DEFAULT = 1;
+
+        /**
+         * Number of replayer threads, each with its own share of the replay sessions, when running in
+         * {@link ArchiveThreadingMode#DEDICATED} mode.
+         */
+        @Config
+        public static final String REPLAYER_THREAD_COUNT_PROP_NAME = "aeron.archive.replayer.thread.count";
+
+        /**
+         * Default number of replayer threads.
+         *
+         * @see #REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        @Config
+        public static final int REPLAYER_THREAD_COUNT_DEFAULT = 1;
+
+        /**
+         * Maximum number of bytes a replay session reads from a recording in each duty cycle of its replayer so that
+         * a long running replay cannot starve the other replays sharing the replayer. Bounded replays and replays of
+         * active recordings are exempt so live merges can catch up. A value of 0 means only the
+         * {@link #FILE_IO_MAX_LENGTH_PROP_NAME} applies.
+         */
+        @Config
+        public static final String REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME = "aeron.archive.replay.session.quota.length";
+
+        /**
+         * Default maximum number of bytes a replay session reads in each duty cycle of its replayer.
+         *
+         * @see #REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME
+         */
+        @Config
+        public static final int REPLAY_SESSION_QUOTA_LENGTH_DEFAULT = 0;
+
         /**
          * Property name for threshold value for the replayer work cycle threshold to track for being exceeded.
          */
@@ -629,147 +939,338 @@ public final class Archive implements AutoCloseable
         }
 
         /**
-         * The maximum length of a file IO operation.
+         * Get the directory to which cold recording segments are moved.
          *
-         * @return the maximum length of a file IO operation.
+         * @return the directory to which cold recording segments are moved or null if not set.
+         * @see #COLD_DIR_PROP_NAME
          */
-        public static int fileIoMaxLength()
+        public static String coldDir()
         {
-            return getSizeAsInt(FILE_IO_MAX_LENGTH_PROP_NAME, FILE_IO_MAX_LENGTH_DEFAULT);
+            return System.getProperty(COLD_DIR_PROP_NAME);
         }
 
         /**
-         * The length of file to be used for storing recording segments that must be a power of 2.
-         * <p>
-         * If the {@link Image#termBufferLength()} is greater than this will take priority.
+         * Age since last modified after which a recording segment is moved to the cold directory.
          *
-         * @return length of file to be used for storing recording segments.
+         * @return age in nanoseconds or 0 if the age policy is disabled.
+         * @see #COLD_SEGMENT_AGE_PROP_NAME
          */
-        public static int segmentFileLength()
+        public static long coldSegmentAgeNs()
         {
-            return getSizeAsInt(SEGMENT_FILE_LENGTH_PROP_NAME, SEGMENT_FILE_LENGTH_DEFAULT);
+            return getDurationInNanos(COLD_SEGMENT_AGE_PROP_NAME, COLD_SEGMENT_AGE_DEFAULT_NS);
         }
 
         /**
-         * The low storage space threshold beyond which the archive will reject new requests to record streams.
+         * Length of each recording, behind its latest position, which is kept in the archive directory.
          *
-         * @return threshold beyond which the archive will reject new requests to record streams.
+         * @return length in bytes or 0 if the length policy is disabled.
+         * @see #COLD_SEGMENT_HOT_LENGTH_PROP_NAME
          */
-        public static long lowStorageSpaceThreshold()
+        public static long coldSegmentHotLength()
         {
-            return getSizeAsLong(LOW_STORAGE_SPACE_THRESHOLD_PROP_NAME, LOW_STORAGE_SPACE_THRESHOLD_DEFAULT);
+            return getSizeAsLong(COLD_SEGMENT_HOT_LENGTH_PROP_NAME, COLD_SEGMENT_HOT_LENGTH_DEFAULT);
         }
 
         /**
-         * The level at which files should be sync'ed to disk.
-         * <ul>
-         * <li>0 - normal writes.</li>
-         * <li>1 - sync file data.</li>
-         * <li>2 - sync file data + metadata.</li>
-         * </ul>
+         * Interval at which the catalog is checked for segments to be moved to the cold directory.
          *
-         * @return level at which files should be sync'ed to disk.
-         * @see #FILE_SYNC_LEVEL_PROP_NAME
+         * @return interval in nanoseconds.
+         * @see #COLD_CHECK_INTERVAL_PROP_NAME
          */
-        public static int fileSyncLevel()
+        public static long coldCheckIntervalNs()
         {
-            return Integer.getInteger(FILE_SYNC_LEVEL_PROP_NAME, FILE_SYNC_LEVEL_DEFAULT);
+            return getDurationInNanos(COLD_CHECK_INTERVAL_PROP_NAME, COLD_CHECK_INTERVAL_DEFAULT_NS);
         }
 
         /**
-         * The level at which the catalog file and directory should be sync'ed to disk.
-         * <ul>
-         * <li>0 - normal writes.</li>
-         * <li>1 - sync file data.</li>
-         * <li>2 - sync file data + metadata.</li>
-         * </ul>
+         * Should segments moved to the cold directory be compressed.
          *
-         * @return level at which files should be sync'ed to disk.
-         * @see #CATALOG_FILE_SYNC_LEVEL_PROP_NAME
+         * @return true if segments moved to the cold directory should be compressed.
+         * @see #COLD_SEGMENT_COMPRESSION_PROP_NAME
          */
-        public static int catalogFileSyncLevel()
+        public static boolean coldSegmentCompression()
         {
-            return Integer.getInteger(CATALOG_FILE_SYNC_LEVEL_PROP_NAME, CATALOG_FILE_SYNC_LEVEL_DEFAULT);
+            return "true".equals(getProperty(COLD_SEGMENT_COMPRESSION_PROP_NAME, "false"));
         }
 
         /**
-         * The threading mode to be employed by the archive.
+         * Length of the uncompressed blocks into which a cold segment is compressed.
          *
-         * @return the threading mode to be employed by the archive.
+         * @return length of the uncompressed blocks in bytes.
+         * @see #COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME
          */
-        public static ArchiveThreadingMode threadingMode()
+        public static int coldSegmentCompressionBlockLength()
         {
-            return ArchiveThreadingMode.valueOf(System.getProperty(THREADING_MODE_PROP_NAME, DEDICATED.name()));
+            return getSizeAsInt(
+                COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME, COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_DEFAULT);
         }
 
         /**
-         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_IDLE_STRATEGY_PROP_NAME}
-         * system property.
+         * Interval at which a recovery checkpoint is stored in the catalog for each active recording.
          *
-         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
-         * @return the new idle strategy {@link Supplier}.
+         * @return interval in nanoseconds or 0 if checkpoints are disabled.
+         * @see #RECORDING_CHECKPOINT_INTERVAL_PROP_NAME
          */
-        public static Supplier<IdleStrategy> idleStrategySupplier(final StatusIndicator controllableStatus)
+        public static long recordingCheckpointIntervalNs()
         {
-            return () ->
-            {
-                final String name = System.getProperty(ARCHIVE_IDLE_STRATEGY_PROP_NAME, DEFAULT_IDLE_STRATEGY);
-                return io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
-            };
+            return getDurationInNanos(
+                RECORDING_CHECKPOINT_INTERVAL_PROP_NAME, RECORDING_CHECKPOINT_INTERVAL_DEFAULT_NS);
         }
 
         /**
-         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_RECORDER_IDLE_STRATEGY_PROP_NAME}
-         * system property.
+         * Maximum rate in bytes per second at which all replication sessions into this archive combined will record.
          *
-         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
-         * @return the new idle strategy {@link Supplier}.
+         * @return maximum rate in bytes per second or 0 for no limit.
+         * @see #REPLICATION_BANDWIDTH_PROP_NAME
          */
-        public static Supplier<IdleStrategy> recorderIdleStrategySupplier(final StatusIndicator controllableStatus)
+        public static long replicationBandwidth()
         {
-            final String name = System.getProperty(ARCHIVE_RECORDER_IDLE_STRATEGY_PROP_NAME);
-            if (null == name)
-            {
-                return null;
-            }
-
-            return () -> io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
+            return getSizeAsLong(REPLICATION_BANDWIDTH_PROP_NAME, REPLICATION_BANDWIDTH_DEFAULT);
         }
 
         /**
-         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_REPLAYER_IDLE_STRATEGY_PROP_NAME}
-         * system property.
+         * Should replications verify the segments of an existing recording before resuming.
          *
-         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
-         * @return the new idle strategy {@link Supplier}.
+         * @return true if replications should verify the segments of an existing recording before resuming.
+         * @see #REPLICATION_SEGMENT_VERIFICATION_PROP_NAME
          */
-        public static Supplier<IdleStrategy> replayerIdleStrategySupplier(final StatusIndicator controllableStatus)
+        public static boolean replicationSegmentVerification()
         {
-            final String name = System.getProperty(ARCHIVE_REPLAYER_IDLE_STRATEGY_PROP_NAME);
-            if (null == name)
-            {
-                return null;
-            }
-
-            return () -> io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
+            return "true".equals(getProperty(REPLICATION_SEGMENT_VERIFICATION_PROP_NAME, "false"));
         }
 
         /**
-         * The maximum number of recordings that can operate concurrently after which new requests will be rejected.
+         * Length in bytes of the replay read cache for each replayer.
          *
-         * @return the maximum number of recordings that can operate concurrently.
+         * @return length in bytes of the replay read cache for each replayer, or 0 if disabled.
+         * @see #REPLAY_READ_CACHE_LENGTH_PROP_NAME
          */
-        public static int maxConcurrentRecordings()
+        public static int replayReadCacheLength()
         {
-            return Integer.getInteger(MAX_CONCURRENT_RECORDINGS_PROP_NAME, MAX_CONCURRENT_RECORDINGS_DEFAULT);
+            return getSizeAsInt(REPLAY_READ_CACHE_LENGTH_PROP_NAME, REPLAY_READ_CACHE_LENGTH_DEFAULT);
         }
 
         /**
-         * The maximum number of replays that can operate concurrently after which new requests will be rejected.
+         * The maximum length of a file IO operation.
          *
-         * @return the maximum number of replays that can operate concurrently.
+         * @return the maximum length of a file IO operation.
          */
-        public static int maxConcurrentReplays()
+        public static int fileIoMaxLength()
+        {
+            return getSizeAsInt(FILE_IO_MAX_LENGTH_PROP_NAME, FILE_IO_MAX_LENGTH_DEFAULT);
+        }
+
+        /**
+         * The interval in bytes between entries in the recording time index.
+         *
+         * @return the interval in bytes between entries in the recording time index, or 0 if disabled.
+         * @see #RECORDING_INDEX_INTERVAL_PROP_NAME
+         */
+        public static int recordingIndexInterval()
+        {
+            return getSizeAsInt(RECORDING_INDEX_INTERVAL_PROP_NAME, RECORDING_INDEX_INTERVAL_DEFAULT);
+        }
+
+        /**
+         * The interval in nanoseconds between entries in the recording time index.
+         *
+         * @return the interval in nanoseconds between entries in the recording time index, or 0 if not by time.
+         * @see #RECORDING_INDEX_TIME_INTERVAL_PROP_NAME
+         */
+        public static long recordingIndexTimeIntervalNs()
+        {
+            return getDurationInNanos(
+                RECORDING_INDEX_TIME_INTERVAL_PROP_NAME, RECORDING_INDEX_TIME_INTERVAL_DEFAULT_NS);
+        }
+
+        /**
+         * The length of file to be used for storing recording segments that must be a power of 2.
+         * <p>
+         * If the {@link Image#termBufferLength()} is greater than this will take priority.
+         *
+         * @return length of file to be used for storing recording segments.
+         */
+        public static int segmentFileLength()
+        {
+            return getSizeAsInt(SEGMENT_FILE_LENGTH_PROP_NAME, SEGMENT_FILE_LENGTH_DEFAULT);
+        }
+
+        /**
+         * The low storage space threshold beyond which the archive will reject new requests to record streams.
+         *
+         * @return threshold beyond which the archive will reject new requests to record streams.
+         */
+        public static long lowStorageSpaceThreshold()
+        {
+            return getSizeAsLong(LOW_STORAGE_SPACE_THRESHOLD_PROP_NAME, LOW_STORAGE_SPACE_THRESHOLD_DEFAULT);
+        }
+
+        /**
+         * The level at which files should be sync'ed to disk.
+         * <ul>
+         * <li>0 - normal writes.</li>
+         * <li>1 - sync file data.</li>
+         * <li>2 - sync file data + metadata.</li>
+         * </ul>
+         *
+         * @return level at which files should be sync'ed to disk.
+         * @see #FILE_SYNC_LEVEL_PROP_NAME
+         */
+        public static int fileSyncLevel()
+        {
+            return Integer.getInteger(FILE_SYNC_LEVEL_PROP_NAME, FILE_SYNC_LEVEL_DEFAULT);
+        }
+
+        /**
+         * Should recording file syncs be performed asynchronously on a dedicated thread.
+         *
+         * @return true if recording file syncs should be performed asynchronously.
+         * @see #FILE_SYNC_ASYNC_PROP_NAME
+         */
+        public static boolean fileSyncAsync()
+        {
+            return "true".equals(getProperty(FILE_SYNC_ASYNC_PROP_NAME, "false"));
+        }
+
+        /**
+         * Window in nanoseconds over which recording file syncs are gathered for a group commit.
+         *
+         * @return window in nanoseconds over which recording file syncs are gathered for a group commit.
+         * @see #FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME
+         */
+        public static long fileSyncGroupCommitWindowNs()
+        {
+            return getDurationInNanos(
+                FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME, FILE_SYNC_GROUP_COMMIT_WINDOW_DEFAULT_NS);
+        }
+
+        /**
+         * The level at which the catalog file and directory should be sync'ed to disk.
+         * <ul>
+         * <li>0 - normal writes.</li>
+         * <li>1 - sync file data.</li>
+         * <li>2 - sync file data + metadata.</li>
+         * </ul>
+         *
+         * @return level at which files should be sync'ed to disk.
+         * @see #CATALOG_FILE_SYNC_LEVEL_PROP_NAME
+         */
+        public static int catalogFileSyncLevel()
+        {
+            return Integer.getInteger(CATALOG_FILE_SYNC_LEVEL_PROP_NAME, CATALOG_FILE_SYNC_LEVEL_DEFAULT);
+        }
+
+        /**
+         * The threading mode to be employed by the archive.
+         *
+         * @return the threading mode to be employed by the archive.
+         */
+        public static ArchiveThreadingMode threadingMode()
+        {
+            return ArchiveThreadingMode.valueOf(System.getProperty(THREADING_MODE_PROP_NAME, DEDICATED.name()));
+        }
+
+        /**
+         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_IDLE_STRATEGY_PROP_NAME}
+         * system property.
+         *
+         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
+         * @return the new idle strategy {@link Supplier}.
+         */
+        public static Supplier<IdleStrategy> idleStrategySupplier(final StatusIndicator controllableStatus)
+        {
+            return () ->
+            {
+                final String name = System.getProperty(ARCHIVE_IDLE_STRATEGY_PROP_NAME, DEFAULT_IDLE_STRATEGY);
+                return io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
+            };
+        }
+
+        /**
+         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_RECORDER_IDLE_STRATEGY_PROP_NAME}
+         * system property.
+         *
+         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
+         * @return the new idle strategy {@link Supplier}.
+         */
+        public static Supplier<IdleStrategy> recorderIdleStrategySupplier(final StatusIndicator controllableStatus)
+        {
+            final String name = System.getProperty(ARCHIVE_RECORDER_IDLE_STRATEGY_PROP_NAME);
+            if (null == name)
+            {
+                return null;
+            }
+
+            return () -> io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
+        }
+
+        /**
+         * Create a supplier of {@link IdleStrategy}s for the {@link #ARCHIVE_REPLAYER_IDLE_STRATEGY_PROP_NAME}
+         * system property.
+         *
+         * @param controllableStatus if a {@link org.agrona.concurrent.ControllableIdleStrategy} is required.
+         * @return the new idle strategy {@link Supplier}.
+         */
+        public static Supplier<IdleStrategy> replayerIdleStrategySupplier(final StatusIndicator controllableStatus)
+        {
+            final String name = System.getProperty(ARCHIVE_REPLAYER_IDLE_STRATEGY_PROP_NAME);
+            if (null == name)
+            {
+                return null;
+            }
+
+            return () -> io.aeron.driver.Configuration.agentIdleStrategy(name, controllableStatus);
+        }
+
+        /**
+         * The maximum number of recordings that can operate concurrently after which new requests will be rejected.
+         *
+         * @return the maximum number of recordings that can operate concurrently.
+         */
+        public static int maxConcurrentRecordings()
+        {
+            return Integer.getInteger(MAX_CONCURRENT_RECORDINGS_PROP_NAME, MAX_CONCURRENT_RECORDINGS_DEFAULT);
+        }
+
+        /**
+         * Number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return number of recorder threads.
+         * @see #RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public static int recorderThreadCount()
+        {
+            return Integer.getInteger(RECORDER_THREAD_COUNT_PROP_NAME, RECORDER_THREAD_COUNT_DEFAULT);
+        }
+
+        /**
+         * Number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return number of replayer threads.
+         * @see #REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public static int replayerThreadCount()
+        {
+            return Integer.getInteger(REPLAYER_THREAD_COUNT_PROP_NAME, REPLAYER_THREAD_COUNT_DEFAULT);
+        }
+
+        /**
+         * Maximum number of bytes a replay session reads in each duty cycle of its replayer.
+         *
+         * @return maximum number of bytes a replay session reads in each duty cycle or 0 for no quota.
+         * @see #REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME
+         */
+        public static int replaySessionQuotaLength()
+        {
+            return getSizeAsInt(REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME, REPLAY_SESSION_QUOTA_LENGTH_DEFAULT);
+        }
+
+        /**
+         * The maximum number of replays that can operate concurrently after which new requests will be rejected.
+         *
+         * @return the maximum number of replays that can operate concurrently.
+         */
+        public static int maxConcurrentReplays()
         {
             return Integer.getInteger(MAX_CONCURRENT_REPLAYS_PROP_NAME, MAX_CONCURRENT_REPLAYS_DEFAULT);
         }
@@ -797,6 +1298,28 @@ public final class Archive implements AutoCloseable
             return SystemUtil.getSizeAsLong(CATALOG_CAPACITY_PROP_NAME, CATALOG_CAPACITY_DEFAULT);
         }
 
+        /**
+         * Number of deleted recording descriptors at which an online compaction pass of the catalog is started.
+         *
+         * @return number of deleted recording descriptors which starts a compaction pass, or 0 if disabled.
+         * @see #CATALOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        public static int catalogCompactionThreshold()
+        {
+            return Integer.getInteger(CATALOG_COMPACTION_THRESHOLD_PROP_NAME, CATALOG_COMPACTION_THRESHOLD_DEFAULT);
+        }
+
+        /**
+         * Length in bytes of recording descriptors examined by each duty cycle of a catalog compaction pass.
+         *
+         * @return length in bytes of recording descriptors examined by each duty cycle of a compaction pass.
+         * @see #CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME
+         */
+        public static int catalogCompactionSliceLength()
+        {
+            return getSizeAsInt(CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME, CATALOG_COMPACTION_SLICE_LENGTH_DEFAULT);
+        }
+
         /**
          * The timeout in nanoseconds to wait for a connection.
          *
@@ -861,6 +1384,39 @@ public final class Archive implements AutoCloseable
             return "true".equals(getProperty(ARCHIVE_DIR_DELETE_ON_START_PROP_NAME, "false"));
         }
 
+        /**
+         * Should replays read recorded data from memory mapped segment files.
+         *
+         * @return true if replays should read recorded data from memory mapped segment files.
+         * @see #REPLAY_MAP_SEGMENT_FILES_PROP_NAME
+         */
+        public static boolean replayMapSegmentFiles()
+        {
+            return "true".equals(getProperty(REPLAY_MAP_SEGMENT_FILES_PROP_NAME, "false"));
+        }
+
+        /**
+         * Length in bytes of the window of a mapped segment file which is read ahead of a replay position.
+         *
+         * @return length in bytes of the replay read-ahead window, or 0 if disabled.
+         * @see #REPLAY_READ_AHEAD_LENGTH_PROP_NAME
+         */
+        public static int replayReadAheadLength()
+        {
+            return getSizeAsInt(REPLAY_READ_AHEAD_LENGTH_PROP_NAME, REPLAY_READ_AHEAD_LENGTH_DEFAULT);
+        }
+
+        /**
+         * Length in bytes of the start of the next segment file which is read ahead of a replay.
+         *
+         * @return length in bytes of the replay segment prefetch, or 0 if disabled.
+         * @see #REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME
+         */
+        public static int replaySegmentPrefetchLength()
+        {
+            return getSizeAsInt(REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME, REPLAY_SEGMENT_PREFETCH_LENGTH_DEFAULT);
+        }
+
         /**
          * The system property {@link #REPLICATION_CHANNEL_PROP_NAME} if set, null otherwise.
          *
@@ -1014,6 +1570,16 @@ public final class Archive implements AutoCloseable
         private Aeron aeron;
         private File archiveDir;
         private File markFileDir;
+        private File coldDir;
+        private long coldSegmentAgeNs = Configuration.coldSegmentAgeNs();
+        private long coldSegmentHotLength = Configuration.coldSegmentHotLength();
+        private long coldCheckIntervalNs = Configuration.coldCheckIntervalNs();
+        private boolean coldSegmentCompression = Configuration.coldSegmentCompression();
+        private int coldSegmentCompressionBlockLength = Configuration.coldSegmentCompressionBlockLength();
+        private long recordingCheckpointIntervalNs = Configuration.recordingCheckpointIntervalNs();
+        private long replicationBandwidth = Configuration.replicationBandwidth();
+        private boolean replicationSegmentVerification = Configuration.replicationSegmentVerification();
+        private int replayReadCacheLength = Configuration.replayReadCacheLength();
         private String archiveDirectoryName = Configuration.archiveDirName();
         private FileChannel archiveDirChannel;
         private FileStore archiveFileStore;
@@ -1043,13 +1609,25 @@ public final class Archive implements AutoCloseable
         private long recorderCycleThresholdNs = Configuration.recorderCycleThresholdNs();
         private long replayerCycleThresholdNs = Configuration.replayerCycleThresholdNs();
         private long catalogCapacity = Configuration.catalogCapacity();
+        private int catalogCompactionThreshold = Configuration.catalogCompactionThreshold();
+        private int catalogCompactionSliceLength = Configuration.catalogCompactionSliceLength();
         private long lowStorageSpaceThreshold = Configuration.lowStorageSpaceThreshold();
         private int segmentFileLength = Configuration.segmentFileLength();
         private int fileSyncLevel = Configuration.fileSyncLevel();
+        private boolean fileSyncAsync = Configuration.fileSyncAsync();
+        private long fileSyncGroupCommitWindowNs = Configuration.fileSyncGroupCommitWindowNs();
         private int catalogFileSyncLevel = Configuration.catalogFileSyncLevel();
         private int maxConcurrentRecordings = Configuration.maxConcurrentRecordings();
+        private int recorderThreadCount = Configuration.recorderThreadCount();
         private int maxConcurrentReplays = Configuration.maxConcurrentReplays();
+        private int replayerThreadCount = Configuration.replayerThreadCount();
+        private int replaySessionQuotaLength = Configuration.replaySessionQuotaLength();
         private int fileIoMaxLength = Configuration.fileIoMaxLength();
+        private int recordingIndexInterval = Configuration.recordingIndexInterval();
+        private long recordingIndexTimeIntervalNs = Configuration.recordingIndexTimeIntervalNs();
+        private boolean replayMapSegmentFiles = Configuration.replayMapSegmentFiles();
+        private int replayReadAheadLength = Configuration.replayReadAheadLength();
+        private int replaySegmentPrefetchLength = Configuration.replaySegmentPrefetchLength();
         private long archiveId = Configuration.archiveId();
         private ArchiveThreadingMode threadingMode = Configuration.threadingMode();
         private ThreadFactory threadFactory;
@@ -1080,14 +1658,33 @@ public final class Archive implements AutoCloseable
         private UnsafeBuffer recordChecksumBuffer;
         private DutyCycleTracker conductorDutyCycleTracker;
         private DutyCycleTracker recorderDutyCycleTracker;
+        private DutyCycleTracker[] recorderDutyCycleTrackers;
         private DutyCycleTracker replayerDutyCycleTracker;
+        private DutyCycleTracker[] replayerDutyCycleTrackers;
 
         private Counter totalWriteBytesCounter;
         private Counter totalWriteTimeCounter;
         private Counter maxWriteTimeCounter;
+        private Counter totalSyncTimeCounter;
+        private Counter maxSyncTimeCounter;
+        private Counter totalForceTimeCounter;
+        private Counter maxForceTimeCounter;
+        private Counter coldSegmentCounter;
+        private Counter coldBytesCounter;
+        private Counter replicationSessionCounter;
+        private Counter replicationBytesCounter;
+        private Counter replayReadCacheHitBytesCounter;
+        private Counter replayReadCacheMissBytesCounter;
+        private Counter replayReadAheadBytesCounter;
+        private Counter replaySegmentPrefetchHitsCounter;
+        private Counter replaySegmentPrefetchMissesCounter;
+        private Counter catalogLiveDescriptorsCounter;
+        private Counter catalogDeadDescriptorsCounter;
+        private Counter catalogCompactedBytesCounter;
         private Counter totalReadBytesCounter;
         private Counter totalReadTimeCounter;
         private Counter maxReadTimeCounter;
+        private Counter[] replayerReadBytesCounters;
         private String secureRandomAlgorithm = CommonContext.getSecureRandomAlgorithm();
 
         /**
@@ -1129,73 +1726,214 @@ public final class Archive implements AutoCloseable
                 throw new ConfigurationException("invalid fileIoMaxLength=" + fileIoMaxLength);
             }
 
-            io.aeron.driver.Configuration.validateMtuLength(controlMtuLength);
-            checkTermLength(controlTermBufferLength);
-
-            if (controlChannelEnabled)
+            if (0 != replayReadCacheLength && replayReadCacheLength < ReplayReadCache.BLOCK_LENGTH)
             {
-                if (null == controlChannel)
-                {
-                    throw new ConfigurationException("Archive.Context.controlChannel must be set");
-                }
+                throw new ConfigurationException("invalid replayReadCacheLength=" + replayReadCacheLength);
+            }
 
-                if (!controlChannel.startsWith(CommonContext.UDP_CHANNEL))
-                {
-                    throw new ConfigurationException(
-                        "Archive.Context.controlChannel must be UDP media: uri=" + controlChannel);
-                }
+            if (0 != replayReadAheadLength &&
+                (replayReadAheadLength < TERM_MIN_LENGTH || !BitUtil.isPowerOfTwo(replayReadAheadLength)))
+            {
+                throw new ConfigurationException("invalid replayReadAheadLength=" + replayReadAheadLength);
             }
 
-            if (!localControlChannel.startsWith(CommonContext.IPC_CHANNEL))
+            if (replayMapSegmentFiles && replayReadAheadLength > 0 && ArchiveThreadingMode.INVOKER == threadingMode)
             {
-                throw new ConfigurationException("local control channel must be IPC media: uri=" + localControlChannel);
+                throw new ConfigurationException(
+                    "replayReadAheadLength is not supported with threadingMode=" + threadingMode);
             }
 
-            if (null == replicationChannel)
+            if (replaySegmentPrefetchLength < 0)
             {
-                throw new ConfigurationException("Archive.Context.replicationChannel must be set");
+                throw new ConfigurationException("invalid replaySegmentPrefetchLength=" + replaySegmentPrefetchLength);
             }
 
-            if (recordingEventsEnabled() && null == recordingEventsChannel())
+            if (replaySegmentPrefetchLength > 0 && ArchiveThreadingMode.INVOKER == threadingMode)
             {
                 throw new ConfigurationException(
-                    "Archive.Context.recordingEventsChannel must be set if " +
-                    "Archive.Context.recordingEventsEnabled is true");
+                    "replaySegmentPrefetchLength is not supported with threadingMode=" + threadingMode);
             }
 
-            if (null == archiveDir)
+            if (catalogCompactionThreshold < 0)
             {
-                archiveDir = new File(archiveDirectoryName);
+                throw new ConfigurationException("invalid catalogCompactionThreshold=" + catalogCompactionThreshold);
             }
 
-            if (null == markFileDir)
+            if (catalogCompactionSliceLength <= 0)
             {
-                final String markFileDirPath = Configuration.markFileDir();
-                markFileDir = !Strings.isEmpty(markFileDirPath) ? new File(markFileDirPath) : archiveDir;
+                throw new ConfigurationException(
+                    "invalid catalogCompactionSliceLength=" + catalogCompactionSliceLength);
             }
 
-            try
+            if (recordingIndexInterval < 0)
             {
-                archiveDir = archiveDir.getCanonicalFile();
-                archiveDirectoryName = archiveDir.getAbsolutePath();
-                markFileDir = markFileDir.getCanonicalFile();
+                throw new ConfigurationException("invalid recordingIndexInterval=" + recordingIndexInterval);
             }
-            catch (final IOException e)
+
+            if (recordingIndexTimeIntervalNs < 0)
             {
-                throw new UncheckedIOException(e);
+                throw new ConfigurationException(
+                    "invalid recordingIndexTimeIntervalNs=" + recordingIndexTimeIntervalNs);
             }
 
-            if (deleteArchiveOnStart)
+            if (fileSyncAsync && ArchiveThreadingMode.INVOKER == threadingMode)
             {
-                IoUtil.delete(archiveDir, false);
+                throw new ConfigurationException("fileSyncAsync is not supported with threadingMode=" + threadingMode);
             }
 
-            IoUtil.ensureDirectoryExists(archiveDir, "archive");
-            IoUtil.ensureDirectoryExists(markFileDir, "mark file");
+            if (recorderThreadCount < 1)
+            {
+                throw new ConfigurationException("invalid recorderThreadCount=" + recorderThreadCount);
+            }
 
-            archiveDirChannel = channelForDirectorySync(archiveDir, catalogFileSyncLevel);
+            if (replayerThreadCount < 1)
+            {
+                throw new ConfigurationException("invalid replayerThreadCount=" + replayerThreadCount);
+            }
 
-            if (null == archiveFileStore)
+            if (replaySessionQuotaLength < 0)
+            {
+                throw new ConfigurationException("invalid replaySessionQuotaLength=" + replaySessionQuotaLength);
+            }
+
+            if (fileSyncGroupCommitWindowNs < 0)
+            {
+                throw new ConfigurationException("invalid fileSyncGroupCommitWindowNs=" + fileSyncGroupCommitWindowNs);
+            }
+
+            if (fileSyncAsync && fileSyncGroupCommitWindowNs > 0)
+            {
+                throw new ConfigurationException(
+                    "fileSyncAsync and fileSyncGroupCommitWindowNs are mutually exclusive");
+            }
+
+            io.aeron.driver.Configuration.validateMtuLength(controlMtuLength);
+            checkTermLength(controlTermBufferLength);
+
+            if (controlChannelEnabled)
+            {
+                if (null == controlChannel)
+                {
+                    throw new ConfigurationException("Archive.Context.controlChannel must be set");
+                }
+
+                if (!controlChannel.startsWith(CommonContext.UDP_CHANNEL))
+                {
+                    throw new ConfigurationException(
+                        "Archive.Context.controlChannel must be UDP media: uri=" + controlChannel);
+                }
+            }
+
+            if (!localControlChannel.startsWith(CommonContext.IPC_CHANNEL))
+            {
+                throw new ConfigurationException("local control channel must be IPC media: uri=" + localControlChannel);
+            }
+
+            if (null == replicationChannel)
+            {
+                throw new ConfigurationException("Archive.Context.replicationChannel must be set");
+            }
+
+            if (recordingEventsEnabled() && null == recordingEventsChannel())
+            {
+                throw new ConfigurationException(
+                    "Archive.Context.recordingEventsChannel must be set if " +
+                    "Archive.Context.recordingEventsEnabled is true");
+            }
+
+            if (null == archiveDir)
+            {
+                archiveDir = new File(archiveDirectoryName);
+            }
+
+            if (null == markFileDir)
+            {
+                final String markFileDirPath = Configuration.markFileDir();
+                markFileDir = !Strings.isEmpty(markFileDirPath) ? new File(markFileDirPath) : archiveDir;
+            }
+
+            if (null == coldDir)
+            {
+                final String coldDirPath = Configuration.coldDir();
+                coldDir = !Strings.isEmpty(coldDirPath) ? new File(coldDirPath) : null;
+            }
+
+            try
+            {
+                archiveDir = archiveDir.getCanonicalFile();
+                archiveDirectoryName = archiveDir.getAbsolutePath();
+                markFileDir = markFileDir.getCanonicalFile();
+                if (null != coldDir)
+                {
+                    coldDir = coldDir.getCanonicalFile();
+                }
+            }
+            catch (final IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+
+            if (null != coldDir)
+            {
+                if (coldDir.equals(archiveDir))
+                {
+                    throw new ConfigurationException("coldDir must not be the archiveDir: " + coldDir);
+                }
+
+                if (ArchiveThreadingMode.INVOKER == threadingMode)
+                {
+                    throw new ConfigurationException("coldDir is not supported with threadingMode=" + threadingMode);
+                }
+
+                if (coldSegmentAgeNs < 0 || coldSegmentHotLength < 0 || coldCheckIntervalNs <= 0)
+                {
+                    throw new ConfigurationException("invalid cold storage policy: coldSegmentAgeNs=" +
+                        coldSegmentAgeNs + ", coldSegmentHotLength=" + coldSegmentHotLength +
+                        ", coldCheckIntervalNs=" + coldCheckIntervalNs);
+                }
+            }
+
+            if (recordingCheckpointIntervalNs < 0)
+            {
+                throw new ConfigurationException(
+                    "recordingCheckpointIntervalNs must be >= 0: " + recordingCheckpointIntervalNs);
+            }
+
+            if (replicationBandwidth < 0)
+            {
+                throw new ConfigurationException("replicationBandwidth must be >= 0: " + replicationBandwidth);
+            }
+
+            if (coldSegmentCompression)
+            {
+                if (null == coldDir)
+                {
+                    throw new ConfigurationException("coldSegmentCompression requires a coldDir");
+                }
+
+                if (!isPowerOfTwo(coldSegmentCompressionBlockLength) ||
+                    coldSegmentCompressionBlockLength < FRAME_ALIGNMENT)
+                {
+                    throw new ConfigurationException("coldSegmentCompressionBlockLength must be a power of two >= " +
+                        FRAME_ALIGNMENT + ": " + coldSegmentCompressionBlockLength);
+                }
+            }
+
+            if (deleteArchiveOnStart)
+            {
+                IoUtil.delete(archiveDir, false);
+            }
+
+            IoUtil.ensureDirectoryExists(archiveDir, "archive");
+            IoUtil.ensureDirectoryExists(markFileDir, "mark file");
+            if (null != coldDir)
+            {
+                IoUtil.ensureDirectoryExists(coldDir, "cold");
+            }
+
+            archiveDirChannel = channelForDirectorySync(archiveDir, catalogFileSyncLevel);
+
+            if (null == archiveFileStore)
             {
                 try
                 {
@@ -1371,6 +2109,27 @@ public final class Archive implements AutoCloseable
                             recorderCycleThresholdNs);
                     }
 
+                    recorderDutyCycleTrackers = new DutyCycleTracker[recorderThreadCount];
+                    recorderDutyCycleTrackers[0] = recorderDutyCycleTracker;
+                    for (int i = 1; i < recorderThreadCount; i++)
+                    {
+                        recorderDutyCycleTrackers[i] = new DutyCycleStallTracker(
+                            ArchiveCounters.allocate(
+                                aeron,
+                                tempBuffer,
+                                AeronCounters.ARCHIVE_MAX_CYCLE_TIME_TYPE_ID,
+                                "archive-recorder-" + i + " max cycle time in ns",
+                                archiveId),
+                            ArchiveCounters.allocate(
+                                aeron,
+                                tempBuffer,
+                                AeronCounters.ARCHIVE_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID,
+                                "archive-recorder-" + i + " work cycle time exceeded count: threshold=" +
+                                    recorderCycleThresholdNs + "ns",
+                                archiveId),
+                            recorderCycleThresholdNs);
+                    }
+
                     if (null == replayerDutyCycleTracker)
                     {
                         replayerDutyCycleTracker = new DutyCycleStallTracker(
@@ -1389,6 +2148,27 @@ public final class Archive implements AutoCloseable
                                 archiveId),
                             replayerCycleThresholdNs);
                     }
+
+                    replayerDutyCycleTrackers = new DutyCycleTracker[replayerThreadCount];
+                    replayerDutyCycleTrackers[0] = replayerDutyCycleTracker;
+                    for (int i = 1; i < replayerThreadCount; i++)
+                    {
+                        replayerDutyCycleTrackers[i] = new DutyCycleStallTracker(
+                            ArchiveCounters.allocate(
+                                aeron,
+                                tempBuffer,
+                                AeronCounters.ARCHIVE_MAX_CYCLE_TIME_TYPE_ID,
+                                "archive-replayer-" + i + " max cycle time in ns",
+                                archiveId),
+                            ArchiveCounters.allocate(
+                                aeron,
+                                tempBuffer,
+                                AeronCounters.ARCHIVE_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID,
+                                "archive-replayer-" + i + " work cycle time exceeded count: threshold=" +
+                                    replayerCycleThresholdNs + "ns",
+                                archiveId),
+                            replayerCycleThresholdNs);
+                    }
                 }
 
                 if (!isPowerOfTwo(segmentFileLength))
@@ -1494,202 +2274,953 @@ public final class Archive implements AutoCloseable
                 }
                 validateCounterTypeId(aeron, replaySessionCounter, ARCHIVE_REPLAY_SESSION_COUNT_TYPE_ID);
 
-                if (null == maxWriteTimeCounter)
-                {
-                    final int counterId = ArchiveCounters.find(
-                        aeron.countersReader(), ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID, archiveId);
-                    if (NULL_VALUE != counterId)
-                    {
-                        throw new ConfigurationException(
-                            "existing max write time counter detected for archiveId=" + archiveId);
-                    }
+                if (null == maxWriteTimeCounter)
+                {
+                    final int counterId = ArchiveCounters.find(
+                        aeron.countersReader(), ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID, archiveId);
+                    if (NULL_VALUE != counterId)
+                    {
+                        throw new ConfigurationException(
+                            "existing max write time counter detected for archiveId=" + archiveId);
+                    }
+
+                    maxWriteTimeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID,
+                        "archive-recorder max write time in ns",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, maxWriteTimeCounter, ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID);
+
+                if (null == totalWriteBytesCounter)
+                {
+                    totalWriteBytesCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID,
+                        "archive-recorder total write bytes",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, totalWriteBytesCounter, ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID);
+
+                if (null == totalWriteTimeCounter)
+                {
+                    totalWriteTimeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID,
+                        "archive-recorder total write time in ns",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, totalWriteTimeCounter, ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID);
+
+                if (isFileSyncAsync() || isFileSyncGroupCommit())
+                {
+                    if (null == maxSyncTimeCounter)
+                    {
+                        maxSyncTimeCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_RECORDER_MAX_SYNC_TIME_TYPE_ID,
+                            "archive-recorder max sync time in ns",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, maxSyncTimeCounter, ARCHIVE_RECORDER_MAX_SYNC_TIME_TYPE_ID);
+
+                    if (null == totalSyncTimeCounter)
+                    {
+                        totalSyncTimeCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_RECORDER_TOTAL_SYNC_TIME_TYPE_ID,
+                            "archive-recorder total sync time in ns",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, totalSyncTimeCounter, ARCHIVE_RECORDER_TOTAL_SYNC_TIME_TYPE_ID);
+
+                    if (null == maxForceTimeCounter)
+                    {
+                        maxForceTimeCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_RECORDER_MAX_FORCE_TIME_TYPE_ID,
+                            "archive-recorder max force time in ns",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, maxForceTimeCounter, ARCHIVE_RECORDER_MAX_FORCE_TIME_TYPE_ID);
+
+                    if (null == totalForceTimeCounter)
+                    {
+                        totalForceTimeCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_RECORDER_TOTAL_FORCE_TIME_TYPE_ID,
+                            "archive-recorder total force time in ns",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, totalForceTimeCounter, ARCHIVE_RECORDER_TOTAL_FORCE_TIME_TYPE_ID);
+                }
+
+                if (null != coldDir)
+                {
+                    if (null == coldSegmentCounter)
+                    {
+                        coldSegmentCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_COLD_SEGMENT_COUNT_TYPE_ID,
+                            "archive-conductor cold segments moved",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, coldSegmentCounter, ARCHIVE_COLD_SEGMENT_COUNT_TYPE_ID);
+
+                    if (null == coldBytesCounter)
+                    {
+                        coldBytesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_COLD_BYTES_TYPE_ID,
+                            "archive-conductor cold bytes moved",
+                            archiveId);
+                    }
+                    validateCounterTypeId(aeron, coldBytesCounter, ARCHIVE_COLD_BYTES_TYPE_ID);
+                }
+
+                if (null == replicationSessionCounter)
+                {
+                    replicationSessionCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLICATION_SESSION_COUNT_TYPE_ID,
+                        "Archive Replication Sessions",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, replicationSessionCounter, ARCHIVE_REPLICATION_SESSION_COUNT_TYPE_ID);
+
+                if (null == replicationBytesCounter)
+                {
+                    replicationBytesCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLICATION_BYTES_TYPE_ID,
+                        "archive-conductor replication bytes recorded",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, replicationBytesCounter, ARCHIVE_REPLICATION_BYTES_TYPE_ID);
+
+                if (null == catalogLiveDescriptorsCounter)
+                {
+                    catalogLiveDescriptorsCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_CATALOG_LIVE_DESCRIPTORS_TYPE_ID,
+                        "archive-conductor catalog live descriptors",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, catalogLiveDescriptorsCounter, ARCHIVE_CATALOG_LIVE_DESCRIPTORS_TYPE_ID);
+
+                if (null == catalogDeadDescriptorsCounter)
+                {
+                    catalogDeadDescriptorsCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_CATALOG_DEAD_DESCRIPTORS_TYPE_ID,
+                        "archive-conductor catalog dead descriptors",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, catalogDeadDescriptorsCounter, ARCHIVE_CATALOG_DEAD_DESCRIPTORS_TYPE_ID);
+
+                if (catalogCompactionThreshold > 0)
+                {
+                    if (null == catalogCompactedBytesCounter)
+                    {
+                        catalogCompactedBytesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_CATALOG_COMPACTED_BYTES_TYPE_ID,
+                            "archive-conductor catalog compacted bytes",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, catalogCompactedBytesCounter, ARCHIVE_CATALOG_COMPACTED_BYTES_TYPE_ID);
+                }
+
+                if (replayReadCacheLength > 0)
+                {
+                    if (null == replayReadCacheHitBytesCounter)
+                    {
+                        replayReadCacheHitBytesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAY_READ_CACHE_HIT_BYTES_TYPE_ID,
+                            "archive-replayer read cache hit bytes",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, replayReadCacheHitBytesCounter, ARCHIVE_REPLAY_READ_CACHE_HIT_BYTES_TYPE_ID);
+
+                    if (null == replayReadCacheMissBytesCounter)
+                    {
+                        replayReadCacheMissBytesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAY_READ_CACHE_MISS_BYTES_TYPE_ID,
+                            "archive-replayer read cache miss bytes",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, replayReadCacheMissBytesCounter, ARCHIVE_REPLAY_READ_CACHE_MISS_BYTES_TYPE_ID);
+                }
+
+                if (replayMapSegmentFiles && replayReadAheadLength > 0)
+                {
+                    if (null == replayReadAheadBytesCounter)
+                    {
+                        replayReadAheadBytesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAYER_READ_AHEAD_BYTES_TYPE_ID,
+                            "archive-replayer read ahead bytes read",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, replayReadAheadBytesCounter, ARCHIVE_REPLAYER_READ_AHEAD_BYTES_TYPE_ID);
+                }
+
+                if (replaySegmentPrefetchLength > 0)
+                {
+                    if (null == replaySegmentPrefetchHitsCounter)
+                    {
+                        replaySegmentPrefetchHitsCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAYER_SEGMENT_PREFETCH_HITS_TYPE_ID,
+                            "archive-replayer segment prefetch hits",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, replaySegmentPrefetchHitsCounter, ARCHIVE_REPLAYER_SEGMENT_PREFETCH_HITS_TYPE_ID);
+
+                    if (null == replaySegmentPrefetchMissesCounter)
+                    {
+                        replaySegmentPrefetchMissesCounter = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAYER_SEGMENT_PREFETCH_MISSES_TYPE_ID,
+                            "archive-replayer segment prefetch misses",
+                            archiveId);
+                    }
+                    validateCounterTypeId(
+                        aeron, replaySegmentPrefetchMissesCounter, ARCHIVE_REPLAYER_SEGMENT_PREFETCH_MISSES_TYPE_ID);
+                }
+
+                if (null == maxReadTimeCounter)
+                {
+                    maxReadTimeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID,
+                        "archive-replayer max read time in ns",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, maxReadTimeCounter, ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID);
+
+                if (null == totalReadBytesCounter)
+                {
+                    totalReadBytesCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID,
+                        "archive-replayer total read bytes",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, totalReadBytesCounter, ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID);
+
+                if (null == totalReadTimeCounter)
+                {
+                    totalReadTimeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID,
+                        "archive-replayer total read time in ns",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, totalReadTimeCounter, ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID);
+
+                if (DEDICATED == threadingMode && replayerThreadCount > 1)
+                {
+                    replayerReadBytesCounters = new Counter[replayerThreadCount];
+                    for (int i = 0; i < replayerThreadCount; i++)
+                    {
+                        replayerReadBytesCounters[i] = ArchiveCounters.allocate(
+                            aeron,
+                            tempBuffer,
+                            ARCHIVE_REPLAYER_WORKER_READ_BYTES_TYPE_ID,
+                            (0 == i ? "archive-replayer" : "archive-replayer-" + i) + " read bytes",
+                            archiveId);
+                    }
+                }
+
+                int expectedCount = DEDICATED == threadingMode ? recorderThreadCount + replayerThreadCount : 0;
+                expectedCount += aeron.conductorAgentInvoker() == null ? 1 : 0;
+                abortLatch = new CountDownLatch(expectedCount);
+
+                markFile.updateActivityTimestamp(epochClock.time());
+            }
+            finally
+            {
+                markFile.signalReady();
+                markFile.force();
+            }
+
+            if (CommonContext.shouldPrintConfigurationOnStart())
+            {
+                System.out.println(this);
+            }
+        }
+
+        /**
+         * Has the context had the {@link #conclude()} method called.
+         *
+         * @return true of the {@link #conclude()} method has been called.
+         */
+        public boolean isConcluded()
+        {
+            return isConcluded;
+        }
+
+        /**
+         * Should an existing archive be deleted on start. Useful only for testing.
+         *
+         * @param deleteArchiveOnStart true if an existing archive should be deleted on startup.
+         * @return this for a fluent API.
+         */
+        public Context deleteArchiveOnStart(final boolean deleteArchiveOnStart)
+        {
+            this.deleteArchiveOnStart = deleteArchiveOnStart;
+            return this;
+        }
+
+        /**
+         * Should an existing archive be deleted on start. Useful only for testing.
+         *
+         * @return {@code true} if an existing archive should be deleted on start up.
+         */
+        @Config(id = "ARCHIVE_DIR_DELETE_ON_START")
+        public boolean deleteArchiveOnStart()
+        {
+            return deleteArchiveOnStart;
+        }
+
+        /**
+         * Set the directory name to be used for the archive to store recordings and the {@link Catalog}.
+         * This name is used if {@link #archiveDir(File)} is not set.
+         *
+         * @param archiveDirectoryName to store recordings and the {@link Catalog}.
+         * @return this for a fluent API.
+         * @see Configuration#ARCHIVE_DIR_PROP_NAME
+         */
+        public Context archiveDirectoryName(final String archiveDirectoryName)
+        {
+            this.archiveDirectoryName = archiveDirectoryName;
+            return this;
+        }
+
+        /**
+         * Get the directory name to be used to store recordings and the {@link Catalog}.
+         *
+         * @return the directory name to be used for the archive to store recordings and the {@link Catalog}.
+         */
+        @Config(id = "ARCHIVE_DIR")
+        public String archiveDirectoryName()
+        {
+            return archiveDirectoryName;
+        }
+
+        /**
+         * Get the directory in which the Archive will store recordings and the {@link Catalog}.
+         *
+         * @return the directory in which the Archive will store recordings and the {@link Catalog}.
+         */
+        public File archiveDir()
+        {
+            return archiveDir;
+        }
+
+        /**
+         * Set the directory in which the Archive will store recordings and the {@link Catalog}.
+         *
+         * @param archiveDir the directory in which the Archive will store recordings and the {@link Catalog}.
+         * @return this for a fluent API.
+         */
+        public Context archiveDir(final File archiveDir)
+        {
+            this.archiveDir = archiveDir;
+            return this;
+        }
+
+        /**
+         * Get the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}). It defaults to
+         * {@link #archiveDir()} if it is not set explicitly via the
+         * {@link Configuration#MARK_FILE_DIR_PROP_NAME}.
+         *
+         * @return the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
+         * @see Configuration#MARK_FILE_DIR_PROP_NAME
+         * @see #archiveDir()
+         */
+        @Config
+        public File markFileDir()
+        {
+            return markFileDir;
+        }
+
+        /**
+         * Set the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
+         *
+         * @param markFileDir the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
+         * @return this for a fluent API.
+         */
+        public Context markFileDir(final File markFileDir)
+        {
+            this.markFileDir = markFileDir;
+            return this;
+        }
+
+        /**
+         * Get the directory to which cold recording segments are moved. When set, segments which meet the
+         * {@link #coldSegmentAgeNs()} or {@link #coldSegmentHotLength()} policy are moved from the
+         * {@link #archiveDir()} on a background thread, and segments are resolved in both directories for replay,
+         * truncation, and purge.
+         *
+         * @return the directory to which cold recording segments are moved or null if not set.
+         * @see Configuration#COLD_DIR_PROP_NAME
+         */
+        @Config
+        public File coldDir()
+        {
+            return coldDir;
+        }
+
+        /**
+         * Set the directory to which cold recording segments are moved. It should be on a separate filesystem from
+         * the {@link #archiveDir()}.
+         *
+         * @param coldDir to which cold recording segments are moved.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_DIR_PROP_NAME
+         */
+        public Context coldDir(final File coldDir)
+        {
+            this.coldDir = coldDir;
+            return this;
+        }
+
+        /**
+         * Get the age since last modified after which a recording segment is moved to the {@link #coldDir()}.
+         *
+         * @return age in nanoseconds or 0 if the age policy is disabled.
+         * @see Configuration#COLD_SEGMENT_AGE_PROP_NAME
+         */
+        @Config
+        public long coldSegmentAgeNs()
+        {
+            return coldSegmentAgeNs;
+        }
+
+        /**
+         * Set the age since last modified after which a recording segment is moved to the {@link #coldDir()}.
+         *
+         * @param coldSegmentAgeNs age in nanoseconds or 0 to disable the age policy.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_SEGMENT_AGE_PROP_NAME
+         */
+        public Context coldSegmentAgeNs(final long coldSegmentAgeNs)
+        {
+            this.coldSegmentAgeNs = coldSegmentAgeNs;
+            return this;
+        }
+
+        /**
+         * Get the length of each recording, behind its latest position, which is kept in the {@link #archiveDir()}.
+         *
+         * @return length in bytes or 0 if the length policy is disabled.
+         * @see Configuration#COLD_SEGMENT_HOT_LENGTH_PROP_NAME
+         */
+        @Config
+        public long coldSegmentHotLength()
+        {
+            return coldSegmentHotLength;
+        }
+
+        /**
+         * Set the length of each recording, behind its latest position, which is kept in the {@link #archiveDir()}.
+         * The segment holding the latest position is always kept so a recording can be extended.
+         *
+         * @param coldSegmentHotLength length in bytes or 0 to disable the length policy.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_SEGMENT_HOT_LENGTH_PROP_NAME
+         */
+        public Context coldSegmentHotLength(final long coldSegmentHotLength)
+        {
+            this.coldSegmentHotLength = coldSegmentHotLength;
+            return this;
+        }
+
+        /**
+         * Get the interval at which the catalog is checked for segments to be moved to the {@link #coldDir()}.
+         *
+         * @return interval in nanoseconds.
+         * @see Configuration#COLD_CHECK_INTERVAL_PROP_NAME
+         */
+        @Config
+        public long coldCheckIntervalNs()
+        {
+            return coldCheckIntervalNs;
+        }
+
+        /**
+         * Set the interval at which the catalog is checked for segments to be moved to the {@link #coldDir()}.
+         *
+         * @param coldCheckIntervalNs interval in nanoseconds.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_CHECK_INTERVAL_PROP_NAME
+         */
+        public Context coldCheckIntervalNs(final long coldCheckIntervalNs)
+        {
+            this.coldCheckIntervalNs = coldCheckIntervalNs;
+            return this;
+        }
+
+        /**
+         * Should segments moved to the {@link #coldDir()} be compressed.
+         *
+         * @return true if segments moved to the cold directory should be compressed.
+         * @see Configuration#COLD_SEGMENT_COMPRESSION_PROP_NAME
+         */
+        @Config
+        public boolean coldSegmentCompression()
+        {
+            return coldSegmentCompression;
+        }
+
+        /**
+         * Should segments moved to the {@link #coldDir()} be compressed. Compressed segments are stored as
+         * independently compressed blocks with an index so replays can start from any position and decompress
+         * only the blocks they read.
+         *
+         * @param coldSegmentCompression true if segments moved to the cold directory should be compressed.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_SEGMENT_COMPRESSION_PROP_NAME
+         */
+        public Context coldSegmentCompression(final boolean coldSegmentCompression)
+        {
+            this.coldSegmentCompression = coldSegmentCompression;
+            return this;
+        }
+
+        /**
+         * Get the length of the uncompressed blocks into which a cold segment is compressed.
+         *
+         * @return length of the uncompressed blocks in bytes.
+         * @see Configuration#COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME
+         */
+        @Config
+        public int coldSegmentCompressionBlockLength()
+        {
+            return coldSegmentCompressionBlockLength;
+        }
+
+        /**
+         * Set the length of the uncompressed blocks into which a cold segment is compressed.
+         *
+         * @param coldSegmentCompressionBlockLength length of the uncompressed blocks in bytes.
+         * @return this for a fluent API.
+         * @see Configuration#COLD_SEGMENT_COMPRESSION_BLOCK_LENGTH_PROP_NAME
+         */
+        public Context coldSegmentCompressionBlockLength(final int coldSegmentCompressionBlockLength)
+        {
+            this.coldSegmentCompressionBlockLength = coldSegmentCompressionBlockLength;
+            return this;
+        }
+
+        /**
+         * Get the interval at which a recovery checkpoint is stored in the catalog for each active recording.
+         *
+         * @return interval in nanoseconds or 0 if checkpoints are disabled.
+         * @see Configuration#RECORDING_CHECKPOINT_INTERVAL_PROP_NAME
+         */
+        @Config
+        public long recordingCheckpointIntervalNs()
+        {
+            return recordingCheckpointIntervalNs;
+        }
+
+        /**
+         * Set the interval at which a recovery checkpoint is stored in the catalog for each active recording. The
+         * checkpoint is taken by the recorder at the last frame covered by a sync of the recording, or by a write when
+         * the file sync level is 0, so that after an unclean shutdown only the data after it needs to be scanned to
+         * recover the stop position of the recording.
+         *
+         * @param recordingCheckpointIntervalNs interval in nanoseconds or 0 to disable checkpoints.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_CHECKPOINT_INTERVAL_PROP_NAME
+         */
+        public Context recordingCheckpointIntervalNs(final long recordingCheckpointIntervalNs)
+        {
+            this.recordingCheckpointIntervalNs = recordingCheckpointIntervalNs;
+            return this;
+        }
+
+        /**
+         * Get the maximum rate in bytes per second at which all replication sessions into this archive combined will
+         * record.
+         *
+         * @return maximum rate in bytes per second or 0 for no limit.
+         * @see Configuration#REPLICATION_BANDWIDTH_PROP_NAME
+         */
+        @Config
+        public long replicationBandwidth()
+        {
+            return replicationBandwidth;
+        }
+
+        /**
+         * Set the maximum rate in bytes per second at which all replication sessions into this archive combined will
+         * record. The limit is shared by the replications so many recordings can be replicated at once without the
+         * copy saturating the network or the storage used by live recordings.
+         *
+         * @param replicationBandwidth maximum rate in bytes per second or 0 for no limit.
+         * @return this for a fluent API.
+         * @see Configuration#REPLICATION_BANDWIDTH_PROP_NAME
+         */
+        public Context replicationBandwidth(final long replicationBandwidth)
+        {
+            this.replicationBandwidth = replicationBandwidth;
+            return this;
+        }
+
+        /**
+         * Should a replication which extends an existing recording verify the segments it already has against the
+         * source archive before resuming.
+         *
+         * @return true if replications verify the segments of an existing recording before resuming.
+         * @see Configuration#REPLICATION_SEGMENT_VERIFICATION_PROP_NAME
+         */
+        @Config
+        public boolean replicationSegmentVerification()
+        {
+            return replicationSegmentVerification;
+        }
+
+        /**
+         * Should a replication which extends an existing recording verify the segments it already has against the
+         * source archive before resuming. The checksum of each segment is compared with that of the source so the
+         * replay resumes from the first segment which differs, and the recording is truncated to that point, rather
+         * than trusting the destination stop position. Verification is skipped when the source archive reports a
+         * protocol version which does not support segment checksums.
+         *
+         * @param replicationSegmentVerification true if replications should verify the segments before resuming.
+         * @return this for a fluent API.
+         * @see Configuration#REPLICATION_SEGMENT_VERIFICATION_PROP_NAME
+         */
+        public Context replicationSegmentVerification(final boolean replicationSegmentVerification)
+        {
+            this.replicationSegmentVerification = replicationSegmentVerification;
+            return this;
+        }
+
+        /**
+         * Length in bytes of the cache of recently read segment blocks shared by the replay sessions of each replayer.
+         *
+         * @return length in bytes of the replay read cache for each replayer, or 0 if disabled.
+         * @see Configuration#REPLAY_READ_CACHE_LENGTH_PROP_NAME
+         */
+        @Config
+        public int replayReadCacheLength()
+        {
+            return replayReadCacheLength;
+        }
+
+        /**
+         * Length in bytes of the cache of recently read segment blocks shared by the replay sessions of each replayer.
+         * Replays of a recording which is already being replayed are assigned to the same replayer so many
+         * subscribers replaying the same recording at around the same position only read it from disk once. The cache
+         * is not used when segments are mapped.
+         *
+         * @param replayReadCacheLength in bytes of the replay read cache for each replayer, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_READ_CACHE_LENGTH_PROP_NAME
+         */
+        public Context replayReadCacheLength(final int replayReadCacheLength)
+        {
+            this.replayReadCacheLength = replayReadCacheLength;
+            return this;
+        }
+
+        /**
+         * Get the counter of active replication sessions into this archive.
+         *
+         * @return the counter of active replication sessions.
+         */
+        public Counter replicationSessionCounter()
+        {
+            return replicationSessionCounter;
+        }
+
+        /**
+         * Set the counter of active replication sessions into this archive.
+         *
+         * @param counter of active replication sessions.
+         * @return this for a fluent API.
+         */
+        public Context replicationSessionCounter(final Counter counter)
+        {
+            this.replicationSessionCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter of bytes recorded by replication sessions into this archive.
+         *
+         * @return the counter of bytes recorded by replication sessions.
+         */
+        public Counter replicationBytesCounter()
+        {
+            return replicationBytesCounter;
+        }
+
+        /**
+         * Set the counter of bytes recorded by replication sessions into this archive.
+         *
+         * @param counter of bytes recorded by replication sessions.
+         * @return this for a fluent API.
+         */
+        public Context replicationBytesCounter(final Counter counter)
+        {
+            this.replicationBytesCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter of bytes served to replays from the replay read cache.
+         *
+         * @return the counter of bytes served from the replay read cache, or null if the cache is disabled.
+         */
+        public Counter replayReadCacheHitBytesCounter()
+        {
+            return replayReadCacheHitBytesCounter;
+        }
 
-                    maxWriteTimeCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID,
-                        "archive-recorder max write time in ns",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, maxWriteTimeCounter, ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID);
+        /**
+         * Set the counter of bytes served to replays from the replay read cache.
+         *
+         * @param counter of bytes served from the replay read cache.
+         * @return this for a fluent API.
+         */
+        public Context replayReadCacheHitBytesCounter(final Counter counter)
+        {
+            this.replayReadCacheHitBytesCounter = counter;
+            return this;
+        }
 
-                if (null == totalWriteBytesCounter)
-                {
-                    totalWriteBytesCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID,
-                        "archive-recorder total write bytes",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, totalWriteBytesCounter, ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID);
+        /**
+         * Get the counter of bytes read from segment files into the replay read cache.
+         *
+         * @return the counter of bytes read into the replay read cache, or null if the cache is disabled.
+         */
+        public Counter replayReadCacheMissBytesCounter()
+        {
+            return replayReadCacheMissBytesCounter;
+        }
 
-                if (null == totalWriteTimeCounter)
-                {
-                    totalWriteTimeCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID,
-                        "archive-recorder total write time in ns",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, totalWriteTimeCounter, ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID);
+        /**
+         * Set the counter of bytes read from segment files into the replay read cache.
+         *
+         * @param counter of bytes read into the replay read cache.
+         * @return this for a fluent API.
+         */
+        public Context replayReadCacheMissBytesCounter(final Counter counter)
+        {
+            this.replayReadCacheMissBytesCounter = counter;
+            return this;
+        }
 
-                if (null == maxReadTimeCounter)
-                {
-                    maxReadTimeCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID,
-                        "archive-replayer max read time in ns",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, maxReadTimeCounter, ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID);
+        /**
+         * Get the counter of bytes of mapped segment files read ahead of replays by the segment prefetcher.
+         *
+         * @return the counter of bytes read ahead of replays, or null if read-ahead is disabled.
+         */
+        public Counter replayReadAheadBytesCounter()
+        {
+            return replayReadAheadBytesCounter;
+        }
 
-                if (null == totalReadBytesCounter)
-                {
-                    totalReadBytesCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID,
-                        "archive-replayer total read bytes",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, totalReadBytesCounter, ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID);
+        /**
+         * Set the counter of bytes of mapped segment files read ahead of replays by the segment prefetcher.
+         *
+         * @param counter of bytes read ahead of replays.
+         * @return this for a fluent API.
+         */
+        public Context replayReadAheadBytesCounter(final Counter counter)
+        {
+            this.replayReadAheadBytesCounter = counter;
+            return this;
+        }
 
-                if (null == totalReadTimeCounter)
-                {
-                    totalReadTimeCounter = ArchiveCounters.allocate(
-                        aeron,
-                        tempBuffer,
-                        ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID,
-                        "archive-replayer total read time in ns",
-                        archiveId);
-                }
-                validateCounterTypeId(aeron, totalReadTimeCounter, ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID);
+        /**
+         * Get the counter of replays which found the next segment file prefetched when crossing a segment boundary.
+         *
+         * @return the counter of segment prefetch hits, or null if segment prefetch is disabled.
+         */
+        public Counter replaySegmentPrefetchHitsCounter()
+        {
+            return replaySegmentPrefetchHitsCounter;
+        }
 
-                int expectedCount = DEDICATED == threadingMode ? 2 : 0;
-                expectedCount += aeron.conductorAgentInvoker() == null ? 1 : 0;
-                abortLatch = new CountDownLatch(expectedCount);
+        /**
+         * Set the counter of replays which found the next segment file prefetched when crossing a segment boundary.
+         *
+         * @param counter of segment prefetch hits.
+         * @return this for a fluent API.
+         */
+        public Context replaySegmentPrefetchHitsCounter(final Counter counter)
+        {
+            this.replaySegmentPrefetchHitsCounter = counter;
+            return this;
+        }
 
-                markFile.updateActivityTimestamp(epochClock.time());
-            }
-            finally
-            {
-                markFile.signalReady();
-                markFile.force();
-            }
+        /**
+         * Get the counter of replays which crossed a segment boundary before the prefetch of the next segment file
+         * had completed.
+         *
+         * @return the counter of segment prefetch misses, or null if segment prefetch is disabled.
+         */
+        public Counter replaySegmentPrefetchMissesCounter()
+        {
+            return replaySegmentPrefetchMissesCounter;
+        }
 
-            if (CommonContext.shouldPrintConfigurationOnStart())
-            {
-                System.out.println(this);
-            }
+        /**
+         * Set the counter of replays which crossed a segment boundary before the prefetch of the next segment file
+         * had completed.
+         *
+         * @param counter of segment prefetch misses.
+         * @return this for a fluent API.
+         */
+        public Context replaySegmentPrefetchMissesCounter(final Counter counter)
+        {
+            this.replaySegmentPrefetchMissesCounter = counter;
+            return this;
         }
 
         /**
-         * Has the context had the {@link #conclude()} method called.
+         * Get the counter of valid recording descriptors in the catalog.
          *
-         * @return true of the {@link #conclude()} method has been called.
+         * @return the counter of valid recording descriptors in the catalog.
          */
-        public boolean isConcluded()
+        public Counter catalogLiveDescriptorsCounter()
         {
-            return isConcluded;
+            return catalogLiveDescriptorsCounter;
         }
 
         /**
-         * Should an existing archive be deleted on start. Useful only for testing.
+         * Set the counter of valid recording descriptors in the catalog.
          *
-         * @param deleteArchiveOnStart true if an existing archive should be deleted on startup.
+         * @param counter of valid recording descriptors in the catalog.
          * @return this for a fluent API.
          */
-        public Context deleteArchiveOnStart(final boolean deleteArchiveOnStart)
+        public Context catalogLiveDescriptorsCounter(final Counter counter)
         {
-            this.deleteArchiveOnStart = deleteArchiveOnStart;
+            this.catalogLiveDescriptorsCounter = counter;
             return this;
         }
 
         /**
-         * Should an existing archive be deleted on start. Useful only for testing.
+         * Get the counter of invalid or deleted recording descriptors which occupy space in the catalog.
          *
-         * @return {@code true} if an existing archive should be deleted on start up.
+         * @return the counter of invalid or deleted recording descriptors in the catalog.
          */
-        @Config(id = "ARCHIVE_DIR_DELETE_ON_START")
-        public boolean deleteArchiveOnStart()
+        public Counter catalogDeadDescriptorsCounter()
         {
-            return deleteArchiveOnStart;
+            return catalogDeadDescriptorsCounter;
         }
 
         /**
-         * Set the directory name to be used for the archive to store recordings and the {@link Catalog}.
-         * This name is used if {@link #archiveDir(File)} is not set.
+         * Set the counter of invalid or deleted recording descriptors which occupy space in the catalog.
          *
-         * @param archiveDirectoryName to store recordings and the {@link Catalog}.
+         * @param counter of invalid or deleted recording descriptors in the catalog.
          * @return this for a fluent API.
-         * @see Configuration#ARCHIVE_DIR_PROP_NAME
          */
-        public Context archiveDirectoryName(final String archiveDirectoryName)
+        public Context catalogDeadDescriptorsCounter(final Counter counter)
         {
-            this.archiveDirectoryName = archiveDirectoryName;
+            this.catalogDeadDescriptorsCounter = counter;
             return this;
         }
 
         /**
-         * Get the directory name to be used to store recordings and the {@link Catalog}.
+         * Get the counter of bytes reclaimed from the catalog by online compaction.
          *
-         * @return the directory name to be used for the archive to store recordings and the {@link Catalog}.
+         * @return the counter of bytes reclaimed from the catalog, or null if online compaction is disabled.
          */
-        @Config(id = "ARCHIVE_DIR")
-        public String archiveDirectoryName()
+        public Counter catalogCompactedBytesCounter()
         {
-            return archiveDirectoryName;
+            return catalogCompactedBytesCounter;
         }
 
         /**
-         * Get the directory in which the Archive will store recordings and the {@link Catalog}.
+         * Set the counter of bytes reclaimed from the catalog by online compaction.
          *
-         * @return the directory in which the Archive will store recordings and the {@link Catalog}.
+         * @param counter of bytes reclaimed from the catalog.
+         * @return this for a fluent API.
          */
-        public File archiveDir()
+        public Context catalogCompactedBytesCounter(final Counter counter)
         {
-            return archiveDir;
+            this.catalogCompactedBytesCounter = counter;
+            return this;
         }
 
         /**
-         * Set the directory in which the Archive will store recordings and the {@link Catalog}.
+         * Get the counter of segments moved to the {@link #coldDir()}.
          *
-         * @param archiveDir the directory in which the Archive will store recordings and the {@link Catalog}.
+         * @return the counter of segments moved to the cold directory.
+         */
+        public Counter coldSegmentCounter()
+        {
+            return coldSegmentCounter;
+        }
+
+        /**
+         * Set the counter of segments moved to the {@link #coldDir()}.
+         *
+         * @param counter of segments moved to the cold directory.
          * @return this for a fluent API.
          */
-        public Context archiveDir(final File archiveDir)
+        public Context coldSegmentCounter(final Counter counter)
         {
-            this.archiveDir = archiveDir;
+            this.coldSegmentCounter = counter;
             return this;
         }
 
         /**
-         * Get the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}). It defaults to
-         * {@link #archiveDir()} if it is not set explicitly via the
-         * {@link Configuration#MARK_FILE_DIR_PROP_NAME}.
+         * Get the counter of bytes moved to the {@link #coldDir()}.
          *
-         * @return the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
-         * @see Configuration#MARK_FILE_DIR_PROP_NAME
-         * @see #archiveDir()
+         * @return the counter of bytes moved to the cold directory.
          */
-        @Config
-        public File markFileDir()
+        public Counter coldBytesCounter()
         {
-            return markFileDir;
+            return coldBytesCounter;
         }
 
         /**
-         * Set the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
+         * Set the counter of bytes moved to the {@link #coldDir()}.
          *
-         * @param markFileDir the directory in which the Archive will store mark file (i.e. {@code archive-mark.dat}).
+         * @param counter of bytes moved to the cold directory.
          * @return this for a fluent API.
          */
-        public Context markFileDir(final File markFileDir)
+        public Context coldBytesCounter(final Counter counter)
         {
-            this.markFileDir = markFileDir;
+            this.coldBytesCounter = counter;
             return this;
         }
 
@@ -2258,6 +3789,19 @@ public final class Archive implements AutoCloseable
             return recorderDutyCycleTracker;
         }
 
+        /**
+         * The duty cycle tracker for a recorder thread where the first recorder uses
+         * {@link #recorderDutyCycleTracker()} and additional recorders have their own cycle time counters.
+         *
+         * @param recorderIndex of the recorder thread.
+         * @return duty cycle tracker for the recorder thread.
+         */
+        DutyCycleTracker recorderDutyCycleTracker(final int recorderIndex)
+        {
+            return null == recorderDutyCycleTrackers ?
+                recorderDutyCycleTracker : recorderDutyCycleTrackers[recorderIndex];
+        }
+
         /**
          * Set the duty cycle tracker for the replayer.
          * NOTE: Only used in DEDICATED threading mode.
@@ -2282,6 +3826,30 @@ public final class Archive implements AutoCloseable
             return replayerDutyCycleTracker;
         }
 
+        /**
+         * The duty cycle tracker for a replayer thread where the first replayer uses
+         * {@link #replayerDutyCycleTracker()} and additional replayers have their own cycle time counters.
+         *
+         * @param replayerIndex of the replayer thread.
+         * @return duty cycle tracker for the replayer thread.
+         */
+        DutyCycleTracker replayerDutyCycleTracker(final int replayerIndex)
+        {
+            return null == replayerDutyCycleTrackers ?
+                replayerDutyCycleTracker : replayerDutyCycleTrackers[replayerIndex];
+        }
+
+        /**
+         * The counter of bytes read by a replayer thread when there is more than one replayer thread.
+         *
+         * @param replayerIndex of the replayer thread.
+         * @return counter of bytes read by the replayer thread or null if there is a single replayer.
+         */
+        Counter replayerReadBytesCounter(final int replayerIndex)
+        {
+            return null == replayerReadBytesCounters ? null : replayerReadBytesCounters[replayerIndex];
+        }
+
         /**
          * Provides an explicit {@link Checksum} for checksum computation during recording.
          *
@@ -2494,24 +4062,92 @@ public final class Archive implements AutoCloseable
         }
 
         /**
-         * Set level at which files should be sync'ed to disk.
-         * <ul>
-         * <li>0 - normal writes.</li>
-         * <li>1 - sync file data.</li>
-         * <li>2 - sync file data + metadata.</li>
-         * </ul>
+         * Set level at which files should be sync'ed to disk.
+         * <ul>
+         * <li>0 - normal writes.</li>
+         * <li>1 - sync file data.</li>
+         * <li>2 - sync file data + metadata.</li>
+         * </ul>
+         *
+         * @param syncLevel to be applied for file writes.
+         * @return this for a fluent API.
+         * @see #catalogFileSyncLevel()
+         * @see Configuration#FILE_SYNC_LEVEL_PROP_NAME
+         */
+        public Context fileSyncLevel(final int syncLevel)
+        {
+            this.fileSyncLevel = syncLevel;
+            return this;
+        }
+
+        /**
+         * Should recording file syncs be performed asynchronously on a dedicated thread.
+         *
+         * @return true if recording file syncs should be performed asynchronously.
+         * @see Configuration#FILE_SYNC_ASYNC_PROP_NAME
+         */
+        @Config
+        public boolean fileSyncAsync()
+        {
+            return fileSyncAsync;
+        }
+
+        /**
+         * Should recording file syncs be performed asynchronously on a dedicated thread. When true and
+         * {@link #fileSyncLevel()} is greater than 0 the recorder writes blocks without waiting for them to be synced
+         * and submits a sync per recording to a file sync thread. The recorded position of a recording is only
+         * advanced once the sync completes so it never exceeds what is durable in storage, and the recorder thread is
+         * not stalled by the sync of one recording while others have data to write.
+         *
+         * @param fileSyncAsync true if recording file syncs should be performed asynchronously.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_ASYNC_PROP_NAME
+         */
+        public Context fileSyncAsync(final boolean fileSyncAsync)
+        {
+            this.fileSyncAsync = fileSyncAsync;
+            return this;
+        }
+
+        boolean isFileSyncAsync()
+        {
+            return fileSyncAsync && fileSyncLevel > 0;
+        }
+
+        /**
+         * Window in nanoseconds over which recording file syncs are gathered for a group commit.
+         *
+         * @return window in nanoseconds over which recording file syncs are gathered for a group commit.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME
+         */
+        @Config
+        public long fileSyncGroupCommitWindowNs()
+        {
+            return fileSyncGroupCommitWindowNs;
+        }
+
+        /**
+         * Window in nanoseconds over which recording file syncs are gathered for a group commit. When greater than 0
+         * and {@link #fileSyncLevel()} is greater than 0 the recorder does not sync after each block. Instead, it
+         * tracks the recordings which have written data since their last sync and, once the window since the first of
+         * them has elapsed, syncs them all together and advances their recorded positions. This bounds the number of
+         * sync streams to one per window rather than one per block per recording.
          *
-         * @param syncLevel to be applied for file writes.
+         * @param fileSyncGroupCommitWindowNs window in nanoseconds, or 0 to sync after every block.
          * @return this for a fluent API.
-         * @see #catalogFileSyncLevel()
-         * @see Configuration#FILE_SYNC_LEVEL_PROP_NAME
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_WINDOW_PROP_NAME
          */
-        public Context fileSyncLevel(final int syncLevel)
+        public Context fileSyncGroupCommitWindowNs(final long fileSyncGroupCommitWindowNs)
         {
-            this.fileSyncLevel = syncLevel;
+            this.fileSyncGroupCommitWindowNs = fileSyncGroupCommitWindowNs;
             return this;
         }
 
+        boolean isFileSyncGroupCommit()
+        {
+            return fileSyncGroupCommitWindowNs > 0 && fileSyncLevel > 0;
+        }
+
         /**
          * Get level at which the catalog file should be sync'ed to disk.
          * <ul>
@@ -2916,6 +4552,104 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the counter used to track the total time from the recorder submitting file syncs to the data being
+         * durable when {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @return the counter used to track the total time from submitting file syncs to the data being durable.
+         */
+        public Counter totalSyncTimeCounter()
+        {
+            return totalSyncTimeCounter;
+        }
+
+        /**
+         * Set the counter used to track the total time from the recorder submitting file syncs to the data being
+         * durable when {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @param counter used to track the total time from submitting file syncs to the data being durable.
+         * @return this for a fluent API.
+         */
+        public Context totalSyncTimeCounter(final Counter counter)
+        {
+            totalSyncTimeCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the max time from the recorder submitting a file sync to the data being
+         * durable when {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @return the counter used to track the max time from submitting a file sync to the data being durable.
+         */
+        public Counter maxSyncTimeCounter()
+        {
+            return maxSyncTimeCounter;
+        }
+
+        /**
+         * Set the counter used to track the max time from the recorder submitting a file sync to the data being
+         * durable when {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @param counter used to track the max time from submitting a file sync to the data being durable.
+         * @return this for a fluent API.
+         */
+        public Context maxSyncTimeCounter(final Counter counter)
+        {
+            maxSyncTimeCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the total time spent forcing recording files to storage when
+         * {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled. Time spent queued for the
+         * syncer or waiting for the group commit window is not included.
+         *
+         * @return the counter used to track the total time spent forcing recording files to storage.
+         */
+        public Counter totalForceTimeCounter()
+        {
+            return totalForceTimeCounter;
+        }
+
+        /**
+         * Set the counter used to track the total time spent forcing recording files to storage when
+         * {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled. Time spent queued for the
+         * syncer or waiting for the group commit window is not included.
+         *
+         * @param counter used to track the total time spent forcing recording files to storage.
+         * @return this for a fluent API.
+         */
+        public Context totalForceTimeCounter(final Counter counter)
+        {
+            totalForceTimeCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the max time spent forcing recording files to storage in a single sync when
+         * {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @return the counter used to track the max time spent forcing recording files to storage in a single sync.
+         */
+        public Counter maxForceTimeCounter()
+        {
+            return maxForceTimeCounter;
+        }
+
+        /**
+         * Set the counter used to track the max time spent forcing recording files to storage in a single sync when
+         * {@link #fileSyncAsync()} or {@link #fileSyncGroupCommitWindowNs()} is enabled.
+         *
+         * @param counter used to track the max time spent forcing recording files to storage in a single sync.
+         * @return this for a fluent API.
+         */
+        public Context maxForceTimeCounter(final Counter counter)
+        {
+            maxForceTimeCounter = counter;
+            return this;
+        }
+
         /**
          * Get the counter used to track the total number of bytes read by the replayer.
          *
@@ -3007,6 +4741,33 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return the number of recorder threads.
+         * @see Configuration#RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        @Config
+        public int recorderThreadCount()
+        {
+            return recorderThreadCount;
+        }
+
+        /**
+         * Set the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED} mode. Recording
+         * sessions are assigned to a recorder by recording id so the file writes of many concurrent recordings can
+         * be spread over multiple threads. Each additional recorder has its own cycle time counters.
+         *
+         * @param recorderThreadCount the number of recorder threads.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public Context recorderThreadCount(final int recorderThreadCount)
+        {
+            this.recorderThreadCount = recorderThreadCount;
+            return this;
+        }
+
         /**
          * Get the max number of concurrent replays.
          *
@@ -3032,6 +4793,60 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return the number of replayer threads.
+         * @see Configuration#REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        @Config
+        public int replayerThreadCount()
+        {
+            return replayerThreadCount;
+        }
+
+        /**
+         * Set the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED} mode. A new
+         * replay session is assigned to the replayer with the fewest replays. When there is more than one replayer
+         * each has a counter of the bytes it has read and its own cycle time counters.
+         *
+         * @param replayerThreadCount the number of replayer threads.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public Context replayerThreadCount(final int replayerThreadCount)
+        {
+            this.replayerThreadCount = replayerThreadCount;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of bytes a replay session reads in each duty cycle of its replayer.
+         *
+         * @return the maximum number of bytes a replay session reads in each duty cycle or 0 for no quota.
+         * @see Configuration#REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME
+         */
+        @Config
+        public int replaySessionQuotaLength()
+        {
+            return replaySessionQuotaLength;
+        }
+
+        /**
+         * Set the maximum number of bytes a replay session reads in each duty cycle of its replayer. The quota is
+         * raised to the MTU of the recording when smaller and does not apply to bounded replays or replays of an
+         * active recording.
+         *
+         * @param replaySessionQuotaLength the maximum number of bytes or 0 for no quota.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_SESSION_QUOTA_LENGTH_PROP_NAME
+         */
+        public Context replaySessionQuotaLength(final int replaySessionQuotaLength)
+        {
+            this.replaySessionQuotaLength = replaySessionQuotaLength;
+            return this;
+        }
+
         /**
          * Get the max length of a file IO operation.
          *
@@ -3057,6 +4872,150 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the interval in bytes of recorded data between entries in the sparse time index of a recording.
+         *
+         * @return the interval in bytes between entries in the recording time index, or 0 if disabled.
+         * @see Configuration#RECORDING_INDEX_INTERVAL_PROP_NAME
+         */
+        @Config
+        public int recordingIndexInterval()
+        {
+            return recordingIndexInterval;
+        }
+
+        /**
+         * Set the interval in bytes of recorded data between entries in the sparse time index of a recording. The
+         * index allows {@link io.aeron.archive.client.AeronArchive#getRecordingPositionForTimestamp(long, long)}
+         * to find the position from which to replay for a given time. The index is kept when this or
+         * {@link #recordingIndexTimeIntervalNs()} is greater than 0.
+         * <p>
+         * When {@link #fileSyncLevel()} is greater than 0 the index file is synced along with the recording file.
+         *
+         * @param recordingIndexInterval in bytes between entries in the recording time index, or 0 for none by length.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_INDEX_INTERVAL_PROP_NAME
+         */
+        public Context recordingIndexInterval(final int recordingIndexInterval)
+        {
+            this.recordingIndexInterval = recordingIndexInterval;
+            return this;
+        }
+
+        /**
+         * Get the interval in nanoseconds between entries in the sparse time index of a recording.
+         *
+         * @return the interval in nanoseconds between entries in the recording time index, or 0 if not by time.
+         * @see Configuration#RECORDING_INDEX_TIME_INTERVAL_PROP_NAME
+         */
+        @Config
+        public long recordingIndexTimeIntervalNs()
+        {
+            return recordingIndexTimeIntervalNs;
+        }
+
+        /**
+         * Set the interval in nanoseconds between entries in the sparse time index of a recording. An entry is added
+         * for the first block recorded after each interval as well as after each {@link #recordingIndexInterval()}
+         * of bytes, so lookups on a slow stream are not limited to the byte interval. The index is timestamped with
+         * the {@link #epochClock()} so the interval is applied with millisecond resolution.
+         *
+         * @param recordingIndexTimeIntervalNs between entries in the recording time index, or 0 for none by time.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_INDEX_TIME_INTERVAL_PROP_NAME
+         */
+        public Context recordingIndexTimeIntervalNs(final long recordingIndexTimeIntervalNs)
+        {
+            this.recordingIndexTimeIntervalNs = recordingIndexTimeIntervalNs;
+            return this;
+        }
+
+        /**
+         * Should replays read recorded data from memory mapped segment files.
+         *
+         * @return true if replays should read recorded data from memory mapped segment files.
+         * @see Configuration#REPLAY_MAP_SEGMENT_FILES_PROP_NAME
+         */
+        @Config
+        public boolean replayMapSegmentFiles()
+        {
+            return replayMapSegmentFiles;
+        }
+
+        /**
+         * Should replays read recorded data from memory mapped segment files. When true each replay maps the segment
+         * file being replayed read-only and copies blocks from the page cache rather than issuing a read system call
+         * per block, which reduces syscall overhead when there are many concurrent replays of cached data.
+         *
+         * @param replayMapSegmentFiles true if replays should read from memory mapped segment files.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_MAP_SEGMENT_FILES_PROP_NAME
+         */
+        public Context replayMapSegmentFiles(final boolean replayMapSegmentFiles)
+        {
+            this.replayMapSegmentFiles = replayMapSegmentFiles;
+            return this;
+        }
+
+        /**
+         * Length in bytes of the window of a mapped segment file which is read ahead of a replay position.
+         *
+         * @return length in bytes of the replay read-ahead window, or 0 if disabled.
+         * @see Configuration#REPLAY_READ_AHEAD_LENGTH_PROP_NAME
+         */
+        @Config
+        public int replayReadAheadLength()
+        {
+            return replayReadAheadLength;
+        }
+
+        /**
+         * Length in bytes of the window of a mapped segment file which is read ahead of a replay position. When a
+         * replay gets within half a window of what has been read ahead, the next window up to the recorded position
+         * is read with positional file reads on the segment prefetcher thread of the replayer, which brings the pages
+         * into the page cache so a catch-up replay does not stall the replayer on a page fault at a time. Pages
+         * behind the replay are left for the page cache to evict. Only applies when {@link #replayMapSegmentFiles()}
+         * is true, and not supported in {@link ArchiveThreadingMode#INVOKER} mode.
+         *
+         * @param replayReadAheadLength in bytes which must be a power of two of at least 64KB, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_READ_AHEAD_LENGTH_PROP_NAME
+         */
+        public Context replayReadAheadLength(final int replayReadAheadLength)
+        {
+            this.replayReadAheadLength = replayReadAheadLength;
+            return this;
+        }
+
+        /**
+         * Length in bytes of the start of the next segment file which is read ahead of a replay.
+         *
+         * @return length in bytes of the replay segment prefetch, or 0 if disabled.
+         * @see Configuration#REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME
+         */
+        @Config
+        public int replaySegmentPrefetchLength()
+        {
+            return replaySegmentPrefetchLength;
+        }
+
+        /**
+         * Length in bytes of the start of the next segment file which is read ahead of a replay. When a replay is
+         * within this length, rounded up to a term, of the end of its current segment then the next segment file is
+         * resolved, opened, and read up to this length by a prefetch thread of the replayer. The replay then takes
+         * the open file when it crosses the boundary, so a cold segment does not stall the other replays of the
+         * replayer. Not supported in {@link ArchiveThreadingMode#INVOKER} mode.
+         *
+         * @param replaySegmentPrefetchLength in bytes, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_SEGMENT_PREFETCH_LENGTH_PROP_NAME
+         */
+        public Context replaySegmentPrefetchLength(final int replaySegmentPrefetchLength)
+        {
+            this.replaySegmentPrefetchLength = replaySegmentPrefetchLength;
+            return this;
+        }
+
         /**
          * Threshold below which the archive will reject new recording requests.
          *
@@ -3102,6 +5061,11 @@ public final class Archive implements AutoCloseable
             {
                 IoUtil.delete(archiveDir, false);
             }
+
+            if (null != coldDir)
+            {
+                IoUtil.delete(coldDir, false);
+            }
         }
 
         /**
@@ -3280,6 +5244,60 @@ public final class Archive implements AutoCloseable
             return catalogCapacity;
         }
 
+        /**
+         * Number of deleted recording descriptors in the {@link Catalog} at which the conductor starts an online
+         * compaction pass. The pass examines {@link #catalogCompactionSliceLength()} bytes of descriptors per duty
+         * cycle and slides the remaining descriptors over the space of the deleted ones in place, so the catalog file
+         * is never truncated or remapped while it is being read. The space reclaimed is reused by new recordings.
+         *
+         * @param catalogCompactionThreshold number of deleted recording descriptors, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#CATALOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        public Context catalogCompactionThreshold(final int catalogCompactionThreshold)
+        {
+            this.catalogCompactionThreshold = catalogCompactionThreshold;
+            return this;
+        }
+
+        /**
+         * Number of deleted recording descriptors in the {@link Catalog} at which an online compaction pass starts.
+         *
+         * @return number of deleted recording descriptors which starts a compaction pass, or 0 if disabled.
+         * @see Configuration#CATALOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        @Config
+        public int catalogCompactionThreshold()
+        {
+            return catalogCompactionThreshold;
+        }
+
+        /**
+         * Length in bytes of recording descriptors examined by each duty cycle of the conductor during an online
+         * compaction pass of the {@link Catalog}, which bounds the time the pass adds to a duty cycle.
+         *
+         * @param catalogCompactionSliceLength in bytes.
+         * @return this for a fluent API.
+         * @see Configuration#CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME
+         */
+        public Context catalogCompactionSliceLength(final int catalogCompactionSliceLength)
+        {
+            this.catalogCompactionSliceLength = catalogCompactionSliceLength;
+            return this;
+        }
+
+        /**
+         * Length in bytes of recording descriptors examined by each duty cycle of a catalog compaction pass.
+         *
+         * @return length in bytes of recording descriptors examined by each duty cycle of a compaction pass.
+         * @see Configuration#CATALOG_COMPACTION_SLICE_LENGTH_PROP_NAME
+         */
+        @Config
+        public int catalogCompactionSliceLength()
+        {
+            return catalogCompactionSliceLength;
+        }
+
         /**
          * Get the {@link AuthenticatorSupplier} that should be used for the Archive.
          *
@@ -3686,12 +5704,49 @@ public final class Archive implements AutoCloseable
                 CloseHelper.close(countedErrorHandler, totalWriteBytesCounter);
                 CloseHelper.close(countedErrorHandler, totalWriteTimeCounter);
                 CloseHelper.close(countedErrorHandler, maxWriteTimeCounter);
+                CloseHelper.close(countedErrorHandler, totalSyncTimeCounter);
+                CloseHelper.close(countedErrorHandler, maxSyncTimeCounter);
+                CloseHelper.close(countedErrorHandler, totalForceTimeCounter);
+                CloseHelper.close(countedErrorHandler, maxForceTimeCounter);
+                CloseHelper.close(countedErrorHandler, coldSegmentCounter);
+                CloseHelper.close(countedErrorHandler, coldBytesCounter);
+                CloseHelper.close(countedErrorHandler, replicationSessionCounter);
+                CloseHelper.close(countedErrorHandler, replicationBytesCounter);
+                CloseHelper.close(countedErrorHandler, replayReadCacheHitBytesCounter);
+                CloseHelper.close(countedErrorHandler, replayReadCacheMissBytesCounter);
+                CloseHelper.close(countedErrorHandler, replayReadAheadBytesCounter);
+                CloseHelper.close(countedErrorHandler, replaySegmentPrefetchHitsCounter);
+                CloseHelper.close(countedErrorHandler, replaySegmentPrefetchMissesCounter);
+                CloseHelper.close(countedErrorHandler, catalogLiveDescriptorsCounter);
+                CloseHelper.close(countedErrorHandler, catalogDeadDescriptorsCounter);
+                CloseHelper.close(countedErrorHandler, catalogCompactedBytesCounter);
                 CloseHelper.close(countedErrorHandler, totalReadBytesCounter);
                 CloseHelper.close(countedErrorHandler, totalReadTimeCounter);
                 CloseHelper.close(countedErrorHandler, maxReadTimeCounter);
                 closeDutyCycleCounters(conductorDutyCycleTracker);
                 closeDutyCycleCounters(recorderDutyCycleTracker);
+                if (null != recorderDutyCycleTrackers)
+                {
+                    for (int i = 1; i < recorderDutyCycleTrackers.length; i++)
+                    {
+                        closeDutyCycleCounters(recorderDutyCycleTrackers[i]);
+                    }
+                }
                 closeDutyCycleCounters(replayerDutyCycleTracker);
+                if (null != replayerDutyCycleTrackers)
+                {
+                    for (int i = 1; i < replayerDutyCycleTrackers.length; i++)
+                    {
+                        closeDutyCycleCounters(replayerDutyCycleTrackers[i]);
+                    }
+                }
+                if (null != replayerReadBytesCounters)
+                {
+                    for (final Counter counter : replayerReadBytesCounters)
+                    {
+                        CloseHelper.close(countedErrorHandler, counter);
+                    }
+                }
                 CloseHelper.close(errorCounter);
             }
 
@@ -3724,10 +5779,10 @@ public final class Archive implements AutoCloseable
         /**
          * {@inheritDoc}
          */
+        @SuppressWarnings("checkstyle:MethodLength")
         public String toString()
         {
-            return "Archive.Context" +
-                "\n{" +
+            return "Archive.Context\n{" +
                 "\n    isConcluded=" + isConcluded() +
                 "\n    deleteArchiveOnStart=" + deleteArchiveOnStart +
                 "\n    ownsAeronClient=" + ownsAeronClient +
@@ -3735,6 +5790,16 @@ public final class Archive implements AutoCloseable
                 "\n    aeron=" + aeron +
                 "\n    archiveDir=" + archiveDir +
                 "\n    archiveDirectoryName='" + archiveDirectoryName + '\'' +
+                "\n    coldDir=" + coldDir +
+                "\n    coldSegmentAgeNs=" + coldSegmentAgeNs +
+                "\n    coldSegmentHotLength=" + coldSegmentHotLength +
+                "\n    coldCheckIntervalNs=" + coldCheckIntervalNs +
+                "\n    coldSegmentCompression=" + coldSegmentCompression +
+                "\n    coldSegmentCompressionBlockLength=" + coldSegmentCompressionBlockLength +
+                "\n    recordingCheckpointIntervalNs=" + recordingCheckpointIntervalNs +
+                "\n    replicationBandwidth=" + replicationBandwidth +
+                "\n    replicationSegmentVerification=" + replicationSegmentVerification +
+                "\n    replayReadCacheLength=" + replayReadCacheLength +
                 "\n    archiveDirChannel=" + archiveDirChannel +
                 "\n    archiveFileStore=" + archiveFileStore +
                 "\n    archiveId=" + archiveId +
@@ -3758,13 +5823,25 @@ public final class Archive implements AutoCloseable
                 "\n    replayLingerTimeoutNs=" + replayLingerTimeoutNs +
                 "\n    maxCatalogEntries=" + -1 +
                 "\n    catalogCapacity=" + catalogCapacity +
+                "\n    catalogCompactionThreshold=" + catalogCompactionThreshold +
+                "\n    catalogCompactionSliceLength=" + catalogCompactionSliceLength +
                 "\n    lowStorageSpaceThreshold=" + lowStorageSpaceThreshold +
                 "\n    segmentFileLength=" + segmentFileLength +
                 "\n    fileSyncLevel=" + fileSyncLevel +
+                "\n    fileSyncAsync=" + fileSyncAsync +
+                "\n    fileSyncGroupCommitWindowNs=" + fileSyncGroupCommitWindowNs +
                 "\n    catalogFileSyncLevel=" + catalogFileSyncLevel +
                 "\n    maxConcurrentRecordings=" + maxConcurrentRecordings +
+                "\n    recorderThreadCount=" + recorderThreadCount +
                 "\n    maxConcurrentReplays=" + maxConcurrentReplays +
+                "\n    replayerThreadCount=" + replayerThreadCount +
+                "\n    replaySessionQuotaLength=" + replaySessionQuotaLength +
                 "\n    fileIoMaxLength=" + fileIoMaxLength +
+                "\n    recordingIndexInterval=" + recordingIndexInterval +
+                "\n    recordingIndexTimeIntervalNs=" + recordingIndexTimeIntervalNs +
+                "\n    replayMapSegmentFiles=" + replayMapSegmentFiles +
+                "\n    replayReadAheadLength=" + replayReadAheadLength +
+                "\n    replaySegmentPrefetchLength=" + replaySegmentPrefetchLength +
                 "\n    threadingMode=" + threadingMode +
                 "\n    threadFactory=" + threadFactory +
                 "\n    abortLatch=" + abortLatch +
@@ -3794,6 +5871,16 @@ public final class Archive implements AutoCloseable
                 "\n    totalWriteBytesCounter=" + totalWriteBytesCounter +
                 "\n    totalWriteTimeCounter=" + totalWriteTimeCounter +
                 "\n    maxWriteTimeCounter=" + maxWriteTimeCounter +
+                "\n    totalSyncTimeCounter=" + totalSyncTimeCounter +
+                "\n    maxSyncTimeCounter=" + maxSyncTimeCounter +
+                "\n    totalForceTimeCounter=" + totalForceTimeCounter +
+                "\n    maxForceTimeCounter=" + maxForceTimeCounter +
+                "\n    coldSegmentCounter=" + coldSegmentCounter +
+                "\n    coldBytesCounter=" + coldBytesCounter +
+                "\n    replicationSessionCounter=" + replicationSessionCounter +
+                "\n    replicationBytesCounter=" + replicationBytesCounter +
+                "\n    replayReadCacheHitBytesCounter=" + replayReadCacheHitBytesCounter +
+                "\n    replayReadCacheMissBytesCounter=" + replayReadCacheMissBytesCounter +
                 "\n    totalReadBytesCounter=" + totalReadBytesCounter +
                 "\n    totalReadTimeCounter=" + totalReadTimeCounter +
                 "\n    maxReadTimeCounter=" + maxReadTimeCounter +
@@ -3813,6 +5900,48 @@ public final class Archive implements AutoCloseable
         return recordingId + "-" + segmentBasePosition + Configuration.RECORDING_SEGMENT_SUFFIX;
     }
 
+    /**
+     * The filename to be used for the sparse time index of a recording.
+     *
+     * @param recordingId to identify the recorded stream.
+     * @return the filename to be used for the sparse time index of a recording.
+     */
+    static String recordingIndexFileName(final long recordingId)
+    {
+        return recordingId + Configuration.RECORDING_INDEX_SUFFIX;
+    }
+
+    /**
+     * Resolve a segment file in the archive directory or, if it has been moved there, the cold directory where it
+     * may have been compressed.
+     *
+     * @param archiveDir      in which segments are recorded.
+     * @param coldDir         to which cold segments are moved or null if not configured.
+     * @param segmentFileName of the segment.
+     * @return the segment file in the cold directory if it only exists there otherwise in the archive directory.
+     * @see CompressedSegmentChannel#isCompressed(File)
+     */
+    static File segmentFile(final File archiveDir, final File coldDir, final String segmentFileName)
+    {
+        final File file = new File(archiveDir, segmentFileName);
+        if (null != coldDir && !file.exists())
+        {
+            final File coldFile = new File(coldDir, segmentFileName);
+            if (coldFile.exists())
+            {
+                return coldFile;
+            }
+
+            final File compressedFile = new File(coldDir, segmentFileName + CompressedSegmentChannel.FILE_SUFFIX);
+            if (compressedFile.exists())
+            {
+                return compressedFile;
+            }
+        }
+
+        return file;
+    }
+
     /**
      * Get the {@link FileChannel} for the parent directory for the recordings and catalog, so it can be sync'ed
      * to storage when new files are created.
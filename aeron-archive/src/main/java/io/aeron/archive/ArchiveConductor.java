@@ -19,6 +19,7 @@ import io.aeron.*;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ArchiveEvent;
 import io.aeron.archive.client.ArchiveException;
+import io.aeron.archive.codecs.RecordingActivity;
 import io.aeron.archive.codecs.RecordingDescriptorDecoder;
 import io.aeron.archive.codecs.RecordingSignal;
 import io.aeron.archive.codecs.SourceLocation;
@@ -46,6 +47,7 @@ import java.nio.file.StandardOpenOption;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Random;
@@ -57,6 +59,7 @@ import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.CommonContext.*;
 import static io.aeron.archive.Archive.Configuration.MARK_FILE_UPDATE_INTERVAL_MS;
 import static io.aeron.archive.Archive.Configuration.RECORDING_SEGMENT_SUFFIX;
+import static io.aeron.archive.Archive.segmentFile;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.archive.client.AeronArchive.segmentFileBasePosition;
@@ -84,6 +87,12 @@ abstract class ArchiveConductor
     private final long sessionLivenessCheckIntervalMs;
     private long nextSessionId = ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
     private long markFileUpdateDeadlineMs = 0;
+    private long coldCheckDeadlineNs = 0;
+    private long coldCheckRecordingId = 0;
+    private long checkpointDeadlineNs = 0;
+    private ColdSegmentMover coldSegmentMover;
+    private final ColdSegmentMover.MoveValidator coldSegmentMoveValidator = this::isValidColdSegmentMove;
+    private AgentRunner coldSegmentMoverRunner;
     private int replayId = 1;
     private volatile boolean isAbort;
 
@@ -110,6 +119,7 @@ abstract class ArchiveConductor
     private final NanoClock nanoClock;
     private final CachedEpochClock cachedEpochClock = new CachedEpochClock();
     private final File archiveDir;
+    private final File coldDir;
     private final Subscription controlSubscription;
     private final Subscription localControlSubscription;
     private final Catalog catalog;
@@ -122,9 +132,11 @@ abstract class ArchiveConductor
     private final ControlSessionProxy controlSessionProxy = new ControlSessionProxy(controlResponseProxy);
     private final DutyCycleTracker dutyCycleTracker;
     private final Random random;
+    private final ReplicationThrottle replicationThrottle;
+    private UnsafeBuffer segmentChecksumBuffer;
     final Archive.Context ctx;
-    Recorder recorder;
-    Replayer replayer;
+    Recorder[] recorders;
+    Replayer[] replayers;
 
     ArchiveConductor(final Archive.Context ctx)
     {
@@ -138,6 +150,7 @@ abstract class ArchiveConductor
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
         archiveDir = ctx.archiveDir();
+        coldDir = ctx.coldDir();
         connectTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.connectTimeoutNs());
         sessionLivenessCheckIntervalMs = TimeUnit.NANOSECONDS.toMillis(ctx.sessionLivenessCheckIntervalNs());
         catalog = ctx.catalog();
@@ -146,6 +159,7 @@ abstract class ArchiveConductor
         cachedEpochClock.update(epochClock.time());
 
         random = ctx.secureRandom();
+        replicationThrottle = new ReplicationThrottle(ctx.replicationBandwidth(), ctx.replicationBytesCounter());
 
         authenticator = ctx.authenticatorSupplier().get();
         if (null == authenticator)
@@ -186,8 +200,16 @@ abstract class ArchiveConductor
 
     public void onStart()
     {
-        recorder = newRecorder();
-        replayer = newReplayer();
+        recorders = newRecorders();
+        replayers = newReplayers();
+
+        if (null != coldDir)
+        {
+            coldSegmentMover = new ColdSegmentMover(ctx);
+            coldSegmentMoverRunner = new AgentRunner(
+                new SleepingMillisIdleStrategy(), errorHandler, ctx.errorCounter(), coldSegmentMover);
+            AgentRunner.startOnThread(coldSegmentMoverRunner, ctx.threadFactory());
+        }
 
         dutyCycleTracker.update(nanoClock.nanoTime());
     }
@@ -207,9 +229,47 @@ abstract class ArchiveConductor
         }
     }
 
-    abstract Recorder newRecorder();
+    abstract Recorder[] newRecorders();
+
+    abstract Replayer[] newReplayers();
 
-    abstract Replayer newReplayer();
+    final Recorder recorder(final long recordingId)
+    {
+        final Recorder[] recorders = this.recorders;
+        return 1 == recorders.length ? recorders[0] : recorders[(int)(recordingId % recorders.length)];
+    }
+
+    final Replayer replayer()
+    {
+        final Replayer[] replayers = this.replayers;
+        Replayer replayer = replayers[0];
+        for (int i = 1; i < replayers.length; i++)
+        {
+            if (replayers[i].assignedSessionCount < replayer.assignedSessionCount)
+            {
+                replayer = replayers[i];
+            }
+        }
+
+        return replayer;
+    }
+
+    final Replayer replayer(final long recordingId)
+    {
+        // co-locate replays of the same recording so they share the read cache of the replayer
+        if (replayers.length > 1 && null != replayers[0].readCache())
+        {
+            for (final ReplaySession replaySession : replaySessionByIdMap.values())
+            {
+                if (replaySession.recordingId() == recordingId)
+                {
+                    return replaySession.replayer;
+                }
+            }
+        }
+
+        return replayer();
+    }
 
     /**
      * {@inheritDoc}
@@ -251,6 +311,7 @@ abstract class ArchiveConductor
             }
         }
 
+        CloseHelper.close(errorHandler, coldSegmentMoverRunner);
         markFile.updateActivityTimestamp(NULL_VALUE);
         markFile.force();
         ctx.close();
@@ -265,14 +326,20 @@ abstract class ArchiveConductor
         {
             isAbort = true;
 
-            if (null != recorder)
+            if (null != recorders)
             {
-                recorder.abort();
+                for (final Recorder recorder : recorders)
+                {
+                    recorder.abort();
+                }
             }
 
-            if (null != replayer)
+            if (null != replayers)
             {
-                replayer.abort();
+                for (final Replayer replayer : replayers)
+                {
+                    replayer.abort();
+                }
             }
 
             ctx.errorCounter().close();
@@ -318,6 +385,10 @@ abstract class ArchiveConductor
         workCount += controlSessionAdapter.poll();
 
         workCount += checkReplayTokens(nowNs);
+        workCount += checkColdSegments(nowNs);
+        workCount += completeColdSegmentMoves();
+        workCount += checkpointRecordings(nowNs);
+        workCount += compactCatalog();
         workCount += invokeDriverConductor();
         workCount += runTasks(taskQueue);
 
@@ -603,6 +674,57 @@ abstract class ArchiveConductor
         controlSession.activeListing(session);
     }
 
+    void newQueryRecordingsSession(
+        final long correlationId,
+        final long fromRecordingId,
+        final int count,
+        final int streamId,
+        final RecordingActivity activity,
+        final int projection,
+        final long minStartTimestamp,
+        final long maxStartTimestamp,
+        final long minLength,
+        final byte[] channelFragment,
+        final ControlSession controlSession)
+    {
+        if (controlSession.hasActiveListing())
+        {
+            final String msg = "active listing already in progress";
+            controlSession.sendErrorResponse(correlationId, ACTIVE_LISTING, msg);
+            return;
+        }
+
+        if (RecordingActivity.NULL_VAL == activity)
+        {
+            controlSession.sendErrorResponse(correlationId, "unknown recording activity for query");
+            return;
+        }
+
+        final QueryRecordingsSession session = new QueryRecordingsSession(
+            correlationId,
+            fromRecordingId,
+            count,
+            streamId,
+            activity,
+            projection,
+            minStartTimestamp,
+            maxStartTimestamp,
+            minLength,
+            channelFragment,
+            catalog,
+            controlSession,
+            descriptorBuffer,
+            recordingDescriptorDecoder);
+        addSession(session);
+        controlSession.activeListing(session);
+    }
+
+    long recordedPosition(final long recordingId)
+    {
+        final RecordingSession recordingSession = recordingSessionByIdMap.get(recordingId);
+        return null == recordingSession ? NULL_POSITION : recordingSession.recordedPosition();
+    }
+
     void listRecording(final long correlationId, final long recordingId, final ControlSession controlSession)
     {
         if (controlSession.hasActiveListing())
@@ -766,7 +888,7 @@ abstract class ArchiveConductor
                 recordingSummary.termBufferLength,
                 recordingSummary.streamId,
                 aeron.asyncAddExclusivePublication(channelBuilder.build(), replayStreamId),
-                fileIoMaxLength,
+                replayFileIoMaxLength(fileIoMaxLength, recordingSummary.mtuLength, replayLimitPositionCounter),
                 replayLimitPositionCounter,
                 aeron,
                 controlSession,
@@ -796,15 +918,16 @@ abstract class ArchiveConductor
         final ExclusivePublication replayPublication)
     {
         final long replaySessionId = ((long)(replayId++) << 32) | (replayPublication.sessionId() & 0xFFFF_FFFFL);
+        final Replayer replayer = replayer(recordingId);
 
         final UnsafeBuffer replayBuffer;
-        if (0 < fileIoMaxLength && fileIoMaxLength < ctx.replayBuffer().capacity())
+        if (0 < fileIoMaxLength && fileIoMaxLength < replayer.replayBuffer().capacity())
         {
-            replayBuffer = new UnsafeBuffer(ctx.replayBuffer(), 0, fileIoMaxLength);
+            replayBuffer = new UnsafeBuffer(replayer.replayBuffer(), 0, fileIoMaxLength);
         }
         else
         {
-            replayBuffer = ctx.replayBuffer();
+            replayBuffer = replayer.replayBuffer();
         }
 
         final ReplaySession replaySession = new ReplaySession(
@@ -831,6 +954,7 @@ abstract class ArchiveConductor
             replayer);
 
         replaySessionByIdMap.put(replaySessionId, replaySession);
+        replayer.assignedSessionCount++;
         replayer.addSession(replaySession);
         ctx.replaySessionCounter().incrementRelease();
     }
@@ -907,6 +1031,7 @@ abstract class ArchiveConductor
         final int streamId,
         final SourceLocation sourceLocation,
         final boolean autoStop,
+        final boolean isReplication,
         final String originalChannel,
         final ControlSession controlSession)
     {
@@ -949,6 +1074,12 @@ abstract class ArchiveConductor
             return msg;
         }
 
+        final String coldSegmentMsg = isExtendingColdSegment(correlationId, recordingId, controlSession);
+        if (null != coldSegmentMsg)
+        {
+            return coldSegmentMsg;
+        }
+
         final String lowStorageSpaceMsg = isLowStorageSpace(correlationId, controlSession);
         if (null != lowStorageSpaceMsg)
         {
@@ -968,7 +1099,14 @@ abstract class ArchiveConductor
                     SPY_PREFIX + strippedChannel : strippedChannel;
 
                 final AvailableImageHandler handler = (image) -> taskQueue.addLast(() -> extendRecordingSession(
-                    controlSession, correlationId, recordingId, strippedChannel, originalChannel, image, autoStop));
+                    controlSession,
+                    correlationId,
+                    recordingId,
+                    strippedChannel,
+                    originalChannel,
+                    image,
+                    autoStop,
+                    isReplication));
 
                 final Subscription subscription = aeron.addSubscription(channel, streamId, handler, null);
 
@@ -1033,55 +1171,186 @@ abstract class ArchiveConductor
         }
     }
 
-    void truncateRecording(
-        final long correlationId, final long recordingId, final long position, final ControlSession controlSession)
+    void getRecordingPositionForTimestamp(
+        final long correlationId, final long recordingId, final long timestamp, final ControlSession controlSession)
     {
-        if (hasRecording(recordingId, correlationId, controlSession) &&
-            isValidTruncate(correlationId, controlSession, recordingId, position) &&
-            isDeleteAllowed(recordingId, correlationId, controlSession))
+        if (hasRecording(recordingId, correlationId, controlSession))
         {
-            final long stopPosition = recordingSummary.stopPosition;
-            final int segmentLength = recordingSummary.segmentFileLength;
-            final int termLength = recordingSummary.termBufferLength;
+            catalog.recordingSummary(recordingId, recordingSummary);
+            final RecordingSession recordingSession = recordingSessionByIdMap.get(recordingId);
+            final long startPosition = recordingSummary.startPosition;
+            final long maxRecordedPosition = null != recordingSession ?
+                recordingSession.recordingPosition().get() : recordingSummary.stopPosition;
+
+            addSession(new RecordingPositionForTimestampSession(
+                correlationId, archiveDir, recordingId, timestamp, startPosition, maxRecordedPosition, controlSession));
+        }
+    }
+
+    void segmentChecksum(
+        final long correlationId,
+        final long recordingId,
+        final long position,
+        final long length,
+        final ControlSession controlSession)
+    {
+        if (hasRecording(recordingId, correlationId, controlSession))
+        {
+            catalog.recordingSummary(recordingId, recordingSummary);
+            final RecordingSession recordingSession = recordingSessionByIdMap.get(recordingId);
             final long startPosition = recordingSummary.startPosition;
+            final long maxRecordedPosition = null != recordingSession ?
+                recordingSession.recordingPosition().get() : recordingSummary.stopPosition;
             final long segmentBasePosition = segmentFileBasePosition(
-                startPosition, position, termLength, segmentLength);
-            final int segmentOffset = (int)(position - segmentBasePosition);
+                startPosition, position, recordingSummary.termBufferLength, recordingSummary.segmentFileLength);
 
-            catalog.stopPosition(recordingId, position);
+            if (position < startPosition || length < 0 || ((position & (FRAME_ALIGNMENT - 1)) != 0) ||
+                position + length > maxRecordedPosition ||
+                position + length > segmentBasePosition + recordingSummary.segmentFileLength)
+            {
+                final String msg = "invalid segment checksum range: position=" + position + " length=" + length +
+                    " start=" + startPosition + " maxRecordedPosition=" + maxRecordedPosition +
+                    " segmentFileLength=" + recordingSummary.segmentFileLength;
+                controlSession.sendErrorResponse(correlationId, msg);
+                return;
+            }
 
-            final ArrayDeque<String> files = new ArrayDeque<>();
-            if (startPosition == position)
+            try
             {
-                listSegmentFiles(recordingId, files::addLast);
+                final SegmentChecksum segmentChecksum = newSegmentChecksum(
+                    recordingId, segmentBasePosition, position, length);
+                addSession(new SegmentChecksumSession(correlationId, segmentChecksum, controlSession, errorHandler));
             }
-            else
+            catch (final IOException ex)
             {
-                if (segmentOffset > 0)
+                controlSession.sendErrorResponse(correlationId, "failed to open segment file: " + ex.getMessage());
+            }
+        }
+    }
+
+    SegmentChecksum newSegmentChecksum(
+        final long recordingId, final long segmentBasePosition, final long position, final long length)
+        throws IOException
+    {
+        if (null == segmentChecksumBuffer)
+        {
+            segmentChecksumBuffer = SegmentChecksum.allocateBlockBuffer();
+        }
+
+        final File file = segmentFile(archiveDir, coldDir, segmentFileName(recordingId, segmentBasePosition));
+        return new SegmentChecksum(file, position - segmentBasePosition, length, segmentChecksumBuffer);
+    }
+
+    boolean hasDeleteSegmentsSession(final long recordingId)
+    {
+        return deleteSegmentsSessionByIdMap.containsKey(recordingId);
+    }
+
+    void truncateRecording(
+        final long correlationId, final long recordingId, final long position, final ControlSession controlSession)
+    {
+        final ArrayDeque<String> files = new ArrayDeque<>();
+        final ColdSegmentRestore restore;
+        try
+        {
+            restore = truncateSegments(recordingId, position, files);
+        }
+        catch (final ArchiveException ex)
+        {
+            controlSession.sendErrorResponse(correlationId, ex.errorCode(), ex.getMessage());
+            if (null != ex.getCause())
+            {
+                throw ex;
+            }
+            return;
+        }
+
+        deleteSegments(correlationId, recordingId, controlSession, files, restore);
+    }
+
+    /**
+     * Truncate a recording on behalf of the archive, such as a replication discarding data which has diverged from
+     * the source, without sending responses or signals to a control session.
+     *
+     * @param recordingId to be truncated.
+     * @param position    to truncate the recording to.
+     * @return the session deleting the segments beyond the position or null if there are none to delete.
+     * @throws ArchiveException if the recording cannot be truncated to the position.
+     */
+    DeleteSegmentsSession truncateRecording(final long recordingId, final long position)
+    {
+        final ArrayDeque<String> files = new ArrayDeque<>();
+        final ColdSegmentRestore restore = truncateSegments(recordingId, position, files);
+        if (files.isEmpty())
+        {
+            return null;
+        }
+
+        return addDeleteSegmentsSession(new DeleteSegmentsSession(
+            recordingId, deleteList(files, restore), restore, this, errorHandler));
+    }
+
+    private ColdSegmentRestore truncateSegments(
+        final long recordingId, final long position, final ArrayDeque<String> files)
+    {
+        validateTruncate(recordingId, position);
+
+        final long stopPosition = recordingSummary.stopPosition;
+        final int segmentLength = recordingSummary.segmentFileLength;
+        final int termLength = recordingSummary.termBufferLength;
+        final long startPosition = recordingSummary.startPosition;
+        final long segmentBasePosition = segmentFileBasePosition(startPosition, position, termLength, segmentLength);
+        final int segmentOffset = (int)(position - segmentBasePosition);
+        final String segmentFileName = segmentFileName(recordingId, segmentBasePosition);
+        final boolean isErasingSegment = startPosition != position && segmentOffset > 0 && stopPosition != position;
+        final File file = isErasingSegment ? segmentFile(archiveDir, coldDir, segmentFileName) : null;
+
+        if (isErasingSegment)
+        {
+            validateHeaderAligned(file, position, segmentOffset, termLength);
+        }
+
+        cancelColdSegmentMoves(recordingId);
+        catalog.stopPosition(recordingId, position);
+
+        ColdSegmentRestore restore = null;
+        if (startPosition == position)
+        {
+            listSegmentFiles(recordingId, files::addLast);
+        }
+        else
+        {
+            if (isErasingSegment)
+            {
+                if (archiveDir.equals(file.getParentFile()))
                 {
-                    if (stopPosition != position)
-                    {
-                        final File file = new File(archiveDir, segmentFileName(recordingId, segmentBasePosition));
-                        if (!eraseRemainingSegment(
-                            correlationId, controlSession, position, segmentLength, segmentOffset, termLength, file))
-                        {
-                            return;
-                        }
-                    }
+                    eraseRemainingSegment(file, segmentOffset, segmentLength);
                 }
                 else
                 {
-                    files.addLast(segmentFileName(recordingId, segmentBasePosition));
-                }
-
-                for (long p = segmentBasePosition + segmentLength; p <= stopPosition; p += segmentLength)
-                {
-                    files.addLast(segmentFileName(recordingId, p));
+                    restore = new ColdSegmentRestore(
+                        file,
+                        new File(archiveDir, segmentFileName),
+                        segmentOffset,
+                        segmentLength,
+                        ctx.fileSyncLevel() > 0);
+                    files.addLast(segmentFileName);
                 }
             }
+            else if (0 == segmentOffset)
+            {
+                files.addLast(segmentFileName);
+            }
 
-            deleteSegments(correlationId, recordingId, controlSession, files);
+            for (long p = segmentBasePosition + segmentLength; p <= stopPosition; p += segmentLength)
+            {
+                files.addLast(segmentFileName(recordingId, p));
+            }
         }
+
+        removeTimeIndexEntriesFrom(recordingId, position);
+
+        return restore;
     }
 
     void purgeRecording(final long correlationId, final long recordingId, final ControlSession controlSession)
@@ -1091,6 +1360,8 @@ abstract class ArchiveConductor
             isDeleteAllowed(recordingId, correlationId, controlSession))
         {
             catalog.changeState(recordingId, DELETED);
+            cancelColdSegmentMoves(recordingId);
+            IoUtil.deleteIfExists(new File(archiveDir, Archive.recordingIndexFileName(recordingId)));
 
             final ArrayDeque<String> files = new ArrayDeque<>();
             listSegmentFiles(recordingId, files::addLast);
@@ -1216,6 +1487,7 @@ abstract class ArchiveConductor
         }
 
         replaySessionByIdMap.remove(session.sessionId());
+        session.replayer.assignedSessionCount--;
         closeSession(session);
         ctx.replaySessionCounter().decrementRelease();
     }
@@ -1302,6 +1574,7 @@ abstract class ArchiveConductor
             replicationChannel0,
             fileIoMaxLength,
             replicationSessionId,
+            ctx.replicationSegmentVerification(),
             hasRecording ? recordingSummary : null,
             remoteArchiveContext,
             cachedEpochClock,
@@ -1310,6 +1583,7 @@ abstract class ArchiveConductor
 
         replicationSessionByIdMap.put(replicationId, replicationSession);
         addSession(replicationSession);
+        ctx.replicationSessionCounter().incrementRelease();
 
         controlSession.sendOkResponse(correlationId, replicationId);
     }
@@ -1339,6 +1613,8 @@ abstract class ArchiveConductor
             isValidDetach(correlationId, controlSession, recordingId, newStartPosition))
         {
             catalog.startPosition(recordingId, newStartPosition);
+            cancelColdSegmentMoves(recordingId);
+            removeTimeIndexEntriesBefore(recordingId, newStartPosition);
             controlSession.sendOkResponse(correlationId);
         }
     }
@@ -1365,6 +1641,8 @@ abstract class ArchiveConductor
             {
                 findDetachedSegments(recordingId, files, minPosition.get());
             }
+            cancelColdSegmentMoves(recordingId);
+            removeTimeIndexEntriesBefore(recordingId, catalog.startPosition(recordingId));
             deleteSegments(correlationId, recordingId, controlSession, files);
         }
     }
@@ -1383,6 +1661,8 @@ abstract class ArchiveConductor
             final long oldStartPosition = recordingSummary.startPosition;
 
             catalog.startPosition(recordingId, newStartPosition);
+            cancelColdSegmentMoves(recordingId);
+            removeTimeIndexEntriesBefore(recordingId, newStartPosition);
 
             final ArrayDeque<String> files = new ArrayDeque<>();
             findDetachedSegments(recordingId, files, oldStartPosition);
@@ -1404,22 +1684,22 @@ abstract class ArchiveConductor
 
             while (position >= 0)
             {
-                final File file = new File(archiveDir, segmentFileName(recordingId, position));
+                final File file = segmentFile(archiveDir, coldDir, segmentFileName(recordingId, position));
                 if (!file.exists())
                 {
                     break;
                 }
 
-                final long fileLength = file.length();
-                if (fileLength != segmentLength)
+                try (FileChannel fileChannel = CompressedSegmentChannel.open(file))
                 {
-                    final String msg = "fileLength=" + fileLength + " not equal to segmentLength=" + segmentLength;
-                    controlSession.sendErrorResponse(correlationId, msg);
-                    return;
-                }
+                    final long fileLength = fileChannel.size();
+                    if (fileLength != segmentLength)
+                    {
+                        final String msg = "fileLength=" + fileLength + " not equal to segmentLength=" + segmentLength;
+                        controlSession.sendErrorResponse(correlationId, msg);
+                        return;
+                    }
 
-                try (FileChannel fileChannel = FileChannel.open(file.toPath(), FILE_OPTIONS))
-                {
                     final int termCount = (int)(position >> bitsToShift);
                     final int termId = recordingSummary.initialTermId + termCount;
                     final int termOffset = findTermOffsetForStart(
@@ -1449,6 +1729,10 @@ abstract class ArchiveConductor
                 }
             }
 
+            if (count > 0)
+            {
+                cancelColdSegmentMoves(recordingId);
+            }
             controlSession.sendOkResponse(correlationId, count);
         }
     }
@@ -1498,6 +1782,9 @@ abstract class ArchiveConductor
                 return;
             }
 
+            cancelColdSegmentMoves(srcRecordingId);
+            cancelColdSegmentMoves(dstRecordingId);
+
             final ArrayDeque<String> emptyFollowingSrcSegment = new ArrayDeque<>();
 
             final long movedSegmentCount = moveAllSegments(
@@ -1525,6 +1812,7 @@ abstract class ArchiveConductor
                     }
 
                     catalog.stopPosition(srcRecordingId, srcSummary.startPosition);
+                    removeTimeIndexEntriesFrom(srcRecordingId, srcSummary.startPosition);
 
                     controlSession.sendOkResponse(correlationId, movedSegmentCount);
 
@@ -1542,6 +1830,7 @@ abstract class ArchiveConductor
     void removeReplicationSession(final ReplicationSession replicationSession)
     {
         replicationSessionByIdMap.remove(replicationSession.sessionId());
+        ctx.replicationSessionCounter().decrementRelease();
     }
 
     void removeDeleteSegmentsSession(final DeleteSegmentsSession deleteSegmentsSession)
@@ -1549,6 +1838,35 @@ abstract class ArchiveConductor
         deleteSegmentsSessionByIdMap.remove(deleteSegmentsSession.sessionId());
     }
 
+    private void removeTimeIndexEntriesFrom(final long recordingId, final long position)
+    {
+        try
+        {
+            RecordingTimeIndex.removeEntriesFrom(archiveDir, recordingId, position);
+        }
+        catch (final IOException ex)
+        {
+            errorHandler.onError(ex);
+        }
+    }
+
+    private void removeTimeIndexEntriesBefore(final long recordingId, final long startPosition)
+    {
+        // the index of an active recording is being appended by the recorder, so it is left to lookups to ignore
+        // the entries below the start position until the index is next trimmed after the recording has stopped.
+        if (!recordingSessionByIdMap.containsKey(recordingId))
+        {
+            try
+            {
+                RecordingTimeIndex.removeEntriesBefore(archiveDir, recordingId, startPosition);
+            }
+            catch (final IOException ex)
+            {
+                errorHandler.onError(ex);
+            }
+        }
+    }
+
     private void findDetachedSegments(
         final long recordingId, final ArrayDeque<String> files, final long prevStartPosition)
     {
@@ -1579,22 +1897,57 @@ abstract class ArchiveConductor
         final long recordingId,
         final ControlSession controlSession,
         final ArrayDeque<String> files)
+    {
+        return addDeleteSegmentsSession(correlationId, recordingId, controlSession, files, null);
+    }
+
+    private int addDeleteSegmentsSession(
+        final long correlationId,
+        final long recordingId,
+        final ControlSession controlSession,
+        final ArrayDeque<String> files,
+        final ColdSegmentRestore restore)
     {
         if (files.isEmpty())
         {
             return 0;
         }
 
+        addDeleteSegmentsSession(new DeleteSegmentsSession(
+            recordingId, correlationId, deleteList(files, restore), restore, controlSession, errorHandler));
+
+        return files.size();
+    }
+
+    private DeleteSegmentsSession addDeleteSegmentsSession(final DeleteSegmentsSession deleteSegmentsSession)
+    {
+        deleteSegmentsSessionByIdMap.put(deleteSegmentsSession.sessionId(), deleteSegmentsSession);
+        addSession(deleteSegmentsSession);
+
+        return deleteSegmentsSession;
+    }
+
+    private ArrayDeque<File> deleteList(final ArrayDeque<String> files, final ColdSegmentRestore restore)
+    {
         final ArrayDeque<File> deleteList = new ArrayDeque<>(files.size());
         for (final String name : files)
         {
-            deleteList.add(new File(archiveDir, name));
+            final File archiveFile = new File(archiveDir, name);
+            if (null == restore || !archiveFile.equals(restore.archiveFile()))
+            {
+                deleteList.add(archiveFile);
+            }
+            if (null != coldDir)
+            {
+                deleteList.add(new File(coldDir, name));
+                if (name.endsWith(RECORDING_SEGMENT_SUFFIX))
+                {
+                    deleteList.add(new File(coldDir, name + CompressedSegmentChannel.FILE_SUFFIX));
+                }
+            }
         }
 
-        addSession(new DeleteSegmentsSession(
-            recordingId, correlationId, deleteList, controlSession, errorHandler));
-
-        return files.size();
+        return deleteList;
     }
 
     private void abortRecordingSessionAndCloseSubscription(final Subscription subscription)
@@ -1814,6 +2167,21 @@ abstract class ArchiveConductor
                 }
             }
         }
+
+        final String[] coldFiles = null != coldDir ? coldDir.list() : null;
+        if (null != coldFiles)
+        {
+            for (final String name : coldFiles)
+            {
+                if (name.startsWith(prefix) &&
+                    (name.endsWith(RECORDING_SEGMENT_SUFFIX) || name.endsWith(DELETE_SUFFIX) ||
+                    name.endsWith(RECORDING_SEGMENT_SUFFIX + CompressedSegmentChannel.FILE_SUFFIX)) &&
+                    !new File(archiveDir, name).exists())
+                {
+                    segmentFileConsumer.accept(name);
+                }
+            }
+        }
     }
 
     private void startRecordingSession(
@@ -1857,6 +2225,7 @@ abstract class ArchiveConductor
             sourceIdentity);
         position.setRelease(startPosition);
 
+        final Recorder recorder = recorder(recordingId);
         final RecordingSession session = new RecordingSession(
             correlationId,
             recordingId,
@@ -1869,7 +2238,8 @@ abstract class ArchiveConductor
             ctx,
             controlSession,
             autoStop,
-            recorder);
+            recorder,
+            null);
 
         controlSession.sendSignal(
             correlationId,
@@ -1891,7 +2261,8 @@ abstract class ArchiveConductor
         final String strippedChannel,
         final String originalChannel,
         final Image image,
-        final boolean autoStop)
+        final boolean autoStop,
+        final boolean isReplication)
     {
         final long subscriptionId = image.subscription().registrationId();
         try
@@ -1930,6 +2301,7 @@ abstract class ArchiveConductor
 
             position.setRelease(image.joinPosition());
 
+            final Recorder recorder = recorder(recordingId);
             final RecordingSession session = new RecordingSession(
                 correlationId,
                 recordingId,
@@ -1942,7 +2314,8 @@ abstract class ArchiveConductor
                 ctx,
                 controlSession,
                 autoStop,
-                recorder);
+                recorder,
+                isReplication ? replicationThrottle : null);
 
             catalog.extendRecording(recordingId, controlSession.sessionId(), correlationId, image.sessionId());
             controlSession.sendSignal(
@@ -2020,16 +2393,19 @@ abstract class ArchiveConductor
         }
     }
 
-    private boolean isValidTruncate(
-        final long correlationId, final ControlSession controlSession, final long recordingId, final long position)
+    private void validateTruncate(final long recordingId, final long position)
     {
+        if (!catalog.hasRecording(recordingId))
+        {
+            throw new ArchiveException("unknown recording id: " + recordingId, UNKNOWN_RECORDING);
+        }
+
         for (final ReplaySession replaySession : replaySessionByIdMap.values())
         {
             if (replaySession.recordingId() == recordingId)
             {
-                final String msg = "cannot truncate recording with active replay " + recordingId;
-                controlSession.sendErrorResponse(correlationId, ACTIVE_RECORDING, msg);
-                return false;
+                throw new ArchiveException(
+                    "cannot truncate recording with active replay " + recordingId, ACTIVE_RECORDING);
             }
         }
 
@@ -2039,20 +2415,20 @@ abstract class ArchiveConductor
 
         if (NULL_POSITION == stopPosition)
         {
-            final String msg = "cannot truncate active recording";
-            controlSession.sendErrorResponse(correlationId, ACTIVE_RECORDING, msg);
-            return false;
+            throw new ArchiveException("cannot truncate active recording", ACTIVE_RECORDING);
         }
 
         if (position < startPosition || position > stopPosition || ((position & (FRAME_ALIGNMENT - 1)) != 0))
         {
-            final String msg = "invalid position " + position +
-                ": start=" + startPosition + " stop=" + stopPosition + " alignment=" + FRAME_ALIGNMENT;
-            controlSession.sendErrorResponse(correlationId, msg);
-            return false;
+            throw new ArchiveException("invalid position " + position +
+                ": start=" + startPosition + " stop=" + stopPosition + " alignment=" + FRAME_ALIGNMENT, GENERIC);
         }
 
-        return true;
+        if (deleteSegmentsSessionByIdMap.containsKey(recordingId))
+        {
+            throw new ArchiveException(
+                "another delete operation in progress for recording id: " + recordingId, GENERIC);
+        }
     }
 
     private boolean isValidPurge(final long correlationId, final ControlSession controlSession, final long recordingId)
@@ -2080,6 +2456,19 @@ abstract class ArchiveConductor
         return true;
     }
 
+    private int replayFileIoMaxLength(
+        final int fileIoMaxLength, final int mtuLength, final Counter replayLimitPositionCounter)
+    {
+        final int quotaLength = ctx.replaySessionQuotaLength();
+        if (0 == quotaLength || null != replayLimitPositionCounter)
+        {
+            return fileIoMaxLength;
+        }
+
+        final int sessionQuotaLength = max(quotaLength, mtuLength);
+        return 0 < fileIoMaxLength && fileIoMaxLength < sessionQuotaLength ? fileIoMaxLength : sessionQuotaLength;
+    }
+
     private boolean isInvalidReplayPosition(
         final long correlationId,
         final ControlSession controlSession,
@@ -2310,9 +2699,9 @@ abstract class ArchiveConductor
         for (long position = firstSegmentPos; position <= lastSegmentPos; position += segmentLength)
         {
             final String segmentFileName = segmentFileName(srcRecordingId, position);
-            final File srcFile = new File(archiveDir, segmentFileName);
+            final File srcFile = segmentFile(archiveDir, coldDir, segmentFileName);
             final String dstFileName = segmentFileName(dstRecordingId, position);
-            final File dstFile = new File(archiveDir, dstFileName);
+            final File dstFile = segmentFile(archiveDir, coldDir, dstFileName);
 
             final boolean isEmptyFollowingSrcSegment = position == srcRecordingSummary.stopPosition;
             if (!isEmptyFollowingSrcSegment)
@@ -2336,7 +2725,7 @@ abstract class ArchiveConductor
         for (long position = firstSegmentPos; position <= lastSegmentPos; position += segmentLength)
         {
             final String segmentFileName = segmentFileName(srcRecordingId, position);
-            final File srcFile = new File(archiveDir, segmentFileName);
+            final File srcFile = segmentFile(archiveDir, coldDir, segmentFileName);
 
             final boolean isEmptyFollowingSrcSegment = position == srcRecordingSummary.stopPosition;
             if (isEmptyFollowingSrcSegment)
@@ -2345,8 +2734,10 @@ abstract class ArchiveConductor
             }
             else
             {
-                final String dstFileName = segmentFileName(dstRecordingId, position);
-                final File dstFile = new File(archiveDir, dstFileName);
+                final String dstFileName = CompressedSegmentChannel.isCompressed(srcFile) ?
+                    segmentFileName(dstRecordingId, position) + CompressedSegmentChannel.FILE_SUFFIX :
+                    segmentFileName(dstRecordingId, position);
+                final File dstFile = new File(srcFile.getParentFile(), dstFileName);
                 if (!srcFile.renameTo(dstFile))
                 {
                     final String msg = "failed to rename " + srcFile + " to " + dstFile;
@@ -2361,30 +2752,11 @@ abstract class ArchiveConductor
         return attachedSegmentCount;
     }
 
-    private boolean eraseRemainingSegment(
-        final long correlationId,
-        final ControlSession controlSession,
-        final long position,
-        final int segmentLength,
-        final int segmentOffset,
-        final int termLength,
-        final File file)
+    private void eraseRemainingSegment(final File file, final int segmentOffset, final int segmentLength)
     {
         try (FileChannel channel = FileChannel.open(file.toPath(), FILE_OPTIONS))
         {
-            final int termOffset = (int)(position & (termLength - 1));
-            final int termCount = (int)(position >> LogBufferDescriptor.positionBitsToShift(termLength));
-            final int termId = recordingSummary.initialTermId + termCount;
             final UnsafeBuffer dataBuffer = ctx.dataBuffer();
-
-            if (ReplaySession.notHeaderAligned(
-                channel, dataBuffer, segmentOffset, termOffset, termId, recordingSummary.streamId))
-            {
-                final String msg = position + " position not aligned to a data header";
-                controlSession.sendErrorResponse(correlationId, msg);
-                return false;
-            }
-
             channel.truncate(segmentOffset);
             dataBuffer.byteBuffer().put(0, (byte)0).limit(1).position(0);
 
@@ -2399,11 +2771,32 @@ abstract class ArchiveConductor
         }
         catch (final IOException ex)
         {
-            controlSession.sendErrorResponse(correlationId, ex.getMessage());
-            LangUtil.rethrowUnchecked(ex);
+            throw new ArchiveException(ex.getMessage(), ex, GENERIC);
         }
+    }
 
-        return true;
+    private void validateHeaderAligned(
+        final File file, final long position, final int segmentOffset, final int termLength)
+    {
+        final int termOffset = (int)(position & (termLength - 1));
+        final int termCount = (int)(position >> LogBufferDescriptor.positionBitsToShift(termLength));
+        final int termId = recordingSummary.initialTermId + termCount;
+
+        final boolean notHeaderAligned;
+        try (FileChannel channel = CompressedSegmentChannel.open(file))
+        {
+            notHeaderAligned = ReplaySession.notHeaderAligned(
+                channel, ctx.dataBuffer(), segmentOffset, termOffset, termId, recordingSummary.streamId);
+        }
+        catch (final IOException ex)
+        {
+            throw new ArchiveException(ex.getMessage(), ex, GENERIC);
+        }
+
+        if (notHeaderAligned)
+        {
+            throw new ArchiveException(position + " position not aligned to a data header", GENERIC);
+        }
     }
 
     private void closeAndRemoveRecordingSubscription(final Subscription subscription, final String reason)
@@ -2423,6 +2816,29 @@ abstract class ArchiveConductor
         CloseHelper.close(errorHandler, subscription);
     }
 
+    private String isExtendingColdSegment(
+        final long correlationId, final long recordingId, final ControlSession controlSession)
+    {
+        if (null != coldDir)
+        {
+            final String segmentFileName = segmentFileName(recordingId, segmentFileBasePosition(
+                recordingSummary.startPosition,
+                recordingSummary.stopPosition,
+                recordingSummary.termBufferLength,
+                recordingSummary.segmentFileLength));
+
+            if (!archiveDir.equals(segmentFile(archiveDir, coldDir, segmentFileName).getParentFile()))
+            {
+                final String msg = "cannot extend recording " + recordingId +
+                    " as the segment to be extended is in the cold dir: " + segmentFileName;
+                controlSession.sendErrorResponse(correlationId, msg);
+                return msg;
+            }
+        }
+
+        return null;
+    }
+
     private String isLowStorageSpace(final long correlationId, final ControlSession controlSession)
     {
         try
@@ -2451,7 +2867,17 @@ abstract class ArchiveConductor
         final ControlSession controlSession,
         final ArrayDeque<String> files)
     {
-        final int count = addDeleteSegmentsSession(correlationId, recordingId, controlSession, files);
+        deleteSegments(correlationId, recordingId, controlSession, files, null);
+    }
+
+    private void deleteSegments(
+        final long correlationId,
+        final long recordingId,
+        final ControlSession controlSession,
+        final ArrayDeque<String> files,
+        final ColdSegmentRestore restore)
+    {
+        final int count = addDeleteSegmentsSession(correlationId, recordingId, controlSession, files, restore);
         if (count >= 0)
         {
             controlSession.sendOkResponse(correlationId, count);
@@ -2508,6 +2934,155 @@ abstract class ArchiveConductor
         }
     }
 
+    private int checkColdSegments(final long nowNs)
+    {
+        if (null == coldSegmentMover || nowNs - coldCheckDeadlineNs < 0)
+        {
+            return 0;
+        }
+
+        coldCheckDeadlineNs = nowNs + ctx.coldCheckIntervalNs();
+
+        int workCount = 0;
+        final long nextRecordingId = catalog.nextRecordingId();
+        for (int i = 0, limit = (int)min(nextRecordingId, ColdSegmentMover.QUEUE_CAPACITY); i < limit; i++)
+        {
+            if (coldCheckRecordingId >= nextRecordingId)
+            {
+                coldCheckRecordingId = 0;
+            }
+
+            final long recordingId = coldCheckRecordingId;
+            if (catalog.hasRecording(recordingId))
+            {
+                catalog.recordingSummary(recordingId, recordingSummary);
+                final RecordingSession recordingSession = recordingSessionByIdMap.get(recordingId);
+                final long lastPosition = null != recordingSession ?
+                    recordingSession.recordingPosition().get() : recordingSummary.stopPosition;
+
+                if (NULL_POSITION != lastPosition)
+                {
+                    if (!coldSegmentMover.submit(
+                        recordingId,
+                        recordingSummary.startPosition,
+                        lastPosition,
+                        recordingSummary.termBufferLength,
+                        recordingSummary.segmentFileLength))
+                    {
+                        break;
+                    }
+                    workCount++;
+                }
+            }
+
+            coldCheckRecordingId++;
+        }
+
+        return workCount;
+    }
+
+    private int completeColdSegmentMoves()
+    {
+        if (null == coldSegmentMover)
+        {
+            return 0;
+        }
+
+        try
+        {
+            return coldSegmentMover.completeMoves(coldSegmentMoveValidator);
+        }
+        catch (final IOException | RuntimeException ex)
+        {
+            errorHandler.onError(ex);
+            return 1;
+        }
+    }
+
+    private boolean isValidColdSegmentMove(final long recordingId, final long segmentPosition)
+    {
+        if (!catalog.hasRecording(recordingId) || deleteSegmentsSessionByIdMap.containsKey(recordingId))
+        {
+            return false;
+        }
+
+        catalog.recordingSummary(recordingId, recordingSummary);
+        final RecordingSession recordingSession = recordingSessionByIdMap.get(recordingId);
+        final long lastPosition = null != recordingSession ?
+            recordingSession.recordingPosition().get() : recordingSummary.stopPosition;
+        if (NULL_POSITION == lastPosition)
+        {
+            return false;
+        }
+
+        final long startPosition = recordingSummary.startPosition;
+        final int termLength = recordingSummary.termBufferLength;
+        final int segmentLength = recordingSummary.segmentFileLength;
+
+        return segmentPosition >= segmentFileBasePosition(startPosition, startPosition, termLength, segmentLength) &&
+            segmentPosition < segmentFileBasePosition(startPosition, lastPosition, termLength, segmentLength);
+    }
+
+    private void cancelColdSegmentMoves(final long recordingId)
+    {
+        if (null != coldSegmentMover)
+        {
+            coldSegmentMover.cancel(recordingId);
+        }
+    }
+
+    private int checkpointRecordings(final long nowNs)
+    {
+        final long intervalNs = ctx.recordingCheckpointIntervalNs();
+        if (0 == intervalNs || nowNs - checkpointDeadlineNs < 0)
+        {
+            return 0;
+        }
+
+        checkpointDeadlineNs = nowNs + intervalNs;
+
+        int workCount = 0;
+        for (final RecordingSession session : recordingSessionByIdMap.values())
+        {
+            final long recordingId = session.sessionId();
+            final long checkpointPosition = session.checkpointPosition();
+            final int checkpointChecksum = session.checkpointChecksum();
+            if (NULL_POSITION != checkpointPosition &&
+                checkpointPosition == session.checkpointPosition() &&
+                checkpointPosition > catalog.checkpointPosition(recordingId))
+            {
+                catalog.checkpoint(recordingId, checkpointPosition, checkpointChecksum);
+                workCount++;
+            }
+        }
+
+        return workCount;
+    }
+
+    private int compactCatalog()
+    {
+        int workCount = 0;
+        final int threshold = ctx.catalogCompactionThreshold();
+        if (catalog.isCompacting() || (threshold > 0 && catalog.deletedEntryCount() >= threshold))
+        {
+            workCount += catalog.compact(ctx.catalogCompactionSliceLength());
+            updateCounter(ctx.catalogCompactedBytesCounter(), catalog.compactedBytes());
+        }
+
+        updateCounter(ctx.catalogLiveDescriptorsCounter(), catalog.entryCount());
+        updateCounter(ctx.catalogDeadDescriptorsCounter(), catalog.deadEntryCount());
+
+        return workCount;
+    }
+
+    private static void updateCounter(final Counter counter, final long value)
+    {
+        if (value != counter.getPlain())
+        {
+            counter.setRelease(value);
+        }
+    }
+
     private int checkReplayTokens(final long nowNs)
     {
         //noinspection Java8CollectionRemoveIf
@@ -2526,29 +3101,98 @@ abstract class ArchiveConductor
 
     abstract static class Recorder extends SessionWorker<RecordingSession>
     {
-        private long totalWriteBytes;
-        private long totalWriteTimeNs;
+        private long writeBytes;
+        private long writeTimeNs;
         private long maxWriteTimeNs;
         private final Counter totalWriteBytesCounter;
         private final Counter totalWriteTimeCounter;
         private final Counter maxWriteTimeCounter;
+        private final Archive.Context context;
+        private final UnsafeBuffer checksumBuffer;
+        private final RecordingFileSyncer fileSyncer;
+        private AgentRunner fileSyncerAgentRunner;
+        private final ArrayList<RecordingSession> groupCommitSessions = new ArrayList<>();
+        private final long groupCommitWindowNs;
+        private long groupCommitStartNs;
+        private final Counter totalSyncTimeCounter;
+        private final Counter maxSyncTimeCounter;
+        private final Counter totalForceTimeCounter;
+        private final Counter maxForceTimeCounter;
 
         Recorder(final CountedErrorHandler errorHandler, final Archive.Context context)
         {
-            super("archive-recorder", errorHandler);
+            this("archive-recorder", errorHandler, context, context.recordChecksumBuffer());
+        }
+
+        Recorder(
+            final String roleName,
+            final CountedErrorHandler errorHandler,
+            final Archive.Context context,
+            final UnsafeBuffer checksumBuffer)
+        {
+            super(roleName, errorHandler);
+            this.context = context;
+            this.checksumBuffer = checksumBuffer;
             totalWriteBytesCounter = context.totalWriteBytesCounter();
             totalWriteTimeCounter = context.totalWriteTimeCounter();
             maxWriteTimeCounter = context.maxWriteTimeCounter();
+            fileSyncer = context.isFileSyncAsync() ? new RecordingFileSyncer(context) : null;
+            groupCommitWindowNs = context.fileSyncGroupCommitWindowNs();
+            totalSyncTimeCounter = context.totalSyncTimeCounter();
+            maxSyncTimeCounter = context.maxSyncTimeCounter();
+            totalForceTimeCounter = context.totalForceTimeCounter();
+            maxForceTimeCounter = context.maxForceTimeCounter();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void onStart()
+        {
+            if (null != fileSyncer)
+            {
+                fileSyncerAgentRunner = new AgentRunner(
+                    context.recorderIdleStrategy(), errorHandler, context.errorCounter(), fileSyncer);
+                AgentRunner.startOnThread(fileSyncerAgentRunner, context.recorderThreadFactory());
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void postSessionsClose()
+        {
+            CloseHelper.close(errorHandler, fileSyncerAgentRunner);
+        }
+
+        final RecordingFileSyncer fileSyncer()
+        {
+            return fileSyncer;
+        }
+
+        final UnsafeBuffer checksumBuffer()
+        {
+            return checksumBuffer;
+        }
+
+        final void addToGroupCommit(final RecordingSession session)
+        {
+            if (groupCommitSessions.isEmpty())
+            {
+                groupCommitStartNs = context.nanoClock().nanoTime();
+            }
+
+            groupCommitSessions.add(session);
         }
 
         final void bytesWritten(final long bytes)
         {
-            totalWriteBytes += bytes;
+            writeBytes += bytes;
         }
 
         final void writeTimeNs(final long nanos)
         {
-            totalWriteTimeNs += nanos;
+            writeTimeNs += nanos;
 
             if (nanos > maxWriteTimeNs)
             {
@@ -2559,11 +3203,56 @@ abstract class ArchiveConductor
         public int doWork()
         {
             final int workCount = super.doWork();
-            if (workCount > 0)
+            if (workCount > 0 && 0 != writeBytes)
+            {
+                totalWriteBytesCounter.getAndAdd(writeBytes);
+                totalWriteTimeCounter.getAndAdd(writeTimeNs);
+                maxWriteTimeCounter.proposeMax(maxWriteTimeNs);
+                writeBytes = 0;
+                writeTimeNs = 0;
+            }
+
+            return workCount + groupCommit();
+        }
+
+        private int groupCommit()
+        {
+            final ArrayList<RecordingSession> groupCommitSessions = this.groupCommitSessions;
+            if (groupCommitSessions.isEmpty() ||
+                context.nanoClock().nanoTime() - groupCommitStartNs < groupCommitWindowNs)
+            {
+                return 0;
+            }
+
+            int workCount = 0;
+            final long forceStartNs = context.nanoClock().nanoTime();
+            for (int i = 0, size = groupCommitSessions.size(); i < size; i++)
+            {
+                workCount += groupCommitSessions.get(i).onGroupCommit();
+            }
+            groupCommitSessions.clear();
+
+            final long nowNs = context.nanoClock().nanoTime();
+            final long syncTimeNs = nowNs - groupCommitStartNs;
+            if (null != totalSyncTimeCounter)
             {
-                totalWriteBytesCounter.setRelease(totalWriteBytes);
-                totalWriteTimeCounter.setRelease(totalWriteTimeNs);
-                maxWriteTimeCounter.setRelease(maxWriteTimeNs);
+                totalSyncTimeCounter.getAndAdd(syncTimeNs);
+            }
+
+            if (null != maxSyncTimeCounter)
+            {
+                maxSyncTimeCounter.proposeMax(syncTimeNs);
+            }
+
+            final long forceTimeNs = nowNs - forceStartNs;
+            if (null != totalForceTimeCounter)
+            {
+                totalForceTimeCounter.getAndAdd(forceTimeNs);
+            }
+
+            if (null != maxForceTimeCounter)
+            {
+                maxForceTimeCounter.proposeMax(forceTimeNs);
             }
 
             return workCount;
@@ -2572,29 +3261,94 @@ abstract class ArchiveConductor
 
     abstract static class Replayer extends SessionWorker<ReplaySession>
     {
-        private long totalReadBytes;
-        private long totalReadTimeNs;
+        private long readBytes;
+        private long readTimeNs;
         private long maxReadTimeNs;
         private final Counter totalReadBytesCounter;
         private final Counter totalReadTimeCounter;
         private final Counter maxReadTimeCounter;
+        private final Counter readBytesCounter;
+        private final UnsafeBuffer replayBuffer;
+        private final ReplayReadCache readCache;
+        private final Archive.Context context;
+        private final SegmentPrefetcher segmentPrefetcher;
+        private AgentRunner segmentPrefetcherAgentRunner;
+        int assignedSessionCount;
 
         Replayer(final CountedErrorHandler errorHandler, final Archive.Context context)
         {
-            super("archive-replayer", errorHandler);
+            this("archive-replayer", errorHandler, context, context.replayBuffer(), null);
+        }
+
+        Replayer(
+            final String roleName,
+            final CountedErrorHandler errorHandler,
+            final Archive.Context context,
+            final UnsafeBuffer replayBuffer,
+            final Counter readBytesCounter)
+        {
+            super(roleName, errorHandler);
+            this.context = context;
+            this.replayBuffer = replayBuffer;
+            this.readBytesCounter = readBytesCounter;
+            readCache = context.replayReadCacheLength() > 0 && !context.replayMapSegmentFiles() ?
+                new ReplayReadCache(
+                    context.replayReadCacheLength(),
+                    context.replayReadCacheHitBytesCounter(),
+                    context.replayReadCacheMissBytesCounter()) :
+                null;
             totalReadBytesCounter = context.totalReadBytesCounter();
             totalReadTimeCounter = context.totalReadTimeCounter();
             maxReadTimeCounter = context.maxReadTimeCounter();
+            segmentPrefetcher = context.replaySegmentPrefetchLength() > 0 ||
+                (context.replayMapSegmentFiles() && context.replayReadAheadLength() > 0) ?
+                new SegmentPrefetcher(errorHandler, context) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void onStart()
+        {
+            if (null != segmentPrefetcher)
+            {
+                segmentPrefetcherAgentRunner = new AgentRunner(
+                    new SleepingMillisIdleStrategy(), errorHandler, context.errorCounter(), segmentPrefetcher);
+                AgentRunner.startOnThread(segmentPrefetcherAgentRunner, context.replayerThreadFactory());
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void postSessionsClose()
+        {
+            CloseHelper.close(errorHandler, segmentPrefetcherAgentRunner);
+        }
+
+        final UnsafeBuffer replayBuffer()
+        {
+            return replayBuffer;
+        }
+
+        ReplayReadCache readCache()
+        {
+            return readCache;
+        }
+
+        final SegmentPrefetcher segmentPrefetcher()
+        {
+            return segmentPrefetcher;
         }
 
         final void bytesRead(final long bytes)
         {
-            totalReadBytes += bytes;
+            readBytes += bytes;
         }
 
         final void readTimeNs(final long nanos)
         {
-            totalReadTimeNs += nanos;
+            readTimeNs += nanos;
 
             if (nanos > maxReadTimeNs)
             {
@@ -2605,11 +3359,17 @@ abstract class ArchiveConductor
         public int doWork()
         {
             final int workCount = super.doWork();
-            if (workCount > 0)
+            if (workCount > 0 && 0 != readBytes)
             {
-                totalReadBytesCounter.setRelease(totalReadBytes);
-                totalReadTimeCounter.setRelease(totalReadTimeNs);
-                maxReadTimeCounter.setRelease(maxReadTimeNs);
+                totalReadBytesCounter.getAndAdd(readBytes);
+                totalReadTimeCounter.getAndAdd(readTimeNs);
+                maxReadTimeCounter.proposeMax(maxReadTimeNs);
+                if (null != readBytesCounter)
+                {
+                    readBytesCounter.getAndAdd(readBytes);
+                }
+                readBytes = 0;
+                readTimeNs = 0;
             }
 
             return workCount;
@@ -19,11 +19,10 @@ import io.aeron.Aeron;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.archive.checksum.Checksum;
+import io.aeron.archive.checksum.Checksums;
 import io.aeron.archive.codecs.*;
-import io.aeron.driver.Configuration;
 import io.aeron.exceptions.AeronException;
 import io.aeron.protocol.DataHeaderFlyweight;
-import io.aeron.protocol.HeaderFlyweight;
 import org.agrona.*;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableBoolean;
@@ -31,16 +30,23 @@ import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.stream.Stream;
@@ -60,7 +66,6 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.computeTermIdFromPosition;
 import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
-import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
 import static java.lang.Math.min;
@@ -73,7 +78,6 @@ import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toMap;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.agrona.BitUtil.align;
-import static org.agrona.BufferUtil.NATIVE_BYTE_ORDER;
 import static org.agrona.concurrent.SystemEpochClock.INSTANCE;
 
 /**
@@ -82,6 +86,14 @@ import static org.agrona.concurrent.SystemEpochClock.INSTANCE;
  */
 public class ArchiveTool
 {
+    /**
+     * Number of recordings whose segment files are read concurrently by the verify and checksum commands. Defaults
+     * to 1 which processes recordings sequentially on the calling thread.
+     */
+    public static final String IO_CONCURRENCY_PROP_NAME = "aeron.archive.tool.io.concurrency";
+
+    static final long PROGRESS_INTERVAL_MS = 1000;
+
     /**
      * Allows user to confirm or reject an action.
      *
@@ -122,6 +134,7 @@ public class ArchiveTool
         }
 
         final PrintStream out = System.out;
+        final int ioConcurrency = Integer.getInteger(IO_CONCURRENCY_PROP_NAME, 1);
         if (args.length > 1 && "describe-all".equals(args[1]))
         {
             describeAll(out, archiveDir);
@@ -161,7 +174,8 @@ public class ArchiveTool
                     archiveDir,
                     emptySet(),
                     null,
-                    ArchiveTool::truncateOnPageStraddle);
+                    ArchiveTool::truncateOnPageStraddle,
+                    ioConcurrency);
             }
             else if (args.length == 3)
             {
@@ -172,7 +186,8 @@ public class ArchiveTool
                         archiveDir,
                         EnumSet.of(VERIFY_ALL_SEGMENT_FILES),
                         null,
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
                 else
                 {
@@ -182,7 +197,8 @@ public class ArchiveTool
                         Long.parseLong(args[2]),
                         emptySet(),
                         null,
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
             }
             else if (args.length == 4)
@@ -194,7 +210,8 @@ public class ArchiveTool
                         archiveDir,
                         EnumSet.of(APPLY_CHECKSUM),
                         validateChecksumClass(args[3]),
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
                 else
                 {
@@ -204,7 +221,8 @@ public class ArchiveTool
                         Long.parseLong(args[2]),
                         EnumSet.of(VERIFY_ALL_SEGMENT_FILES),
                         null,
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
             }
             else if (args.length == 5)
@@ -216,7 +234,8 @@ public class ArchiveTool
                         archiveDir,
                         EnumSet.allOf(VerifyOption.class),
                         validateChecksumClass(args[4]),
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
                 else
                 {
@@ -226,7 +245,8 @@ public class ArchiveTool
                         Long.parseLong(args[2]),
                         EnumSet.of(APPLY_CHECKSUM),
                         validateChecksumClass(args[4]),
-                        ArchiveTool::truncateOnPageStraddle);
+                        ArchiveTool::truncateOnPageStraddle,
+                        ioConcurrency);
                 }
             }
             else
@@ -237,7 +257,8 @@ public class ArchiveTool
                     Long.parseLong(args[2]),
                     EnumSet.allOf(VerifyOption.class),
                     validateChecksumClass(args[5]),
-                    ArchiveTool::truncateOnPageStraddle);
+                    ArchiveTool::truncateOnPageStraddle,
+                    ioConcurrency);
             }
 
             if (hasErrors)
@@ -249,13 +270,13 @@ public class ArchiveTool
         {
             if (args.length == 3)
             {
-                checksum(out, archiveDir, false, args[2]);
+                checksum(out, archiveDir, false, args[2], ioConcurrency);
             }
             else
             {
                 if ("-a".equals(args[3]))
                 {
-                    checksum(out, archiveDir, true, args[2]);
+                    checksum(out, archiveDir, true, args[2], ioConcurrency);
                 }
                 else
                 {
@@ -264,7 +285,8 @@ public class ArchiveTool
                         archiveDir,
                         Long.parseLong(args[3]),
                         args.length > 4 && "-a".equals(args[4]),
-                        args[2]);
+                        args[2],
+                        ioConcurrency);
                 }
             }
         }
@@ -644,9 +666,38 @@ public class ArchiveTool
         final Set<VerifyOption> options,
         final String checksumClassName,
         final ActionConfirmation<File> truncateOnPageStraddle)
+    {
+        return verify(out, archiveDir, options, checksumClassName, truncateOnPageStraddle, 1);
+    }
+
+    /**
+     * Verify descriptors in the catalog, checking recording files availability and contents, with the segment files
+     * of up to {@code ioConcurrency} recordings being read concurrently. The results are reported and applied to the
+     * catalog in catalog order so they are the same as for a sequential verification.
+     * <p>
+     * Faulty entries are marked as unusable.
+     *
+     * @param out                    stream to print results and errors to.
+     * @param archiveDir             that contains {@link org.agrona.MarkFile}, {@link Catalog}, and recordings.
+     * @param options                set of options that control verification behavior.
+     * @param checksumClassName      (optional) fully qualified class name of the {@link Checksum} implementation.
+     * @param truncateOnPageStraddle action to perform if last fragment in the max segment file straddles the page
+     *                               boundary, i.e. if {@code true} the file will be truncated (last fragment
+     *                               will be deleted), if {@code false} the fragment is considered complete.
+     * @param ioConcurrency          number of recordings to verify concurrently, {@code 1} for sequential.
+     * @return {@code true} if no errors have been encountered, {@code false} otherwise (faulty entries are marked
+     * as unusable if {@code false} is returned)
+     */
+    public static boolean verify(
+        final PrintStream out,
+        final File archiveDir,
+        final Set<VerifyOption> options,
+        final String checksumClassName,
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final int ioConcurrency)
     {
         final Checksum checksum = createChecksum(options, checksumClassName);
-        return verify(out, archiveDir, options, checksum, INSTANCE, truncateOnPageStraddle);
+        return verify(out, archiveDir, options, checksum, INSTANCE, truncateOnPageStraddle, ioConcurrency);
     }
 
     /**
@@ -673,6 +724,37 @@ public class ArchiveTool
         final Set<VerifyOption> options,
         final String checksumClassName,
         final ActionConfirmation<File> truncateOnPageStraddle)
+    {
+        return verifyRecording(out, archiveDir, recordingId, options, checksumClassName, truncateOnPageStraddle, 1);
+    }
+
+    /**
+     * Verify descriptor in the catalog according to recordingId, checking recording files availability and contents,
+     * with up to {@code ioConcurrency} segment files being read concurrently.
+     * <p>
+     * Faulty entries are marked as unusable.
+     *
+     * @param out                    stream to print results and errors to.
+     * @param archiveDir             that contains {@link org.agrona.MarkFile}, {@link Catalog}, and recordings.
+     * @param recordingId            to verify.
+     * @param options                set of options that control verification behavior.
+     * @param checksumClassName      (optional) fully qualified class name of the {@link Checksum} implementation.
+     * @param truncateOnPageStraddle action to perform if last fragment in the max segment file straddles the page
+     *                               boundary, i.e. if {@code true} the file will be truncated (last fragment
+     *                               will be deleted), if {@code false} the fragment if considered complete.
+     * @param ioConcurrency          number of threads reading segment files, {@code 1} for sequential.
+     * @return {@code true} if no errors have been encountered, {@code false} otherwise (the recording is marked
+     * as unusable if {@code false} is returned)
+     * @throws AeronException if there is no recording with {@code recordingId} in the archive
+     **/
+    public static boolean verifyRecording(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final Set<VerifyOption> options,
+        final String checksumClassName,
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final int ioConcurrency)
     {
         return verifyRecording(
             out,
@@ -681,7 +763,8 @@ public class ArchiveTool
             options,
             createChecksum(options, checksumClassName),
             INSTANCE,
-            truncateOnPageStraddle);
+            truncateOnPageStraddle,
+            ioConcurrency);
     }
 
     /**
@@ -695,7 +778,28 @@ public class ArchiveTool
     public static void checksum(
         final PrintStream out, final File archiveDir, final boolean allFiles, final String checksumClassName)
     {
-        checksum(out, archiveDir, allFiles, newInstance(validateChecksumClass(checksumClassName)), INSTANCE);
+        checksum(out, archiveDir, allFiles, checksumClassName, 1);
+    }
+
+    /**
+     * Compute and persist CRC-32(c) checksums for every fragment of a segment file for all recordings in the catalog,
+     * with the segment files of up to {@code ioConcurrency} recordings being processed concurrently.
+     *
+     * @param out               stream to print results and errors to.
+     * @param archiveDir        that contains {@link org.agrona.MarkFile}, {@link Catalog}, and recordings.
+     * @param allFiles          should compute checksums for all segment file or only for the last one.
+     * @param checksumClassName fully qualified class name of the {@link Checksum} implementation.
+     * @param ioConcurrency     number of recordings to process concurrently, {@code 1} for sequential.
+     */
+    public static void checksum(
+        final PrintStream out,
+        final File archiveDir,
+        final boolean allFiles,
+        final String checksumClassName,
+        final int ioConcurrency)
+    {
+        checksum(
+            out, archiveDir, allFiles, newInstance(validateChecksumClass(checksumClassName)), INSTANCE, ioConcurrency);
     }
 
     /**
@@ -714,9 +818,38 @@ public class ArchiveTool
         final long recordingId,
         final boolean allFiles,
         final String checksumClassName)
+    {
+        checksumRecording(out, archiveDir, recordingId, allFiles, checksumClassName, 1);
+    }
+
+    /**
+     * Compute and persist CRC-32(c) checksums for every fragment of a segment file(s) for a given recording, with up
+     * to {@code ioConcurrency} segment files being processed concurrently.
+     *
+     * @param out               stream to print results and errors to.
+     * @param archiveDir        that contains {@link org.agrona.MarkFile}, {@link Catalog}, and recordings.
+     * @param recordingId       to compute checksums for.
+     * @param allFiles          should compute checksums for all segment file or only for the last one.
+     * @param checksumClassName fully qualified class name of the {@link Checksum} implementation.
+     * @param ioConcurrency     number of threads processing segment files, {@code 1} for sequential.
+     * @throws AeronException if there is no recording with {@code recordingId} in the archive
+     */
+    public static void checksumRecording(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final boolean allFiles,
+        final String checksumClassName,
+        final int ioConcurrency)
     {
         checksumRecording(
-            out, archiveDir, recordingId, allFiles, newInstance(validateChecksumClass(checksumClassName)), INSTANCE);
+            out,
+            archiveDir,
+            recordingId,
+            allFiles,
+            newInstance(validateChecksumClass(checksumClassName)),
+            INSTANCE,
+            ioConcurrency);
     }
 
     /**
@@ -952,12 +1085,39 @@ public class ArchiveTool
         {
             final MutableInteger errorCount = new MutableInteger();
             catalog.forEach(createVerifyEntryProcessor(
-                out, archiveDir, options, catalog, checksum, epochClock, errorCount, truncateOnPageStraddle));
+                out,
+                archiveDir,
+                options,
+                catalog,
+                checksum,
+                epochClock,
+                errorCount,
+                truncateOnPageStraddle,
+                indexSegmentFiles(archiveDir),
+                null));
 
             return errorCount.get() == 0;
         }
     }
 
+    static boolean verify(
+        final PrintStream out,
+        final File archiveDir,
+        final Set<VerifyOption> options,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final int ioConcurrency)
+    {
+        if (ioConcurrency <= 1)
+        {
+            return verify(out, archiveDir, options, checksum, epochClock, truncateOnPageStraddle);
+        }
+
+        return verifyInParallel(
+            out, archiveDir, NULL_RECORD_ID, options, checksum, epochClock, truncateOnPageStraddle, ioConcurrency);
+    }
+
     static boolean verifyRecording(
         final PrintStream out,
         final File archiveDir,
@@ -972,7 +1132,16 @@ public class ArchiveTool
             final MutableBoolean foundRecording = new MutableBoolean();
             final MutableInteger errorCount = new MutableInteger();
             final CatalogEntryProcessor delegate = createVerifyEntryProcessor(
-                out, archiveDir, options, catalog, checksum, epochClock, errorCount, truncateOnPageStraddle);
+                out,
+                archiveDir,
+                options,
+                catalog,
+                checksum,
+                epochClock,
+                errorCount,
+                truncateOnPageStraddle,
+                indexSegmentFiles(archiveDir),
+                null);
             catalog.forEach((recordingDescriptorOffset, he, hd, encoder, decoder) ->
             {
                 if (decoder.recordingId() == recordingId)
@@ -991,6 +1160,159 @@ public class ArchiveTool
         }
     }
 
+    static boolean verifyRecording(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final Set<VerifyOption> options,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final int ioConcurrency)
+    {
+        if (ioConcurrency <= 1)
+        {
+            return verifyRecording(out, archiveDir, recordingId, options, checksum, epochClock, truncateOnPageStraddle);
+        }
+
+        return verifyInParallel(
+            out, archiveDir, recordingId, options, checksum, epochClock, truncateOnPageStraddle, ioConcurrency);
+    }
+
+    private static boolean verifyInParallel(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final Set<VerifyOption> options,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final int ioConcurrency)
+    {
+        try (Catalog catalog = openCatalogReadWrite(archiveDir, epochClock, MIN_CAPACITY, checksum, null))
+        {
+            final Long2ObjectHashMap<List<String>> segmentFilesByRecordingId = indexSegmentFiles(archiveDir);
+            final Long2ObjectHashMap<RecordingFiles> verifiedFilesByRecordingId = new Long2ObjectHashMap<>();
+            final PrintStream discardOut = new PrintStream(OutputStream.nullOutputStream());
+            final MutableBoolean foundRecording = new MutableBoolean();
+
+            catalog.forEach((recordingDescriptorOffset, headerEncoder, headerDecoder, encoder, decoder) ->
+            {
+                final long id = decoder.recordingId();
+                if (NULL_RECORD_ID == recordingId || id == recordingId)
+                {
+                    foundRecording.set(true);
+                    final RecordingState state = headerDecoder.state();
+                    if ((VALID == state || INVALID == state) &&
+                        !isPositionInvariantViolated(discardOut, id, decoder.startPosition(), decoder.stopPosition()))
+                    {
+                        verifiedFilesByRecordingId.put(
+                            id, new RecordingFiles(decoder, segmentFilesByRecordingId.getOrDefault(id, emptyList())));
+                    }
+                }
+            });
+
+            if (NULL_RECORD_ID != recordingId && !foundRecording.get())
+            {
+                throw new AeronException("no recording found with recordingId: " + recordingId);
+            }
+
+            final ThreadLocal<DataHeaderFlyweight> headerFlyweights =
+                ThreadLocal.withInitial(ArchiveTool::newVerifyHeaderFlyweight);
+            final ActionConfirmation<File> serialisedConfirmation =
+                (file) ->
+                {
+                    synchronized (truncateOnPageStraddle)
+                    {
+                        return truncateOnPageStraddle.confirm(file);
+                    }
+                };
+
+            runInParallel(
+                out,
+                "verify",
+                verifiedFilesByRecordingId.values(),
+                ioConcurrency,
+                (files) -> files.verify(archiveDir, options, checksum, headerFlyweights, serialisedConfirmation));
+
+            final MutableInteger errorCount = new MutableInteger();
+            final CatalogEntryProcessor delegate = createVerifyEntryProcessor(
+                out,
+                archiveDir,
+                options,
+                catalog,
+                checksum,
+                epochClock,
+                errorCount,
+                truncateOnPageStraddle,
+                segmentFilesByRecordingId,
+                verifiedFilesByRecordingId);
+            catalog.forEach((recordingDescriptorOffset, headerEncoder, headerDecoder, encoder, decoder) ->
+            {
+                if (NULL_RECORD_ID == recordingId || decoder.recordingId() == recordingId)
+                {
+                    delegate.accept(recordingDescriptorOffset, headerEncoder, headerDecoder, encoder, decoder);
+                }
+            });
+
+            return errorCount.get() == 0;
+        }
+    }
+
+    private static <T> void runInParallel(
+        final PrintStream out,
+        final String operation,
+        final Collection<T> recordings,
+        final int ioConcurrency,
+        final Consumer<T> action)
+    {
+        final int total = recordings.size();
+        final CountDownLatch latch = new CountDownLatch(total);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final ForkJoinPool pool = new ForkJoinPool(ioConcurrency);
+
+        try
+        {
+            for (final T recording : recordings)
+            {
+                pool.execute(() ->
+                {
+                    try
+                    {
+                        action.accept(recording);
+                    }
+                    catch (final Throwable ex)
+                    {
+                        error.compareAndSet(null, ex);
+                    }
+                    finally
+                    {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            while (!latch.await(PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS))
+            {
+                out.println(operation + " progress: " + (total - latch.getCount()) + "/" + total + " recordings");
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new AeronException(operation + " interrupted");
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        if (null != error.get())
+        {
+            LangUtil.rethrowUnchecked(error.get());
+        }
+    }
+
     static Catalog openCatalogReadOnly(final File archiveDir, final EpochClock epochClock)
     {
         return new Catalog(archiveDir, epochClock);
@@ -1077,13 +1399,11 @@ public class ArchiveTool
         final Checksum checksum,
         final EpochClock epochClock,
         final MutableInteger errorCount,
-        final ActionConfirmation<File> truncateOnPageStraddle)
+        final ActionConfirmation<File> truncateOnPageStraddle,
+        final Long2ObjectHashMap<List<String>> segmentFilesByRecordingId,
+        final Long2ObjectHashMap<RecordingFiles> verifiedFilesByRecordingId)
     {
-        final ByteBuffer buffer = BufferUtil.allocateDirectAligned(FILE_IO_MAX_LENGTH_DEFAULT, CACHE_LINE_LENGTH);
-        buffer.order(LITTLE_ENDIAN);
-        final DataHeaderFlyweight headerFlyweight = new DataHeaderFlyweight(buffer);
-
-        final Long2ObjectHashMap<List<String>> segmentFilesByRecordingId = indexSegmentFiles(archiveDir);
+        final DataHeaderFlyweight headerFlyweight = newVerifyHeaderFlyweight();
 
         return (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
             verifyRecording(
@@ -1097,6 +1417,7 @@ public class ArchiveTool
                 errorCount,
                 truncateOnPageStraddle,
                 headerFlyweight,
+                verifiedFilesByRecordingId,
                 recordingDescriptorOffset,
                 headerEncoder,
                 headerDecoder,
@@ -1104,6 +1425,14 @@ public class ArchiveTool
                 descriptorDecoder);
     }
 
+    private static DataHeaderFlyweight newVerifyHeaderFlyweight()
+    {
+        final ByteBuffer buffer = BufferUtil.allocateDirectAligned(FILE_IO_MAX_LENGTH_DEFAULT, CACHE_LINE_LENGTH);
+        buffer.order(LITTLE_ENDIAN);
+
+        return new DataHeaderFlyweight(buffer);
+    }
+
     private static boolean truncateOnPageStraddle(final File maxSegmentFile)
     {
         return readContinueAnswer(String.format(
@@ -1250,6 +1579,7 @@ public class ArchiveTool
         final MutableInteger errorCount,
         final ActionConfirmation<File> truncateOnPageStraddle,
         final DataHeaderFlyweight headerFlyweight,
+        final Long2ObjectHashMap<RecordingFiles> verifiedFilesByRecordingId,
         final int recordingDescriptorOffset,
         final RecordingDescriptorHeaderEncoder headerEncoder,
         final RecordingDescriptorHeaderDecoder headerDecoder,
@@ -1273,43 +1603,14 @@ public class ArchiveTool
             return;
         }
 
-        final int segmentLength = decoder.segmentFileLength();
-        final int termLength = decoder.termBufferLength();
-        final List<String> segmentFiles = segmentFileByRecordingId.getOrDefault(recordingId, emptyList());
-        final String maxSegmentFile;
-        final long computedStopPosition;
-
-        try
+        RecordingFiles files = null != verifiedFilesByRecordingId ? verifiedFilesByRecordingId.get(recordingId) : null;
+        if (null == files)
         {
-            maxSegmentFile = findSegmentFileWithHighestPosition(segmentFiles);
-            if (maxSegmentFile != null)
-            {
-                final long maxSegmentPosition = parseSegmentFilePosition(maxSegmentFile) + (segmentLength - 1);
-                if (startPosition > maxSegmentPosition || stopPosition > maxSegmentPosition)
-                {
-                    out.println("(recordingId=" + recordingId + ") ERR: Invariant violation: startPosition=" +
-                        startPosition + " and/or stopPosition=" + stopPosition + " exceed max segment file position=" +
-                        maxSegmentPosition);
-                    errorCount.increment();
-                    headerEncoder.state(INVALID);
-                    return;
-                }
-            }
-
-            computedStopPosition = computeStopPosition(
-                archiveDir,
-                maxSegmentFile,
-                startPosition,
-                termLength,
-                segmentLength,
-                checksum,
-                headerFlyweight,
-                truncateOnPageStraddle::confirm);
+            files = new RecordingFiles(decoder, segmentFileByRecordingId.getOrDefault(recordingId, emptyList()));
         }
-        catch (final Exception ex)
+
+        if (!files.verifyStopPosition(out, archiveDir, checksum, headerFlyweight, truncateOnPageStraddle))
         {
-            final String message = ex.getMessage();
-            out.println("(recordingId=" + recordingId + ") ERR: " + (null != message ? message : ex.toString()));
             errorCount.increment();
             headerEncoder.state(INVALID);
             return;
@@ -1330,60 +1631,20 @@ public class ArchiveTool
             }
         }
 
-        if (null != maxSegmentFile)
+        if (!files.verifySegmentFiles(out, archiveDir, options, checksum, headerFlyweight, null))
         {
-            final int streamId = decoder.streamId();
-            if (options.contains(VERIFY_ALL_SEGMENT_FILES))
-            {
-                for (final String filename : segmentFiles)
-                {
-                    if (isInvalidSegmentFile(
-                        out,
-                        archiveDir,
-                        recordingId,
-                        filename,
-                        startPosition,
-                        termLength,
-                        segmentLength,
-                        streamId,
-                        decoder.initialTermId(),
-                        applyChecksum,
-                        checksum,
-                        headerFlyweight))
-                    {
-                        errorCount.increment();
-                        headerEncoder.state(INVALID);
-                        return;
-                    }
-                }
-            }
-            else if (isInvalidSegmentFile(
-                out,
-                archiveDir,
-                recordingId,
-                maxSegmentFile,
-                startPosition,
-                termLength,
-                segmentLength,
-                streamId,
-                decoder.initialTermId(),
-                applyChecksum,
-                checksum,
-                headerFlyweight))
-            {
-                errorCount.increment();
-                headerEncoder.state(INVALID);
-                return;
-            }
+            errorCount.increment();
+            headerEncoder.state(INVALID);
+            return;
         }
 
-        if (computedStopPosition != stopPosition)
+        if (files.computedStopPosition != stopPosition)
         {
-            encoder.stopPosition(computedStopPosition);
+            encoder.stopPosition(files.computedStopPosition);
             encoder.stopTimestamp(epochClock.time());
         }
 
-        if (INVALID == state && !segmentFiles.isEmpty())
+        if (INVALID == state && !files.segmentFiles.isEmpty())
         {
             headerEncoder.state(VALID);
         }
@@ -1451,20 +1712,28 @@ public class ArchiveTool
 
             final ByteBuffer byteBuffer = headerFlyweight.byteBuffer();
             final long bufferAddress = headerFlyweight.addressOffset();
+            final DataHeaderFlyweight frameHeader = new DataHeaderFlyweight();
 
             long fileOffset = segmentFileBasePosition == startTermBasePosition ? startTermOffset : 0;
             long position = segmentFileBasePosition + fileOffset;
+            int blockOffset = 0;
+            int blockLength = 0;
             do
             {
-                byteBuffer.clear().limit(HEADER_LENGTH);
-                if (HEADER_LENGTH != channel.read(byteBuffer, fileOffset))
+                if (blockLength - blockOffset < HEADER_LENGTH)
                 {
-                    out.println("(recordingId=" + recordingId + ", file=" + file +
-                        ") ERR: failed to read fragment header");
-                    return true;
+                    blockOffset = 0;
+                    blockLength = readBlock(channel, byteBuffer, fileOffset, offsetLimit);
+                    if (blockLength < HEADER_LENGTH)
+                    {
+                        out.println("(recordingId=" + recordingId + ", file=" + file +
+                            ") ERR: failed to read fragment header");
+                        return true;
+                    }
                 }
 
-                final int frameLength = headerFlyweight.frameLength();
+                frameHeader.wrap(headerFlyweight, blockOffset, HEADER_LENGTH);
+                final int frameLength = frameHeader.frameLength();
                 if (0 == frameLength)
                 {
                     break;
@@ -1472,30 +1741,35 @@ public class ArchiveTool
 
                 final int termId = computeTermIdFromPosition(position, positionBitsToShift, initialTermId);
                 final int termOffset = (int)(position & (termLength - 1));
-                if (isInvalidHeader(headerFlyweight, streamId, termId, termOffset))
+                if (isInvalidHeader(frameHeader, streamId, termId, termOffset))
                 {
                     out.println("(recordingId=" + recordingId + ", file=" + file + ") ERR: fragment " +
-                        "termOffset=" + headerFlyweight.termOffset() + " (expected=" + termOffset + "), " +
-                        "termId=" + headerFlyweight.termId() + " (expected=" + termId + "), " +
-                        "streamId=" + headerFlyweight.streamId() + " (expected=" + streamId + ")");
+                        "termOffset=" + frameHeader.termOffset() + " (expected=" + termOffset + "), " +
+                        "termId=" + frameHeader.termId() + " (expected=" + termId + "), " +
+                        "streamId=" + frameHeader.streamId() + " (expected=" + streamId + ")");
                     return true;
                 }
-                final int frameType = frameType(headerFlyweight, 0);
-                final int sessionId = frameSessionId(headerFlyweight, 0);
 
                 final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
                 final int dataLength = alignedFrameLength - HEADER_LENGTH;
-                byteBuffer.clear().limit(dataLength);
-                if (dataLength != channel.read(byteBuffer, fileOffset + HEADER_LENGTH))
+                if (blockOffset + alignedFrameLength > blockLength)
                 {
-                    out.println("(recordingId=" + recordingId + ", file=" + file + ") ERR: failed to read " +
-                        dataLength + " byte(s) of data at offset " + (fileOffset + HEADER_LENGTH));
-                    return true;
+                    if (0 == blockOffset)
+                    {
+                        out.println("(recordingId=" + recordingId + ", file=" + file + ") ERR: failed to read " +
+                            dataLength + " byte(s) of data at offset " + (fileOffset + HEADER_LENGTH));
+                        return true;
+                    }
+
+                    blockLength = 0;
+                    continue;
                 }
 
-                if (applyChecksum && HDR_TYPE_DATA == frameType)
+                if (applyChecksum && HDR_TYPE_DATA == frameType(headerFlyweight, blockOffset))
                 {
-                    final int computedChecksum = checksum.compute(bufferAddress, 0, dataLength);
+                    final int sessionId = frameSessionId(headerFlyweight, blockOffset);
+                    final int computedChecksum = checksum.compute(
+                        bufferAddress, blockOffset + HEADER_LENGTH, dataLength);
                     if (computedChecksum != sessionId)
                     {
                         out.println("(recordingId=" + recordingId + ", file=" + file + ") ERR: checksum failed " +
@@ -1504,6 +1778,7 @@ public class ArchiveTool
                     }
                 }
 
+                blockOffset += alignedFrameLength;
                 fileOffset += alignedFrameLength;
                 position += alignedFrameLength;
             }
@@ -1519,6 +1794,26 @@ public class ArchiveTool
         return false;
     }
 
+    private static int readBlock(
+        final FileChannel channel, final ByteBuffer byteBuffer, final long fileOffset, final long offsetLimit)
+        throws IOException
+    {
+        byteBuffer.clear().limit((int)min(byteBuffer.capacity(), offsetLimit - fileOffset));
+        long readOffset = fileOffset;
+        while (byteBuffer.hasRemaining())
+        {
+            final int bytesRead = channel.read(byteBuffer, readOffset);
+            if (bytesRead <= 0)
+            {
+                break;
+            }
+
+            readOffset += bytesRead;
+        }
+
+        return byteBuffer.position();
+    }
+
     private static void printErrors(final PrintStream out, final ArchiveMarkFile markFile)
     {
         out.println("Archive error log:");
@@ -1553,8 +1848,7 @@ public class ArchiveTool
             final CatalogEntryProcessor catalogEntryProcessor =
                 (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
                 {
-                    final ByteBuffer buffer = ByteBuffer.allocateDirect(
-                        align(descriptorDecoder.mtuLength(), CACHE_LINE_LENGTH));
+                    final ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_IO_MAX_LENGTH_DEFAULT);
                     buffer.order(LITTLE_ENDIAN);
                     catalog.updateChecksum(recordingDescriptorOffset);
                     checksum(buffer, out, archiveDir, segmentFilesByRecordingId, allFiles, checksum, descriptorDecoder);
@@ -1613,51 +1907,52 @@ public class ArchiveTool
 
         try (FileChannel channel = FileChannel.open(file.toPath(), READ, WRITE))
         {
-            final HeaderFlyweight headerFlyweight = new HeaderFlyweight(buffer);
-            final long bufferAddress = headerFlyweight.addressOffset();
+            final UnsafeBuffer blockBuffer = new UnsafeBuffer(buffer);
             final long size = channel.size();
             long fileOffset = segmentFileBasePosition == startTermBasePosition ? startTermOffset : 0;
 
             while (fileOffset < size)
             {
-                buffer.clear().limit(HEADER_LENGTH);
-                if (HEADER_LENGTH != channel.read(buffer, fileOffset))
+                final int blockLength = readBlock(channel, buffer, fileOffset, size);
+                int framesLength = 0;
+                int frameLength = 0;
+                while (framesLength <= blockLength - HEADER_LENGTH)
                 {
-                    out.println("(recordingId=" + recordingId + ", file=" + file +
-                        ") ERR: failed to read fragment header");
-                    return;
-                }
+                    frameLength = frameLength(blockBuffer, framesLength);
+                    if (frameLength <= 0 || framesLength + align(frameLength, FRAME_ALIGNMENT) > blockLength)
+                    {
+                        break;
+                    }
 
-                final int frameLength = headerFlyweight.frameLength();
-                if (0 == frameLength)
-                {
-                    break;
+                    framesLength += align(frameLength, FRAME_ALIGNMENT);
                 }
 
-                final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
-                if (HDR_TYPE_DATA == frameType(headerFlyweight, 0))
+                if (0 == framesLength)
                 {
-                    final int dataLength = alignedLength - HEADER_LENGTH;
-                    buffer.clear().limit(dataLength);
-                    if (dataLength != channel.read(buffer, fileOffset + HEADER_LENGTH))
+                    if (blockLength < HEADER_LENGTH)
                     {
+                        out.println("(recordingId=" + recordingId + ", file=" + file +
+                            ") ERR: failed to read fragment header");
+                    }
+                    else if (frameLength > 0)
+                    {
+                        final int dataLength = align(frameLength, FRAME_ALIGNMENT) - HEADER_LENGTH;
                         out.println("(recordingId=" + recordingId + ", file=" + file + ") ERR: failed to read " +
                             dataLength + " byte(s) of data at offset " + (fileOffset + HEADER_LENGTH));
-                        return;
                     }
 
-                    int checksumResult = checksum.compute(bufferAddress, 0, dataLength);
-                    if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
-                    {
-                        checksumResult = Integer.reverseBytes(checksumResult);
-                    }
+                    return;
+                }
 
-                    buffer.clear();
-                    buffer.putInt(checksumResult).flip();
-                    channel.write(buffer, fileOffset + SESSION_ID_FIELD_OFFSET);
+                Checksums.computeFrameChecksums(checksum, blockBuffer, 0, framesLength);
+                buffer.clear().limit(framesLength);
+                long writeOffset = fileOffset;
+                while (buffer.hasRemaining())
+                {
+                    writeOffset += channel.write(buffer, writeOffset);
                 }
 
-                fileOffset += alignedLength;
+                fileOffset += framesLength;
             }
         }
         catch (final Exception ex)
@@ -1676,8 +1971,7 @@ public class ArchiveTool
     {
         try (Catalog catalog = openCatalogReadWrite(archiveDir, epochClock, MIN_CAPACITY, checksum, null))
         {
-            final ByteBuffer buffer = ByteBuffer.allocateDirect(
-                align(Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH));
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_IO_MAX_LENGTH_DEFAULT);
             buffer.order(LITTLE_ENDIAN);
             final Long2ObjectHashMap<List<String>> segmentFilesByRecordingId = indexSegmentFiles(archiveDir);
 
@@ -1700,6 +1994,114 @@ public class ArchiveTool
         }
     }
 
+    static void checksum(
+        final PrintStream out,
+        final File archiveDir,
+        final boolean allFiles,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final int ioConcurrency)
+    {
+        if (ioConcurrency <= 1)
+        {
+            checksum(out, archiveDir, allFiles, checksum, epochClock);
+        }
+        else
+        {
+            checksumInParallel(out, archiveDir, NULL_RECORD_ID, allFiles, checksum, epochClock, ioConcurrency);
+        }
+    }
+
+    static void checksumRecording(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final boolean allFiles,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final int ioConcurrency)
+    {
+        if (ioConcurrency <= 1)
+        {
+            checksumRecording(out, archiveDir, recordingId, allFiles, checksum, epochClock);
+        }
+        else
+        {
+            checksumInParallel(out, archiveDir, recordingId, allFiles, checksum, epochClock, ioConcurrency);
+        }
+    }
+
+    private static void checksumInParallel(
+        final PrintStream out,
+        final File archiveDir,
+        final long recordingId,
+        final boolean allFiles,
+        final Checksum checksum,
+        final EpochClock epochClock,
+        final int ioConcurrency)
+    {
+        try (Catalog catalog = openCatalogReadWrite(archiveDir, epochClock, MIN_CAPACITY, checksum, null))
+        {
+            final Long2ObjectHashMap<List<String>> segmentFilesByRecordingId = indexSegmentFiles(archiveDir);
+            final Long2ObjectHashMap<RecordingChecksum> checksumByRecordingId = new Long2ObjectHashMap<>();
+
+            catalog.forEach((recordingDescriptorOffset, headerEncoder, headerDecoder, encoder, decoder) ->
+            {
+                final long id = decoder.recordingId();
+                if (NULL_RECORD_ID == recordingId || id == recordingId)
+                {
+                    checksumByRecordingId.put(id, new RecordingChecksum(
+                        id,
+                        decoder.startPosition(),
+                        decoder.termBufferLength(),
+                        segmentFilesByRecordingId.getOrDefault(id, emptyList())));
+                }
+            });
+
+            if (NULL_RECORD_ID != recordingId && checksumByRecordingId.isEmpty())
+            {
+                throw new AeronException("no recording found with recordingId: " + recordingId);
+            }
+
+            final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(
+                () -> ByteBuffer.allocateDirect(FILE_IO_MAX_LENGTH_DEFAULT).order(LITTLE_ENDIAN));
+
+            runInParallel(
+                out,
+                "checksum",
+                checksumByRecordingId.values(),
+                ioConcurrency,
+                (recordingChecksum) -> recordingChecksum.checksum(archiveDir, allFiles, checksum, buffers));
+
+            catalog.forEach((recordingDescriptorOffset, headerEncoder, headerDecoder, encoder, decoder) ->
+            {
+                final RecordingChecksum recordingChecksum = checksumByRecordingId.get(decoder.recordingId());
+                if (null != recordingChecksum)
+                {
+                    catalog.updateChecksum(recordingDescriptorOffset);
+                    out.print(recordingChecksum.output);
+
+                    final Exception failure = recordingChecksum.failure;
+                    if (null != failure)
+                    {
+                        if (NULL_RECORD_ID != recordingId)
+                        {
+                            LangUtil.rethrowUnchecked(failure);
+                        }
+
+                        out.println("(recordingId=" + decoder.recordingId() + ") ERR: failed to compute checksums");
+                        out.println(failure);
+                    }
+                }
+            });
+        }
+    }
+
+    private static PrintStream captureStream(final ByteArrayOutputStream bytes)
+    {
+        return new PrintStream(bytes, false, StandardCharsets.UTF_8);
+    }
+
     private static void deleteOrphanedSegmentFiles(
         final PrintStream out,
         final File archiveDir,
@@ -1746,6 +2148,277 @@ public class ArchiveTool
         }
     }
 
+    /**
+     * Segment files of a recording and the results of verifying them. Verification of the segment files can be
+     * performed in parallel ahead of the catalog pass, in which case the output is captured and replayed so the
+     * results are reported in catalog order exactly as the sequential verification would report them.
+     */
+    static final class RecordingFiles
+    {
+        final long recordingId;
+        final long startPosition;
+        final long stopPosition;
+        final int segmentLength;
+        final int termLength;
+        final int streamId;
+        final int initialTermId;
+        final List<String> segmentFiles;
+        long computedStopPosition;
+        private String maxSegmentFile;
+        private boolean isStopPositionValid;
+        private String stopPositionOutput;
+        private boolean isSegmentFilesValid;
+        private String segmentFilesOutput;
+
+        RecordingFiles(final RecordingDescriptorDecoder decoder, final List<String> segmentFiles)
+        {
+            recordingId = decoder.recordingId();
+            startPosition = decoder.startPosition();
+            stopPosition = decoder.stopPosition();
+            segmentLength = decoder.segmentFileLength();
+            termLength = decoder.termBufferLength();
+            streamId = decoder.streamId();
+            initialTermId = decoder.initialTermId();
+            this.segmentFiles = segmentFiles;
+        }
+
+        boolean verifyStopPosition(
+            final PrintStream out,
+            final File archiveDir,
+            final Checksum checksum,
+            final DataHeaderFlyweight headerFlyweight,
+            final ActionConfirmation<File> truncateOnPageStraddle)
+        {
+            if (null != stopPositionOutput)
+            {
+                out.print(stopPositionOutput);
+                return isStopPositionValid;
+            }
+
+            try
+            {
+                maxSegmentFile = findSegmentFileWithHighestPosition(segmentFiles);
+                if (maxSegmentFile != null)
+                {
+                    final long maxSegmentPosition = parseSegmentFilePosition(maxSegmentFile) + (segmentLength - 1);
+                    if (startPosition > maxSegmentPosition || stopPosition > maxSegmentPosition)
+                    {
+                        out.println("(recordingId=" + recordingId + ") ERR: Invariant violation: startPosition=" +
+                            startPosition + " and/or stopPosition=" + stopPosition +
+                            " exceed max segment file position=" + maxSegmentPosition);
+                        return false;
+                    }
+                }
+
+                computedStopPosition = computeStopPosition(
+                    archiveDir,
+                    maxSegmentFile,
+                    startPosition,
+                    termLength,
+                    segmentLength,
+                    checksum,
+                    headerFlyweight,
+                    truncateOnPageStraddle::confirm);
+            }
+            catch (final Exception ex)
+            {
+                final String message = ex.getMessage();
+                out.println("(recordingId=" + recordingId + ") ERR: " + (null != message ? message : ex.toString()));
+                return false;
+            }
+
+            return true;
+        }
+
+        boolean verifySegmentFiles(
+            final PrintStream out,
+            final File archiveDir,
+            final Set<VerifyOption> options,
+            final Checksum checksum,
+            final DataHeaderFlyweight headerFlyweight,
+            final String segmentFile)
+        {
+            if (null != segmentFilesOutput)
+            {
+                out.print(segmentFilesOutput);
+                return isSegmentFilesValid;
+            }
+
+            for (final String fileName : null != segmentFile ? List.of(segmentFile) : filesToVerify(options))
+            {
+                if (isInvalidSegmentFile(
+                    out,
+                    archiveDir,
+                    recordingId,
+                    fileName,
+                    startPosition,
+                    termLength,
+                    segmentLength,
+                    streamId,
+                    initialTermId,
+                    options.contains(APPLY_CHECKSUM),
+                    checksum,
+                    headerFlyweight))
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        void verify(
+            final File archiveDir,
+            final Set<VerifyOption> options,
+            final Checksum checksum,
+            final ThreadLocal<DataHeaderFlyweight> headerFlyweights,
+            final ActionConfirmation<File> truncateOnPageStraddle)
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final boolean isValid = verifyStopPosition(
+                captureStream(bytes), archiveDir, checksum, headerFlyweights.get(), truncateOnPageStraddle);
+
+            boolean isFilesValid = true;
+            String filesOutput = "";
+            if (isValid)
+            {
+                final List<String> files = filesToVerify(options);
+                final int fileCount = files.size();
+                final boolean[] isInvalid = new boolean[fileCount];
+                final String[] outputs = new String[fileCount];
+                final ArrayList<ForkJoinTask<?>> tasks = new ArrayList<>(fileCount);
+
+                for (int i = 0; i < fileCount; i++)
+                {
+                    final int index = i;
+                    tasks.add(ForkJoinTask.adapt(() ->
+                    {
+                        final ByteArrayOutputStream fileBytes = new ByteArrayOutputStream();
+                        isInvalid[index] = !verifySegmentFiles(
+                            captureStream(fileBytes),
+                            archiveDir,
+                            options,
+                            checksum,
+                            headerFlyweights.get(),
+                            files.get(index));
+                        outputs[index] = fileBytes.toString(StandardCharsets.UTF_8);
+                    }));
+                }
+
+                ForkJoinTask.invokeAll(tasks);
+
+                for (int i = 0; i < fileCount; i++)
+                {
+                    if (isInvalid[i])
+                    {
+                        isFilesValid = false;
+                        filesOutput = outputs[i];
+                        break;
+                    }
+                }
+            }
+
+            isStopPositionValid = isValid;
+            stopPositionOutput = bytes.toString(StandardCharsets.UTF_8);
+            isSegmentFilesValid = isFilesValid;
+            segmentFilesOutput = filesOutput;
+        }
+
+        private List<String> filesToVerify(final Set<VerifyOption> options)
+        {
+            if (null == maxSegmentFile)
+            {
+                return emptyList();
+            }
+
+            return options.contains(VERIFY_ALL_SEGMENT_FILES) ? segmentFiles : List.of(maxSegmentFile);
+        }
+    }
+
+    /**
+     * Checksums computed for the segment files of a recording with the output captured so it can be reported in
+     * catalog order.
+     */
+    static final class RecordingChecksum
+    {
+        final long recordingId;
+        final long startPosition;
+        final int termLength;
+        final List<String> segmentFiles;
+        String output = "";
+        Exception failure;
+
+        RecordingChecksum(
+            final long recordingId, final long startPosition, final int termLength, final List<String> segmentFiles)
+        {
+            this.recordingId = recordingId;
+            this.startPosition = startPosition;
+            this.termLength = termLength;
+            this.segmentFiles = segmentFiles;
+        }
+
+        void checksum(
+            final File archiveDir,
+            final boolean allFiles,
+            final Checksum checksum,
+            final ThreadLocal<ByteBuffer> buffers)
+        {
+            try
+            {
+                final List<String> files = allFiles ?
+                    segmentFiles : Collections.singletonList(findSegmentFileWithHighestPosition(segmentFiles));
+                final int fileCount = files.size();
+                final String[] outputs = new String[fileCount];
+                final Exception[] failures = new Exception[fileCount];
+                final ArrayList<ForkJoinTask<?>> tasks = new ArrayList<>(fileCount);
+
+                for (int i = 0; i < fileCount; i++)
+                {
+                    final int index = i;
+                    tasks.add(ForkJoinTask.adapt(() ->
+                    {
+                        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                        try
+                        {
+                            checksumSegmentFile(
+                                buffers.get(),
+                                captureStream(bytes),
+                                archiveDir,
+                                checksum,
+                                recordingId,
+                                files.get(index),
+                                startPosition,
+                                termLength);
+                        }
+                        catch (final Exception ex)
+                        {
+                            failures[index] = ex;
+                        }
+                        outputs[index] = bytes.toString(StandardCharsets.UTF_8);
+                    }));
+                }
+
+                ForkJoinTask.invokeAll(tasks);
+
+                final StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < fileCount; i++)
+                {
+                    builder.append(outputs[i]);
+                    if (null != failures[i])
+                    {
+                        failure = failures[i];
+                        break;
+                    }
+                }
+                output = builder.toString();
+            }
+            catch (final Exception ex)
+            {
+                failure = ex;
+            }
+        }
+    }
+
     private static void printHelp()
     {
         System.out.format(
@@ -1778,7 +2451,9 @@ public class ArchiveTool
             "     the Checksum implementation class name (e.g. io.aeron.archive.checksum.Crc32).%n" +
             "     Faulty entries are marked as `INVALID`.%n%n" +
             "  mark-invalid <recordingId>: marks a recording as invalid. %n%n" +
-            "  mark-valid <recordingId>: marks a previously invalidated recording as valid. %n%n");
+            "  mark-valid <recordingId>: marks a previously invalidated recording as valid. %n%n" +
+            "  The checksum and verify commands read the segment files of multiple recordings concurrently when%n" +
+            "     -D" + IO_CONCURRENCY_PROP_NAME + "=<threads> is greater than 1, printing progress periodically.%n%n");
         System.out.flush();
     }
 }
@@ -21,6 +21,7 @@ import io.aeron.archive.client.ArchiveException;
 import io.aeron.archive.codecs.*;
 import org.agrona.*;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -34,17 +35,21 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.IntConsumer;
 import java.util.function.Predicate;
+import java.util.zip.CRC32;
 
 import static io.aeron.archive.Archive.Configuration.FILE_IO_MAX_LENGTH_DEFAULT;
 import static io.aeron.archive.Archive.Configuration.RECORDING_SEGMENT_SUFFIX;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.archive.client.AeronArchive.NULL_TIMESTAMP;
 import static io.aeron.archive.codecs.RecordingDescriptorDecoder.*;
+import static io.aeron.archive.codecs.RecordingState.DELETED;
 import static io.aeron.archive.codecs.RecordingState.VALID;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
@@ -116,6 +121,7 @@ final class Catalog implements AutoCloseable
     static final long MAX_CATALOG_LENGTH = Integer.MAX_VALUE;
     static final long DEFAULT_CAPACITY = 1024 * 1024;
     static final long MIN_CAPACITY = CatalogHeaderDecoder.BLOCK_LENGTH;
+    static final int COMPACTION_FILLER_LENGTH = DESCRIPTOR_HEADER_LENGTH + BLOCK_LENGTH + 3 * SIZE_OF_INT;
 
     private final CatalogHeaderDecoder catalogHeaderDecoder = new CatalogHeaderDecoder();
     private final CatalogHeaderEncoder catalogHeaderEncoder = new CatalogHeaderEncoder();
@@ -134,8 +140,10 @@ final class Catalog implements AutoCloseable
     private final EpochClock epochClock;
     private final Checksum checksum;
     private final CatalogIndex catalogIndex = new CatalogIndex();
+    private final CatalogStreamIndex streamIndex = new CatalogStreamIndex();
     private final int alignment;
     private final int firstRecordingDescriptorOffset;
+    private final UnsafeBuffer compactionFillerBuffer = new UnsafeBuffer(new byte[COMPACTION_FILLER_LENGTH]);
 
     private FileChannel catalogChannel;
     private MappedByteBuffer catalogByteBuffer;
@@ -146,6 +154,11 @@ final class Catalog implements AutoCloseable
     private long capacity;
     private long nextRecordingId;
     private int nextRecordingDescriptorOffset;
+    private int deadEntryCount;
+    private int deletedEntryCount;
+    private int compactionWriteOffset = Aeron.NULL_VALUE;
+    private int compactionReadOffset = Aeron.NULL_VALUE;
+    private long compactedBytes;
 
     Catalog(
         final File archiveDir,
@@ -350,6 +363,26 @@ final class Catalog implements AutoCloseable
         return catalogIndex.size();
     }
 
+    int deadEntryCount()
+    {
+        return deadEntryCount;
+    }
+
+    int deletedEntryCount()
+    {
+        return deletedEntryCount;
+    }
+
+    long compactedBytes()
+    {
+        return compactedBytes;
+    }
+
+    boolean isCompacting()
+    {
+        return Aeron.NULL_VALUE != compactionWriteOffset;
+    }
+
     long nextRecordingId()
     {
         return nextRecordingId;
@@ -360,6 +393,11 @@ final class Catalog implements AutoCloseable
         return catalogIndex;
     }
 
+    CatalogStreamIndex streamIndex()
+    {
+        return streamIndex;
+    }
+
     int version()
     {
         return catalogHeaderDecoder.version();
@@ -395,6 +433,7 @@ final class Catalog implements AutoCloseable
 
         final long recordingId = nextRecordingId;
 
+        terminate(recordingDescriptorOffset + frameLength);
         catalogBuffer.wrap(catalogByteBuffer, recordingDescriptorOffset, frameLength);
         descriptorEncoder
             .wrap(catalogBuffer, DESCRIPTOR_HEADER_LENGTH)
@@ -427,6 +466,7 @@ final class Catalog implements AutoCloseable
         nextRecordingId = recordingId + 1;
         nextRecordingDescriptorOffset = recordingDescriptorOffset + frameLength;
         catalogIndex.add(recordingId, recordingDescriptorOffset);
+        streamIndex.add(streamId, recordingId);
 
         return recordingId;
     }
@@ -547,17 +587,21 @@ final class Catalog implements AutoCloseable
             return NULL_RECORD_ID;
         }
 
-        final long[] index = catalogIndex.index();
-        final int lastPosition = catalogIndex.lastPosition();
-        for (int i = lastPosition; i >= 0; i -= 2)
+        final LongArrayList recordingIds = streamIndex.recordingIds(streamId);
+        if (null == recordingIds)
         {
-            final long recordingId = index[i];
+            return NULL_RECORD_ID;
+        }
+
+        for (int i = recordingIds.size() - 1; i >= 0; i--)
+        {
+            final long recordingId = recordingIds.getLong(i);
             if (recordingId < minRecordingId)
             {
                 break;
             }
 
-            wrapDescriptorAtOffset(catalogBuffer, (int)index[i + 1]);
+            wrapDescriptorAtOffset(catalogBuffer, recordingDescriptorOffset(recordingId));
 
             descriptorDecoder.wrap(
                 catalogBuffer,
@@ -566,7 +610,6 @@ final class Catalog implements AutoCloseable
                 RecordingDescriptorDecoder.SCHEMA_VERSION);
 
             if (sessionId == descriptorDecoder.sessionId() &&
-                streamId == descriptorDecoder.streamId() &&
                 originalChannelContains(descriptorDecoder, channelFragment))
             {
                 return recordingId;
@@ -640,6 +683,7 @@ final class Catalog implements AutoCloseable
         final long stopPosition = nativeOrder() == BYTE_ORDER ? position : Long.reverseBytes(position);
 
         fieldAccessBuffer.putLongVolatile(offset + stopPositionEncodingOffset(), stopPosition);
+        clearCheckpoint(recordingDescriptorOffset);
         updateChecksum(recordingDescriptorOffset);
         forceWrites(catalogChannel);
     }
@@ -656,10 +700,59 @@ final class Catalog implements AutoCloseable
         fieldAccessBuffer.putLong(offset + stopTimestampEncodingOffset(), NULL_TIMESTAMP, BYTE_ORDER);
         fieldAccessBuffer.putInt(offset + sessionIdEncodingOffset(), sessionId, BYTE_ORDER);
         fieldAccessBuffer.putLongVolatile(offset + stopPositionEncodingOffset(), stopPosition);
+        clearCheckpoint(recordingDescriptorOffset);
         updateChecksum(recordingDescriptorOffset);
         forceWrites(catalogChannel);
     }
 
+    /**
+     * Store a recovery checkpoint for an active recording. The checkpoint is the position of a frame covered by the
+     * last sync of the recording, or simply written when the file sync level does not require a sync, so that after an
+     * unclean shutdown the stop position can be recovered by scanning from it rather than from the start of the last
+     * segment file. The checkpoint is only used if the header of the frame
+     * in the segment file still matches the checksum.
+     *
+     * @param recordingId        of the active recording.
+     * @param position           of the start of the frame.
+     * @param checkpointChecksum of the frame header as computed by {@link #checkpointChecksum(ByteBuffer)}.
+     */
+    void checkpoint(final long recordingId, final long position, final int checkpointChecksum)
+    {
+        final int recordingDescriptorOffset = recordingDescriptorOffset(recordingId);
+        if (-1 == recordingDescriptorOffset)
+        {
+            return;
+        }
+
+        fieldAccessBuffer.putInt(
+            recordingDescriptorOffset + RecordingDescriptorHeaderEncoder.checkpointChecksumEncodingOffset(),
+            checkpointChecksum,
+            BYTE_ORDER);
+        fieldAccessBuffer.putLongVolatile(
+            recordingDescriptorOffset + RecordingDescriptorHeaderEncoder.checkpointPositionEncodingOffset(),
+            nativeOrder() == BYTE_ORDER ? position : Long.reverseBytes(position));
+    }
+
+    long checkpointPosition(final long recordingId)
+    {
+        final int recordingDescriptorOffset = recordingDescriptorOffset(recordingId);
+        if (-1 == recordingDescriptorOffset)
+        {
+            return 0;
+        }
+
+        final long position = fieldAccessBuffer.getLongVolatile(
+            recordingDescriptorOffset + RecordingDescriptorHeaderEncoder.checkpointPositionEncodingOffset());
+
+        return nativeOrder() == BYTE_ORDER ? position : Long.reverseBytes(position);
+    }
+
+    private void clearCheckpoint(final int recordingDescriptorOffset)
+    {
+        fieldAccessBuffer.putLongVolatile(
+            recordingDescriptorOffset + RecordingDescriptorHeaderEncoder.checkpointPositionEncodingOffset(), 0L);
+    }
+
     void replaceRecording(
         final long recordingId,
         final long startPosition,
@@ -682,6 +775,8 @@ final class Catalog implements AutoCloseable
             throw new ArchiveException("unknown recording id: " + recordingId);
         }
 
+        final int oldStreamId = fieldAccessBuffer.getInt(
+            recordingOffset + DESCRIPTOR_HEADER_LENGTH + streamIdEncodingOffset(), BYTE_ORDER);
         final int recordingLength = fieldAccessBuffer.getInt(
             recordingOffset + RecordingDescriptorHeaderDecoder.lengthEncodingOffset(), BYTE_ORDER);
         final int oldFrameLength = align(recordingLength + DESCRIPTOR_HEADER_LENGTH, alignment);
@@ -699,13 +794,19 @@ final class Catalog implements AutoCloseable
             }
 
             nextRecordingDescriptorOffset += shiftBytes;
+            terminate(nextRecordingDescriptorOffset);
 
-            final long[] index = catalogIndex.index();
-            final int lastPosition = catalogIndex.lastPosition();
-            if (recordingId != index[lastPosition])
+            if (recordingOffset + oldFrameLength < endOfLastRecording)
             {
                 shiftDataToTheRight(recordingOffset, oldFrameLength, newFrameLength, endOfLastRecording);
-                fixupIndexForShifterRecordings(index, lastPosition, recordingId, shiftBytes);
+                fixupIndexForShifterRecordings(
+                    catalogIndex.index(), catalogIndex.lastPosition(), recordingId, shiftBytes);
+
+                if (recordingOffset < compactionWriteOffset)
+                {
+                    compactionWriteOffset += shiftBytes;
+                    compactionReadOffset += shiftBytes;
+                }
             }
 
             catalogBuffer.wrap(catalogByteBuffer, recordingOffset, newFrameLength);
@@ -741,6 +842,12 @@ final class Catalog implements AutoCloseable
             .checksum(computeRecordingDescriptorChecksum(recordingOffset, checksumLength))
             .state(VALID);
 
+        if (oldStreamId != streamId)
+        {
+            streamIndex.remove(oldStreamId, recordingId);
+            streamIndex.add(streamId, recordingId);
+        }
+
         forceWrites(catalogChannel);
     }
 
@@ -782,11 +889,19 @@ final class Catalog implements AutoCloseable
             final long offset = catalogIndex.remove(recordingId);
             if (CatalogIndex.NULL_VALUE != offset)
             {
+                final int streamIdOffset = (int)offset + DESCRIPTOR_HEADER_LENGTH + streamIdEncodingOffset();
+                streamIndex.remove(fieldAccessBuffer.getInt(streamIdOffset, BYTE_ORDER), recordingId);
                 fieldAccessBuffer.putInt(
                     (int)offset + RecordingDescriptorHeaderEncoder.stateEncodingOffset(),
                     newState.value(),
                     BYTE_ORDER);
 
+                deadEntryCount++;
+                if (DELETED == newState)
+                {
+                    deletedEntryCount++;
+                }
+
                 forceWrites(catalogChannel);
 
                 return true;
@@ -796,6 +911,100 @@ final class Catalog implements AutoCloseable
         return false;
     }
 
+    /**
+     * Perform a slice of an online compaction pass which reclaims the space of {@link RecordingState#DELETED}
+     * descriptors, starting a new pass if one is not in progress.
+     * <p>
+     * The pass slides the valid and invalid descriptors towards the start of the catalog in place. The space of the
+     * deleted descriptors already passed over is kept as a single deleted filler descriptor just behind the next
+     * descriptor to be examined, so the file is a valid chain of descriptors between slices and can be reopened at
+     * any point. Invalid descriptors are kept as they may still own segment files. The file is not truncated or
+     * remapped so the mapping of concurrent readers remains valid, and the space reclaimed at the end of the pass is
+     * reused by new recordings before the catalog needs to grow.
+     *
+     * @param sliceLength number of bytes of descriptors to examine in this slice.
+     * @return number of descriptors examined.
+     */
+    int compact(final int sliceLength)
+    {
+        if (Aeron.NULL_VALUE == compactionWriteOffset)
+        {
+            compactionWriteOffset = firstRecordingDescriptorOffset;
+            compactionReadOffset = firstRecordingDescriptorOffset;
+        }
+
+        final UnsafeBuffer buffer = fieldAccessBuffer;
+        final int endOffset = nextRecordingDescriptorOffset;
+        final int limitOffset = (int)min((long)compactionReadOffset + sliceLength, endOffset);
+        int writeOffset = compactionWriteOffset;
+        int readOffset = compactionReadOffset;
+        int workCount = 0;
+
+        while (readOffset < limitOffset)
+        {
+            final int recordingLength = buffer.getInt(
+                readOffset + RecordingDescriptorHeaderDecoder.lengthEncodingOffset(), BYTE_ORDER);
+            final int frameLength = align(recordingLength + DESCRIPTOR_HEADER_LENGTH, alignment);
+            final int state = buffer.getInt(
+                readOffset + RecordingDescriptorHeaderDecoder.stateEncodingOffset(), BYTE_ORDER);
+
+            if (DELETED.value() == state)
+            {
+                if (writeOffset == readOffset)
+                {
+                    compactionFillerBuffer.putBytes(
+                        0, buffer, readOffset, DESCRIPTOR_HEADER_LENGTH + RecordingDescriptorDecoder.BLOCK_LENGTH);
+                }
+                else
+                {
+                    buffer.putInt(
+                        writeOffset + RecordingDescriptorHeaderEncoder.lengthEncodingOffset(),
+                        readOffset + frameLength - writeOffset - DESCRIPTOR_HEADER_LENGTH,
+                        BYTE_ORDER);
+                }
+
+                deadEntryCount--;
+                deletedEntryCount--;
+            }
+            else
+            {
+                if (writeOffset < readOffset)
+                {
+                    moveDescriptor(writeOffset, readOffset, frameLength);
+                    if (VALID.value() == state)
+                    {
+                        final long recordingId = buffer.getLong(
+                            writeOffset + DESCRIPTOR_HEADER_LENGTH + recordingIdEncodingOffset(), BYTE_ORDER);
+                        catalogIndex.updateOffset(recordingId, writeOffset);
+                    }
+                }
+
+                writeOffset += frameLength;
+            }
+
+            readOffset += frameLength;
+            workCount++;
+        }
+
+        if (readOffset >= endOffset)
+        {
+            terminate(writeOffset);
+            nextRecordingDescriptorOffset = writeOffset;
+            compactedBytes += readOffset - writeOffset;
+            compactionWriteOffset = Aeron.NULL_VALUE;
+            compactionReadOffset = Aeron.NULL_VALUE;
+        }
+        else
+        {
+            compactionWriteOffset = writeOffset;
+            compactionReadOffset = readOffset;
+        }
+
+        forceWrites(catalogChannel);
+
+        return workCount;
+    }
+
     RecordingSummary recordingSummary(final long recordingId, final RecordingSummary summary)
     {
         final int offset = recordingDescriptorOffset(recordingId) + DESCRIPTOR_HEADER_LENGTH;
@@ -956,9 +1165,20 @@ final class Catalog implements AutoCloseable
             }
 
             recordingId = recordingId(catalogBuffer);
-            if (isValidDescriptor(catalogBuffer))
+            final int state = catalogBuffer.getInt(RecordingDescriptorHeaderDecoder.stateEncodingOffset(), BYTE_ORDER);
+            if (VALID.value() == state)
             {
                 catalogIndex.add(recordingId, offset);
+                final int streamIdOffset = DESCRIPTOR_HEADER_LENGTH + streamIdEncodingOffset();
+                streamIndex.add(catalogBuffer.getInt(streamIdOffset, BYTE_ORDER), recordingId);
+            }
+            else
+            {
+                deadEntryCount++;
+                if (DELETED.value() == state)
+                {
+                    deletedEntryCount++;
+                }
             }
 
             offset += frameLength;
@@ -1022,6 +1242,60 @@ final class Catalog implements AutoCloseable
             endOfLastRecording - (recordingOffset + oldFrameLength));
     }
 
+    private void moveDescriptor(final int writeOffset, final int readOffset, final int frameLength)
+    {
+        final UnsafeBuffer buffer = fieldAccessBuffer;
+        final int gapLength = readOffset - writeOffset;
+        final int fillerOffset = writeOffset + frameLength;
+
+        if (fillerOffset + COMPACTION_FILLER_LENGTH <= readOffset)
+        {
+            // the filler and the descriptor body are written behind the current filler, out of sight of readers,
+            // and the state is written last so the descriptor is never seen at both offsets
+            writeFiller(fillerOffset, gapLength);
+            buffer.putBytes(
+                writeOffset + DESCRIPTOR_HEADER_LENGTH,
+                buffer,
+                readOffset + DESCRIPTOR_HEADER_LENGTH,
+                frameLength - DESCRIPTOR_HEADER_LENGTH);
+
+            final int stateOffset = RecordingDescriptorHeaderEncoder.stateEncodingOffset();
+            final int checksumOffset = RecordingDescriptorHeaderEncoder.checksumEncodingOffset();
+            buffer.putInt(
+                writeOffset + RecordingDescriptorHeaderEncoder.lengthEncodingOffset(),
+                frameLength - DESCRIPTOR_HEADER_LENGTH,
+                BYTE_ORDER);
+            buffer.putBytes(
+                writeOffset + checksumOffset,
+                buffer,
+                readOffset + checksumOffset,
+                DESCRIPTOR_HEADER_LENGTH - checksumOffset);
+            buffer.putInt(writeOffset + stateOffset, buffer.getInt(readOffset + stateOffset));
+        }
+        else
+        {
+            buffer.putBytes(writeOffset, buffer, readOffset, frameLength);
+            writeFiller(fillerOffset, gapLength);
+        }
+    }
+
+    private void writeFiller(final int offset, final int frameLength)
+    {
+        fieldAccessBuffer.putBytes(offset, compactionFillerBuffer, 0, COMPACTION_FILLER_LENGTH);
+        fieldAccessBuffer.putInt(
+            offset + RecordingDescriptorHeaderEncoder.lengthEncodingOffset(),
+            frameLength - DESCRIPTOR_HEADER_LENGTH,
+            BYTE_ORDER);
+    }
+
+    private void terminate(final int offset)
+    {
+        if (offset + SIZE_OF_INT <= capacity)
+        {
+            fieldAccessBuffer.putInt(offset + RecordingDescriptorHeaderEncoder.lengthEncodingOffset(), 0, BYTE_ORDER);
+        }
+    }
+
     private static void fixupIndexForShifterRecordings(
         final long[] index, final int lastPosition, final long recordingId, final int shiftBytes)
     {
@@ -1075,27 +1349,127 @@ final class Catalog implements AutoCloseable
         {
             final List<String> segmentFiles = segmentFilesByRecordingId.getOrDefault(recordingId, emptyList());
             final String maxSegmentFile = findSegmentFileWithHighestPosition(segmentFiles);
+            final int segmentLength = decoder.segmentFileLength();
+            final Predicate<File> truncateOnPageStraddle = (segmentFile) ->
+            {
+                throw new ArchiveException(
+                    "Found potentially incomplete last fragment straddling page boundary in file: " +
+                    segmentFile.getAbsolutePath() +
+                    "\nRun `ArchiveTool verify` for corrective action!");
+            };
 
-            encoder.stopPosition(computeStopPosition(
-                archiveDir,
+            final long checkpointPosition = headerDecoder.checkpointPosition();
+            if (isValidCheckpoint(
                 maxSegmentFile,
                 decoder.startPosition(),
-                decoder.termBufferLength(),
-                decoder.segmentFileLength(),
-                checksum,
-                buffer,
-                (segmentFile) ->
-                {
-                    throw new ArchiveException(
-                        "Found potentially incomplete last fragment straddling page boundary in file: " +
-                        segmentFile.getAbsolutePath() +
-                        "\nRun `ArchiveTool verify` for corrective action!");
-                }));
+                segmentLength,
+                checkpointPosition,
+                headerDecoder.checkpointChecksum(),
+                buffer))
+            {
+                final long segmentFileBasePosition = parseSegmentFilePosition(maxSegmentFile);
+                encoder.stopPosition(segmentFileBasePosition + recoverStopOffset(
+                    archiveDir,
+                    maxSegmentFile,
+                    (int)(checkpointPosition - segmentFileBasePosition),
+                    segmentLength,
+                    truncateOnPageStraddle,
+                    checksum,
+                    buffer));
+            }
+            else
+            {
+                encoder.stopPosition(computeStopPosition(
+                    archiveDir,
+                    maxSegmentFile,
+                    decoder.startPosition(),
+                    decoder.termBufferLength(),
+                    segmentLength,
+                    checksum,
+                    buffer,
+                    truncateOnPageStraddle));
+            }
 
             encoder.stopTimestamp(epochClock.time());
         }
     }
 
+    private boolean isValidCheckpoint(
+        final String maxSegmentFile,
+        final long startPosition,
+        final int segmentLength,
+        final long checkpointPosition,
+        final int checkpointChecksum,
+        final UnsafeBuffer buffer)
+    {
+        if (null == maxSegmentFile || checkpointPosition <= startPosition)
+        {
+            return false;
+        }
+
+        final long segmentFileBasePosition = parseSegmentFilePosition(maxSegmentFile);
+        if (checkpointPosition < segmentFileBasePosition ||
+            checkpointPosition >= segmentFileBasePosition + segmentLength)
+        {
+            return false;
+        }
+
+        final File file = new File(archiveDir, maxSegmentFile);
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ))
+        {
+            final ByteBuffer byteBuffer = buffer.byteBuffer();
+            return readCheckpointFrameHeader(channel, checkpointPosition - segmentFileBasePosition, byteBuffer) &&
+                checkpointChecksum(byteBuffer) == checkpointChecksum;
+        }
+        catch (final IOException ex)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Read the header of the frame at a recovery checkpoint into the start of a buffer.
+     *
+     * @param channel    of the segment file.
+     * @param fileOffset of the frame in the segment file.
+     * @param byteBuffer into which the header is read.
+     * @return true if a complete header for a non-empty frame was read.
+     * @throws IOException if an error occurs reading the segment file.
+     */
+    static boolean readCheckpointFrameHeader(
+        final FileChannel channel, final long fileOffset, final ByteBuffer byteBuffer) throws IOException
+    {
+        byteBuffer.clear().limit(HEADER_LENGTH);
+        long position = fileOffset;
+        do
+        {
+            final int bytesRead = channel.read(byteBuffer, position);
+            if (bytesRead < 0)
+            {
+                return false;
+            }
+            position += bytesRead;
+        }
+        while (byteBuffer.remaining() > 0);
+
+        final int frameLength = byteBuffer.getInt(FRAME_LENGTH_FIELD_OFFSET);
+        return (LITTLE_ENDIAN == byteBuffer.order() ? frameLength : Integer.reverseBytes(frameLength)) > 0;
+    }
+
+    /**
+     * Compute the checksum of a frame header for a recovery checkpoint.
+     *
+     * @param byteBuffer containing the frame header at the start.
+     * @return the CRC-32 of the frame header.
+     */
+    static int checkpointChecksum(final ByteBuffer byteBuffer)
+    {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(byteBuffer.duplicate().limit(HEADER_LENGTH).position(0));
+
+        return (int)crc32.getValue();
+    }
+
     private void forceWrites(final FileChannel channel)
     {
         if (null != channel && forceWrites)
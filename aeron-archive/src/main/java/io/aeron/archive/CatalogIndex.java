@@ -125,6 +125,29 @@ final class CatalogIndex
         return index[position + 1];
     }
 
+    /**
+     * Update the file offset of a recording which has been moved within the catalog file.
+     *
+     * @param recordingId               to update.
+     * @param recordingDescriptorOffset new file offset for the given id.
+     * @return true if the recording was found and updated.
+     */
+    boolean updateOffset(final long recordingId, final long recordingDescriptorOffset)
+    {
+        ensurePositive(recordingId, "recordingId");
+        ensurePositive(recordingDescriptorOffset, "recordingDescriptorOffset");
+
+        final int position = find(index, recordingId, lastPosition());
+        if (position < 0)
+        {
+            return false;
+        }
+
+        index[position + 1] = recordingDescriptorOffset;
+
+        return true;
+    }
+
     /**
      * Returns size of the index.
      *
@@ -205,6 +228,35 @@ final class CatalogIndex
         return -1;
     }
 
+    /**
+     * Find the position of the first recording id which is greater than or equal to the given recording id.
+     *
+     * @param index        array of recording ids and offsets in ascending order of recording id.
+     * @param recordingId  to search for.
+     * @param lastPosition of the last entry in the index.
+     * @return position of the first recording id greater than or equal to {@code recordingId} or
+     * {@code lastPosition + 2} if there is none.
+     */
+    static int ceilingPosition(final long[] index, final long recordingId, final int lastPosition)
+    {
+        int low = 0;
+        int high = (lastPosition >> 1) + 1;
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (index[mid << 1] < recordingId)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low << 1;
+    }
+
     private static long[] expand(final long[] index)
     {
         final int length = index.length;
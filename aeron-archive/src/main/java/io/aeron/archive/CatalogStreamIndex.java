@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * {@code CatalogStreamIndex} maps a stream id to the ids of the valid recordings for that stream in ascending order.
+ * <p>
+ * The index is rebuilt from the catalog on load and maintained as recordings are added, replaced, or invalidated so
+ * that queries which filter on stream id do not need to decode every descriptor in the catalog.
+ */
+final class CatalogStreamIndex
+{
+    private final Int2ObjectHashMap<LongArrayList> recordingIdsByStreamId = new Int2ObjectHashMap<>();
+
+    /**
+     * Add a recording id for a stream to the index.
+     *
+     * @param streamId    of the recording.
+     * @param recordingId to add.
+     */
+    void add(final int streamId, final long recordingId)
+    {
+        LongArrayList recordingIds = recordingIdsByStreamId.get(streamId);
+        if (null == recordingIds)
+        {
+            recordingIds = new LongArrayList();
+            recordingIdsByStreamId.put(streamId, recordingIds);
+        }
+
+        final int size = recordingIds.size();
+        if (0 == size || recordingId > recordingIds.getLong(size - 1))
+        {
+            recordingIds.addLong(recordingId);
+        }
+        else
+        {
+            final int index = ceilingIndex(recordingIds, recordingId);
+            if (index == size || recordingIds.getLong(index) != recordingId)
+            {
+                recordingIds.addLong(index, recordingId);
+            }
+        }
+    }
+
+    /**
+     * Remove a recording id for a stream from the index.
+     *
+     * @param streamId    of the recording.
+     * @param recordingId to remove.
+     * @return true if the recording id was found and removed.
+     */
+    boolean remove(final int streamId, final long recordingId)
+    {
+        final LongArrayList recordingIds = recordingIdsByStreamId.get(streamId);
+        if (null != recordingIds)
+        {
+            final int index = ceilingIndex(recordingIds, recordingId);
+            if (index < recordingIds.size() && recordingIds.getLong(index) == recordingId)
+            {
+                recordingIds.removeAt(index);
+                if (recordingIds.isEmpty())
+                {
+                    recordingIdsByStreamId.remove(streamId);
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the recording ids for a stream in ascending order.
+     *
+     * @param streamId to lookup.
+     * @return the recording ids for the stream or null if there are none.
+     */
+    LongArrayList recordingIds(final int streamId)
+    {
+        return recordingIdsByStreamId.get(streamId);
+    }
+
+    /**
+     * Number of distinct streams in the index.
+     *
+     * @return number of distinct streams in the index.
+     */
+    int streamCount()
+    {
+        return recordingIdsByStreamId.size();
+    }
+
+    /**
+     * Find the index of the first recording id which is greater than or equal to the given recording id.
+     *
+     * @param recordingIds in ascending order.
+     * @param recordingId  to search for.
+     * @return index of the first recording id greater than or equal to {@code recordingId} or the size of the list
+     * if there is none.
+     */
+    static int ceilingIndex(final LongArrayList recordingIds, final long recordingId)
+    {
+        int low = 0;
+        int high = recordingIds.size();
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (recordingIds.getLong(mid) < recordingId)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import io.aeron.archive.client.ArchiveException;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static io.aeron.archive.client.AeronArchive.segmentFileBasePosition;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Moves recording segments which have become cold from the archive directory to the cold directory on its own
+ * thread so the copy to slower storage does not stall the conductor.
+ * <p>
+ * The conductor periodically submits the extent of each recording and the mover considers its segments in order
+ * from the oldest, stopping at the first which is still hot. The segment holding the latest position of a recording
+ * is never moved so it can be extended. When compression is enabled the copy is compressed, with the
+ * {@link CompressedSegmentChannel#FILE_SUFFIX} appended to its name, so the cost of compression is also kept off the
+ * conductor and recorder threads.
+ * <p>
+ * The mover only copies a segment to a temporary file in the cold directory. The copy is handed back to the
+ * conductor which owns the segment files, so {@link #completeMoves(MoveValidator)} renames the copy into place and
+ * deletes the original on the conductor thread, after checking that the segment is still part of the recording.
+ * Operations which delete or rewrite segments call {@link #cancel(long)} so any copy in progress for the recording is
+ * discarded rather than completed, which means a segment is always complete in at least one of the directories and
+ * never resurrected after being deleted or truncated.
+ * <p>
+ * The extents and moves are preallocated and passed back and forth between the conductor and the mover through free
+ * queues, so a cold check does not allocate on the conductor duty cycle. If no extent is free the conductor resumes
+ * from the same recording on its next check, and if no move is free the mover waits for the conductor to complete
+ * the moves it has handed back.
+ */
+final class ColdSegmentMover implements Agent
+{
+    static final int QUEUE_CAPACITY = 256;
+    static final String TMP_SUFFIX = ".tmp";
+
+    private final File archiveDir;
+    private final File coldDir;
+    private final long segmentAgeMs;
+    private final long hotLength;
+    private final boolean isFileSync;
+    private final boolean isCompression;
+    private final int compressionBlockLength;
+    private final EpochClock epochClock;
+    private final Counter coldSegmentCounter;
+    private final Counter coldBytesCounter;
+    private final OneToOneConcurrentArrayQueue<Extent> extentQueue =
+        new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    private final OneToOneConcurrentArrayQueue<Extent> freeExtentQueue =
+        new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    private final OneToOneConcurrentArrayQueue<Move> moveQueue = new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    private final OneToOneConcurrentArrayQueue<Move> freeMoveQueue =
+        new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    private final Long2LongHashMap claimIdByRecordingId = new Long2LongHashMap(0);
+    private final Long2LongHashMap coldPositionByRecordingId = new Long2LongHashMap(Long.MIN_VALUE);
+    private final Long2LongHashMap coldClaimIdByRecordingId = new Long2LongHashMap(0);
+    private Extent extent;
+    private Move move;
+    private long nextSegmentPosition;
+    private long firstMovedSegmentPosition;
+
+    ColdSegmentMover(final Archive.Context ctx)
+    {
+        archiveDir = ctx.archiveDir();
+        coldDir = ctx.coldDir();
+        segmentAgeMs = TimeUnit.NANOSECONDS.toMillis(ctx.coldSegmentAgeNs());
+        hotLength = ctx.coldSegmentHotLength();
+        isFileSync = ctx.fileSyncLevel() > 0;
+        isCompression = ctx.coldSegmentCompression();
+        compressionBlockLength = ctx.coldSegmentCompressionBlockLength();
+        epochClock = ctx.epochClock();
+        coldSegmentCounter = ctx.coldSegmentCounter();
+        coldBytesCounter = ctx.coldBytesCounter();
+
+        for (int i = 0; i < QUEUE_CAPACITY; i++)
+        {
+            freeExtentQueue.offer(new Extent());
+            freeMoveQueue.offer(new Move());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String roleName()
+    {
+        return "archive-cold-segment-mover";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork() throws IOException
+    {
+        if (null == extent)
+        {
+            extent = extentQueue.poll();
+            if (null == extent)
+            {
+                return 0;
+            }
+
+            final long startSegmentPosition = segmentFileBasePosition(
+                extent.startPosition, extent.startPosition, extent.termLength, extent.segmentLength);
+            long coldPosition = coldPositionByRecordingId.get(extent.recordingId);
+            if (coldClaimIdByRecordingId.get(extent.recordingId) != extent.claimId)
+            {
+                coldClaimIdByRecordingId.put(extent.recordingId, extent.claimId);
+                coldPosition = Long.MIN_VALUE;
+            }
+
+            nextSegmentPosition = Math.max(startSegmentPosition, coldPosition);
+            firstMovedSegmentPosition = Long.MIN_VALUE;
+        }
+
+        final Extent extent = this.extent;
+        final long lastSegmentPosition = segmentFileBasePosition(
+            extent.startPosition, extent.lastPosition, extent.termLength, extent.segmentLength);
+
+        while (nextSegmentPosition < lastSegmentPosition)
+        {
+            final String segmentFileName = segmentFileName(extent.recordingId, nextSegmentPosition);
+            final File file = new File(archiveDir, segmentFileName);
+            if (file.exists())
+            {
+                if (!isCold(extent, nextSegmentPosition, file))
+                {
+                    break;
+                }
+
+                if (null == move)
+                {
+                    move = freeMoveQueue.poll();
+                    if (null == move)
+                    {
+                        return 0;
+                    }
+                }
+
+                try
+                {
+                    copyToColdDir(extent, nextSegmentPosition, file, segmentFileName);
+                }
+                catch (final IOException | RuntimeException ex)
+                {
+                    releaseExtent();
+                    throw ex;
+                }
+
+                nextSegmentPosition += extent.segmentLength;
+                return 1;
+            }
+
+            nextSegmentPosition += extent.segmentLength;
+        }
+
+        coldPositionByRecordingId.put(
+            extent.recordingId,
+            Long.MIN_VALUE != firstMovedSegmentPosition ? firstMovedSegmentPosition : nextSegmentPosition);
+        releaseExtent();
+
+        return 0;
+    }
+
+    /**
+     * Submit the extent of a recording to have its cold segments moved. Called on the conductor thread.
+     *
+     * @param recordingId   of the recording.
+     * @param startPosition of the recording.
+     * @param lastPosition  recorded for the recording.
+     * @param termLength    of the recording.
+     * @param segmentLength of the recording.
+     * @return true if submitted or false if no extent is free.
+     */
+    boolean submit(
+        final long recordingId,
+        final long startPosition,
+        final long lastPosition,
+        final int termLength,
+        final int segmentLength)
+    {
+        final Extent extent = freeExtentQueue.poll();
+        if (null == extent)
+        {
+            return false;
+        }
+
+        extent.recordingId = recordingId;
+        extent.startPosition = startPosition;
+        extent.lastPosition = lastPosition;
+        extent.termLength = termLength;
+        extent.segmentLength = segmentLength;
+        extent.claimId = claimIdByRecordingId.get(recordingId);
+
+        // cannot fail as there are no more extents than the capacity of the queue
+        extentQueue.offer(extent);
+
+        return true;
+    }
+
+    /**
+     * Cancel the moves in progress for a recording because its segments are being deleted or rewritten. Copies
+     * which are handed back after the cancel are discarded. Called on the conductor thread.
+     *
+     * @param recordingId of the recording.
+     */
+    void cancel(final long recordingId)
+    {
+        claimIdByRecordingId.put(recordingId, claimIdByRecordingId.get(recordingId) + 1);
+    }
+
+    /**
+     * Complete the moves of the segments copied by the mover by renaming each copy into place and deleting the
+     * original, or discard the copy if the move was cancelled or the segment is no longer valid for the recording.
+     * Called on the conductor thread.
+     *
+     * @param validator to check that the segment is still part of the recording and can be moved.
+     * @return the number of copies completed or discarded.
+     * @throws IOException if a copy cannot be renamed into place.
+     */
+    int completeMoves(final MoveValidator validator) throws IOException
+    {
+        int workCount = 0;
+        Move move;
+        while (null != (move = moveQueue.poll()))
+        {
+            workCount++;
+
+            final File file = move.segmentFile;
+            final File tmpFile = move.tmpFile;
+            final File coldFile = move.coldFile;
+            final boolean isValid = move.claimId == claimIdByRecordingId.get(move.recordingId) &&
+                validator.isValid(move.recordingId, move.segmentPosition);
+
+            move.reset();
+            freeMoveQueue.offer(move);
+
+            if (!isValid || !file.exists())
+            {
+                Files.deleteIfExists(tmpFile.toPath());
+                continue;
+            }
+
+            final long length = tmpFile.length();
+            Files.move(tmpFile.toPath(), coldFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+            if (!file.delete() && file.exists())
+            {
+                throw new ArchiveException("failed to delete segment moved to cold dir: " + file);
+            }
+
+            coldSegmentCounter.incrementRelease();
+            coldBytesCounter.getAndAddRelease(length);
+        }
+
+        return workCount;
+    }
+
+    private void releaseExtent()
+    {
+        freeExtentQueue.offer(extent);
+        extent = null;
+    }
+
+    private boolean isCold(final Extent extent, final long segmentPosition, final File file)
+    {
+        if (hotLength > 0 && segmentPosition + extent.segmentLength <= extent.lastPosition - hotLength)
+        {
+            return true;
+        }
+
+        return segmentAgeMs > 0 && epochClock.time() - file.lastModified() >= segmentAgeMs;
+    }
+
+    private void copyToColdDir(
+        final Extent extent, final long segmentPosition, final File file, final String segmentFileName)
+        throws IOException
+    {
+        final String coldFileName = isCompression ?
+            segmentFileName + CompressedSegmentChannel.FILE_SUFFIX : segmentFileName;
+        final File tmpFile = new File(coldDir, coldFileName + TMP_SUFFIX);
+
+        try
+        {
+            if (isCompression)
+            {
+                CompressedSegmentChannel.compress(file, tmpFile, compressionBlockLength, isFileSync);
+            }
+            else
+            {
+                Files.copy(file.toPath(), tmpFile.toPath(), REPLACE_EXISTING);
+
+                if (isFileSync)
+                {
+                    try (FileChannel fileChannel = FileChannel.open(tmpFile.toPath(), WRITE))
+                    {
+                        fileChannel.force(true);
+                    }
+                }
+            }
+        }
+        catch (final NoSuchFileException ex)
+        {
+            Files.deleteIfExists(tmpFile.toPath());
+            return;
+        }
+
+        if (Long.MIN_VALUE == firstMovedSegmentPosition)
+        {
+            firstMovedSegmentPosition = segmentPosition;
+        }
+
+        final Move move = this.move;
+        move.recordingId = extent.recordingId;
+        move.segmentPosition = segmentPosition;
+        move.claimId = extent.claimId;
+        move.segmentFile = file;
+        move.tmpFile = tmpFile;
+        move.coldFile = new File(coldDir, coldFileName);
+
+        // cannot fail as there are no more moves than the capacity of the queue
+        moveQueue.offer(move);
+        this.move = null;
+    }
+
+    /**
+     * Check made by the conductor before completing the move of a segment.
+     */
+    @FunctionalInterface
+    interface MoveValidator
+    {
+        /**
+         * Is the segment still part of the recording and not the segment which holds its latest position.
+         *
+         * @param recordingId     of the recording.
+         * @param segmentPosition of the segment.
+         * @return true if the move can be completed.
+         */
+        boolean isValid(long recordingId, long segmentPosition);
+    }
+
+    static final class Move
+    {
+        long recordingId;
+        long segmentPosition;
+        long claimId;
+        File segmentFile;
+        File tmpFile;
+        File coldFile;
+
+        void reset()
+        {
+            segmentFile = null;
+            tmpFile = null;
+            coldFile = null;
+        }
+    }
+
+    static final class Extent
+    {
+        long recordingId;
+        long startPosition;
+        long lastPosition;
+        int termLength;
+        int segmentLength;
+        long claimId;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.CloseHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Restores the retained part of a segment in the cold directory, which may be compressed, to the archive directory
+ * when a recording is truncated within it so the segment can be extended again.
+ * <p>
+ * The data is copied one chunk per {@link #step()} so decompressing a segment is spread over duty cycles rather than
+ * stalling the conductor. The copy is written to a temporary file which is renamed into place once complete.
+ */
+final class ColdSegmentRestore implements AutoCloseable
+{
+    static final int CHUNK_LENGTH = 64 * 1024;
+
+    private final File coldFile;
+    private final File archiveFile;
+    private final File tmpFile;
+    private final long length;
+    private final int segmentLength;
+    private final boolean isFileSync;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_LENGTH);
+    private FileChannel srcChannel;
+    private FileChannel dstChannel;
+    private long position;
+    private boolean isDone;
+
+    /**
+     * Create a restore of the first part of a segment.
+     *
+     * @param coldFile      of the segment in the cold directory.
+     * @param archiveFile   of the segment in the archive directory.
+     * @param length        of the segment data to be retained.
+     * @param segmentLength of the segment file.
+     * @param isFileSync    true if the restored file should be forced to storage.
+     */
+    ColdSegmentRestore(
+        final File coldFile,
+        final File archiveFile,
+        final long length,
+        final int segmentLength,
+        final boolean isFileSync)
+    {
+        this.coldFile = coldFile;
+        this.archiveFile = archiveFile;
+        this.tmpFile = new File(archiveFile.getParentFile(), archiveFile.getName() + ColdSegmentMover.TMP_SUFFIX);
+        this.length = length;
+        this.segmentLength = segmentLength;
+        this.isFileSync = isFileSync;
+    }
+
+    /**
+     * File of the segment in the cold directory.
+     *
+     * @return file of the segment in the cold directory.
+     */
+    File coldFile()
+    {
+        return coldFile;
+    }
+
+    /**
+     * File of the segment in the archive directory once restored.
+     *
+     * @return file of the segment in the archive directory once restored.
+     */
+    File archiveFile()
+    {
+        return archiveFile;
+    }
+
+    /**
+     * Copy the next chunk of the segment.
+     *
+     * @return true if the restore is complete.
+     * @throws IOException if the segment cannot be read or the restored segment written.
+     */
+    boolean step() throws IOException
+    {
+        if (isDone)
+        {
+            return true;
+        }
+
+        if (null == srcChannel)
+        {
+            srcChannel = CompressedSegmentChannel.open(coldFile);
+            dstChannel = FileChannel.open(tmpFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING);
+        }
+
+        if (position < length)
+        {
+            buffer.clear().limit((int)Math.min(CHUNK_LENGTH, length - position));
+            while (buffer.hasRemaining())
+            {
+                if (srcChannel.read(buffer, position + buffer.position()) < 0)
+                {
+                    throw new IOException("unexpected end of segment: " + coldFile);
+                }
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                dstChannel.write(buffer, position + buffer.position());
+            }
+            position += buffer.limit();
+
+            return false;
+        }
+
+        buffer.clear().put(0, (byte)0).limit(1);
+        while (buffer.hasRemaining())
+        {
+            dstChannel.write(buffer, segmentLength - 1);
+        }
+
+        if (isFileSync)
+        {
+            dstChannel.force(true);
+        }
+
+        close();
+        Files.move(tmpFile.toPath(), archiveFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+        isDone = true;
+
+        return true;
+    }
+
+    /**
+     * Abandon an incomplete restore and remove the partial copy.
+     */
+    void abandon()
+    {
+        close();
+        if (!isDone)
+        {
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.closeAll(srcChannel, dstChannel);
+        srcChannel = null;
+        dstChannel = null;
+    }
+}
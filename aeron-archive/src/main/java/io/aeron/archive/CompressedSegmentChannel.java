@@ -0,0 +1,530 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.client.ArchiveException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Read-only {@link FileChannel} over a recording segment which has been compressed into independently compressed
+ * blocks so it can be read at any position by decompressing only the blocks covered.
+ * <p>
+ * The file starts with a header of magic, version, block length, block count, and uncompressed length followed by
+ * an index of the file offset of each compressed block plus the end offset of the last. Blocks are raw deflate
+ * streams of the block length of segment data, except the last which may be shorter. The most recently read block
+ * is cached so sequential reads of less than a block decompress each block once. The channel cannot be written,
+ * mapped, or locked.
+ */
+final class CompressedSegmentChannel extends FileChannel
+{
+    /**
+     * Suffix appended to the segment file name of a compressed segment.
+     */
+    static final String FILE_SUFFIX = ".z";
+
+    static final int MAGIC = 0x5A434541;
+    static final int VERSION = 1;
+    static final int INDEX_OFFSET = 24;
+
+    private final FileChannel channel;
+    private final Inflater inflater = new Inflater(true);
+    private final long[] blockOffsets;
+    private final int blockLength;
+    private final long length;
+    private final byte[] block;
+    private byte[] compressedBlock;
+    private int cachedBlockIndex = -1;
+    private int cachedBlockLength;
+    private long position;
+
+    private CompressedSegmentChannel(final File file, final FileChannel channel) throws IOException
+    {
+        this.channel = channel;
+
+        final ByteBuffer header = ByteBuffer.allocate(INDEX_OFFSET).order(LITTLE_ENDIAN);
+        readFully(channel, header, 0);
+        final int magic = header.getInt(0);
+        final int version = header.getInt(4);
+        blockLength = header.getInt(8);
+        final int blockCount = header.getInt(12);
+        length = header.getLong(16);
+
+        if (header.hasRemaining() || MAGIC != magic || VERSION != version || blockLength <= 0 || length < 0 ||
+            blockCount != (length + blockLength - 1) / blockLength)
+        {
+            throw new ArchiveException("invalid compressed segment header: " + file);
+        }
+
+        final ByteBuffer index = ByteBuffer.allocate((blockCount + 1) * SIZE_OF_LONG).order(LITTLE_ENDIAN);
+        readFully(channel, index, INDEX_OFFSET);
+        if (index.hasRemaining())
+        {
+            throw new ArchiveException("truncated compressed segment index: " + file);
+        }
+
+        blockOffsets = new long[blockCount + 1];
+        index.flip().asLongBuffer().get(blockOffsets);
+        block = new byte[blockLength];
+        compressedBlock = new byte[blockLength];
+    }
+
+    /**
+     * Is the segment file compressed based on its name.
+     *
+     * @param file of the segment.
+     * @return true if the segment file is compressed.
+     */
+    static boolean isCompressed(final File file)
+    {
+        return file.getName().endsWith(FILE_SUFFIX);
+    }
+
+    /**
+     * Open a segment file for read which decompresses on read if the segment file is compressed.
+     *
+     * @param file of the segment which may be compressed.
+     * @return a channel to read the uncompressed segment.
+     * @throws IOException if the file cannot be opened or its header is invalid.
+     */
+    static FileChannel open(final File file) throws IOException
+    {
+        final FileChannel channel = FileChannel.open(file.toPath(), READ);
+        if (!isCompressed(file))
+        {
+            return channel;
+        }
+
+        try
+        {
+            return new CompressedSegmentChannel(file, channel);
+        }
+        catch (final IOException | RuntimeException ex)
+        {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Compress a segment file.
+     *
+     * @param srcFile     segment to be compressed.
+     * @param dstFile     to which the compressed segment is written.
+     * @param blockLength of the uncompressed blocks.
+     * @param isFileSync  true if the compressed file should be forced to storage.
+     * @return length of the compressed file.
+     * @throws IOException if an error occurs reading or writing.
+     */
+    static long compress(final File srcFile, final File dstFile, final int blockLength, final boolean isFileSync)
+        throws IOException
+    {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try (FileChannel src = FileChannel.open(srcFile.toPath(), READ);
+            FileChannel dst = FileChannel.open(dstFile.toPath(), CREATE, TRUNCATE_EXISTING, WRITE))
+        {
+            final long length = src.size();
+            final int blockCount = (int)((length + blockLength - 1) / blockLength);
+            final ByteBuffer index = ByteBuffer.allocate(INDEX_OFFSET + (blockCount + 1) * SIZE_OF_LONG)
+                .order(LITTLE_ENDIAN);
+            index.putInt(MAGIC).putInt(VERSION).putInt(blockLength).putInt(blockCount).putLong(length);
+
+            final ByteBuffer block = ByteBuffer.allocate(blockLength);
+            final ByteBuffer compressedBlock = ByteBuffer.allocate(blockLength);
+            long dstPosition = index.capacity();
+
+            for (int i = 0; i < blockCount; i++)
+            {
+                final long srcPosition = (long)i * blockLength;
+                block.clear().limit((int)Math.min(blockLength, length - srcPosition));
+                readFully(src, block, srcPosition);
+                if (block.hasRemaining())
+                {
+                    throw new ArchiveException("segment truncated while compressing: " + srcFile);
+                }
+
+                index.putLong(dstPosition);
+                deflater.reset();
+                deflater.setInput(block.flip());
+                deflater.finish();
+
+                while (!deflater.finished())
+                {
+                    deflater.deflate(compressedBlock.clear());
+                    dstPosition += writeFully(dst, compressedBlock.flip(), dstPosition);
+                }
+            }
+
+            index.putLong(dstPosition);
+            writeFully(dst, index.flip(), 0);
+
+            if (isFileSync)
+            {
+                dst.force(true);
+            }
+
+            return dstPosition;
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompress a compressed segment file back to the segment file it was compressed from in the same directory
+     * so it can be modified, then delete the compressed file.
+     *
+     * @param file of the compressed segment.
+     * @return the uncompressed segment file.
+     * @throws IOException if an error occurs reading or writing.
+     */
+    static File decompress(final File file) throws IOException
+    {
+        final String name = file.getName();
+        final File dstFile = new File(file.getParentFile(), name.substring(0, name.length() - FILE_SUFFIX.length()));
+        final File tmpFile = new File(file.getParentFile(), dstFile.getName() + ColdSegmentMover.TMP_SUFFIX);
+
+        try (FileChannel src = open(file);
+            FileChannel dst = FileChannel.open(tmpFile.toPath(), CREATE, TRUNCATE_EXISTING, WRITE))
+        {
+            final long length = src.size();
+            long position = 0;
+            while (position < length)
+            {
+                position += src.transferTo(position, length - position, dst);
+            }
+        }
+
+        Files.move(tmpFile.toPath(), dstFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+        Files.delete(file.toPath());
+
+        return dstFile;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int read(final ByteBuffer dst) throws IOException
+    {
+        final int bytesRead = read(dst, position);
+        if (bytesRead > 0)
+        {
+            position += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException
+    {
+        long totalBytesRead = 0;
+        for (int i = offset, limit = offset + length; i < limit; i++)
+        {
+            final int bytesRead = read(dsts[i]);
+            if (bytesRead < 0)
+            {
+                return 0 == totalBytesRead ? -1 : totalBytesRead;
+            }
+
+            totalBytesRead += bytesRead;
+            if (dsts[i].hasRemaining())
+            {
+                break;
+            }
+        }
+
+        return totalBytesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int read(final ByteBuffer dst, final long position) throws IOException
+    {
+        if (!isOpen())
+        {
+            throw new ClosedChannelException();
+        }
+
+        if (position >= length)
+        {
+            return -1;
+        }
+
+        long readPosition = position;
+        int bytesRead = 0;
+        while (dst.hasRemaining() && readPosition < length)
+        {
+            final int blockIndex = (int)(readPosition / blockLength);
+            loadBlock(blockIndex);
+
+            final int blockOffset = (int)(readPosition - ((long)blockIndex * blockLength));
+            final int bytesToCopy = Math.min(dst.remaining(), cachedBlockLength - blockOffset);
+            dst.put(block, blockOffset, bytesToCopy);
+
+            readPosition += bytesToCopy;
+            bytesRead += bytesToCopy;
+        }
+
+        return bytesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long transferTo(final long position, final long count, final WritableByteChannel target)
+        throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(blockLength, Math.max(0, count)));
+        long transferred = 0;
+        while (transferred < count)
+        {
+            buffer.clear().limit((int)Math.min(buffer.capacity(), count - transferred));
+            final int bytesRead = read(buffer, position + transferred);
+            if (bytesRead <= 0)
+            {
+                break;
+            }
+
+            transferred += writeFully(target, buffer.flip());
+        }
+
+        return transferred;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long position()
+    {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public FileChannel position(final long newPosition)
+    {
+        position = newPosition;
+        return this;
+    }
+
+    /**
+     * The length of the uncompressed segment.
+     *
+     * @return length of the uncompressed segment.
+     */
+    public long size()
+    {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void force(final boolean metaData)
+    {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int write(final ByteBuffer src)
+    {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long write(final ByteBuffer[] srcs, final int offset, final int length)
+    {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int write(final ByteBuffer src, final long position)
+    {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public FileChannel truncate(final long size)
+    {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long transferFrom(final ReadableByteChannel src, final long position, final long count)
+    {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public MappedByteBuffer map(final MapMode mode, final long position, final long size)
+    {
+        throw new UnsupportedOperationException("compressed segment cannot be mapped");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public FileLock lock(final long position, final long size, final boolean shared)
+    {
+        throw new UnsupportedOperationException("compressed segment cannot be locked");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public FileLock tryLock(final long position, final long size, final boolean shared)
+    {
+        throw new UnsupportedOperationException("compressed segment cannot be locked");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected void implCloseChannel() throws IOException
+    {
+        inflater.end();
+        channel.close();
+    }
+
+    private void loadBlock(final int blockIndex) throws IOException
+    {
+        if (blockIndex == cachedBlockIndex)
+        {
+            return;
+        }
+
+        cachedBlockIndex = -1;
+        final long offset = blockOffsets[blockIndex];
+        final int compressedLength = (int)(blockOffsets[blockIndex + 1] - offset);
+        if (compressedLength > compressedBlock.length)
+        {
+            compressedBlock = new byte[compressedLength];
+        }
+
+        final ByteBuffer compressedBuffer = ByteBuffer.wrap(compressedBlock, 0, compressedLength);
+        readFully(channel, compressedBuffer, offset);
+        if (compressedBuffer.hasRemaining())
+        {
+            throw new ArchiveException("truncated compressed segment block " + blockIndex);
+        }
+
+        final int expectedLength = (int)Math.min(blockLength, length - ((long)blockIndex * blockLength));
+        int inflatedLength = 0;
+        inflater.reset();
+        inflater.setInput(compressedBlock, 0, compressedLength);
+        try
+        {
+            while (inflatedLength < expectedLength && !inflater.finished())
+            {
+                final int bytes = inflater.inflate(block, inflatedLength, expectedLength - inflatedLength);
+                if (0 == bytes && (inflater.needsInput() || inflater.needsDictionary()))
+                {
+                    break;
+                }
+
+                inflatedLength += bytes;
+            }
+        }
+        catch (final DataFormatException ex)
+        {
+            throw new ArchiveException("corrupt compressed segment block " + blockIndex + ": " + ex.getMessage());
+        }
+
+        if (inflatedLength != expectedLength)
+        {
+            throw new ArchiveException("corrupt compressed segment block " + blockIndex +
+                " inflatedLength=" + inflatedLength + " expectedLength=" + expectedLength);
+        }
+
+        cachedBlockIndex = blockIndex;
+        cachedBlockLength = expectedLength;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException
+    {
+        long readPosition = position;
+        while (buffer.hasRemaining())
+        {
+            final int bytesRead = channel.read(buffer, readPosition);
+            if (bytesRead <= 0)
+            {
+                break;
+            }
+
+            readPosition += bytesRead;
+        }
+    }
+
+    private static int writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException
+    {
+        int bytesWritten = 0;
+        while (buffer.hasRemaining())
+        {
+            bytesWritten += channel.write(buffer, position + bytesWritten);
+        }
+
+        return bytesWritten;
+    }
+
+    private static int writeFully(final WritableByteChannel channel, final ByteBuffer buffer) throws IOException
+    {
+        int bytesWritten = 0;
+        while (buffer.hasRemaining())
+        {
+            bytesWritten += channel.write(buffer);
+        }
+
+        return bytesWritten;
+    }
+}
@@ -64,4 +64,8 @@ class ControlRequestDecoders
     final TaggedReplicateRequestDecoder taggedReplicateRequest = new TaggedReplicateRequestDecoder();
     final ArchiveIdRequestDecoder archiveIdRequestDecoder = new ArchiveIdRequestDecoder();
     final ReplayTokenRequestDecoder replayTokenRequestDecoder = new ReplayTokenRequestDecoder();
+    final RecordingPositionForTimestampRequestDecoder recordingPositionForTimestampRequest =
+        new RecordingPositionForTimestampRequestDecoder();
+    final SegmentChecksumRequestDecoder segmentChecksumRequest = new SegmentChecksumRequestDecoder();
+    final QueryRecordingsRequestDecoder queryRecordingsRequest = new QueryRecordingsRequestDecoder();
 }
@@ -47,6 +47,7 @@ class ControlResponseProxy
     private final RecordingSubscriptionDescriptorEncoder recordingSubscriptionDescriptorEncoder =
         new RecordingSubscriptionDescriptorEncoder();
     private final RecordingSignalEventEncoder recordingSignalEventEncoder = new RecordingSignalEventEncoder();
+    private final RecordingQueryBatchEncoder recordingQueryBatchEncoder = new RecordingQueryBatchEncoder();
     private final ChallengeEncoder challengeEncoder = new ChallengeEncoder();
 
     boolean sendDescriptor(
@@ -105,6 +106,36 @@ class ControlResponseProxy
         return send(session, buffer, length);
     }
 
+    boolean sendRecordingQueryBatch(
+        final long controlSessionId,
+        final long correlationId,
+        final int projection,
+        final long nextRecordingId,
+        final boolean isLast,
+        final long[] values,
+        final int valueCount,
+        final ControlSession session)
+    {
+        recordingQueryBatchEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .projection(projection)
+            .nextRecordingId(nextRecordingId)
+            .isLast(isLast ? BooleanType.TRUE : BooleanType.FALSE);
+
+        final RecordingQueryBatchEncoder.ValuesEncoder valuesEncoder =
+            recordingQueryBatchEncoder.valuesCount(valueCount);
+        for (int i = 0; i < valueCount; i++)
+        {
+            valuesEncoder.next().value(values[i]);
+        }
+
+        final int length = MESSAGE_HEADER_LENGTH + recordingQueryBatchEncoder.encodedLength();
+
+        return send(session, buffer, length);
+    }
+
     boolean sendResponse(
         final long controlSessionId,
         final long correlationId,
@@ -20,6 +20,7 @@ import io.aeron.ExclusivePublication;
 import io.aeron.Subscription;
 import io.aeron.archive.client.ArchiveEvent;
 import io.aeron.archive.codecs.ControlResponseCode;
+import io.aeron.archive.codecs.RecordingActivity;
 import io.aeron.archive.codecs.RecordingSignal;
 import io.aeron.archive.codecs.SourceLocation;
 import io.aeron.security.Authenticator;
@@ -345,6 +346,36 @@ final class ControlSession implements Session
         }
     }
 
+    void onQueryRecordings(
+        final long correlationId,
+        final long fromRecordingId,
+        final int recordCount,
+        final int streamId,
+        final RecordingActivity activity,
+        final int projection,
+        final long minStartTimestamp,
+        final long maxStartTimestamp,
+        final long minLength,
+        final byte[] channelFragment)
+    {
+        attemptToActivate();
+        if (State.ACTIVE == state)
+        {
+            conductor.newQueryRecordingsSession(
+                correlationId,
+                fromRecordingId,
+                recordCount,
+                streamId,
+                activity,
+                projection,
+                minStartTimestamp,
+                maxStartTimestamp,
+                minLength,
+                channelFragment,
+                this);
+        }
+    }
+
     void onListRecordings(final long correlationId, final long fromRecordingId, final int recordCount)
     {
         attemptToActivate();
@@ -463,7 +494,8 @@ final class ControlSession implements Session
         attemptToActivate();
         if (State.ACTIVE == state)
         {
-            conductor.extendRecording(correlationId, recordingId, streamId, sourceLocation, autoStop, channel, this);
+            conductor.extendRecording(
+                correlationId, recordingId, streamId, sourceLocation, autoStop, false, channel, this);
         }
     }
 
@@ -512,6 +544,24 @@ final class ControlSession implements Session
         }
     }
 
+    void onGetRecordingPositionForTimestamp(final long correlationId, final long recordingId, final long timestamp)
+    {
+        attemptToActivate();
+        if (State.ACTIVE == state)
+        {
+            conductor.getRecordingPositionForTimestamp(correlationId, recordingId, timestamp, this);
+        }
+    }
+
+    void onSegmentChecksum(final long correlationId, final long recordingId, final long position, final long length)
+    {
+        attemptToActivate();
+        if (State.ACTIVE == state)
+        {
+            conductor.segmentChecksum(correlationId, recordingId, position, length, this);
+        }
+    }
+
     void onArchiveId(final long correlationId)
     {
         attemptToActivate();
@@ -730,6 +780,24 @@ final class ControlSession implements Session
         return sent;
     }
 
+    boolean sendRecordingQueryBatch(
+        final long correlationId,
+        final int projection,
+        final long nextRecordingId,
+        final boolean isLast,
+        final long[] values,
+        final int valueCount)
+    {
+        assertCalledOnConductorThread();
+        final boolean sent = controlResponseProxy.sendRecordingQueryBatch(
+            controlSessionId, correlationId, projection, nextRecordingId, isLast, values, valueCount, this);
+        if (sent)
+        {
+            activityDeadlineMs = Aeron.NULL_VALUE;
+        }
+        return sent;
+    }
+
     boolean sendSubscriptionDescriptor(final long correlationId, final Subscription subscription)
     {
         assertCalledOnConductorThread();
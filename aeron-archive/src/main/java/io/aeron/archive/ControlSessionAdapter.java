@@ -292,6 +292,40 @@ class ControlSessionAdapter implements FragmentHandler
                 break;
             }
 
+            case QueryRecordingsRequestDecoder.TEMPLATE_ID:
+            {
+                final QueryRecordingsRequestDecoder decoder = decoders.queryRecordingsRequest;
+                decoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                final long controlSessionId = decoder.controlSessionId();
+                final long correlationId = decoder.correlationId();
+                final ControlSession controlSession = getControlSession(correlationId, controlSessionId, templateId);
+
+                if (null != controlSession)
+                {
+                    final int channelLength = decoder.channelLength();
+                    final byte[] bytes = 0 == channelLength ? ArrayUtil.EMPTY_BYTE_ARRAY : new byte[channelLength];
+                    decoder.getChannel(bytes, 0, channelLength);
+
+                    controlSession.onQueryRecordings(
+                        correlationId,
+                        decoder.fromRecordingId(),
+                        decoder.recordCount(),
+                        decoder.streamId(),
+                        decoder.activity(),
+                        decoder.projection(),
+                        decoder.minStartTimestamp(),
+                        decoder.maxStartTimestamp(),
+                        decoder.minLength(),
+                        bytes);
+                }
+                break;
+            }
+
             case ListRecordingRequestDecoder.TEMPLATE_ID:
             {
                 final ListRecordingRequestDecoder decoder = decoders.listRecordingRequest;
@@ -1005,6 +1039,49 @@ class ControlSessionAdapter implements FragmentHandler
                 break;
             }
 
+            case RecordingPositionForTimestampRequestDecoder.TEMPLATE_ID:
+            {
+                final RecordingPositionForTimestampRequestDecoder decoder =
+                    decoders.recordingPositionForTimestampRequest;
+                decoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                final long controlSessionId = decoder.controlSessionId();
+                final long correlationId = decoder.correlationId();
+                final ControlSession controlSession = getControlSession(correlationId, controlSessionId, templateId);
+
+                if (null != controlSession)
+                {
+                    controlSession.onGetRecordingPositionForTimestamp(
+                        correlationId, decoder.recordingId(), decoder.timestamp());
+                }
+                break;
+            }
+
+            case SegmentChecksumRequestDecoder.TEMPLATE_ID:
+            {
+                final SegmentChecksumRequestDecoder decoder = decoders.segmentChecksumRequest;
+                decoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                final long controlSessionId = decoder.controlSessionId();
+                final long correlationId = decoder.correlationId();
+                final ControlSession controlSession = getControlSession(correlationId, controlSessionId, templateId);
+
+                if (null != controlSession)
+                {
+                    controlSession.onSegmentChecksum(
+                        correlationId, decoder.recordingId(), decoder.position(), decoder.length());
+                }
+                break;
+            }
+
             case ArchiveIdRequestDecoder.TEMPLATE_ID:
             {
                 final ArchiveIdRequestDecoder decoder = decoders.archiveIdRequestDecoder;
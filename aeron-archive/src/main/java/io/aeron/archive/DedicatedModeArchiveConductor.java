@@ -15,6 +15,7 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Counter;
 import io.aeron.driver.DutyCycleTracker;
 import org.agrona.CloseHelper;
 import org.agrona.concurrent.*;
@@ -22,13 +23,16 @@ import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.concurrent.CountDownLatch;
 
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
 final class DedicatedModeArchiveConductor extends ArchiveConductor
 {
     private static final int COMMAND_LIMIT = 10;
 
     private final ManyToOneConcurrentLinkedQueue<Session> closeQueue;
-    private AgentRunner recorderAgentRunner;
-    private AgentRunner replayerAgentRunner;
+    private AgentRunner[] recorderAgentRunners;
+    private AgentRunner[] replayerAgentRunners;
 
     DedicatedModeArchiveConductor(final Archive.Context ctx)
     {
@@ -43,11 +47,27 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
     {
         super.onStart();
 
-        recorderAgentRunner = new AgentRunner(ctx.recorderIdleStrategy(), errorHandler, ctx.errorCounter(), recorder);
-        replayerAgentRunner = new AgentRunner(ctx.replayerIdleStrategy(), errorHandler, ctx.errorCounter(), replayer);
+        recorderAgentRunners = new AgentRunner[recorders.length];
+        for (int i = 0; i < recorders.length; i++)
+        {
+            recorderAgentRunners[i] = new AgentRunner(
+                ctx.recorderIdleStrategy(), errorHandler, ctx.errorCounter(), recorders[i]);
+        }
+        replayerAgentRunners = new AgentRunner[replayers.length];
+        for (int i = 0; i < replayers.length; i++)
+        {
+            replayerAgentRunners[i] = new AgentRunner(
+                ctx.replayerIdleStrategy(), errorHandler, ctx.errorCounter(), replayers[i]);
+        }
 
-        AgentRunner.startOnThread(recorderAgentRunner, ctx.recorderThreadFactory());
-        AgentRunner.startOnThread(replayerAgentRunner, ctx.replayerThreadFactory());
+        for (final AgentRunner recorderAgentRunner : recorderAgentRunners)
+        {
+            AgentRunner.startOnThread(recorderAgentRunner, ctx.recorderThreadFactory());
+        }
+        for (final AgentRunner replayerAgentRunner : replayerAgentRunners)
+        {
+            AgentRunner.startOnThread(replayerAgentRunner, ctx.replayerThreadFactory());
+        }
     }
 
     /**
@@ -64,8 +84,20 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
      */
     protected void closeSessionWorkers()
     {
-        CloseHelper.close(errorHandler, recorderAgentRunner);
-        CloseHelper.close(errorHandler, replayerAgentRunner);
+        if (null != recorderAgentRunners)
+        {
+            for (final AgentRunner recorderAgentRunner : recorderAgentRunners)
+            {
+                CloseHelper.close(errorHandler, recorderAgentRunner);
+            }
+        }
+        if (null != replayerAgentRunners)
+        {
+            for (final AgentRunner replayerAgentRunner : replayerAgentRunners)
+            {
+                CloseHelper.close(errorHandler, replayerAgentRunner);
+            }
+        }
 
         while (processCloseQueue() > 0 || !closeQueue.isEmpty())
         {
@@ -77,26 +109,52 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         }
     }
 
-    Recorder newRecorder()
+    Recorder[] newRecorders()
     {
-        return new DedicatedModeRecorder(
-            errorHandler,
-            ctx.errorCounter(),
-            closeQueue,
-            ctx.abortLatch(),
-            ctx.recorderDutyCycleTracker(),
-            ctx);
+        final Recorder[] recorders = new Recorder[ctx.recorderThreadCount()];
+        for (int i = 0; i < recorders.length; i++)
+        {
+            UnsafeBuffer checksumBuffer = ctx.recordChecksumBuffer();
+            if (0 != i && null != checksumBuffer)
+            {
+                checksumBuffer = new UnsafeBuffer(allocateDirectAligned(ctx.fileIoMaxLength(), CACHE_LINE_LENGTH));
+            }
+
+            recorders[i] = new DedicatedModeRecorder(
+                0 == i ? "archive-recorder" : "archive-recorder-" + i,
+                errorHandler,
+                ctx.errorCounter(),
+                closeQueue,
+                ctx.abortLatch(),
+                ctx.recorderDutyCycleTracker(i),
+                checksumBuffer,
+                ctx);
+        }
+
+        return recorders;
     }
 
-    Replayer newReplayer()
+    Replayer[] newReplayers()
     {
-        return new DedicatedModeReplayer(
-            errorHandler,
-            ctx.errorCounter(),
-            closeQueue,
-            ctx.abortLatch(),
-            ctx.replayerDutyCycleTracker(),
-            ctx);
+        final Replayer[] replayers = new Replayer[ctx.replayerThreadCount()];
+        for (int i = 0; i < replayers.length; i++)
+        {
+            final UnsafeBuffer replayBuffer = 0 == i ?
+                ctx.replayBuffer() : new UnsafeBuffer(allocateDirectAligned(ctx.fileIoMaxLength(), CACHE_LINE_LENGTH));
+
+            replayers[i] = new DedicatedModeReplayer(
+                0 == i ? "archive-replayer" : "archive-replayer-" + i,
+                errorHandler,
+                ctx.errorCounter(),
+                closeQueue,
+                ctx.abortLatch(),
+                ctx.replayerDutyCycleTracker(i),
+                replayBuffer,
+                ctx.replayerReadBytesCounter(i),
+                ctx);
+        }
+
+        return replayers;
     }
 
     private int processCloseQueue()
@@ -133,14 +191,16 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private volatile boolean isAbort;
 
         DedicatedModeRecorder(
+            final String roleName,
             final CountedErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentLinkedQueue<Session> closeQueue,
             final CountDownLatch abortLatch,
             final DutyCycleTracker dutyCycleTracker,
+            final UnsafeBuffer checksumBuffer,
             final Archive.Context context)
         {
-            super(errorHandler, context);
+            super(roleName, errorHandler, context, checksumBuffer);
 
             this.closeQueue = closeQueue;
             this.errorCounter = errorCounter;
@@ -224,6 +284,8 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
          */
         protected void postSessionsClose()
         {
+            super.postSessionsClose();
+
             if (isAbort)
             {
                 abortLatch.countDown();
@@ -273,14 +335,17 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private volatile boolean isAbort;
 
         DedicatedModeReplayer(
+            final String roleName,
             final CountedErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentLinkedQueue<Session> closeQueue,
             final CountDownLatch abortLatch,
             final DutyCycleTracker dutyCycleTracker,
+            final UnsafeBuffer replayBuffer,
+            final Counter readBytesCounter,
             final Archive.Context context)
         {
-            super(errorHandler, context);
+            super(roleName, errorHandler, context, replayBuffer, readBytesCounter);
 
             this.closeQueue = closeQueue;
             this.errorCounter = errorCounter;
@@ -363,6 +428,8 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
          */
         protected void postSessionsClose()
         {
+            super.postSessionsClose();
+
             if (isAbort)
             {
                 abortLatch.countDown();
@@ -20,6 +20,7 @@ import io.aeron.archive.client.ArchiveException;
 import org.agrona.ErrorHandler;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayDeque;
 
 import static io.aeron.Aeron.NULL_VALUE;
@@ -35,7 +36,10 @@ class DeleteSegmentsSession implements Session
     private final long maxDeletePosition;
     private final ArrayDeque<File> files;
     private final ControlSession controlSession;
+    private final ArchiveConductor conductor;
     private final ErrorHandler errorHandler;
+    private ColdSegmentRestore restore;
+    private String errorMessage;
 
     DeleteSegmentsSession(
         final long recordingId,
@@ -43,11 +47,57 @@ class DeleteSegmentsSession implements Session
         final ArrayDeque<File> files,
         final ControlSession controlSession,
         final ErrorHandler errorHandler)
+    {
+        this(recordingId, correlationId, files, null, controlSession, errorHandler);
+    }
+
+    DeleteSegmentsSession(
+        final long recordingId,
+        final long correlationId,
+        final ArrayDeque<File> files,
+        final ColdSegmentRestore restore,
+        final ControlSession controlSession,
+        final ErrorHandler errorHandler)
+    {
+        this(recordingId, correlationId, files, restore, controlSession, null, errorHandler);
+    }
+
+    /**
+     * Create a session for an operation internal to the archive which does not respond to a control session.
+     * Failures are reported to the error handler and can be checked via {@link #errorMessage()} once the session
+     * has been removed from the conductor.
+     *
+     * @param recordingId  of the recording the segments belong to.
+     * @param files        to be deleted.
+     * @param restore      of a truncated segment from the cold dir or null.
+     * @param conductor    which the session is removed from on close.
+     * @param errorHandler for failures.
+     */
+    DeleteSegmentsSession(
+        final long recordingId,
+        final ArrayDeque<File> files,
+        final ColdSegmentRestore restore,
+        final ArchiveConductor conductor,
+        final ErrorHandler errorHandler)
+    {
+        this(recordingId, NULL_VALUE, files, restore, null, conductor, errorHandler);
+    }
+
+    private DeleteSegmentsSession(
+        final long recordingId,
+        final long correlationId,
+        final ArrayDeque<File> files,
+        final ColdSegmentRestore restore,
+        final ControlSession controlSession,
+        final ArchiveConductor conductor,
+        final ErrorHandler errorHandler)
     {
         this.recordingId = recordingId;
+        this.restore = restore;
         this.correlationId = correlationId;
         this.files = files;
         this.controlSession = controlSession;
+        this.conductor = conductor;
         this.errorHandler = errorHandler;
 
         long maxSegmentPosition = Long.MIN_VALUE;
@@ -67,13 +117,34 @@ class DeleteSegmentsSession implements Session
         return maxDeletePosition;
     }
 
+    /**
+     * Message for the first failure to delete or restore a segment file.
+     *
+     * @return message for the first failure or null if none.
+     */
+    String errorMessage()
+    {
+        return errorMessage;
+    }
+
     /**
      * {@inheritDoc}
      */
     public void close()
     {
-        controlSession.archiveConductor().removeDeleteSegmentsSession(this);
-        controlSession.sendSignal(correlationId, recordingId, NULL_VALUE, NULL_VALUE, DELETE);
+        if (null != restore)
+        {
+            restore.abandon();
+        }
+        if (null != controlSession)
+        {
+            controlSession.archiveConductor().removeDeleteSegmentsSession(this);
+            controlSession.sendSignal(correlationId, recordingId, NULL_VALUE, NULL_VALUE, DELETE);
+        }
+        else
+        {
+            conductor.removeDeleteSegmentsSession(this);
+        }
     }
 
     /**
@@ -88,7 +159,7 @@ class DeleteSegmentsSession implements Session
      */
     public boolean isDone()
     {
-        return files.isEmpty();
+        return null == restore && files.isEmpty();
     }
 
     /**
@@ -104,6 +175,11 @@ class DeleteSegmentsSession implements Session
      */
     public int doWork()
     {
+        if (null != restore)
+        {
+            return restoreColdSegment();
+        }
+
         int workCount = 0;
         final File file = files.pollFirst();
         if (null != file)
@@ -130,10 +206,51 @@ class DeleteSegmentsSession implements Session
         return workCount;
     }
 
+    private int restoreColdSegment()
+    {
+        try
+        {
+            if (restore.step())
+            {
+                restore = null;
+            }
+        }
+        catch (final IOException ex)
+        {
+            final String coldFileName = restore.coldFile().getName();
+            final String segmentFileName = coldFileName.endsWith(CompressedSegmentChannel.FILE_SUFFIX) ?
+                coldFileName.substring(0, coldFileName.length() - CompressedSegmentChannel.FILE_SUFFIX.length()) :
+                coldFileName;
+            restore.abandon();
+            restore = null;
+
+            files.removeIf((file) -> file.getName().startsWith(segmentFileName));
+
+            final String errorMessage = "unable to restore truncated segment from cold dir: " + coldFileName;
+            onError(errorMessage);
+            errorHandler.onError(new ArchiveException(errorMessage, ex, ArchiveException.GENERIC));
+        }
+
+        return 1;
+    }
+
     private void onDeleteError(final File file)
     {
         final String errorMessage = "unable to delete segment file: " + file;
-        controlSession.sendErrorResponse(correlationId, ArchiveException.GENERIC, errorMessage);
+        onError(errorMessage);
         errorHandler.onError(new ArchiveEvent(errorMessage));
     }
+
+    private void onError(final String errorMessage)
+    {
+        if (null == this.errorMessage)
+        {
+            this.errorMessage = errorMessage;
+        }
+
+        if (null != controlSession)
+        {
+            controlSession.sendErrorResponse(correlationId, ArchiveException.GENERIC, errorMessage);
+        }
+    }
 }
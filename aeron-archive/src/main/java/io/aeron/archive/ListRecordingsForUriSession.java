@@ -17,8 +17,11 @@ package io.aeron.archive;
 
 import io.aeron.archive.codecs.RecordingDescriptorDecoder;
 import io.aeron.archive.codecs.RecordingDescriptorHeaderDecoder;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import static io.aeron.Aeron.NULL_VALUE;
+
 class ListRecordingsForUriSession extends AbstractListRecordingsSession
 {
     private final int streamId;
@@ -49,6 +52,34 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
         descriptorDecoder = recordingDescriptorDecoder;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the recordings for the requested stream are scanned by using the {@link CatalogStreamIndex}.
+     */
+    int seek(final long fromRecordingId)
+    {
+        final LongArrayList recordingIds = catalog().streamIndex().recordingIds(streamId);
+        return null == recordingIds ? 0 : CatalogStreamIndex.ceilingIndex(recordingIds, fromRecordingId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    long candidateRecordingId(final int cursor)
+    {
+        final LongArrayList recordingIds = catalog().streamIndex().recordingIds(streamId);
+        return null != recordingIds && cursor < recordingIds.size() ? recordingIds.getLong(cursor) : NULL_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    int candidateDescriptorOffset(final int cursor, final long recordingId)
+    {
+        return catalog().recordingDescriptorOffset(recordingId);
+    }
+
     boolean acceptDescriptor(final UnsafeBuffer descriptorBuffer)
     {
         descriptorDecoder.wrap(
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.codecs.MessageHeaderEncoder;
+import io.aeron.archive.codecs.RecordingActivity;
+import io.aeron.archive.codecs.RecordingDescriptorDecoder;
+import io.aeron.archive.codecs.RecordingDescriptorHeaderDecoder;
+import io.aeron.archive.codecs.RecordingQueryBatchEncoder;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.Aeron.NULL_VALUE;
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.archive.client.RecordingQueryParams.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Scans the catalog for the recordings which match a query and sends the projected fields of those which do in
+ * batches sized to fit in a single frame of the control response publication.
+ * <p>
+ * The recording id of each match is followed by its projected fields in the order of their projection bits. The
+ * last batch is flagged so the client knows the query is complete, even when it is empty. When a stream id is given
+ * only the recordings for that stream are scanned by using the {@link CatalogStreamIndex}.
+ */
+class QueryRecordingsSession implements Session
+{
+    static final int BATCH_HEADER_LENGTH = MessageHeaderEncoder.ENCODED_LENGTH +
+        RecordingQueryBatchEncoder.BLOCK_LENGTH + RecordingQueryBatchEncoder.ValuesEncoder.HEADER_SIZE;
+    private static final int MAX_VALUE_COUNT = 65_535;
+
+    private final long correlationId;
+    private final int count;
+    private final int streamId;
+    private final RecordingActivity activity;
+    private final int projection;
+    private final long minStartTimestamp;
+    private final long maxStartTimestamp;
+    private final long minLength;
+    private final byte[] channelFragment;
+    private final Catalog catalog;
+    private final ControlSession controlSession;
+    private final UnsafeBuffer descriptorBuffer;
+    private final RecordingDescriptorDecoder descriptorDecoder;
+    private final int valuesPerRecording;
+    private final long[] values;
+    private int valueCount;
+    private long recordingId;
+    private int matched;
+    private boolean isScanComplete = false;
+    private boolean isDone = false;
+
+    QueryRecordingsSession(
+        final long correlationId,
+        final long fromRecordingId,
+        final int count,
+        final int streamId,
+        final RecordingActivity activity,
+        final int projection,
+        final long minStartTimestamp,
+        final long maxStartTimestamp,
+        final long minLength,
+        final byte[] channelFragment,
+        final Catalog catalog,
+        final ControlSession controlSession,
+        final UnsafeBuffer descriptorBuffer,
+        final RecordingDescriptorDecoder descriptorDecoder)
+    {
+        this.correlationId = correlationId;
+        this.recordingId = Math.max(0, fromRecordingId);
+        this.count = count;
+        this.streamId = streamId;
+        this.activity = activity;
+        this.projection = projection & ALL_FIELDS;
+        this.minStartTimestamp = minStartTimestamp;
+        this.maxStartTimestamp = maxStartTimestamp;
+        this.minLength = minLength;
+        this.channelFragment = channelFragment;
+        this.catalog = catalog;
+        this.controlSession = controlSession;
+        this.descriptorBuffer = descriptorBuffer;
+        this.descriptorDecoder = descriptorDecoder;
+
+        final int maxPayloadLength = controlSession.controlPublication().maxPayloadLength();
+        final int maxValueCount = Math.min(MAX_VALUE_COUNT, (maxPayloadLength - BATCH_HEADER_LENGTH) / SIZE_OF_LONG);
+        valuesPerRecording = 1 + Integer.bitCount(this.projection);
+        values = new long[Math.max(1, maxValueCount / valuesPerRecording) * valuesPerRecording];
+        isScanComplete = count <= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        controlSession.activeListing(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void abort(final String reason)
+    {
+        isDone = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isDone()
+    {
+        return isDone;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long sessionId()
+    {
+        return correlationId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        if (isDone)
+        {
+            return 0;
+        }
+
+        int workCount = 0;
+        for (int recordsScanned = 0; recordsScanned < AbstractListRecordingsSession.MAX_SCANS_PER_WORK_CYCLE &&
+            !isScanComplete && valueCount + valuesPerRecording <= values.length; recordsScanned++)
+        {
+            final long candidateRecordingId = nextRecordingId();
+            if (NULL_VALUE == candidateRecordingId)
+            {
+                isScanComplete = true;
+                break;
+            }
+
+            if (catalog.wrapDescriptor(candidateRecordingId, descriptorBuffer) && acceptDescriptor())
+            {
+                addValues(candidateRecordingId);
+                isScanComplete = ++matched >= count;
+            }
+
+            recordingId = candidateRecordingId + 1;
+            workCount++;
+        }
+
+        if (isScanComplete || valueCount + valuesPerRecording > values.length)
+        {
+            if (controlSession.sendRecordingQueryBatch(
+                correlationId, projection, recordingId, isScanComplete, values, valueCount))
+            {
+                isDone = isScanComplete;
+                valueCount = 0;
+                workCount++;
+            }
+            else
+            {
+                isDone = controlSession.isDone();
+            }
+        }
+
+        return workCount;
+    }
+
+    private long nextRecordingId()
+    {
+        if (NULL_VALUE != streamId)
+        {
+            final LongArrayList recordingIds = catalog.streamIndex().recordingIds(streamId);
+            if (null != recordingIds)
+            {
+                final int index = CatalogStreamIndex.ceilingIndex(recordingIds, recordingId);
+                if (index < recordingIds.size())
+                {
+                    return recordingIds.getLong(index);
+                }
+            }
+
+            return NULL_VALUE;
+        }
+
+        final CatalogIndex catalogIndex = catalog.index();
+        final int lastPosition = catalogIndex.lastPosition();
+        final long[] index = catalogIndex.index();
+        final int position = CatalogIndex.ceilingPosition(index, recordingId, lastPosition);
+
+        return position <= lastPosition ? index[position] : NULL_VALUE;
+    }
+
+    private boolean acceptDescriptor()
+    {
+        descriptorDecoder.wrap(
+            descriptorBuffer,
+            RecordingDescriptorHeaderDecoder.BLOCK_LENGTH,
+            RecordingDescriptorDecoder.BLOCK_LENGTH,
+            RecordingDescriptorDecoder.SCHEMA_VERSION);
+
+        final long startTimestamp = descriptorDecoder.startTimestamp();
+        if (startTimestamp < minStartTimestamp || startTimestamp > maxStartTimestamp)
+        {
+            return false;
+        }
+
+        final long stopPosition = descriptorDecoder.stopPosition();
+        final boolean isActive = NULL_POSITION == stopPosition;
+        if ((RecordingActivity.ACTIVE == activity && !isActive) || (RecordingActivity.STOPPED == activity && isActive))
+        {
+            return false;
+        }
+
+        if (minLength > 0)
+        {
+            final long startPosition = descriptorDecoder.startPosition();
+            final long endPosition = isActive ?
+                controlSession.archiveConductor().recordedPosition(descriptorDecoder.recordingId()) : stopPosition;
+
+            if (NULL_POSITION == endPosition || endPosition - startPosition < minLength)
+            {
+                return false;
+            }
+        }
+
+        return Catalog.originalChannelContains(descriptorDecoder, channelFragment);
+    }
+
+    private void addValues(final long recordingId)
+    {
+        final long[] values = this.values;
+        int i = valueCount;
+
+        values[i++] = recordingId;
+        if (0 != (projection & START_TIMESTAMP))
+        {
+            values[i++] = descriptorDecoder.startTimestamp();
+        }
+        if (0 != (projection & STOP_TIMESTAMP))
+        {
+            values[i++] = descriptorDecoder.stopTimestamp();
+        }
+        if (0 != (projection & START_POSITION))
+        {
+            values[i++] = descriptorDecoder.startPosition();
+        }
+        if (0 != (projection & STOP_POSITION))
+        {
+            values[i++] = descriptorDecoder.stopPosition();
+        }
+        if (0 != (projection & STREAM_ID))
+        {
+            values[i++] = descriptorDecoder.streamId();
+        }
+        if (0 != (projection & SESSION_ID))
+        {
+            values[i++] = descriptorDecoder.sessionId();
+        }
+
+        valueCount = i;
+    }
+}
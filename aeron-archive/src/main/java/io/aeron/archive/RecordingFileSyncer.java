@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.util.function.Consumer;
+
+/**
+ * Performs the file syncs submitted by {@link RecordingWriter}s off the recorder thread so that writing blocks for
+ * one recording is not stalled waiting for the storage to acknowledge the data of another.
+ * <p>
+ * A writer has at most one sync in flight so the queue is sized by the maximum number of concurrent recordings. Each
+ * recorder has its own syncer and the counters are shared so they are accumulated rather than overwritten.
+ */
+final class RecordingFileSyncer implements Agent
+{
+    private static final int SYNC_LIMIT = 32;
+
+    private final ManyToOneConcurrentArrayQueue<RecordingWriter> syncQueue;
+    private final Counter totalSyncTimeCounter;
+    private final Counter maxSyncTimeCounter;
+    private final Counter totalForceTimeCounter;
+    private final Counter maxForceTimeCounter;
+    private final Consumer<RecordingWriter> syncHandler = this::sync;
+    private long totalSyncTimeNs;
+    private long reportedSyncTimeNs;
+    private long maxSyncTimeNs;
+    private long totalForceTimeNs;
+    private long reportedForceTimeNs;
+    private long maxForceTimeNs;
+
+    RecordingFileSyncer(final Archive.Context ctx)
+    {
+        syncQueue = new ManyToOneConcurrentArrayQueue<>(Math.max(ctx.maxConcurrentRecordings(), SYNC_LIMIT));
+        totalSyncTimeCounter = ctx.totalSyncTimeCounter();
+        maxSyncTimeCounter = ctx.maxSyncTimeCounter();
+        totalForceTimeCounter = ctx.totalForceTimeCounter();
+        maxForceTimeCounter = ctx.maxForceTimeCounter();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String roleName()
+    {
+        return "archive-file-syncer";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        final int workCount = syncQueue.drain(syncHandler, SYNC_LIMIT);
+        if (workCount > 0)
+        {
+            if (null != totalSyncTimeCounter)
+            {
+                totalSyncTimeCounter.getAndAdd(totalSyncTimeNs - reportedSyncTimeNs);
+                reportedSyncTimeNs = totalSyncTimeNs;
+            }
+
+            if (null != maxSyncTimeCounter)
+            {
+                maxSyncTimeCounter.proposeMax(maxSyncTimeNs);
+            }
+
+            if (null != totalForceTimeCounter)
+            {
+                totalForceTimeCounter.getAndAdd(totalForceTimeNs - reportedForceTimeNs);
+                reportedForceTimeNs = totalForceTimeNs;
+            }
+
+            if (null != maxForceTimeCounter)
+            {
+                maxForceTimeCounter.proposeMax(maxForceTimeNs);
+            }
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Submit a writer which has prepared a sync request.
+     *
+     * @param writer to be synced.
+     * @return true if submitted or false if the queue is full and the submit should be retried.
+     */
+    boolean submit(final RecordingWriter writer)
+    {
+        return syncQueue.offer(writer);
+    }
+
+    long totalSyncTimeNs()
+    {
+        return totalSyncTimeNs;
+    }
+
+    long maxSyncTimeNs()
+    {
+        return maxSyncTimeNs;
+    }
+
+    long totalForceTimeNs()
+    {
+        return totalForceTimeNs;
+    }
+
+    long maxForceTimeNs()
+    {
+        return maxForceTimeNs;
+    }
+
+    private void sync(final RecordingWriter writer)
+    {
+        final long syncTimeNs = writer.sync();
+        totalSyncTimeNs += syncTimeNs;
+
+        if (syncTimeNs > maxSyncTimeNs)
+        {
+            maxSyncTimeNs = syncTimeNs;
+        }
+
+        final long forceTimeNs = writer.syncForceTimeNs();
+        totalForceTimeNs += forceTimeNs;
+
+        if (forceTimeNs > maxForceTimeNs)
+        {
+            maxForceTimeNs = forceTimeNs;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+
+/**
+ * Searches the {@link RecordingTimeIndex} of a recording for the position of a timestamp one index entry per duty
+ * cycle so the conductor is not blocked by a search of a large index.
+ */
+class RecordingPositionForTimestampSession implements Session
+{
+    private final long correlationId;
+    private final long startPosition;
+    private final ControlSession controlSession;
+    private final RecordingTimeIndex.PositionSearch search;
+    private boolean isDone = false;
+
+    RecordingPositionForTimestampSession(
+        final long correlationId,
+        final File archiveDir,
+        final long recordingId,
+        final long timestamp,
+        final long startPosition,
+        final long maxPosition,
+        final ControlSession controlSession)
+    {
+        this.correlationId = correlationId;
+        this.startPosition = startPosition;
+        this.controlSession = controlSession;
+        search = new RecordingTimeIndex.PositionSearch(
+            archiveDir, recordingId, timestamp, startPosition, maxPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void abort(final String reason)
+    {
+        isDone = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isDone()
+    {
+        return isDone;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long sessionId()
+    {
+        return correlationId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        if (isDone)
+        {
+            return 0;
+        }
+
+        try
+        {
+            if (search.step())
+            {
+                final long position = search.position();
+                controlSession.sendOkResponse(correlationId, NULL_POSITION != position ? position : startPosition);
+                isDone = true;
+            }
+        }
+        catch (final IOException ex)
+        {
+            controlSession.sendErrorResponse(correlationId, "failed to search recording time index: " + ex);
+            isDone = true;
+        }
+
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        search.close();
+    }
+}
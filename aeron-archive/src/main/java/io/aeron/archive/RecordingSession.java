@@ -20,6 +20,7 @@ import io.aeron.archive.client.ArchiveException;
 import org.agrona.CloseHelper;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.CountedErrorHandler;
+import org.agrona.concurrent.NanoClock;
 
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 
@@ -47,6 +48,10 @@ class RecordingSession implements Session
     private final String originalChannel;
     private final ControlSession controlSession;
     private final CountedErrorHandler countedErrorHandler;
+    private final ArchiveConductor.Recorder recorder;
+    private final ReplicationThrottle replicationThrottle;
+    private final NanoClock nanoClock;
+    private boolean isGroupCommitPending = false;
     private State state = State.INIT;
     private String errorMessage = null;
     private int errorCode = ArchiveException.GENERIC;
@@ -63,7 +68,8 @@ class RecordingSession implements Session
         final Archive.Context ctx,
         final ControlSession controlSession,
         final boolean isAutoStop,
-        final ArchiveConductor.Recorder recorder)
+        final ArchiveConductor.Recorder recorder,
+        final ReplicationThrottle replicationThrottle)
     {
         this.correlationId = correlationId;
         this.recordingId = recordingId;
@@ -75,6 +81,9 @@ class RecordingSession implements Session
         this.isAutoStop = isAutoStop;
         this.countedErrorHandler = ctx.countedErrorHandler();
         this.progressEventPosition = image.joinPosition();
+        this.recorder = recorder;
+        this.replicationThrottle = replicationThrottle;
+        this.nanoClock = ctx.nanoClock();
 
         blockLengthLimit = Math.min(image.termBufferLength(), ctx.fileIoMaxLength());
         recordingWriter = new RecordingWriter(recordingId, startPosition, segmentLength, image, ctx, recorder);
@@ -139,6 +148,7 @@ class RecordingSession implements Session
         {
             state(State.STOPPED, "");
             recordingWriter.close();
+            updatePosition();
             workCount++;
 
             if (null != recordingEventsProxy)
@@ -165,6 +175,16 @@ class RecordingSession implements Session
         return position;
     }
 
+    long checkpointPosition()
+    {
+        return recordingWriter.checkpointPosition();
+    }
+
+    int checkpointChecksum()
+    {
+        return recordingWriter.checkpointChecksum();
+    }
+
     long recordedPosition()
     {
         if (position.isClosed())
@@ -231,20 +251,35 @@ class RecordingSession implements Session
     {
         try
         {
-            final int workCount = image.blockPoll(recordingWriter, blockLengthLimit);
-            if (workCount > 0)
+            int workCount = 0;
+            final ReplicationThrottle replicationThrottle = this.replicationThrottle;
+            if (null == replicationThrottle)
             {
-                this.position.setRelease(recordingWriter.position());
+                workCount = image.blockPoll(recordingWriter, blockLengthLimit);
             }
-            else if (image.isEndOfStream() || image.isClosed())
+            else if (!replicationThrottle.isThrottled(nanoClock.nanoTime()))
+            {
+                workCount = image.blockPoll(recordingWriter, blockLengthLimit);
+                replicationThrottle.onRecorded(workCount, nanoClock.nanoTime());
+            }
+
+            if (workCount <= 0 && (image.isEndOfStream() || image.isClosed()))
             {
                 state(State.INACTIVE, "image.isEndOfStream=" + image.isEndOfStream() +
                     ", image.isClosed=" + image.isClosed());
             }
 
+            workCount += recordingWriter.submitSync();
+            if (!isGroupCommitPending && recordingWriter.isAwaitingGroupCommit())
+            {
+                isGroupCommitPending = true;
+                recorder.addToGroupCommit(this);
+            }
+
+            final long recordedPosition = updatePosition();
+
             if (null != recordingEventsProxy)
             {
-                final long recordedPosition = recordingWriter.position();
                 if (progressEventPosition < recordedPosition)
                 {
                     if (recordingEventsProxy.progress(recordingId, image.joinPosition(), recordedPosition))
@@ -273,6 +308,43 @@ class RecordingSession implements Session
         return 1;
     }
 
+    int onGroupCommit()
+    {
+        isGroupCommitPending = false;
+        if (State.RECORDING != state)
+        {
+            return 0;
+        }
+
+        try
+        {
+            final int workCount = recordingWriter.forceSync();
+            updatePosition();
+
+            return workCount;
+        }
+        catch (final ArchiveException ex)
+        {
+            countedErrorHandler.onError(ex);
+            errorMessage = ex.getMessage();
+            errorCode = ex.errorCode();
+            state(State.INACTIVE, errorMessage);
+        }
+
+        return 1;
+    }
+
+    private long updatePosition()
+    {
+        final long recordedPosition = recordingWriter.durablePosition();
+        if (recordedPosition > position.getPlain())
+        {
+            position.setRelease(recordedPosition);
+        }
+
+        return recordedPosition;
+    }
+
     private void state(final State newState, final String reason)
     {
         logStateChange(
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.CloseHelper;
+import org.agrona.LangUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Sparse index of a recording which maps the time at which a block was recorded to its position in the recording.
+ * <p>
+ * The index is stored in a file alongside the segment files as a sequence of little endian
+ * {@code (timestamp, position)} pairs which are appended in ascending order. An entry is added for the first block
+ * recorded after each interval of bytes or of time, whichever is reached first, so the index stays small and a lookup
+ * needs only a binary search.
+ * <p>
+ * Entries are written by the recorder and may be forced to storage from the thread which syncs the recording file.
+ */
+final class RecordingTimeIndex implements AutoCloseable
+{
+    static final int ENTRY_LENGTH = SIZE_OF_LONG + SIZE_OF_LONG;
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int POSITION_OFFSET = SIZE_OF_LONG;
+
+    private final int intervalLength;
+    private final long timeIntervalMs;
+    private final ByteBuffer entryBuffer = ByteBuffer.allocateDirect(ENTRY_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    private final FileChannel fileChannel;
+    private long nextIndexPosition = NULL_POSITION;
+    private long nextIndexTimestamp = Long.MIN_VALUE;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private volatile boolean hasUnforcedEntries;
+
+    RecordingTimeIndex(
+        final File archiveDir, final long recordingId, final int intervalLength, final long timeIntervalMs)
+    {
+        this.intervalLength = intervalLength;
+        this.timeIntervalMs = timeIntervalMs;
+
+        FileChannel fileChannel = null;
+        try
+        {
+            final File file = new File(archiveDir, Archive.recordingIndexFileName(recordingId));
+            fileChannel = FileChannel.open(
+                file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        catch (final IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        this.fileChannel = fileChannel;
+    }
+
+    /**
+     * Notify the index that a block has been recorded so an entry can be added if either interval has been reached.
+     *
+     * @param position  at the start of the block in the recording.
+     * @param timestamp at which the block was recorded.
+     * @throws IOException if the entry cannot be written.
+     */
+    void onBlock(final long position, final long timestamp) throws IOException
+    {
+        if (position >= nextIndexPosition || timestamp >= nextIndexTimestamp)
+        {
+            lastTimestamp = Math.max(lastTimestamp, timestamp);
+            nextIndexPosition = intervalLength > 0 ? position + intervalLength : Long.MAX_VALUE;
+            nextIndexTimestamp = timeIntervalMs > 0 ? lastTimestamp + timeIntervalMs : Long.MAX_VALUE;
+
+            final ByteBuffer entryBuffer = this.entryBuffer;
+            entryBuffer.clear();
+            entryBuffer.putLong(TIMESTAMP_OFFSET, lastTimestamp).putLong(POSITION_OFFSET, position);
+
+            do
+            {
+                fileChannel.write(entryBuffer);
+            }
+            while (entryBuffer.remaining() > 0);
+
+            hasUnforcedEntries = true;
+        }
+    }
+
+    /**
+     * Force the entries added since the last force to storage. May be called from a thread other than the one
+     * adding entries.
+     *
+     * @param forceMetadata as for {@link FileChannel#force(boolean)}.
+     * @throws IOException if the index cannot be forced.
+     */
+    void force(final boolean forceMetadata) throws IOException
+    {
+        if (hasUnforcedEntries)
+        {
+            hasUnforcedEntries = false;
+            fileChannel.force(forceMetadata);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.close(fileChannel);
+    }
+
+    /**
+     * Find the position in a recording from which a replay should begin to include everything recorded at or after
+     * a given time.
+     *
+     * @param archiveDir  containing the recording files.
+     * @param recordingId of the recording.
+     * @param timestamp   to search for.
+     * @param minPosition below which entries are ignored, typically the start position of the recording.
+     * @param maxPosition above which entries are ignored, typically the stop or recorded position.
+     * @return the position of the latest entry recorded at or before {@code timestamp} within the position range,
+     * or {@link io.aeron.archive.client.AeronArchive#NULL_POSITION} if no index or entry exists.
+     * @see PositionSearch
+     */
+    static long findPosition(
+        final File archiveDir,
+        final long recordingId,
+        final long timestamp,
+        final long minPosition,
+        final long maxPosition)
+    {
+        try (PositionSearch search = new PositionSearch(archiveDir, recordingId, timestamp, minPosition, maxPosition))
+        {
+            boolean isDone = false;
+            while (!isDone)
+            {
+                isDone = search.step();
+            }
+
+            return search.position();
+        }
+        catch (final IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return NULL_POSITION;
+    }
+
+    /**
+     * Remove the entries for positions at or beyond a position after a recording has been truncated so the index
+     * stays in ascending order of position when the recording is extended.
+     * <p>
+     * The recording must not be active.
+     *
+     * @param archiveDir  containing the recording files.
+     * @param recordingId of the recording.
+     * @param position    to which the recording was truncated.
+     * @throws IOException if the index cannot be truncated.
+     */
+    static void removeEntriesFrom(final File archiveDir, final long recordingId, final long position)
+        throws IOException
+    {
+        final File file = new File(archiveDir, Archive.recordingIndexFileName(recordingId));
+        if (!file.exists())
+        {
+            return;
+        }
+
+        final long retainedLength;
+        try (FileChannel fileChannel = FileChannel.open(
+            file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            retainedLength = firstEntryAtOrAfter(fileChannel, position) * ENTRY_LENGTH;
+            if (retainedLength < fileChannel.size())
+            {
+                fileChannel.truncate(retainedLength);
+            }
+        }
+
+        if (0 == retainedLength)
+        {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * Remove the entries for positions before the start position of a recording after its leading segments have
+     * been detached or deleted.
+     * <p>
+     * The remaining entries are copied to a new file which replaces the index, so the recording must not be active.
+     *
+     * @param archiveDir       containing the recording files.
+     * @param recordingId      of the recording.
+     * @param newStartPosition of the recording.
+     * @throws IOException if the index cannot be rewritten.
+     */
+    static void removeEntriesBefore(final File archiveDir, final long recordingId, final long newStartPosition)
+        throws IOException
+    {
+        final File file = new File(archiveDir, Archive.recordingIndexFileName(recordingId));
+        if (!file.exists())
+        {
+            return;
+        }
+
+        final File tmpFile = new File(archiveDir, Archive.recordingIndexFileName(recordingId) + ".tmp");
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            final long fileLength = fileChannel.size() - (fileChannel.size() % ENTRY_LENGTH);
+            final long removedLength = firstEntryAtOrAfter(fileChannel, newStartPosition) * ENTRY_LENGTH;
+            if (0 == removedLength)
+            {
+                return;
+            }
+
+            if (removedLength < fileLength)
+            {
+                try (FileChannel tmpChannel = FileChannel.open(
+                    tmpFile.toPath(),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING))
+                {
+                    long transferred = 0;
+                    while (transferred < fileLength - removedLength)
+                    {
+                        transferred += fileChannel.transferTo(
+                            removedLength + transferred, fileLength - removedLength - transferred, tmpChannel);
+                    }
+                }
+            }
+        }
+
+        if (tmpFile.exists())
+        {
+            Files.move(
+                tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        else
+        {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    static long readEntry(final FileChannel fileChannel, final ByteBuffer entryBuffer, final long index)
+        throws IOException
+    {
+        entryBuffer.clear();
+        final long fileOffset = index * ENTRY_LENGTH;
+        do
+        {
+            if (fileChannel.read(entryBuffer, fileOffset + entryBuffer.position()) < 0)
+            {
+                break;
+            }
+        }
+        while (entryBuffer.remaining() > 0);
+
+        return entryBuffer.getLong(TIMESTAMP_OFFSET);
+    }
+
+    private static long firstEntryAtOrAfter(final FileChannel fileChannel, final long position) throws IOException
+    {
+        final ByteBuffer entryBuffer = ByteBuffer.allocate(ENTRY_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        long low = 0;
+        long high = fileChannel.size() / ENTRY_LENGTH;
+        while (low < high)
+        {
+            final long mid = (low + high) >>> 1;
+            readEntry(fileChannel, entryBuffer, mid);
+            if (entryBuffer.getLong(POSITION_OFFSET) < position)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Incremental binary search of the index for the latest entry recorded at or before a timestamp within a range
+     * of positions. Each {@link #step()} reads a single entry so the search can be spread over duty cycles.
+     * <p>
+     * Both timestamps and positions ascend in the index, so the entries which qualify on timestamp and maximum
+     * position form a prefix and the answer is the last entry of that prefix if it is not below the minimum position.
+     */
+    static final class PositionSearch implements AutoCloseable
+    {
+        private final ByteBuffer entryBuffer = ByteBuffer.allocate(ENTRY_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        private final File file;
+        private final long timestamp;
+        private final long minPosition;
+        private final long maxPosition;
+        private FileChannel fileChannel;
+        private long low;
+        private long high = -1;
+        private long foundPosition = NULL_POSITION;
+        private boolean isDone;
+
+        PositionSearch(
+            final File archiveDir,
+            final long recordingId,
+            final long timestamp,
+            final long minPosition,
+            final long maxPosition)
+        {
+            this.file = new File(archiveDir, Archive.recordingIndexFileName(recordingId));
+            this.timestamp = timestamp;
+            this.minPosition = minPosition;
+            this.maxPosition = maxPosition;
+        }
+
+        /**
+         * Perform the next step of the search.
+         *
+         * @return true if the search is complete.
+         * @throws IOException if the index cannot be read.
+         */
+        boolean step() throws IOException
+        {
+            if (isDone)
+            {
+                return true;
+            }
+
+            if (null == fileChannel)
+            {
+                if (!file.exists())
+                {
+                    isDone = true;
+                    return true;
+                }
+
+                fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                high = fileChannel.size() / ENTRY_LENGTH - 1;
+            }
+
+            if (low <= high)
+            {
+                final long mid = (low + high) >>> 1;
+                final long entryTimestamp = readEntry(fileChannel, entryBuffer, mid);
+                final long entryPosition = entryBuffer.getLong(POSITION_OFFSET);
+                if (entryTimestamp <= timestamp && entryPosition <= maxPosition)
+                {
+                    foundPosition = entryPosition;
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid - 1;
+                }
+            }
+
+            if (low > high)
+            {
+                if (foundPosition < minPosition)
+                {
+                    foundPosition = NULL_POSITION;
+                }
+                isDone = true;
+                close();
+            }
+
+            return isDone;
+        }
+
+        /**
+         * Position found by the search once complete.
+         *
+         * @return position found or {@link io.aeron.archive.client.AeronArchive#NULL_POSITION} if none qualifies.
+         */
+        long position()
+        {
+            return foundPosition;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void close()
+        {
+            CloseHelper.close(fileChannel);
+            fileChannel = null;
+        }
+    }
+}
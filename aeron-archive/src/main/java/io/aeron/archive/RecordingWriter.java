@@ -17,6 +17,7 @@ package io.aeron.archive;
 
 import io.aeron.Image;
 import io.aeron.archive.checksum.Checksum;
+import io.aeron.archive.checksum.Checksums;
 import io.aeron.archive.client.ArchiveException;
 import io.aeron.exceptions.StorageSpaceException;
 import io.aeron.logbuffer.BlockHandler;
@@ -32,12 +33,15 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.archive.client.AeronArchive.segmentFileBasePosition;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
-import static org.agrona.BitUtil.align;
 
 /**
  * Responsible for writing out a recording into the file system. A recording has descriptor file and a set of data files
@@ -49,6 +53,12 @@ import static org.agrona.BitUtil.align;
  * <li>Easier testing and in particular simplified re-use in testing.</li>
  * <li>Isolation of an external relationship, namely the file system.</li>
  * </ul>
+ * <p>
+ * When a {@link RecordingFileSyncer} is provided the syncs required by the file sync level are not performed inline
+ * with each write. Instead, {@link #submitSync()} hands the current position to the syncer, which calls
+ * {@link #sync()} on its own thread, and {@link #durablePosition()} only advances once that sync has completed.
+ * Similarly, with a group commit window the recorder calls {@link #forceSync()} for all recordings with unsynced data
+ * once per window.
  */
 final class RecordingWriter implements BlockHandler, AutoCloseable
 {
@@ -65,10 +75,30 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
     private final Archive.Context ctx;
 
     private final ArchiveConductor.Recorder recorder;
+    private final CRC32 frameHeaderCrc32 = new CRC32();
+    private final RecordingFileSyncer fileSyncer;
+    private final boolean isGroupCommit;
+    private final boolean isSyncDeferred;
 
     private long segmentBasePosition;
     private int segmentOffset;
     private FileChannel recordingFileChannel;
+    private RecordingTimeIndex timeIndex;
+
+    private long forcedPosition;
+    private FileChannel syncFileChannel;
+    private long syncPosition;
+    private long syncSubmitTimeNs;
+    private long syncForceTimeNs;
+    private volatile boolean isSyncInFlight = false;
+    private volatile long syncedPosition;
+    private volatile IOException syncException;
+    private long lastBlockPosition = NULL_POSITION;
+    private int lastBlockChecksum;
+    private long syncCheckpointPosition = NULL_POSITION;
+    private int syncCheckpointChecksum;
+    private volatile long checkpointPosition = NULL_POSITION;
+    private volatile int checkpointChecksum;
 
     private boolean isClosed = false;
 
@@ -89,7 +119,8 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         forceMetadata = ctx.fileSyncLevel() > 1;
 
         countedErrorHandler = ctx.countedErrorHandler();
-        checksumBuffer = ctx.recordChecksumBuffer();
+        final UnsafeBuffer recorderChecksumBuffer = null != recorder ? recorder.checksumBuffer() : null;
+        checksumBuffer = null != recorderChecksumBuffer ? recorderChecksumBuffer : ctx.recordChecksumBuffer();
         checksum = ctx.recordChecksum();
         nanoClock = ctx.nanoClock();
         this.ctx = ctx;
@@ -99,6 +130,12 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         final long joinPosition = image.joinPosition();
         segmentBasePosition = segmentFileBasePosition(startPosition, joinPosition, termLength, segmentLength);
         segmentOffset = (int)(joinPosition - segmentBasePosition);
+
+        fileSyncer = forceWrites && null != recorder ? recorder.fileSyncer() : null;
+        isGroupCommit = forceWrites && null == fileSyncer && ctx.isFileSyncGroupCommit();
+        isSyncDeferred = null != fileSyncer || isGroupCommit;
+        forcedPosition = joinPosition;
+        syncedPosition = joinPosition;
     }
 
     /**
@@ -122,10 +159,11 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
             else
             {
                 checksumBuffer.putBytes(0, termBuffer, termOffset, dataLength);
-                computeChecksum(checksum, checksumBuffer, dataLength);
+                Checksums.computeFrameChecksums(checksum, checksumBuffer, 0, dataLength);
                 byteBuffer = checksumBuffer.byteBuffer();
                 byteBuffer.limit(dataLength).position(0);
             }
+            lastBlockChecksum = frameHeaderChecksum(byteBuffer);
 
             int fileOffset = segmentOffset;
             do
@@ -134,7 +172,7 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
             }
             while (byteBuffer.remaining() > 0);
 
-            if (forceWrites)
+            if (forceWrites && !isSyncDeferred)
             {
                 recordingFileChannel.force(forceMetadata);
             }
@@ -143,6 +181,22 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
             recorder.bytesWritten(dataLength);
             recorder.writeTimeNs(writeTimeNs);
 
+            final long blockPosition = segmentBasePosition + segmentOffset;
+            if (null != timeIndex)
+            {
+                timeIndex.onBlock(blockPosition, ctx.epochClock().time());
+                if (forceWrites && !isSyncDeferred)
+                {
+                    timeIndex.force(forceMetadata);
+                }
+            }
+
+            lastBlockPosition = blockPosition;
+            if (!isSyncDeferred)
+            {
+                publishCheckpoint(blockPosition, lastBlockChecksum);
+            }
+
             segmentOffset += length;
             if (segmentOffset >= segmentLength)
             {
@@ -151,17 +205,17 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         }
         catch (final ClosedByInterruptException ex)
         {
-            close();
+            closeResources();
             throw new ArchiveException("file closed by interrupt, recording aborted", ex, ArchiveException.GENERIC);
         }
         catch (final IOException ex)
         {
-            close();
+            closeResources();
             checkErrorType(ex, length);
         }
         catch (final Exception ex)
         {
-            close();
+            closeResources();
             LangUtil.rethrowUnchecked(ex);
         }
     }
@@ -171,11 +225,21 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
      */
     public void close()
     {
-        if (!isClosed)
+        if (!isClosed && isSyncDeferred && null != recordingFileChannel && null == syncException)
         {
-            isClosed = true;
-            CloseHelper.close(countedErrorHandler, recordingFileChannel);
+            try
+            {
+                recordingFileChannel.force(forceMetadata);
+                forceTimeIndex();
+                forcedPosition = position();
+            }
+            catch (final IOException ex)
+            {
+                countedErrorHandler.onError(ex);
+            }
         }
+
+        closeResources();
     }
 
     long position()
@@ -183,6 +247,175 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         return segmentBasePosition + segmentOffset;
     }
 
+    /**
+     * Position of the start of the last block covered by the {@link #durablePosition()}, which is always the start
+     * of a frame, for use as a recovery checkpoint. The block has been forced to storage when the file sync level
+     * requires it, otherwise it has only been written. May be read from another thread along with
+     * {@link #checkpointChecksum()} and is re-read after the checksum to detect a concurrent update.
+     *
+     * @return position of the checkpoint or {@link io.aeron.archive.client.AeronArchive#NULL_POSITION} if none.
+     */
+    long checkpointPosition()
+    {
+        return checkpointPosition;
+    }
+
+    /**
+     * Checksum of the header of the frame at the {@link #checkpointPosition()} as computed by
+     * {@link Catalog#checkpointChecksum(ByteBuffer)}.
+     *
+     * @return checksum of the header of the frame at the checkpoint.
+     */
+    int checkpointChecksum()
+    {
+        return checkpointChecksum;
+    }
+
+    /**
+     * Position up to which the recording has been synced to storage as required by the file sync level.
+     *
+     * @return the position up to which the recording is durable.
+     */
+    long durablePosition()
+    {
+        return !isSyncDeferred ? position() : Math.max(syncedPosition, forcedPosition);
+    }
+
+    /**
+     * Has data been written which is waiting for a group commit to sync it.
+     *
+     * @return true if data has been written which is waiting for a group commit to sync it.
+     */
+    boolean isAwaitingGroupCommit()
+    {
+        return isGroupCommit && !isClosed && position() > forcedPosition;
+    }
+
+    /**
+     * Sync the recording file on the calling thread if data has been written since it was last synced.
+     *
+     * @return 1 if the file was synced otherwise 0.
+     * @throws ArchiveException if the sync fails.
+     */
+    int forceSync()
+    {
+        if (!isSyncDeferred || isClosed)
+        {
+            return 0;
+        }
+
+        final long position = position();
+        if (position <= durablePosition())
+        {
+            return 0;
+        }
+
+        try
+        {
+            recordingFileChannel.force(forceMetadata);
+            forceTimeIndex();
+            forcedPosition = position;
+            publishCheckpoint(lastBlockPosition, lastBlockChecksum);
+        }
+        catch (final IOException ex)
+        {
+            closeResources();
+            throw new ArchiveException("java.io.IOException - " + ex.getMessage(), ex, ArchiveException.GENERIC);
+        }
+
+        return 1;
+    }
+
+    /**
+     * Submit a sync of the recording file to the {@link RecordingFileSyncer} if data has been written since the
+     * last sync and no sync is in flight.
+     *
+     * @return 1 if a sync was submitted otherwise 0.
+     * @throws ArchiveException if a previously submitted sync has failed.
+     */
+    int submitSync()
+    {
+        if (null == fileSyncer || isSyncInFlight)
+        {
+            return 0;
+        }
+
+        final IOException syncException = this.syncException;
+        if (null != syncException)
+        {
+            closeResources();
+            throw new ArchiveException(
+                "java.io.IOException - " + syncException.getMessage(), syncException, ArchiveException.GENERIC);
+        }
+
+        final long position = position();
+        if (isClosed || position <= durablePosition())
+        {
+            return 0;
+        }
+
+        syncFileChannel = recordingFileChannel;
+        syncPosition = position;
+        syncCheckpointPosition = lastBlockPosition;
+        syncCheckpointChecksum = lastBlockChecksum;
+        syncSubmitTimeNs = nanoClock.nanoTime();
+        isSyncInFlight = true;
+
+        if (!fileSyncer.submit(this))
+        {
+            isSyncInFlight = false;
+            return 0;
+        }
+
+        return 1;
+    }
+
+    /**
+     * Perform a submitted sync. Called on the {@link RecordingFileSyncer} thread.
+     *
+     * @return time in nanoseconds from the sync being submitted to the durable position being updated.
+     * @see #syncForceTimeNs()
+     */
+    long sync()
+    {
+        syncForceTimeNs = 0;
+        try
+        {
+            final long forceStartNs = nanoClock.nanoTime();
+            syncFileChannel.force(forceMetadata);
+            forceTimeIndex();
+            syncForceTimeNs = nanoClock.nanoTime() - forceStartNs;
+            syncedPosition = syncPosition;
+            publishCheckpoint(syncCheckpointPosition, syncCheckpointChecksum);
+        }
+        catch (final ClosedChannelException ignore)
+        {
+            // file was forced by the recorder before being closed on roll over or close
+        }
+        catch (final IOException ex)
+        {
+            syncException = ex;
+        }
+        finally
+        {
+            syncFileChannel = null;
+            isSyncInFlight = false;
+        }
+
+        return nanoClock.nanoTime() - syncSubmitTimeNs;
+    }
+
+    /**
+     * Time in nanoseconds taken by the force of the last {@link #sync()}, excluding the time the request was queued.
+     * Called on the {@link RecordingFileSyncer} thread.
+     *
+     * @return time in nanoseconds taken by the force of the last sync.
+     */
+    long syncForceTimeNs()
+    {
+        return syncForceTimeNs;
+    }
+
     void init() throws IOException
     {
         openRecordingSegmentFile(new File(archiveDir, Archive.segmentFileName(recordingId, segmentBasePosition)));
@@ -191,20 +424,22 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         {
             recordingFileChannel.position(segmentOffset);
         }
+
+        final int recordingIndexInterval = ctx.recordingIndexInterval();
+        final long recordingIndexTimeIntervalNs = ctx.recordingIndexTimeIntervalNs();
+        if (recordingIndexInterval > 0 || recordingIndexTimeIntervalNs > 0)
+        {
+            final long timeIntervalMs = recordingIndexTimeIntervalNs > 0 ?
+                Math.max(1, TimeUnit.NANOSECONDS.toMillis(recordingIndexTimeIntervalNs)) : 0;
+            timeIndex = new RecordingTimeIndex(archiveDir, recordingId, recordingIndexInterval, timeIntervalMs);
+        }
     }
 
-    private void computeChecksum(final Checksum checksum, final UnsafeBuffer buffer, final int length)
+    private void forceTimeIndex() throws IOException
     {
-        final long address = buffer.addressOffset();
-        int frameOffset = 0;
-
-        while (frameOffset < length)
+        if (null != timeIndex)
         {
-            final int alignedLength = align(frameLength(buffer, frameOffset), FRAME_ALIGNMENT);
-            final int computedChecksum = checksum.compute(
-                address, frameOffset + HEADER_LENGTH, alignedLength - HEADER_LENGTH);
-            frameSessionId(buffer, frameOffset, computedChecksum);
-            frameOffset += alignedLength;
+            timeIndex.force(forceMetadata);
         }
     }
 
@@ -224,13 +459,20 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         catch (final IOException ex)
         {
             CloseHelper.close(recordingFile);
-            close();
+            closeResources();
             LangUtil.rethrowUnchecked(ex);
         }
     }
 
-    private void onFileRollOver()
+    private void onFileRollOver() throws IOException
     {
+        if (isSyncDeferred)
+        {
+            recordingFileChannel.force(forceMetadata);
+            forcedPosition = position();
+            publishCheckpoint(lastBlockPosition, lastBlockChecksum);
+        }
+
         CloseHelper.close(recordingFileChannel);
         segmentOffset = 0;
         segmentBasePosition += segmentLength;
@@ -244,6 +486,35 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         openRecordingSegmentFile(file);
     }
 
+    private int frameHeaderChecksum(final ByteBuffer byteBuffer)
+    {
+        final int position = byteBuffer.position();
+        final int limit = byteBuffer.limit();
+
+        frameHeaderCrc32.reset();
+        frameHeaderCrc32.update(byteBuffer.limit(Math.min(limit, position + HEADER_LENGTH)));
+        byteBuffer.limit(limit).position(position);
+
+        return (int)frameHeaderCrc32.getValue();
+    }
+
+    private void publishCheckpoint(final long position, final int checksum)
+    {
+        checkpointPosition = NULL_POSITION;
+        checkpointChecksum = checksum;
+        checkpointPosition = position;
+    }
+
+    private void closeResources()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            CloseHelper.close(countedErrorHandler, recordingFileChannel);
+            CloseHelper.close(countedErrorHandler, timeIndex);
+        }
+    }
+
     private void checkErrorType(final IOException ex, final int writeLength)
     {
         boolean isLowStorageSpace = false;
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Aeron;
+import io.aeron.Counter;
+import org.agrona.collections.Long2LongCounterMap;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Cache of recently read blocks of recordings shared by the replay sessions of a replayer so concurrent replays of the
+ * same recording at around the same position read each block from the segment file once.
+ * <p>
+ * Blocks are {@link #BLOCK_LENGTH} and aligned within a segment so they never span a term. The least recently used
+ * block is evicted on a miss when the cache is full. Blocks of an active recording are only cached up to what the
+ * session reading them knows to be recorded, and are read again when a session needs more of the block.
+ * <p>
+ * Sessions acquire a recording when they start replaying and release it when they are done. The blocks of a recording
+ * are dropped when it is no longer being replayed so a recording can not be truncated and extended while its blocks
+ * are cached.
+ * <p>
+ * <b>Note:</b> not threadsafe and must only be used from the thread of the replayer which owns it.
+ */
+final class ReplayReadCache
+{
+    /**
+     * Length of the blocks which are cached. A term is always a multiple of this length.
+     */
+    static final int BLOCK_LENGTH = TERM_MIN_LENGTH;
+
+    private final int blockCount;
+    private final UnsafeBuffer cacheBuffer;
+    private final ByteBuffer readBuffer;
+    private final long[] blockRecordingIds;
+    private final long[] blockPositions;
+    private final int[] blockLengths;
+    private final long[] blockLastUsed;
+    private final Long2ObjectHashMap<Long2LongHashMap> blockIndexByRecordingId = new Long2ObjectHashMap<>();
+    private final Long2LongCounterMap sessionCountByRecordingId = new Long2LongCounterMap(0);
+    private final Counter hitBytesCounter;
+    private final Counter missBytesCounter;
+    private long useCount;
+
+    ReplayReadCache(final int cacheLength, final Counter hitBytesCounter, final Counter missBytesCounter)
+    {
+        blockCount = Math.max(1, cacheLength / BLOCK_LENGTH);
+        readBuffer = allocateDirectAligned(blockCount * BLOCK_LENGTH, CACHE_LINE_LENGTH);
+        cacheBuffer = new UnsafeBuffer(readBuffer);
+        blockRecordingIds = new long[blockCount];
+        blockPositions = new long[blockCount];
+        blockLengths = new int[blockCount];
+        blockLastUsed = new long[blockCount];
+        Arrays.fill(blockRecordingIds, Aeron.NULL_VALUE);
+
+        this.hitBytesCounter = hitBytesCounter;
+        this.missBytesCounter = missBytesCounter;
+    }
+
+    /**
+     * Register a session which will replay a recording.
+     *
+     * @param recordingId to be replayed.
+     */
+    void acquire(final long recordingId)
+    {
+        sessionCountByRecordingId.incrementAndGet(recordingId);
+    }
+
+    /**
+     * Deregister a session which has finished replaying a recording and drop the blocks of the recording if it was
+     * the last.
+     *
+     * @param recordingId which was replayed.
+     */
+    void release(final long recordingId)
+    {
+        if (0 == sessionCountByRecordingId.decrementAndGet(recordingId))
+        {
+            final Long2LongHashMap blockIndexByPosition = blockIndexByRecordingId.remove(recordingId);
+            if (null != blockIndexByPosition)
+            {
+                final Long2LongHashMap.ValueIterator iterator = blockIndexByPosition.values().iterator();
+                while (iterator.hasNext())
+                {
+                    final int blockIndex = (int)iterator.nextValue();
+                    blockRecordingIds[blockIndex] = Aeron.NULL_VALUE;
+                    blockLengths[blockIndex] = 0;
+                    blockLastUsed[blockIndex] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a range of a segment file into a buffer from the cache, reading the blocks which are not cached from the
+     * file.
+     *
+     * @param recordingId         of the segment.
+     * @param segmentBasePosition of the segment in the recording.
+     * @param segmentOffset       at which the range starts.
+     * @param length              of the range which must not span a term.
+     * @param recordedLimit       offset in the segment up to which the recording is known to have been recorded.
+     * @param fileChannel         for the segment file.
+     * @param dstBuffer           into which the range is copied.
+     * @throws IOException if a block can not be read from the segment file.
+     */
+    void read(
+        final long recordingId,
+        final long segmentBasePosition,
+        final int segmentOffset,
+        final int length,
+        final int recordedLimit,
+        final FileChannel fileChannel,
+        final UnsafeBuffer dstBuffer) throws IOException
+    {
+        Long2LongHashMap blockIndexByPosition = blockIndexByRecordingId.get(recordingId);
+        if (null == blockIndexByPosition)
+        {
+            blockIndexByPosition = new Long2LongHashMap(Aeron.NULL_VALUE);
+            blockIndexByRecordingId.put(recordingId, blockIndexByPosition);
+        }
+
+        long hitBytes = 0;
+        long missBytes = 0;
+        int dstOffset = 0;
+
+        while (dstOffset < length)
+        {
+            final int offset = segmentOffset + dstOffset;
+            final int blockOffset = offset & -BLOCK_LENGTH;
+            final int bytes = Math.min(length - dstOffset, blockOffset + BLOCK_LENGTH - offset);
+            final long blockPosition = segmentBasePosition + blockOffset;
+
+            int blockIndex = (int)blockIndexByPosition.get(blockPosition);
+            if (Aeron.NULL_VALUE != blockIndex && blockLengths[blockIndex] >= offset + bytes - blockOffset)
+            {
+                hitBytes += bytes;
+            }
+            else
+            {
+                if (Aeron.NULL_VALUE == blockIndex)
+                {
+                    blockIndex = evictLeastRecentlyUsed();
+                    blockRecordingIds[blockIndex] = recordingId;
+                    blockPositions[blockIndex] = blockPosition;
+                    blockIndexByPosition.put(blockPosition, blockIndex);
+                }
+
+                final int blockLength = Math.max(offset + bytes, Math.min(recordedLimit, blockOffset + BLOCK_LENGTH));
+                missBytes += readBlock(fileChannel, blockIndex, blockOffset, blockLength - blockOffset);
+            }
+
+            blockLastUsed[blockIndex] = ++useCount;
+            dstBuffer.putBytes(dstOffset, cacheBuffer, (blockIndex * BLOCK_LENGTH) + (offset - blockOffset), bytes);
+            dstOffset += bytes;
+        }
+
+        if (hitBytes > 0)
+        {
+            hitBytesCounter.getAndAdd(hitBytes);
+        }
+
+        if (missBytes > 0)
+        {
+            missBytesCounter.getAndAdd(missBytes);
+        }
+    }
+
+    int blockCount()
+    {
+        return blockCount;
+    }
+
+    int cachedBlockCount(final long recordingId)
+    {
+        final Long2LongHashMap blockIndexByPosition = blockIndexByRecordingId.get(recordingId);
+        return null == blockIndexByPosition ? 0 : blockIndexByPosition.size();
+    }
+
+    private int readBlock(final FileChannel fileChannel, final int blockIndex, final int blockOffset, final int length)
+        throws IOException
+    {
+        final int cacheOffset = blockIndex * BLOCK_LENGTH;
+        readBuffer.clear().limit(cacheOffset + length).position(cacheOffset);
+
+        int bytesRead = 0;
+        while (readBuffer.hasRemaining())
+        {
+            final int read = fileChannel.read(readBuffer, blockOffset + bytesRead);
+            if (read <= 0)
+            {
+                break;
+            }
+
+            bytesRead += read;
+        }
+
+        if (bytesRead < length)
+        {
+            cacheBuffer.setMemory(cacheOffset + bytesRead, length - bytesRead, (byte)0);
+        }
+
+        blockLengths[blockIndex] = bytesRead;
+
+        return bytesRead;
+    }
+
+    private int evictLeastRecentlyUsed()
+    {
+        int blockIndex = 0;
+        for (int i = 0; i < blockCount; i++)
+        {
+            if (Aeron.NULL_VALUE == blockRecordingIds[i])
+            {
+                return i;
+            }
+
+            if (blockLastUsed[i] < blockLastUsed[blockIndex])
+            {
+                blockIndex = i;
+            }
+        }
+
+        final Long2LongHashMap blockIndexByPosition = blockIndexByRecordingId.get(blockRecordingIds[blockIndex]);
+        if (null != blockIndexByPosition)
+        {
+            blockIndexByPosition.remove(blockPositions[blockIndex]);
+        }
+
+        blockLengths[blockIndex] = 0;
+
+        return blockIndex;
+    }
+}
@@ -23,6 +23,7 @@ import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ArchiveException;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.CountedErrorHandler;
@@ -33,16 +34,18 @@ import org.agrona.concurrent.status.CountersReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.file.StandardOpenOption;
-import java.util.EnumSet;
+import java.nio.file.NoSuchFileException;
 
+import static io.aeron.archive.Archive.segmentFile;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.*;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
-import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static org.agrona.BitUtil.align;
 
 /**
@@ -68,8 +71,6 @@ class ReplaySession implements Session, AutoCloseable
         INIT, REPLAY, INACTIVE, DONE
     }
 
-    private static final EnumSet<StandardOpenOption> FILE_OPTIONS = EnumSet.of(READ);
-
     private final long connectDeadlineMs;
     private final long correlationId;
     private final long sessionId;
@@ -95,10 +96,21 @@ class ReplaySession implements Session, AutoCloseable
     private final NanoClock nanoClock;
     final ArchiveConductor.Replayer replayer;
     private final File archiveDir;
+    private final File coldDir;
     private final CountersReader countersReader;
     private final Counter limitPosition;
     private final UnsafeBuffer replayBuffer;
+    private final ReplayReadCache readCache;
+    private boolean isReadCacheAcquired;
     private FileChannel fileChannel;
+    private MappedByteBuffer mappedSegment;
+    private final UnsafeBuffer mappedSegmentBuffer;
+    private final int readAheadLength;
+    private final SegmentPrefetcher.ReadAhead readAhead;
+    private int readAheadLimit;
+    private final SegmentPrefetcher segmentPrefetcher;
+    private final int segmentPrefetchThreshold;
+    private SegmentPrefetcher.Prefetch segmentPrefetch;
     private File segmentFile;
     private State state = State.INIT;
     private String errorMessage = null;
@@ -137,6 +149,7 @@ class ReplaySession implements Session, AutoCloseable
         this.epochClock = epochClock;
         this.nanoClock = nanoClock;
         this.archiveDir = archiveDir;
+        this.coldDir = controlSession.archiveConductor().context().coldDir();
         this.publication = publication;
         this.countersReader = countersReader;
         this.limitPosition = replayLimitPosition;
@@ -146,13 +159,22 @@ class ReplaySession implements Session, AutoCloseable
         this.startPosition = startPosition;
         this.stopPosition = stopPosition;
         this.replayer = replayer;
+        this.readCache = replayer.readCache();
+        this.mappedSegmentBuffer = controlSession.archiveConductor().context().replayMapSegmentFiles() ?
+            new UnsafeBuffer(0, 0) : null;
+        this.readAheadLength = null != mappedSegmentBuffer ?
+            controlSession.archiveConductor().context().replayReadAheadLength() : 0;
+        this.segmentPrefetcher = replayer.segmentPrefetcher();
+        this.readAhead = readAheadLength > 0 && null != segmentPrefetcher ? new SegmentPrefetcher.ReadAhead() : null;
+        final int segmentPrefetchLength = controlSession.archiveConductor().context().replaySegmentPrefetchLength();
+        this.segmentPrefetchThreshold = segmentPrefetchLength > 0 ? max(termBufferLength, segmentPrefetchLength) : 0;
 
         segmentFileBasePosition = AeronArchive.segmentFileBasePosition(
             startPosition, replayPosition, termLength, segmentLength);
         this.replayPosition = replayPosition;
         replayLimit = replayPosition + replayLength;
 
-        segmentFile = new File(archiveDir, segmentFileName(recordingId, segmentFileBasePosition));
+        segmentFile = segmentFile(archiveDir, coldDir, segmentFileName(recordingId, segmentFileBasePosition));
         connectDeadlineMs = epochClock.time() + connectTimeoutMs;
     }
 
@@ -163,6 +185,8 @@ class ReplaySession implements Session, AutoCloseable
     {
         final CountedErrorHandler errorHandler = controlSession.archiveConductor().context().countedErrorHandler();
         CloseHelper.close(errorHandler, publication);
+        cancelSegmentPrefetch();
+        unmapRecordingSegment();
         CloseHelper.close(errorHandler, fileChannel);
     }
 
@@ -207,6 +231,12 @@ class ReplaySession implements Session, AutoCloseable
         if (State.INACTIVE == state)
         {
             closeRecordingSegment();
+            cancelSegmentPrefetch();
+            if (isReadCacheAcquired)
+            {
+                isReadCacheAcquired = false;
+                readCache.release(recordingId);
+            }
             state(State.DONE, "");
         }
 
@@ -290,9 +320,15 @@ class ReplaySession implements Session, AutoCloseable
                     replayPosition, publication.positionBitsToShift(), publication.initialTermId());
 
                 openRecordingSegment();
+                if (null != readCache)
+                {
+                    readCache.acquire(recordingId);
+                    isReadCacheAcquired = true;
+                }
 
                 termOffset = (int)(replayPosition & (termLength - 1));
                 termBaseSegmentOffset = segmentOffset - termOffset;
+                prefetchNextSegment();
 
                 if (replayPosition > startPosition && replayPosition != stopPosition)
                 {
@@ -468,6 +504,39 @@ class ReplaySession implements Session, AutoCloseable
     private int readRecording(final long availableReplay) throws IOException
     {
         final int limit = min((int)min(availableReplay, replayBuffer.capacity()), termLength - termOffset);
+        if (null != mappedSegment)
+        {
+            final int segmentOffset = termBaseSegmentOffset + termOffset;
+            final int length = max(0, min(limit, mappedSegmentBuffer.capacity() - segmentOffset));
+            if (null != readAhead)
+            {
+                readAhead(segmentOffset);
+            }
+
+            replayBuffer.putBytes(0, mappedSegmentBuffer, segmentOffset, length);
+            if (length < limit)
+            {
+                replayBuffer.setMemory(length, limit - length, (byte)0);
+            }
+
+            return limit;
+        }
+
+        if (null != readCache)
+        {
+            final int recordedLimit = (int)min(segmentLength, stopPosition - segmentFileBasePosition);
+            readCache.read(
+                recordingId,
+                segmentFileBasePosition,
+                termBaseSegmentOffset + termOffset,
+                limit,
+                recordedLimit,
+                fileChannel,
+                replayBuffer);
+
+            return limit;
+        }
+
         final ByteBuffer byteBuffer = replayBuffer.byteBuffer();
         byteBuffer.clear().limit(limit);
 
@@ -487,6 +556,21 @@ class ReplaySession implements Session, AutoCloseable
         return limit;
     }
 
+    private void readAhead(final int segmentOffset)
+    {
+        if (segmentOffset + (readAheadLength >> 1) >= readAheadLimit && !readAhead.isInFlight())
+        {
+            final long recordedLength = stopPosition - segmentFileBasePosition;
+            final int start = max(readAheadLimit, segmentOffset);
+            final int end = (int)min(min(mappedSegment.capacity(), recordedLength), segmentOffset + readAheadLength);
+
+            if (end > start && segmentPrefetcher.submit(readAhead, fileChannel, start, end))
+            {
+                readAheadLimit = end;
+            }
+        }
+    }
+
     private void onError(final String errorMessage)
     {
         this.errorMessage = errorMessage + ", recordingId=" + recordingId + ", sessionId=" + sessionId;
@@ -542,21 +626,83 @@ class ReplaySession implements Session, AutoCloseable
             openRecordingSegment();
             termBaseSegmentOffset = 0;
         }
+
+        prefetchNextSegment();
+    }
+
+    private void prefetchNextSegment()
+    {
+        if (segmentPrefetchThreshold > 0 &&
+            null != segmentPrefetcher &&
+            null == segmentPrefetch &&
+            segmentLength - termBaseSegmentOffset <= segmentPrefetchThreshold)
+        {
+            final long nextSegmentFileBasePosition = segmentFileBasePosition + segmentLength;
+            if (nextSegmentFileBasePosition < min(stopPosition, replayLimit))
+            {
+                segmentPrefetch = segmentPrefetcher.submit(recordingId, nextSegmentFileBasePosition);
+            }
+        }
+    }
+
+    private boolean takeSegmentPrefetch()
+    {
+        final SegmentPrefetcher.Prefetch prefetch = segmentPrefetch;
+        if (null == prefetch)
+        {
+            return false;
+        }
+
+        segmentPrefetch = null;
+        if (!segmentPrefetcher.take(prefetch))
+        {
+            return false;
+        }
+
+        segmentFile = prefetch.segmentFile;
+        fileChannel = prefetch.fileChannel;
+
+        return true;
+    }
+
+    private void cancelSegmentPrefetch()
+    {
+        if (null != segmentPrefetch)
+        {
+            SegmentPrefetcher.cancel(segmentPrefetch);
+            segmentPrefetch = null;
+        }
     }
 
     private void closeRecordingSegment()
     {
+        unmapRecordingSegment();
         CloseHelper.close(fileChannel);
         fileChannel = null;
         segmentFile = null;
     }
 
     private void openRecordingSegment() throws IOException
+    {
+        if (!takeSegmentPrefetch())
+        {
+            openSegmentFile();
+        }
+
+        if (null != mappedSegmentBuffer && !(fileChannel instanceof CompressedSegmentChannel))
+        {
+            mappedSegment = fileChannel.map(READ_ONLY, 0, min(segmentLength, fileChannel.size()));
+            mappedSegmentBuffer.wrap(mappedSegment);
+            readAheadLimit = 0;
+        }
+    }
+
+    private void openSegmentFile() throws IOException
     {
         if (null == segmentFile)
         {
             final String segmentFileName = segmentFileName(recordingId, segmentFileBasePosition);
-            segmentFile = new File(archiveDir, segmentFileName);
+            segmentFile = segmentFile(archiveDir, coldDir, segmentFileName);
 
             if (!segmentFile.exists())
             {
@@ -566,7 +712,31 @@ class ReplaySession implements Session, AutoCloseable
             }
         }
 
-        fileChannel = FileChannel.open(segmentFile.toPath(), FILE_OPTIONS);
+        try
+        {
+            fileChannel = CompressedSegmentChannel.open(segmentFile);
+        }
+        catch (final NoSuchFileException ex)
+        {
+            if (null == coldDir)
+            {
+                throw ex;
+            }
+
+            // segment was moved to the cold directory after it was resolved
+            segmentFile = segmentFile(archiveDir, coldDir, segmentFile.getName());
+            fileChannel = CompressedSegmentChannel.open(segmentFile);
+        }
+    }
+
+    private void unmapRecordingSegment()
+    {
+        if (null != mappedSegment)
+        {
+            mappedSegmentBuffer.wrap(0, 0);
+            IoUtil.unmap(mappedSegment);
+            mappedSegment = null;
+        }
     }
 
     static boolean notHeaderAligned(
@@ -27,10 +27,12 @@ import org.agrona.Strings;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.CountedErrorHandler;
 
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.archive.client.AeronArchive.segmentFileBasePosition;
 import static io.aeron.archive.client.ReplayMerge.LIVE_ADD_MAX_WINDOW;
 import static io.aeron.archive.codecs.RecordingSignal.*;
 
@@ -45,6 +47,8 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
     {
         CONNECT,
         REPLICATE_DESCRIPTOR,
+        VERIFY_SEGMENTS,
+        AWAIT_TRUNCATE,
         SRC_RECORDING_POSITION,
         EXTEND,
         REPLAY_TOKEN,
@@ -60,10 +64,22 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
     private long activeCorrelationId = NULL_VALUE;
     private long srcReplaySessionId = NULL_VALUE;
     private long replayPosition = NULL_POSITION;
+    private long srcStartPosition = NULL_POSITION;
     private long srcStopPosition = NULL_POSITION;
     private long srcRecordingPosition = NULL_POSITION;
     private final long dstStopPosition;
     private final boolean isDestinationRecordingEmpty;
+    private final boolean isSegmentVerification;
+    private long dstStartPosition = NULL_POSITION;
+    private int dstSegmentFileLength;
+    private int dstTermBufferLength;
+    private long verifyPosition = NULL_POSITION;
+    private long verifyLimitPosition = NULL_POSITION;
+    private long verifyLength;
+    private long srcSegmentChecksum;
+    private boolean hasSrcSegmentChecksum;
+    private SegmentChecksum dstSegmentChecksum;
+    private DeleteSegmentsSession truncateSession;
     private long timeOfLastActionMs;
     private final long actionTimeoutMs;
     private final long replicationId;
@@ -107,6 +123,7 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         final String replicationChannel,
         final int fileIoMaxLength,
         final int replicationSessionId,
+        final boolean isSegmentVerification,
         final RecordingSummary recordingSummary,
         final AeronArchive.Context context,
         final CachedEpochClock epochClock,
@@ -120,6 +137,7 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         this.replicationChannel = replicationChannel;
         this.fileIoMaxLength = fileIoMaxLength;
         this.replicationSessionId = replicationSessionId;
+        this.isSegmentVerification = isSegmentVerification;
         this.aeron = context.aeron();
         this.context = context;
         this.catalog = catalog;
@@ -137,6 +155,9 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         {
             replayPosition = recordingSummary.stopPosition;
             replayStreamId = recordingSummary.streamId;
+            dstStartPosition = recordingSummary.startPosition;
+            dstSegmentFileLength = recordingSummary.segmentFileLength;
+            dstTermBufferLength = recordingSummary.termBufferLength;
             isDestinationRecordingEmpty = recordingSummary.startPosition == recordingSummary.stopPosition;
         }
         else
@@ -180,6 +201,7 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         stopRecording();
         stopReplaySession(countedErrorHandler);
 
+        CloseHelper.close(countedErrorHandler, dstSegmentChecksum);
         CloseHelper.close(countedErrorHandler, asyncConnect);
         CloseHelper.close(countedErrorHandler, srcArchive);
         CloseHelper.close(countedErrorHandler, responsePublication);
@@ -213,6 +235,14 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
                     workCount += replicateDescriptor();
                     break;
 
+                case VERIFY_SEGMENTS:
+                    workCount += verifySegments();
+                    break;
+
+                case AWAIT_TRUNCATE:
+                    workCount += awaitTruncate();
+                    break;
+
                 case SRC_RECORDING_POSITION:
                     workCount += srcRecordingPosition();
                     break;
@@ -284,6 +314,7 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         final String originalChannel,
         final String sourceIdentity)
     {
+        srcStartPosition = startPosition;
         srcStopPosition = stopPosition;
         replayStreamId = streamId;
         if (null == liveDestination && NULL_VALUE != replicationSessionId)
@@ -343,13 +374,30 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
                 originalChannel,
                 sourceIdentity);
         }
+        else if (isSegmentVerification &&
+            srcArchive.archiveProtocolVersion() >= AeronArchive.Configuration.PROTOCOL_VERSION_WITH_SEGMENT_CHECKSUM &&
+            startPosition == dstStartPosition &&
+            segmentFileLength == dstSegmentFileLength &&
+            termBufferLength == dstTermBufferLength)
+        {
+            verifyPosition = startPosition;
+            verifyLimitPosition = NULL_POSITION == stopPosition ?
+                replayPosition : Math.min(stopPosition, replayPosition);
+            state(State.VERIFY_SEGMENTS, "verify from " + verifyPosition + " to " + verifyLimitPosition);
+            return;
+        }
 
+        resume();
+    }
+
+    private void resume()
+    {
         State nextState = State.EXTEND;
         String reason = "";
 
         if (null != liveDestination)
         {
-            if (NULL_POSITION != stopPosition)
+            if (NULL_POSITION != srcStopPosition)
             {
                 final String errorMsg = "cannot live merge without active source recording";
                 state(State.DONE, errorMsg);
@@ -361,10 +409,10 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
             reason = "liveDestination=" + liveDestination;
         }
 
-        if (startPosition == stopPosition ||
-            (NULL_VALUE != dstRecordingId && stopPosition == catalog.stopPosition(dstRecordingId)))
+        if (srcStartPosition == srcStopPosition ||
+            (NULL_VALUE != dstRecordingId && srcStopPosition == catalog.stopPosition(dstRecordingId)))
         {
-            signal(stopPosition, SYNC);
+            signal(srcStopPosition, SYNC);
             nextState = State.DONE;
             reason = "in sync";
         }
@@ -455,6 +503,149 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
         return workCount;
     }
 
+    private int verifySegments()
+    {
+        int workCount = 0;
+
+        if (NULL_VALUE == activeCorrelationId)
+        {
+            if (verifyPosition >= verifyLimitPosition)
+            {
+                if (replayPosition > verifyLimitPosition)
+                {
+                    truncate(verifyLimitPosition, "destination beyond source stop position");
+                }
+                else
+                {
+                    resume();
+                }
+
+                return 1;
+            }
+
+            final long segmentBasePosition = segmentFileBasePosition(
+                dstStartPosition, verifyPosition, dstTermBufferLength, dstSegmentFileLength);
+            verifyLength = Math.min(segmentBasePosition + dstSegmentFileLength, verifyLimitPosition) - verifyPosition;
+
+            if (null == dstSegmentChecksum)
+            {
+                try
+                {
+                    dstSegmentChecksum = conductor.newSegmentChecksum(
+                        dstRecordingId, segmentBasePosition, verifyPosition, verifyLength);
+                }
+                catch (final IOException ex)
+                {
+                    truncate(verifyPosition, "segment unreadable: " + ex.getMessage());
+                    return 1;
+                }
+            }
+
+            final long correlationId = aeron.nextCorrelationId();
+            if (srcArchive.archiveProxy().getSegmentChecksum(
+                srcRecordingId, verifyPosition, verifyLength, correlationId, srcArchive.controlSessionId()))
+            {
+                workCount += trackAction(correlationId);
+                hasSrcSegmentChecksum = false;
+            }
+            else if (epochClock.time() >= (timeOfLastActionMs + actionTimeoutMs))
+            {
+                throw new TimeoutException("failed to send segment checksum request");
+            }
+        }
+        else
+        {
+            final boolean isDstSegmentChecksumComplete;
+            try
+            {
+                isDstSegmentChecksumComplete = dstSegmentChecksum.doWork();
+            }
+            catch (final IOException | ArchiveException ex)
+            {
+                truncate(verifyPosition, "segment unreadable: " + ex.getMessage());
+                return 1;
+            }
+
+            final ControlResponsePoller poller = srcArchive.controlResponsePoller();
+            workCount += poller.poll();
+
+            if (!hasSrcSegmentChecksum && hasResponse(poller))
+            {
+                srcSegmentChecksum = poller.relevantId();
+                hasSrcSegmentChecksum = true;
+            }
+            else if (!hasSrcSegmentChecksum && epochClock.time() >= (timeOfLastActionMs + actionTimeoutMs))
+            {
+                throw new TimeoutException("failed to get segment checksum");
+            }
+
+            if (!isDstSegmentChecksumComplete)
+            {
+                workCount += 1;
+            }
+            else if (hasSrcSegmentChecksum)
+            {
+                final long dstChecksum = dstSegmentChecksum.checksum();
+                closeSegmentChecksum();
+
+                if (srcSegmentChecksum == dstChecksum)
+                {
+                    verifyPosition += verifyLength;
+                    activeCorrelationId = NULL_VALUE;
+                }
+                else
+                {
+                    truncate(verifyPosition, "segment checksum mismatch at " + verifyPosition);
+                }
+
+                workCount += 1;
+            }
+        }
+
+        return workCount;
+    }
+
+    private void truncate(final long position, final String reason)
+    {
+        closeSegmentChecksum();
+
+        truncateSession = conductor.truncateRecording(dstRecordingId, position);
+        replayPosition = position;
+        state(State.AWAIT_TRUNCATE, reason);
+    }
+
+    private int awaitTruncate()
+    {
+        if (null != truncateSession)
+        {
+            if (conductor.hasDeleteSegmentsSession(dstRecordingId))
+            {
+                return 0;
+            }
+
+            final String errorMessage = truncateSession.errorMessage();
+            truncateSession = null;
+            if (null != errorMessage)
+            {
+                throw new ArchiveException(
+                    "failed to truncate recording " + dstRecordingId + " to " + replayPosition + ": " + errorMessage);
+            }
+        }
+
+        resume();
+
+        return 1;
+    }
+
+    private void closeSegmentChecksum()
+    {
+        if (null != dstSegmentChecksum)
+        {
+            dstSegmentChecksum.close();
+            dstSegmentChecksum = null;
+        }
+    }
+
     private int srcRecordingPosition()
     {
         int workCount = 0;
@@ -516,7 +707,14 @@ class ReplicationSession implements Session, RecordingDescriptorConsumer
 
         final String channel = channelUri.toString();
         final Object recordingSubscriptionOrErrorMsg = conductor.extendRecording(
-            replicationId, dstRecordingId, replayStreamId, SourceLocation.REMOTE, true, channel, controlSession);
+            replicationId,
+            dstRecordingId,
+            replayStreamId,
+            SourceLocation.REMOTE,
+            true,
+            true,
+            channel,
+            controlSession);
 
         if (recordingSubscriptionOrErrorMsg instanceof Subscription)
         {
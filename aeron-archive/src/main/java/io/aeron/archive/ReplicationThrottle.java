@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the combined rate at which replication sessions record into the archive and counts the bytes they record.
+ * <p>
+ * The throttle is shared by the recording sessions of all replications, which may run on different recorder threads.
+ * Each block recorded pushes out the time at which the next may be recorded by the time it takes to send the block at
+ * the configured bandwidth. A session is throttled while that time is in the future so it stops consuming from its
+ * image and flow control back pressures the replay from the source archive.
+ */
+final class ReplicationThrottle
+{
+    private final long bandwidth;
+    private final Counter replicationBytesCounter;
+    private final AtomicLong nextAvailableNs = new AtomicLong(Long.MIN_VALUE);
+
+    ReplicationThrottle(final long bandwidth, final Counter replicationBytesCounter)
+    {
+        this.bandwidth = bandwidth;
+        this.replicationBytesCounter = replicationBytesCounter;
+    }
+
+    /**
+     * Is the recording of replications throttled at this time as the bandwidth has been consumed.
+     *
+     * @param nowNs current time.
+     * @return true if replications should not record at this time.
+     */
+    boolean isThrottled(final long nowNs)
+    {
+        return bandwidth > 0 && nextAvailableNs.get() > nowNs;
+    }
+
+    /**
+     * Account for bytes recorded by a replication session.
+     *
+     * @param length of the bytes recorded.
+     * @param nowNs  current time.
+     */
+    void onRecorded(final int length, final long nowNs)
+    {
+        if (length <= 0)
+        {
+            return;
+        }
+
+        replicationBytesCounter.getAndAddRelease(length);
+
+        if (bandwidth > 0)
+        {
+            final long durationNs = Math.max(1, (length * 1_000_000_000L) / bandwidth);
+            long nextNs;
+            do
+            {
+                nextNs = nextAvailableNs.get();
+            }
+            while (!nextAvailableNs.compareAndSet(nextNs, Math.max(nextNs, nowNs) + durationNs));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.checksum.Checksum;
+import io.aeron.archive.checksum.Checksums;
+import io.aeron.archive.client.ArchiveException;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Computes the checksum of a range of a recording within a single segment file so archives can compare their copies
+ * of a recording without transferring the data.
+ * <p>
+ * The range is read in blocks of {@link #BLOCK_LENGTH} from its start and the CRC-32C of each block is combined in
+ * order with the length of the range into a 64-bit value. One block is processed per call to {@link #doWork()} so a
+ * whole segment can be checksummed over many duty cycles without stalling the conductor.
+ * <p>
+ * The session id in the header of each frame is excluded as a replication may be recorded with a different session id
+ * to the source recording. Frames are walked from the start of the range, which must be frame aligned, until a frame
+ * with no length is found.
+ */
+final class SegmentChecksum implements AutoCloseable
+{
+    static final int BLOCK_LENGTH = 64 * 1024;
+
+    private final Checksum checksum = Checksums.crc32c();
+    private final UnsafeBuffer blockBuffer;
+    private final FileChannel fileChannel;
+    private final long limitOffset;
+    private long fileOffset;
+    private long nextFrameOffset;
+    private long value;
+
+    /**
+     * Open a segment file to compute the checksum of a range in it.
+     *
+     * @param file        of the segment which may be compressed.
+     * @param fileOffset  of the start of the range in the segment.
+     * @param length      of the range.
+     * @param blockBuffer direct buffer of at least {@link #BLOCK_LENGTH} used to read blocks.
+     * @throws IOException if the segment file can not be opened.
+     */
+    SegmentChecksum(final File file, final long fileOffset, final long length, final UnsafeBuffer blockBuffer)
+        throws IOException
+    {
+        this.fileChannel = CompressedSegmentChannel.open(file);
+        this.blockBuffer = blockBuffer;
+        this.fileOffset = fileOffset;
+        this.nextFrameOffset = fileOffset;
+        this.limitOffset = fileOffset + length;
+        this.value = length;
+    }
+
+    /**
+     * Allocate a buffer suitable for reading blocks which can be shared by checksums computed on the same thread.
+     *
+     * @return a new direct buffer of {@link #BLOCK_LENGTH}.
+     */
+    static UnsafeBuffer allocateBlockBuffer()
+    {
+        return new UnsafeBuffer(ByteBuffer.allocateDirect(BLOCK_LENGTH));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.quietClose(fileChannel);
+    }
+
+    /**
+     * Checksum the next block of the range.
+     *
+     * @return true if the checksum of the whole range has been computed.
+     * @throws IOException if the segment file can not be read.
+     */
+    boolean doWork() throws IOException
+    {
+        if (fileOffset < limitOffset)
+        {
+            final int length = (int)Math.min(BLOCK_LENGTH, limitOffset - fileOffset);
+            final ByteBuffer byteBuffer = blockBuffer.byteBuffer();
+            byteBuffer.clear().limit(length);
+
+            while (byteBuffer.hasRemaining())
+            {
+                final int bytesRead = fileChannel.read(byteBuffer, fileOffset + byteBuffer.position());
+                if (bytesRead < 0)
+                {
+                    throw new ArchiveException("unexpected end of segment at offset " +
+                        (fileOffset + byteBuffer.position()) + " reading to " + limitOffset);
+                }
+            }
+
+            excludeSessionIds(length);
+            value = combine(value, checksum.compute(blockBuffer.addressOffset(), 0, length));
+            fileOffset += length;
+        }
+
+        return fileOffset >= limitOffset;
+    }
+
+    /**
+     * The checksum of the range once {@link #doWork()} has returned true.
+     *
+     * @return the checksum of the range.
+     */
+    long checksum()
+    {
+        return value;
+    }
+
+    private void excludeSessionIds(final int length)
+    {
+        final long blockLimitOffset = fileOffset + length;
+        while (nextFrameOffset < blockLimitOffset)
+        {
+            final int frameOffset = (int)(nextFrameOffset - fileOffset);
+            if (frameOffset + HEADER_LENGTH > length)
+            {
+                break;
+            }
+
+            final int frameLength = blockBuffer.getInt(frameOffset + FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+            if (frameLength <= 0)
+            {
+                nextFrameOffset = Long.MAX_VALUE;
+                break;
+            }
+
+            blockBuffer.putInt(frameOffset + SESSION_ID_FIELD_OFFSET, 0, LITTLE_ENDIAN);
+            nextFrameOffset += align(frameLength, FRAME_ALIGNMENT);
+        }
+    }
+
+    static long combine(final long value, final int blockChecksum)
+    {
+        return (value ^ (blockChecksum & 0xFFFF_FFFFL)) * 0x100_0000_01B3L;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.client.ArchiveException;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+
+import java.io.IOException;
+
+/**
+ * Computes the {@link SegmentChecksum} of a range of a recording a block at a time and responds with it on completion.
+ */
+class SegmentChecksumSession implements Session
+{
+    private final long correlationId;
+    private final SegmentChecksum segmentChecksum;
+    private final ControlSession controlSession;
+    private final ErrorHandler errorHandler;
+    private boolean isDone = false;
+
+    SegmentChecksumSession(
+        final long correlationId,
+        final SegmentChecksum segmentChecksum,
+        final ControlSession controlSession,
+        final ErrorHandler errorHandler)
+    {
+        this.correlationId = correlationId;
+        this.segmentChecksum = segmentChecksum;
+        this.controlSession = controlSession;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.close(errorHandler, segmentChecksum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void abort(final String reason)
+    {
+        isDone = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isDone()
+    {
+        return isDone || controlSession.isDone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long sessionId()
+    {
+        return correlationId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        if (isDone)
+        {
+            return 0;
+        }
+
+        try
+        {
+            if (segmentChecksum.doWork())
+            {
+                isDone = true;
+                controlSession.sendOkResponse(correlationId, segmentChecksum.checksum());
+            }
+        }
+        catch (final IOException | ArchiveException ex)
+        {
+            isDone = true;
+            controlSession.sendErrorResponse(correlationId, ArchiveException.GENERIC, ex.getMessage());
+            errorHandler.onError(ex);
+        }
+
+        return 1;
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.CountedErrorHandler;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.util.function.Consumer;
+
+import static io.aeron.archive.Archive.segmentFile;
+import static io.aeron.archive.Archive.segmentFileName;
+
+/**
+ * Opens and reads ahead the next segment file of replays off the replayer thread so that a segment which has gone
+ * cold does not stall the other replays of the replayer while its file is resolved and first read from disk.
+ * <p>
+ * A {@link ReplaySession} submits a {@link Prefetch} when it gets within the prefetch length of the end of its
+ * current segment and takes the open file when it crosses the boundary. If the prefetch has not completed by then
+ * it is cancelled and the replay opens the segment itself so the file is only ever owned by one thread. A replay has
+ * at most one prefetch in flight so the queue is sized by the maximum number of concurrent replays. Each replayer
+ * has its own prefetcher and the counters are shared so they are updated atomically.
+ * <p>
+ * Replays of mapped segment files also submit a {@link ReadAhead} of the window ahead of their position so the pages
+ * are read into the page cache by the prefetcher rather than faulted in on the replayer thread. The read is via the
+ * file channel of the replay rather than its mapping so a replay can unmap or close its segment at any time, which
+ * simply ends a read in progress.
+ */
+final class SegmentPrefetcher implements Agent
+{
+    private static final int PREFETCH_LIMIT = 16;
+
+    private final int prefetchLength;
+    private final File archiveDir;
+    private final File coldDir;
+    private final ByteBuffer readBuffer;
+    private final ManyToOneConcurrentArrayQueue<Prefetch> prefetchQueue;
+    private final ManyToOneConcurrentArrayQueue<ReadAhead> readAheadQueue;
+    private final CountedErrorHandler errorHandler;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter readAheadBytesCounter;
+    private final Consumer<Prefetch> prefetchHandler = this::prefetch;
+    private final Consumer<ReadAhead> readAheadHandler = this::readAhead;
+
+    SegmentPrefetcher(final CountedErrorHandler errorHandler, final Archive.Context ctx)
+    {
+        this.errorHandler = errorHandler;
+        prefetchLength = ctx.replaySegmentPrefetchLength();
+        archiveDir = ctx.archiveDir();
+        coldDir = ctx.coldDir();
+        readBuffer = ByteBuffer.allocateDirect(
+            Math.min(Math.max(prefetchLength, ctx.replayReadAheadLength()), ctx.fileIoMaxLength()));
+        prefetchQueue = new ManyToOneConcurrentArrayQueue<>(Math.max(ctx.maxConcurrentReplays(), PREFETCH_LIMIT));
+        readAheadQueue = new ManyToOneConcurrentArrayQueue<>(Math.max(ctx.maxConcurrentReplays(), PREFETCH_LIMIT));
+        hitsCounter = ctx.replaySegmentPrefetchHitsCounter();
+        missesCounter = ctx.replaySegmentPrefetchMissesCounter();
+        readAheadBytesCounter = ctx.replayReadAheadBytesCounter();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String roleName()
+    {
+        return "archive-segment-prefetcher";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        return prefetchQueue.drain(prefetchHandler, PREFETCH_LIMIT) +
+            readAheadQueue.drain(readAheadHandler, PREFETCH_LIMIT);
+    }
+
+    /**
+     * Submit a prefetch of a segment file of a recording.
+     *
+     * @param recordingId             of the recording to which the segment belongs.
+     * @param segmentFileBasePosition of the segment to be prefetched.
+     * @return the prefetch to be taken or cancelled, or null if the queue is full and the submit should be retried.
+     */
+    Prefetch submit(final long recordingId, final long segmentFileBasePosition)
+    {
+        final Prefetch prefetch = new Prefetch(recordingId, segmentFileBasePosition);
+
+        return prefetchQueue.offer(prefetch) ? prefetch : null;
+    }
+
+    /**
+     * Submit a read-ahead of a window of the current segment file of a replay. The read-ahead must not be
+     * {@link ReadAhead#isInFlight() in flight}.
+     *
+     * @param readAhead   of the replay which is reused once no longer in flight.
+     * @param fileChannel of the segment file of the replay.
+     * @param position    in the segment file of the start of the window.
+     * @param limit       in the segment file of the end of the window.
+     * @return true if submitted, or false if the queue is full and the submit should be retried.
+     */
+    boolean submit(final ReadAhead readAhead, final FileChannel fileChannel, final long position, final long limit)
+    {
+        readAhead.fileChannel = fileChannel;
+        readAhead.position = position;
+        readAhead.limit = limit;
+        readAhead.isInFlight = true;
+
+        if (!readAheadQueue.offer(readAhead))
+        {
+            readAhead.fileChannel = null;
+            readAhead.isInFlight = false;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Take the file of a prefetch when a replay crosses into its segment, or cancel the prefetch if it has not
+     * completed so the replay should open the segment itself.
+     *
+     * @param prefetch which was submitted for the segment.
+     * @return true if the prefetch completed with an open file which is now owned by the caller.
+     */
+    boolean take(final Prefetch prefetch)
+    {
+        if (prefetch.cancel() || null == prefetch.fileChannel)
+        {
+            missesCounter.increment();
+            return false;
+        }
+
+        hitsCounter.increment();
+        return true;
+    }
+
+    /**
+     * Cancel a prefetch which will not be taken, closing its file if it has completed.
+     *
+     * @param prefetch to be cancelled.
+     */
+    static void cancel(final Prefetch prefetch)
+    {
+        if (!prefetch.cancel())
+        {
+            CloseHelper.quietClose(prefetch.fileChannel);
+        }
+    }
+
+    private void prefetch(final Prefetch prefetch)
+    {
+        if (!prefetch.isPending())
+        {
+            return;
+        }
+
+        final String segmentFileName = segmentFileName(prefetch.recordingId, prefetch.segmentFileBasePosition);
+        File segmentFile = segmentFile(archiveDir, coldDir, segmentFileName);
+        FileChannel fileChannel = null;
+
+        try
+        {
+            try
+            {
+                fileChannel = CompressedSegmentChannel.open(segmentFile);
+            }
+            catch (final NoSuchFileException ex)
+            {
+                if (null != coldDir)
+                {
+                    // segment was moved to the cold directory after it was resolved
+                    segmentFile = segmentFile(archiveDir, coldDir, segmentFileName);
+                    fileChannel = CompressedSegmentChannel.open(segmentFile);
+                }
+            }
+
+            if (null != fileChannel)
+            {
+                readAhead(prefetch, fileChannel);
+            }
+        }
+        catch (final NoSuchFileException ignore)
+        {
+            // the replay will report the missing segment when it crosses the boundary
+        }
+        catch (final IOException ex)
+        {
+            CloseHelper.quietClose(fileChannel);
+            fileChannel = null;
+            errorHandler.onError(ex);
+        }
+
+        prefetch.segmentFile = segmentFile;
+        prefetch.fileChannel = fileChannel;
+        if (!prefetch.complete())
+        {
+            CloseHelper.quietClose(fileChannel);
+        }
+    }
+
+    private void readAhead(final ReadAhead readAhead)
+    {
+        final ByteBuffer readBuffer = this.readBuffer;
+        final FileChannel fileChannel = readAhead.fileChannel;
+        final long limit = readAhead.limit;
+        long position = readAhead.position;
+
+        try
+        {
+            while (position < limit)
+            {
+                readBuffer.clear().limit((int)Math.min(readBuffer.capacity(), limit - position));
+                final int bytesRead = fileChannel.read(readBuffer, position);
+                if (bytesRead <= 0)
+                {
+                    break;
+                }
+
+                position += bytesRead;
+            }
+        }
+        catch (final ClosedChannelException ignore)
+        {
+            // the replay has moved on from the segment
+        }
+        catch (final IOException ex)
+        {
+            errorHandler.onError(ex);
+        }
+
+        readAheadBytesCounter.getAndAdd(position - readAhead.position);
+        readAhead.fileChannel = null;
+        readAhead.isInFlight = false;
+    }
+
+    private void readAhead(final Prefetch prefetch, final FileChannel fileChannel) throws IOException
+    {
+        final ByteBuffer readBuffer = this.readBuffer;
+        final long limit = Math.min(prefetchLength, fileChannel.size());
+        long position = 0;
+
+        while (position < limit && prefetch.isPending())
+        {
+            readBuffer.clear().limit((int)Math.min(readBuffer.capacity(), limit - position));
+            final int bytesRead = fileChannel.read(readBuffer, position);
+            if (bytesRead <= 0)
+            {
+                break;
+            }
+
+            position += bytesRead;
+        }
+    }
+
+    /**
+     * Read-ahead of a window of the current segment file of a replay which is owned by the prefetcher while in flight
+     * and reused by the replay once complete.
+     */
+    static final class ReadAhead
+    {
+        private FileChannel fileChannel;
+        private long position;
+        private long limit;
+        private volatile boolean isInFlight;
+
+        /**
+         * Has the read-ahead been submitted and not yet completed.
+         *
+         * @return true if the read-ahead has been submitted and not yet completed.
+         */
+        boolean isInFlight()
+        {
+            return isInFlight;
+        }
+    }
+
+    /**
+     * Prefetch of a segment file which is owned by the prefetcher until it completes, after which the open file is
+     * owned by the replay which submitted it.
+     */
+    static final class Prefetch
+    {
+        private static final int PENDING = 0;
+        private static final int COMPLETE = 1;
+        private static final int CANCELLED = 2;
+        private static final VarHandle STATE_VH;
+        static
+        {
+            try
+            {
+                STATE_VH = MethodHandles.lookup().findVarHandle(Prefetch.class, "state", int.class);
+            }
+            catch (final ReflectiveOperationException ex)
+            {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        final long recordingId;
+        final long segmentFileBasePosition;
+        File segmentFile;
+        FileChannel fileChannel;
+        private volatile int state = PENDING;
+
+        Prefetch(final long recordingId, final long segmentFileBasePosition)
+        {
+            this.recordingId = recordingId;
+            this.segmentFileBasePosition = segmentFileBasePosition;
+        }
+
+        boolean isPending()
+        {
+            return PENDING == state;
+        }
+
+        private boolean complete()
+        {
+            return STATE_VH.compareAndSet(this, PENDING, COMPLETE);
+        }
+
+        private boolean cancel()
+        {
+            return STATE_VH.compareAndSet(this, PENDING, CANCELLED);
+        }
+    }
+}
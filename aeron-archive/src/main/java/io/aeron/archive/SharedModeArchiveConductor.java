@@ -33,21 +33,21 @@ final class SharedModeArchiveConductor extends ArchiveConductor
     {
         super.onStart();
 
-        replayerAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), replayer);
-        recorderAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recorder);
+        replayerAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), replayers[0]);
+        recorderAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recorders[0]);
 
         replayerAgentInvoker.start();
         recorderAgentInvoker.start();
     }
 
-    Recorder newRecorder()
+    Recorder[] newRecorders()
     {
-        return new SharedModeRecorder(errorHandler, ctx);
+        return new Recorder[]{ new SharedModeRecorder(errorHandler, ctx) };
     }
 
-    Replayer newReplayer()
+    Replayer[] newReplayers()
     {
-        return new SharedModeReplayer(errorHandler, ctx);
+        return new Replayer[]{ new SharedModeReplayer(errorHandler, ctx) };
     }
 
     public int doWork()
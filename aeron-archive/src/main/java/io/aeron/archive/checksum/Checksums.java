@@ -18,6 +18,12 @@ package io.aeron.archive.checksum;
 import org.agrona.Strings;
 import org.agrona.checksum.Crc32;
 import org.agrona.checksum.Crc32c;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static org.agrona.BitUtil.align;
 
 /**
  * Factory and common methods for working with {@link Checksum} instances.
@@ -47,6 +53,81 @@ public final class Checksums
         return CRC_32C;
     }
 
+    /**
+     * Compute the checksum of the payload of each data frame in a block of complete frames in one pass and store
+     * it in the session id field of the frame, as done for recordings.
+     *
+     * @param checksum to compute.
+     * @param buffer   containing the frames in off-heap memory.
+     * @param offset   in the buffer of the first frame.
+     * @param length   of the block of frames.
+     */
+    public static void computeFrameChecksums(
+        final Checksum checksum, final UnsafeBuffer buffer, final int offset, final int length)
+    {
+        final long address = buffer.addressOffset();
+        final int limit = offset + length;
+        int frameOffset = offset;
+
+        while (frameOffset < limit)
+        {
+            final int frameLength = frameLength(buffer, frameOffset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+            if (HDR_TYPE_DATA == frameType(buffer, frameOffset))
+            {
+                final int computedChecksum = checksum.compute(
+                    address, frameOffset + HEADER_LENGTH, alignedLength - HEADER_LENGTH);
+                frameSessionId(buffer, frameOffset, computedChecksum);
+            }
+
+            frameOffset += alignedLength;
+        }
+    }
+
+    /**
+     * Verify the checksum, recorded in the session id field, of each data frame in a block of frames in one pass.
+     * Verification stops at the first frame which is not complete within the block.
+     *
+     * @param checksum to verify.
+     * @param buffer   containing the frames in off-heap memory.
+     * @param offset   in the buffer of the first frame.
+     * @param length   of the block of frames.
+     * @return offset of the first data frame which fails verification or -1 if all complete frames are valid.
+     */
+    public static int verifyFrameChecksums(
+        final Checksum checksum, final UnsafeBuffer buffer, final int offset, final int length)
+    {
+        final long address = buffer.addressOffset();
+        final int limit = offset + length;
+        int frameOffset = offset;
+
+        while (frameOffset <= limit - HEADER_LENGTH)
+        {
+            final int frameLength = frameLength(buffer, frameOffset);
+            final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+            if (frameLength <= 0 || frameOffset + alignedLength > limit)
+            {
+                break;
+            }
+
+            if (HDR_TYPE_DATA == frameType(buffer, frameOffset) &&
+                checksum.compute(address, frameOffset + HEADER_LENGTH, alignedLength - HEADER_LENGTH) !=
+                frameSessionId(buffer, frameOffset))
+            {
+                return frameOffset;
+            }
+
+            frameOffset += alignedLength;
+        }
+
+        return -1;
+    }
+
     /**
      * Factory method to create an instance of the {@link Checksum} interface.
      *
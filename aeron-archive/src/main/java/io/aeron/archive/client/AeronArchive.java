@@ -115,6 +115,7 @@ public final class AeronArchive implements AutoCloseable
     private long lastCorrelationId = Aeron.NULL_VALUE;
     private final long controlSessionId;
     private final long archiveId;
+    private final int archiveProtocolVersion;
     private final long messageTimeoutNs;
     private final Context context;
     private final Aeron aeron;
@@ -127,13 +128,15 @@ public final class AeronArchive implements AutoCloseable
     private final AgentInvoker agentInvoker;
     private RecordingDescriptorPoller recordingDescriptorPoller;
     private RecordingSubscriptionDescriptorPoller recordingSubscriptionDescriptorPoller;
+    private RecordingQueryPoller recordingQueryPoller;
 
     AeronArchive(
         final Context context,
         final ControlResponsePoller controlResponsePoller,
         final ArchiveProxy archiveProxy,
         final long controlSessionId,
-        final long archiveId)
+        final long archiveId,
+        final int archiveProtocolVersion)
     {
         this.context = context;
         aeron = context.aeron();
@@ -147,6 +150,7 @@ public final class AeronArchive implements AutoCloseable
         this.archiveProxy = archiveProxy;
         this.controlSessionId = controlSessionId;
         this.archiveId = archiveId;
+        this.archiveProtocolVersion = archiveProtocolVersion;
         state = State.CONNECTED;
     }
 
@@ -422,6 +426,26 @@ public final class AeronArchive implements AutoCloseable
         return recordingSubscriptionDescriptorPoller;
     }
 
+    /**
+     * Get the {@link RecordingQueryPoller} for polling the results of recording queries on the control channel.
+     *
+     * @return the {@link RecordingQueryPoller} for polling the results of recording queries on the control channel.
+     */
+    public RecordingQueryPoller recordingQueryPoller()
+    {
+        if (null == recordingQueryPoller)
+        {
+            recordingQueryPoller = new RecordingQueryPoller(
+                controlResponsePoller.subscription(),
+                context.errorHandler(),
+                context.recordingSignalConsumer(),
+                controlSessionId,
+                FRAGMENT_LIMIT);
+        }
+
+        return recordingQueryPoller;
+    }
+
     /**
      * Poll the response stream once for an error. If another message is present then it will be skipped over
      * so only call when not expecting another response. If not connected then return {@link #NOT_CONNECTED_MSG}.
@@ -1440,6 +1464,44 @@ public final class AeronArchive implements AutoCloseable
         }
     }
 
+    /**
+     * Query the recordings which match a filter, returning only the projected fields of each. The filter is applied
+     * by the archive and the results are sent in compact batches so this is cheaper than listing the descriptors of
+     * many recordings to find the few which are needed.
+     * <p>
+     * If the from recording id is greater than the largest known id then nothing is returned.
+     *
+     * @param queryParams for the filter and projection of the query.
+     * @param consumer    to which the recordings which match are dispatched.
+     * @return the number of recordings which matched and were consumed.
+     * @see RecordingQueryParams
+     */
+    public int queryRecordings(final RecordingQueryParams queryParams, final RecordingQueryConsumer consumer)
+    {
+        lock.lock();
+        try
+        {
+            ensureConnected();
+            ensureNotReentrant();
+            ensureArchiveProtocolVersion(Configuration.PROTOCOL_VERSION_WITH_RECORDING_QUERY, "query recordings");
+
+            isInCallback = true;
+            lastCorrelationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.queryRecordings(queryParams, lastCorrelationId, controlSessionId))
+            {
+                throw new ArchiveException("failed to send query recordings request");
+            }
+
+            return pollForRecordingQuery(lastCorrelationId, consumer);
+        }
+        finally
+        {
+            isInCallback = false;
+            lock.unlock();
+        }
+    }
+
     /**
      * List a recording descriptor for a single recording id.
      * <p>
@@ -1595,6 +1657,84 @@ public final class AeronArchive implements AutoCloseable
         }
     }
 
+    /**
+     * Get the position in a recording from which a replay should begin to include everything recorded at or after
+     * a given time. The position can be passed to {@link #startReplay(long, long, long, String, int)} to replay a
+     * recording from a point in time.
+     * <p>
+     * The position is found from the sparse time index which the archive keeps for a recording when
+     * {@link io.aeron.archive.Archive.Context#recordingIndexInterval(int)} or
+     * {@link io.aeron.archive.Archive.Context#recordingIndexTimeIntervalNs(long)} is set. The position returned is
+     * that of the latest index entry recorded at or before the timestamp so the replay may begin up to one index
+     * interval before the requested time. If there is no index entry at or before the timestamp then the start
+     * position of the recording is returned.
+     *
+     * @param recordingId of the recording for which the position is required.
+     * @param timestamp   in milliseconds since epoch from which the replay should begin.
+     * @return the position in the recording from which to begin a replay.
+     */
+    public long getRecordingPositionForTimestamp(final long recordingId, final long timestamp)
+    {
+        lock.lock();
+        try
+        {
+            ensureConnected();
+            ensureNotReentrant();
+            ensureArchiveProtocolVersion(
+                Configuration.PROTOCOL_VERSION_WITH_RECORDING_TIME_INDEX, "get recording position for timestamp");
+
+            lastCorrelationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.getRecordingPositionForTimestamp(
+                recordingId, timestamp, lastCorrelationId, controlSessionId))
+            {
+                throw new ArchiveException("failed to send get recording position for timestamp request");
+            }
+
+            return pollForResponse(lastCorrelationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the checksum of a range of a recording so copies of the recording in different archives can be compared
+     * without transferring the data. The range must be within a single segment file and within what has been recorded.
+     * <p>
+     * The checksum combines the CRC-32C of each block of the range with its length so archives holding the same bytes
+     * for the range will return the same value.
+     *
+     * @param recordingId of the recording for which the checksum is required.
+     * @param position    in the recording at which the range starts.
+     * @param length      of the range.
+     * @return the checksum of the range.
+     */
+    public long getSegmentChecksum(final long recordingId, final long position, final long length)
+    {
+        lock.lock();
+        try
+        {
+            ensureConnected();
+            ensureNotReentrant();
+            ensureArchiveProtocolVersion(Configuration.PROTOCOL_VERSION_WITH_SEGMENT_CHECKSUM, "get segment checksum");
+
+            lastCorrelationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.getSegmentChecksum(recordingId, position, length, lastCorrelationId, controlSessionId))
+            {
+                throw new ArchiveException("failed to send get segment checksum request");
+            }
+
+            return pollForResponse(lastCorrelationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
     /**
      * Get the id of the Archive.
      *
@@ -1606,6 +1746,19 @@ public final class AeronArchive implements AutoCloseable
         return archiveId;
     }
 
+    /**
+     * Get the semantic version of the control protocol reported by the Archive on connect. Requests which were added
+     * in a later version than this are rejected by the client rather than sent to an Archive which cannot decode them.
+     *
+     * @return the semantic version of the control protocol reported by the Archive.
+     * @see SemanticVersion
+     * @since 1.48.0
+     */
+    public int archiveProtocolVersion()
+    {
+        return archiveProtocolVersion;
+    }
+
     /**
      * Find the last recording that matches the given criteria.
      *
@@ -2481,6 +2634,37 @@ public final class AeronArchive implements AutoCloseable
         }
     }
 
+    private int pollForRecordingQuery(final long correlationId, final RecordingQueryConsumer consumer)
+    {
+        long deadlineNs = nanoClock.nanoTime() + messageTimeoutNs;
+        final RecordingQueryPoller poller = recordingQueryPoller();
+        poller.reset(correlationId, consumer);
+        idleStrategy.reset();
+
+        while (true)
+        {
+            final int fragments = poller.poll();
+
+            if (poller.isDispatchComplete())
+            {
+                return poller.recordCount();
+            }
+
+            invokeInvokers();
+
+            if (fragments > 0)
+            {
+                deadlineNs = nanoClock.nanoTime() + messageTimeoutNs;
+                continue;
+            }
+
+            checkForDisconnect(poller.subscription());
+
+            checkDeadline(deadlineNs, "awaiting recording query", correlationId);
+            idleStrategy.idle();
+        }
+    }
+
     private int pollForSubscriptionDescriptors(
         final long correlationId, final int count, final RecordingSubscriptionDescriptorConsumer consumer)
     {
@@ -2561,6 +2745,16 @@ public final class AeronArchive implements AutoCloseable
         }
     }
 
+    private void ensureArchiveProtocolVersion(final int requiredVersion, final String request)
+    {
+        if (archiveProtocolVersion < requiredVersion)
+        {
+            throw new ArchiveException(
+                request + " requires archive protocol " + SemanticVersion.toString(requiredVersion) +
+                ", archive is " + SemanticVersion.toString(archiveProtocolVersion));
+        }
+    }
+
     /**
      * Common configuration properties for communicating with an Aeron archive.
      */
@@ -2577,7 +2771,7 @@ public final class AeronArchive implements AutoCloseable
          * Minor version of the network protocol from client to archive. If these don't match then some features may
          * not be available.
          */
-        public static final int PROTOCOL_MINOR_VERSION = 11;
+        public static final int PROTOCOL_MINOR_VERSION = 12;
 
         /**
          * Patch version of the network protocol from client to archive. If these don't match then bug fixes may not
@@ -2593,6 +2787,22 @@ public final class AeronArchive implements AutoCloseable
         public static final int PROTOCOL_SEMANTIC_VERSION = SemanticVersion.compose(
             PROTOCOL_MAJOR_VERSION, PROTOCOL_MINOR_VERSION, PROTOCOL_PATCH_VERSION);
 
+        /**
+         * Version of the control protocol from which the archive handles RecordingPositionForTimestampRequest.
+         */
+        public static final int PROTOCOL_VERSION_WITH_RECORDING_TIME_INDEX = SemanticVersion.compose(1, 12, 0);
+
+        /**
+         * Version of the control protocol from which the archive handles SegmentChecksumRequest.
+         */
+        public static final int PROTOCOL_VERSION_WITH_SEGMENT_CHECKSUM = SemanticVersion.compose(1, 12, 0);
+
+        /**
+         * Version of the control protocol from which the archive handles QueryRecordingsRequest and responds with
+         * RecordingQueryBatch.
+         */
+        public static final int PROTOCOL_VERSION_WITH_RECORDING_QUERY = SemanticVersion.compose(1, 12, 0);
+
         /**
          * Timeout in nanoseconds when waiting on a message to be sent or received.
          */
@@ -3626,6 +3836,7 @@ public final class AeronArchive implements AutoCloseable
         private long publicationRegistrationId = Aeron.NULL_VALUE;
         private long correlationId = Aeron.NULL_VALUE;
         private long controlSessionId = Aeron.NULL_VALUE;
+        private int archiveProtocolVersion = 0;
         private byte[] encodedCredentialsFromChallenge = null;
         private State state = State.ADD_PUBLICATION;
         private ArchiveProxy archiveProxy;
@@ -3857,7 +4068,7 @@ public final class AeronArchive implements AutoCloseable
                     }
                     else
                     {
-                        final int archiveProtocolVersion = controlResponsePoller.version();
+                        archiveProtocolVersion = controlResponsePoller.version();
                         if (archiveProtocolVersion < PROTOCOL_VERSION_WITH_ARCHIVE_ID)
                         {
                             aeronArchive = transitionToDone(Aeron.NULL_VALUE);
@@ -3915,7 +4126,7 @@ public final class AeronArchive implements AutoCloseable
             }
 
             final AeronArchive aeronArchive = new AeronArchive(
-                ctx, controlResponsePoller, archiveProxy, controlSessionId, archiveId);
+                ctx, controlResponsePoller, archiveProxy, controlSessionId, archiveId, archiveProtocolVersion);
 
             state(State.DONE);
             return aeronArchive;
@@ -52,6 +52,7 @@ public final class ArchiveProxy
     private StopReplayRequestEncoder stopReplayRequest;
     private ListRecordingsRequestEncoder listRecordingsRequest;
     private ListRecordingsForUriRequestEncoder listRecordingsForUriRequest;
+    private QueryRecordingsRequestEncoder queryRecordingsRequest;
     private ListRecordingRequestEncoder listRecordingRequest;
     private ExtendRecordingRequestEncoder extendRecordingRequest;
     private ExtendRecordingRequest2Encoder extendRecordingRequest2;
@@ -60,6 +61,8 @@ public final class ArchiveProxy
     private PurgeRecordingRequestEncoder purgeRecordingRequest;
     private StopPositionRequestEncoder stopPositionRequest;
     private MaxRecordedPositionRequestEncoder maxRecordedPositionRequestEncoder;
+    private RecordingPositionForTimestampRequestEncoder recordingPositionForTimestampRequestEncoder;
+    private SegmentChecksumRequestEncoder segmentChecksumRequestEncoder;
     private FindLastMatchingRecordingRequestEncoder findLastMatchingRecordingRequest;
     private ListRecordingSubscriptionsRequestEncoder listRecordingSubscriptionsRequest;
     private BoundedReplayRequestEncoder boundedReplayRequest;
@@ -694,6 +697,39 @@ public final class ArchiveProxy
         return offer(listRecordingsForUriRequest.encodedLength());
     }
 
+    /**
+     * Query the recordings which match a filter for the projected fields of each.
+     *
+     * @param queryParams      for the filter and projection of the query.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean queryRecordings(
+        final RecordingQueryParams queryParams, final long correlationId, final long controlSessionId)
+    {
+        if (null == queryRecordingsRequest)
+        {
+            queryRecordingsRequest = new QueryRecordingsRequestEncoder();
+        }
+
+        queryRecordingsRequest
+            .wrapAndApplyHeader(buffer, 0, messageHeader)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .fromRecordingId(queryParams.fromRecordingId())
+            .recordCount(queryParams.recordCount())
+            .streamId(queryParams.streamId())
+            .activity(queryParams.activity())
+            .projection(queryParams.projection())
+            .minStartTimestamp(queryParams.minStartTimestamp())
+            .maxStartTimestamp(queryParams.maxStartTimestamp())
+            .minLength(queryParams.minLength())
+            .channel(queryParams.channelFragment());
+
+        return offer(queryRecordingsRequest.encodedLength());
+    }
+
     /**
      * List a recording descriptor for a given recording id.
      *
@@ -952,6 +988,66 @@ public final class ArchiveProxy
         return offer(maxRecordedPositionRequestEncoder.encodedLength());
     }
 
+    /**
+     * Get the position in a recording from which to replay to include everything recorded at or after a timestamp.
+     *
+     * @param recordingId      of the recording for which the position is requested.
+     * @param timestamp        in milliseconds since epoch from which the replay should begin.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean getRecordingPositionForTimestamp(
+        final long recordingId, final long timestamp, final long correlationId, final long controlSessionId)
+    {
+        if (null == recordingPositionForTimestampRequestEncoder)
+        {
+            recordingPositionForTimestampRequestEncoder = new RecordingPositionForTimestampRequestEncoder();
+        }
+
+        recordingPositionForTimestampRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeader)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .recordingId(recordingId)
+            .timestamp(timestamp);
+
+        return offer(recordingPositionForTimestampRequestEncoder.encodedLength());
+    }
+
+    /**
+     * Get the checksum of a range of a recording which must be within a single segment file.
+     *
+     * @param recordingId      of the recording for which the checksum is requested.
+     * @param position         in the recording at which the range starts.
+     * @param length           of the range.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean getSegmentChecksum(
+        final long recordingId,
+        final long position,
+        final long length,
+        final long correlationId,
+        final long controlSessionId)
+    {
+        if (null == segmentChecksumRequestEncoder)
+        {
+            segmentChecksumRequestEncoder = new SegmentChecksumRequestEncoder();
+        }
+
+        segmentChecksumRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeader)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .recordingId(recordingId)
+            .position(position)
+            .length(length);
+
+        return offer(segmentChecksumRequestEncoder.encodedLength());
+    }
+
     /**
      * Get the id of the Archive.
      *
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+import io.aeron.archive.codecs.ControlResponseCode;
+import io.aeron.archive.codecs.ControlResponseDecoder;
+import io.aeron.archive.codecs.RecordingSignal;
+import io.aeron.archive.codecs.RecordingSignalEventDecoder;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayQueue;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * Replicate many recordings from a source archive into the archive of an {@link AeronArchive} client with a bounded
+ * number of replications in flight at any one time.
+ * <p>
+ * Recordings are queued with {@link #add(long, long)} and {@link #doWork()} should be called in a duty cycle loop
+ * until {@link #isComplete()} is {@code true}. Each replication is requested with the same
+ * {@link ReplicationParams}, other than the destination recording id, and when one ends with a
+ * {@link RecordingSignal#REPLICATE_END} the next queued recording is replicated so no more than the max in flight
+ * replays are served by the source archive at once. The combined bandwidth of the replications is capped by the
+ * destination archive, see {@code io.aeron.archive.Archive.Configuration.REPLICATION_BANDWIDTH_PROP_NAME}.
+ * <p>
+ * The control responses for the archive client are polled by {@link #doWork()} so {@link RecordingSignal}s are passed
+ * on to the {@link AeronArchive.Context#recordingSignalConsumer()} to report the progress of each recording, and
+ * errors are passed to the {@link AeronArchive.Context#errorHandler()} or thrown if there is none. Aggregate progress
+ * is available from {@link #pendingCount()}, {@link #inFlightCount()}, {@link #completedCount()} and
+ * {@link #failedCount()}, and from the replication counters of the destination archive.
+ * <p>
+ * NOTE: A replication of an active recording without a stop position will follow the live recording and not end
+ * until the source recording stops.
+ * <p>
+ * NOTE: BulkReplication is not threadsafe and should <b>not</b> be used with a shared {@link AeronArchive} client.
+ */
+public final class BulkReplication implements AutoCloseable
+{
+    private final AeronArchive archive;
+    private final int srcControlStreamId;
+    private final String srcControlChannel;
+    private final ReplicationParams replicationParams;
+    private final int maxInFlight;
+    private final LongArrayQueue pendingSrcRecordingIds = new LongArrayQueue(Long.MIN_VALUE);
+    private final LongArrayQueue pendingDstRecordingIds = new LongArrayQueue(Long.MIN_VALUE);
+    private final Long2LongHashMap srcRecordingIdByReplicationId = new Long2LongHashMap(Aeron.NULL_VALUE);
+    private final LongHashSet failedReplicationIds = new LongHashSet();
+    private long activeCorrelationId = Aeron.NULL_VALUE;
+    private long activeSrcRecordingId = Aeron.NULL_VALUE;
+    private long completedCount = 0;
+    private long failedCount = 0;
+    private boolean isClosed = false;
+
+    /**
+     * Create a {@link BulkReplication} to replicate recordings from a source archive with a bounded number in flight.
+     *
+     * @param archive            client for the destination archive which must not be shared.
+     * @param srcControlStreamId remote control stream id for the source archive to instruct the replay on.
+     * @param srcControlChannel  remote control channel for the source archive to instruct the replay on.
+     * @param replicationParams  used for each replication with the destination recording id set as queued. The
+     *                           {@link ReplicationParams#replicationSessionId()} should not be set as replications run
+     *                           concurrently.
+     * @param maxInFlight        maximum number of replications to be in flight at once.
+     */
+    public BulkReplication(
+        final AeronArchive archive,
+        final int srcControlStreamId,
+        final String srcControlChannel,
+        final ReplicationParams replicationParams,
+        final int maxInFlight)
+    {
+        if (maxInFlight <= 0)
+        {
+            throw new IllegalArgumentException("maxInFlight must be > 0: " + maxInFlight);
+        }
+
+        this.archive = archive;
+        this.srcControlStreamId = srcControlStreamId;
+        this.srcControlChannel = srcControlChannel;
+        this.replicationParams = replicationParams;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Close and stop any replications in flight. Recordings which are still queued will not be replicated.
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            activeCorrelationId = Aeron.NULL_VALUE;
+            pendingSrcRecordingIds.clear();
+            pendingDstRecordingIds.clear();
+
+            if (!archive.context().aeron().isClosed() && archive.archiveProxy().publication().isConnected())
+            {
+                final Aeron aeron = archive.context().aeron();
+                final Long2LongHashMap.KeyIterator iterator = srcRecordingIdByReplicationId.keySet().iterator();
+                while (iterator.hasNext())
+                {
+                    archive.archiveProxy().stopReplication(
+                        iterator.nextValue(), aeron.nextCorrelationId(), archive.controlSessionId());
+                }
+            }
+
+            srcRecordingIdByReplicationId.clear();
+        }
+    }
+
+    /**
+     * Queue a recording to be replicated into a new recording in the destination archive.
+     *
+     * @param srcRecordingId recording id which must exist in the source archive.
+     */
+    public void add(final long srcRecordingId)
+    {
+        add(srcRecordingId, Aeron.NULL_VALUE);
+    }
+
+    /**
+     * Queue a recording to be replicated.
+     *
+     * @param srcRecordingId recording id which must exist in the source archive.
+     * @param dstRecordingId recording to extend in the destination, otherwise {@link Aeron#NULL_VALUE}.
+     */
+    public void add(final long srcRecordingId, final long dstRecordingId)
+    {
+        if (isClosed)
+        {
+            throw new ArchiveException("bulk replication is closed");
+        }
+
+        pendingSrcRecordingIds.addLong(srcRecordingId);
+        pendingDstRecordingIds.addLong(dstRecordingId);
+    }
+
+    /**
+     * Perform the work of polling for responses and signals and requesting the replication of queued recordings.
+     *
+     * @return indication of work done.
+     */
+    public int doWork()
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        int workCount = pollForResponse();
+
+        if (Aeron.NULL_VALUE == activeCorrelationId &&
+            srcRecordingIdByReplicationId.size() < maxInFlight &&
+            !pendingSrcRecordingIds.isEmpty())
+        {
+            final long correlationId = archive.context().aeron().nextCorrelationId();
+            replicationParams.dstRecordingId(pendingDstRecordingIds.peekLong());
+
+            if (archive.archiveProxy().replicate(
+                pendingSrcRecordingIds.peekLong(),
+                srcControlStreamId,
+                srcControlChannel,
+                replicationParams,
+                correlationId,
+                archive.controlSessionId()))
+            {
+                activeSrcRecordingId = pendingSrcRecordingIds.pollLong();
+                pendingDstRecordingIds.pollLong();
+                activeCorrelationId = correlationId;
+                workCount++;
+            }
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Have all the queued recordings been replicated or failed.
+     *
+     * @return true if there are no recordings queued or in flight.
+     */
+    public boolean isComplete()
+    {
+        return pendingCount() == 0 && inFlightCount() == 0;
+    }
+
+    /**
+     * Number of recordings queued which have not been requested for replication.
+     *
+     * @return number of recordings queued which have not been requested for replication.
+     */
+    public int pendingCount()
+    {
+        return pendingSrcRecordingIds.size() + (Aeron.NULL_VALUE != activeCorrelationId ? 1 : 0);
+    }
+
+    /**
+     * Number of replications which have been started and have not yet ended.
+     *
+     * @return number of replications which have been started and have not yet ended.
+     */
+    public int inFlightCount()
+    {
+        return srcRecordingIdByReplicationId.size();
+    }
+
+    /**
+     * Number of replications which have ended without error.
+     *
+     * @return number of replications which have ended without error.
+     */
+    public long completedCount()
+    {
+        return completedCount;
+    }
+
+    /**
+     * Number of replications which were rejected or ended with an error.
+     *
+     * @return number of replications which were rejected or ended with an error.
+     */
+    public long failedCount()
+    {
+        return failedCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "BulkReplication{" +
+            "srcControlStreamId=" + srcControlStreamId +
+            ", srcControlChannel='" + srcControlChannel + '\'' +
+            ", maxInFlight=" + maxInFlight +
+            ", pendingCount=" + pendingCount() +
+            ", inFlightCount=" + inFlightCount() +
+            ", completedCount=" + completedCount +
+            ", failedCount=" + failedCount +
+            ", isClosed=" + isClosed +
+            '}';
+    }
+
+    private int pollForResponse()
+    {
+        final ControlResponsePoller poller = archive.controlResponsePoller();
+        if (poller.poll() > 0 && poller.isPollComplete() && poller.controlSessionId() == archive.controlSessionId())
+        {
+            if (poller.templateId() == RecordingSignalEventDecoder.TEMPLATE_ID)
+            {
+                onSignal(poller);
+                return 1;
+            }
+            else if (poller.templateId() == ControlResponseDecoder.TEMPLATE_ID)
+            {
+                onResponse(poller);
+                return 1;
+            }
+        }
+
+        return 0;
+    }
+
+    private void onSignal(final ControlResponsePoller poller)
+    {
+        final long replicationId = poller.correlationId();
+        if (RecordingSignal.REPLICATE_END == poller.recordingSignal() &&
+            Aeron.NULL_VALUE != srcRecordingIdByReplicationId.remove(replicationId))
+        {
+            if (failedReplicationIds.remove(replicationId))
+            {
+                failedCount++;
+            }
+            else
+            {
+                completedCount++;
+            }
+        }
+
+        archive.context().recordingSignalConsumer().onSignal(
+            poller.controlSessionId(),
+            poller.correlationId(),
+            poller.recordingId(),
+            poller.subscriptionId(),
+            poller.position(),
+            poller.recordingSignal());
+    }
+
+    private void onResponse(final ControlResponsePoller poller)
+    {
+        final long correlationId = poller.correlationId();
+        final boolean isError = ControlResponseCode.ERROR == poller.code();
+
+        if (correlationId == activeCorrelationId)
+        {
+            activeCorrelationId = Aeron.NULL_VALUE;
+            if (!isError)
+            {
+                srcRecordingIdByReplicationId.put(poller.relevantId(), activeSrcRecordingId);
+                return;
+            }
+
+            failedCount++;
+        }
+        else if (isError && srcRecordingIdByReplicationId.containsKey(correlationId))
+        {
+            failedReplicationIds.add(correlationId);
+        }
+
+        if (isError)
+        {
+            final ArchiveException ex = new ArchiveException(
+                "replication error: " + poller.errorMessage(), (int)poller.relevantId(), correlationId);
+
+            if (null != archive.context().errorHandler())
+            {
+                archive.context().errorHandler().onError(ex);
+            }
+            else
+            {
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+
+/**
+ * Consumer of the recordings which matched a query with the fields which were projected.
+ * <p>
+ * Fields which were not in the projection of the query are {@link Aeron#NULL_VALUE}.
+ *
+ * @see RecordingQueryParams#projection(int)
+ */
+@FunctionalInterface
+public interface RecordingQueryConsumer
+{
+    /**
+     * A recording returned as a result of a query of recordings.
+     *
+     * @param controlSessionId of the originating session requesting the query.
+     * @param correlationId    of the associated request for the query.
+     * @param recordingId      of the recording which matched.
+     * @param startTimestamp   of the recording if projected.
+     * @param stopTimestamp    of the recording if projected.
+     * @param startPosition    of the recording if projected.
+     * @param stopPosition     of the recording if projected, which is {@link AeronArchive#NULL_POSITION} if active.
+     * @param streamId         of the recording if projected.
+     * @param sessionId        of the recording if projected.
+     */
+    void onRecording(
+        long controlSessionId,
+        long correlationId,
+        long recordingId,
+        long startTimestamp,
+        long stopTimestamp,
+        long startPosition,
+        long stopPosition,
+        int streamId,
+        int sessionId);
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+import io.aeron.archive.codecs.RecordingActivity;
+
+/**
+ * Fluent API for the filter and projection of a query of the recordings in an archive with
+ * {@link AeronArchive#queryRecordings(RecordingQueryParams, RecordingQueryConsumer)}.
+ * <p>
+ * The filter is applied by the archive so only the recordings which match are sent, and only the fields in the
+ * projection are sent for each of them, in batches, rather than a full descriptor per recording.
+ * <p>
+ * Not threadsafe.
+ */
+public class RecordingQueryParams
+{
+    /**
+     * Project the start timestamp of each recording.
+     */
+    public static final int START_TIMESTAMP = 1;
+
+    /**
+     * Project the stop timestamp of each recording.
+     */
+    public static final int STOP_TIMESTAMP = 1 << 1;
+
+    /**
+     * Project the start position of each recording.
+     */
+    public static final int START_POSITION = 1 << 2;
+
+    /**
+     * Project the stop position of each recording.
+     */
+    public static final int STOP_POSITION = 1 << 3;
+
+    /**
+     * Project the stream id of each recording.
+     */
+    public static final int STREAM_ID = 1 << 4;
+
+    /**
+     * Project the session id of each recording.
+     */
+    public static final int SESSION_ID = 1 << 5;
+
+    /**
+     * Project all the fields which can be projected.
+     */
+    public static final int ALL_FIELDS =
+        START_TIMESTAMP | STOP_TIMESTAMP | START_POSITION | STOP_POSITION | STREAM_ID | SESSION_ID;
+
+    private long fromRecordingId;
+    private int recordCount;
+    private int streamId;
+    private String channelFragment;
+    private RecordingActivity activity;
+    private long minStartTimestamp;
+    private long maxStartTimestamp;
+    private long minLength;
+    private int projection;
+
+    /**
+     * Default, initialise all values to match every recording and project only the recording id.
+     */
+    @SuppressWarnings("this-escape")
+    public RecordingQueryParams()
+    {
+        reset();
+    }
+
+    /**
+     * Reset all values to match every recording and project only the recording id, allows for an instance to be
+     * reused.
+     *
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams reset()
+    {
+        fromRecordingId = 0;
+        recordCount = Integer.MAX_VALUE;
+        streamId = Aeron.NULL_VALUE;
+        channelFragment = "";
+        activity = RecordingActivity.ANY;
+        minStartTimestamp = 0;
+        maxStartTimestamp = Long.MAX_VALUE;
+        minLength = 0;
+        projection = 0;
+        return this;
+    }
+
+    /**
+     * Set the recording id from which to begin the query.
+     *
+     * @param fromRecordingId from which to begin the query.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams fromRecordingId(final long fromRecordingId)
+    {
+        this.fromRecordingId = fromRecordingId;
+        return this;
+    }
+
+    /**
+     * Recording id from which to begin the query.
+     *
+     * @return recording id from which to begin the query.
+     */
+    public long fromRecordingId()
+    {
+        return fromRecordingId;
+    }
+
+    /**
+     * Set the maximum number of matching recordings to be returned.
+     *
+     * @param recordCount maximum number of matching recordings to be returned.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams recordCount(final int recordCount)
+    {
+        this.recordCount = recordCount;
+        return this;
+    }
+
+    /**
+     * Maximum number of matching recordings to be returned.
+     *
+     * @return maximum number of matching recordings to be returned.
+     */
+    public int recordCount()
+    {
+        return recordCount;
+    }
+
+    /**
+     * Set the stream id the recordings must have, or {@link Aeron#NULL_VALUE} for any stream.
+     *
+     * @param streamId the recordings must have or {@link Aeron#NULL_VALUE} for any stream.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams streamId(final int streamId)
+    {
+        this.streamId = streamId;
+        return this;
+    }
+
+    /**
+     * Stream id the recordings must have, or {@link Aeron#NULL_VALUE} for any stream.
+     *
+     * @return stream id the recordings must have, or {@link Aeron#NULL_VALUE} for any stream.
+     */
+    public int streamId()
+    {
+        return streamId;
+    }
+
+    /**
+     * Set the fragment which the original channel of the recordings must contain, empty or null for any channel.
+     *
+     * @param channelFragment the original channel of the recordings must contain.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams channelFragment(final String channelFragment)
+    {
+        this.channelFragment = null == channelFragment ? "" : channelFragment;
+        return this;
+    }
+
+    /**
+     * Fragment which the original channel of the recordings must contain.
+     *
+     * @return fragment which the original channel of the recordings must contain.
+     */
+    public String channelFragment()
+    {
+        return channelFragment;
+    }
+
+    /**
+     * Set whether the recordings must be active, stopped, or either.
+     *
+     * @param activity the recordings must have.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams activity(final RecordingActivity activity)
+    {
+        this.activity = activity;
+        return this;
+    }
+
+    /**
+     * Whether the recordings must be active, stopped, or either.
+     *
+     * @return the activity the recordings must have.
+     */
+    public RecordingActivity activity()
+    {
+        return activity;
+    }
+
+    /**
+     * Set the range of timestamps in which the recordings must have started, inclusive.
+     *
+     * @param minStartTimestamp earliest start timestamp of the recordings.
+     * @param maxStartTimestamp latest start timestamp of the recordings.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams startTimestampRange(final long minStartTimestamp, final long maxStartTimestamp)
+    {
+        this.minStartTimestamp = minStartTimestamp;
+        this.maxStartTimestamp = maxStartTimestamp;
+        return this;
+    }
+
+    /**
+     * Earliest start timestamp of the recordings.
+     *
+     * @return earliest start timestamp of the recordings.
+     */
+    public long minStartTimestamp()
+    {
+        return minStartTimestamp;
+    }
+
+    /**
+     * Latest start timestamp of the recordings.
+     *
+     * @return latest start timestamp of the recordings.
+     */
+    public long maxStartTimestamp()
+    {
+        return maxStartTimestamp;
+    }
+
+    /**
+     * Set the minimum length of the recordings from their start position to their stop position, or to their
+     * recorded position when active.
+     *
+     * @param minLength of the recordings.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams minLength(final long minLength)
+    {
+        this.minLength = minLength;
+        return this;
+    }
+
+    /**
+     * Minimum length of the recordings.
+     *
+     * @return minimum length of the recordings.
+     */
+    public long minLength()
+    {
+        return minLength;
+    }
+
+    /**
+     * Set the fields to be returned for each recording in addition to its recording id, as a combination of
+     * {@link #START_TIMESTAMP}, {@link #STOP_TIMESTAMP}, {@link #START_POSITION}, {@link #STOP_POSITION},
+     * {@link #STREAM_ID}, and {@link #SESSION_ID}.
+     *
+     * @param projection of the fields to be returned.
+     * @return this for a fluent API.
+     */
+    public RecordingQueryParams projection(final int projection)
+    {
+        this.projection = projection;
+        return this;
+    }
+
+    /**
+     * Fields to be returned for each recording in addition to its recording id.
+     *
+     * @return fields to be returned for each recording in addition to its recording id.
+     */
+    public int projection()
+    {
+        return projection;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "RecordingQueryParams{" +
+            "fromRecordingId=" + fromRecordingId +
+            ", recordCount=" + recordCount +
+            ", streamId=" + streamId +
+            ", channelFragment='" + channelFragment + '\'' +
+            ", activity=" + activity +
+            ", minStartTimestamp=" + minStartTimestamp +
+            ", maxStartTimestamp=" + maxStartTimestamp +
+            ", minLength=" + minLength +
+            ", projection=" + projection +
+            '}';
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.ControlledFragmentAssembler;
+import io.aeron.Subscription;
+import io.aeron.archive.codecs.*;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.ErrorHandler;
+
+import static io.aeron.Aeron.NULL_VALUE;
+import static io.aeron.archive.client.RecordingQueryParams.*;
+
+/**
+ * Encapsulate the polling, decoding, dispatching of the batches of recordings which matched a query of an archive.
+ */
+public final class RecordingQueryPoller
+{
+    private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+    private final ControlResponseDecoder controlResponseDecoder = new ControlResponseDecoder();
+    private final RecordingQueryBatchDecoder recordingQueryBatchDecoder = new RecordingQueryBatchDecoder();
+    private final RecordingSignalEventDecoder recordingSignalEventDecoder = new RecordingSignalEventDecoder();
+
+    private final long controlSessionId;
+    private final int fragmentLimit;
+    private final Subscription subscription;
+    private final ControlledFragmentAssembler fragmentAssembler = new ControlledFragmentAssembler(this::onFragment);
+    private final ErrorHandler errorHandler;
+    private final RecordingSignalConsumer recordingSignalConsumer;
+
+    private long correlationId;
+    private int recordCount;
+    private boolean isDispatchComplete = false;
+    private RecordingQueryConsumer recordingQueryConsumer;
+
+    /**
+     * Create a poller for a given subscription to an archive for control response messages.
+     *
+     * @param subscription            to poll for new events.
+     * @param errorHandler            to call for asynchronous errors.
+     * @param recordingSignalConsumer for consuming interleaved recording signals on the control session.
+     * @param controlSessionId        to filter the responses.
+     * @param fragmentLimit           to apply for each polling operation.
+     */
+    public RecordingQueryPoller(
+        final Subscription subscription,
+        final ErrorHandler errorHandler,
+        final RecordingSignalConsumer recordingSignalConsumer,
+        final long controlSessionId,
+        final int fragmentLimit)
+    {
+        this.subscription = subscription;
+        this.errorHandler = errorHandler;
+        this.recordingSignalConsumer = recordingSignalConsumer;
+        this.fragmentLimit = fragmentLimit;
+        this.controlSessionId = controlSessionId;
+    }
+
+    /**
+     * Get the {@link Subscription} used for polling responses.
+     *
+     * @return the {@link Subscription} used for polling responses.
+     */
+    public Subscription subscription()
+    {
+        return subscription;
+    }
+
+    /**
+     * Poll for batches of recordings.
+     *
+     * @return the number of fragments read during the operation. Zero if no events are available.
+     */
+    public int poll()
+    {
+        if (isDispatchComplete)
+        {
+            isDispatchComplete = false;
+        }
+
+        return subscription.controlledPoll(fragmentAssembler, fragmentLimit);
+    }
+
+    /**
+     * Control session id for filtering responses.
+     *
+     * @return control session id for filtering responses.
+     */
+    public long controlSessionId()
+    {
+        return controlSessionId;
+    }
+
+    /**
+     * Is the dispatch of the recordings which matched the query complete?
+     *
+     * @return true if the last batch of recordings has been dispatched.
+     */
+    public boolean isDispatchComplete()
+    {
+        return isDispatchComplete;
+    }
+
+    /**
+     * Get the number of recordings dispatched since the last reset.
+     *
+     * @return the number of recordings dispatched since the last reset.
+     */
+    public int recordCount()
+    {
+        return recordCount;
+    }
+
+    /**
+     * Reset the poller to dispatch the recordings returned from a query.
+     *
+     * @param correlationId for the response.
+     * @param consumer      to which the recordings are to be dispatched.
+     */
+    public void reset(final long correlationId, final RecordingQueryConsumer consumer)
+    {
+        this.correlationId = correlationId;
+        this.recordingQueryConsumer = consumer;
+        this.recordCount = 0;
+        isDispatchComplete = false;
+    }
+
+    ControlledFragmentAssembler.Action onFragment(
+        final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if (isDispatchComplete)
+        {
+            return ControlledFragmentAssembler.Action.ABORT;
+        }
+
+        messageHeaderDecoder.wrap(buffer, offset);
+
+        final int schemaId = messageHeaderDecoder.schemaId();
+        if (schemaId != MessageHeaderDecoder.SCHEMA_ID)
+        {
+            throw new ArchiveException("expected schemaId=" + MessageHeaderDecoder.SCHEMA_ID + ", actual=" + schemaId);
+        }
+
+        final int templateId = messageHeaderDecoder.templateId();
+        switch (templateId)
+        {
+            case ControlResponseDecoder.TEMPLATE_ID:
+                controlResponseDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderEncoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                if (controlResponseDecoder.controlSessionId() == controlSessionId &&
+                    ControlResponseCode.ERROR == controlResponseDecoder.code())
+                {
+                    final long responseCorrelationId = controlResponseDecoder.correlationId();
+                    final ArchiveException ex = new ArchiveException(
+                        "response for correlationId=" + correlationId +
+                        ", error: " + controlResponseDecoder.errorMessage(),
+                        (int)controlResponseDecoder.relevantId(),
+                        responseCorrelationId);
+
+                    if (responseCorrelationId == correlationId)
+                    {
+                        throw ex;
+                    }
+                    else if (null != errorHandler)
+                    {
+                        errorHandler.onError(ex);
+                    }
+                }
+                break;
+
+            case RecordingQueryBatchDecoder.TEMPLATE_ID:
+                recordingQueryBatchDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderEncoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                if (recordingQueryBatchDecoder.controlSessionId() == controlSessionId &&
+                    recordingQueryBatchDecoder.correlationId() == correlationId)
+                {
+                    dispatchBatch();
+
+                    if (BooleanType.TRUE == recordingQueryBatchDecoder.isLast())
+                    {
+                        isDispatchComplete = true;
+                        return ControlledFragmentAssembler.Action.BREAK;
+                    }
+                }
+                break;
+
+            case RecordingSignalEventDecoder.TEMPLATE_ID:
+                recordingSignalEventDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                if (controlSessionId == recordingSignalEventDecoder.controlSessionId())
+                {
+                    recordingSignalConsumer.onSignal(
+                        recordingSignalEventDecoder.controlSessionId(),
+                        recordingSignalEventDecoder.correlationId(),
+                        recordingSignalEventDecoder.recordingId(),
+                        recordingSignalEventDecoder.subscriptionId(),
+                        recordingSignalEventDecoder.position(),
+                        recordingSignalEventDecoder.signal());
+                }
+                break;
+        }
+
+        return ControlledFragmentAssembler.Action.CONTINUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "RecordingQueryPoller{" +
+            "controlSessionId=" + controlSessionId +
+            ", correlationId=" + correlationId +
+            ", recordCount=" + recordCount +
+            ", isDispatchComplete=" + isDispatchComplete +
+            '}';
+    }
+
+    private void dispatchBatch()
+    {
+        final int projection = recordingQueryBatchDecoder.projection();
+        final RecordingQueryBatchDecoder.ValuesDecoder values = recordingQueryBatchDecoder.values();
+
+        while (values.hasNext())
+        {
+            final long recordingId = values.next().value();
+            final long startTimestamp = nextValue(values, projection, START_TIMESTAMP);
+            final long stopTimestamp = nextValue(values, projection, STOP_TIMESTAMP);
+            final long startPosition = nextValue(values, projection, START_POSITION);
+            final long stopPosition = nextValue(values, projection, STOP_POSITION);
+            final int streamId = (int)nextValue(values, projection, STREAM_ID);
+            final int sessionId = (int)nextValue(values, projection, SESSION_ID);
+
+            recordCount++;
+            recordingQueryConsumer.onRecording(
+                controlSessionId,
+                correlationId,
+                recordingId,
+                startTimestamp,
+                stopTimestamp,
+                startPosition,
+                stopPosition,
+                streamId,
+                sessionId);
+        }
+    }
+
+    private static long nextValue(
+        final RecordingQueryBatchDecoder.ValuesDecoder values, final int projection, final int field)
+    {
+        if (0 == (projection & field))
+        {
+            return NULL_VALUE;
+        }
+
+        if (!values.hasNext())
+        {
+            throw new ArchiveException("recording query batch truncated, projection=" + projection);
+        }
+
+        return values.next().value();
+    }
+}
@@ -20,7 +20,9 @@ import io.aeron.archive.codecs.ControlResponseCode;
 import io.aeron.exceptions.TimeoutException;
 import io.aeron.logbuffer.FragmentHandler;
 import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.status.AtomicCounter;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.CommonContext.*;
@@ -37,6 +39,12 @@ import static io.aeron.CommonContext.*;
  * If the endpoint on the replay destination uses a port of 0, then the OS will assign a port from the ephemeral
  * range and this will be added to the replay channel for instructing the archive.
  * <p>
+ * The live stream can be merged from multiple live destinations, which are all added once the replay is close
+ * enough. When the recording has been replicated to multiple archives, the replay source is selected from those
+ * which respond within a short window as the one with the highest recorded position, i.e. closest to live, with
+ * ties going to the one which responded first. The file I/O length of the replay, and a window in which it must be
+ * seen to close the gap to the live stream, can be set with {@link ReplayMergeParams}.
+ * <p>
  * NOTE: Merging is only supported with UDP streams.
  * <p>
  * NOTE: ReplayMerge is not threadsafe and should <b>not</b> be used with a shared {@link AeronArchive} client.
@@ -52,6 +60,7 @@ public final class ReplayMerge implements AutoCloseable
     private static final long MERGE_PROGRESS_TIMEOUT_DEFAULT_MS = TimeUnit.SECONDS.toMillis(5);
     private static final long INITIAL_GET_MAX_RECORDED_POSITION_BACKOFF_MS = 8;
     private static final long GET_MAX_RECORDED_POSITION_BACKOFF_MAX_MS = 500;
+    private static final long SOURCE_SELECTION_WINDOW_MS = 100;
 
     @SuppressWarnings("JavadocVariable")
     enum State
@@ -66,9 +75,19 @@ public final class ReplayMerge implements AutoCloseable
         CLOSED
     }
 
-    private final long recordingId;
-    private final long startPosition;
     private final long mergeProgressTimeoutMs;
+    private final long timeOfStartMs;
+    private final long catchupWindowMs;
+    private final long startPosition;
+    private final int replayFileIoMaxLength;
+    private long recordingId;
+    private long timeOfCatchupWindowStartMs = Aeron.NULL_VALUE;
+    private long gapAtCatchupWindowStart;
+    private long timeOfFirstSourceResponseMs = Aeron.NULL_VALUE;
+    private int sourceResponseCount;
+    private int sourceIndex = Aeron.NULL_VALUE;
+    private long catchupLatencyMs = Aeron.NULL_VALUE;
+    private long mergeLatencyMs = Aeron.NULL_VALUE;
     private long replaySessionId = Aeron.NULL_VALUE;
     private long activeCorrelationId = Aeron.NULL_VALUE;
     private long nextTargetPosition = Aeron.NULL_VALUE;
@@ -81,12 +100,20 @@ public final class ReplayMerge implements AutoCloseable
     private State state;
     private Image image;
 
-    private final AeronArchive archive;
+    private AeronArchive archive;
+    private final AeronArchive[] archives;
+    private final long[] recordingIds;
+    private final long[] sourceCorrelationIds;
+    private final long[] sourcePositions;
+    private final int[] sourceResponseOrder;
     private final Subscription subscription;
     private final EpochClock epochClock;
     private final String replayDestination;
-    private final String liveDestination;
+    private final String[] liveDestinations;
     private final ChannelUri replayChannelUri;
+    private final ReplayParams replayParams = new ReplayParams();
+    private final AtomicCounter catchupLatencyCounter;
+    private final AtomicCounter mergeLatencyCounter;
 
     /**
      * Create a {@link ReplayMerge} to manage the merging of a replayed stream and switching over to live stream as
@@ -113,28 +140,101 @@ public final class ReplayMerge implements AutoCloseable
         final EpochClock epochClock,
         final long mergeProgressTimeoutMs)
     {
+        this(
+            subscription,
+            new AeronArchive[]{ archive },
+            new long[]{ recordingId },
+            replayChannel,
+            replayDestination,
+            new String[]{ liveDestination },
+            startPosition,
+            epochClock,
+            mergeProgressTimeoutMs,
+            new ReplayMergeParams());
+    }
+
+    /**
+     * Create a {@link ReplayMerge} to manage the merging of a replayed stream, from the fastest of a number of archives
+     * to which it has been replicated, and switching over to multiple live destinations as appropriate.
+     *
+     * @param subscription           to use for the replay and live stream. Must be a multi-destination subscription.
+     * @param archives               from which the replay source is selected.
+     * @param recordingIds           for the replay in each of the archives.
+     * @param replayChannel          to as a template for what the archive will use.
+     * @param replayDestination      to send the replay to and the destination added by the {@link Subscription}.
+     * @param liveDestinations       for the live stream and the destinations added by the {@link Subscription}.
+     * @param startPosition          for the replay.
+     * @param epochClock             to use for progress checks.
+     * @param mergeProgressTimeoutMs to use for progress checks.
+     * @param params                 for the replay file I/O length, the catch-up window, and the latency counters.
+     */
+    public ReplayMerge(
+        final Subscription subscription,
+        final AeronArchive[] archives,
+        final long[] recordingIds,
+        final String replayChannel,
+        final String replayDestination,
+        final String[] liveDestinations,
+        final long startPosition,
+        final EpochClock epochClock,
+        final long mergeProgressTimeoutMs,
+        final ReplayMergeParams params)
+    {
+        if (0 == archives.length || archives.length != recordingIds.length)
+        {
+            throw new IllegalArgumentException("an archive is required for each recordingId: archives=" +
+                archives.length + ", recordingIds=" + recordingIds.length);
+        }
+
+        if (0 == liveDestinations.length)
+        {
+            throw new IllegalArgumentException("at least one live destination is required");
+        }
+
         if (subscription.channel().startsWith(IPC_CHANNEL) ||
             replayChannel.startsWith(IPC_CHANNEL) ||
-            replayDestination.startsWith(IPC_CHANNEL) ||
-            liveDestination.startsWith(IPC_CHANNEL))
+            replayDestination.startsWith(IPC_CHANNEL))
         {
             throw new IllegalArgumentException("IPC merging is not supported");
         }
 
+        for (final String liveDestination : liveDestinations)
+        {
+            if (liveDestination.startsWith(IPC_CHANNEL))
+            {
+                throw new IllegalArgumentException("IPC merging is not supported");
+            }
+        }
+
         if (!subscription.channel().contains("control-mode=manual"))
         {
             throw new IllegalArgumentException(
                 "Subscription URI must have 'control-mode=manual' uri=" + subscription.channel());
         }
 
-        this.archive = archive;
+        this.archives = archives;
+        this.recordingIds = recordingIds;
+        this.archive = archives[0];
+        this.recordingId = recordingIds[0];
         this.subscription = subscription;
         this.epochClock = epochClock;
         this.replayDestination = replayDestination;
-        this.liveDestination = liveDestination;
-        this.recordingId = recordingId;
+        this.liveDestinations = liveDestinations;
         this.startPosition = startPosition;
         this.mergeProgressTimeoutMs = mergeProgressTimeoutMs;
+        this.replayFileIoMaxLength = params.replayFileIoMaxLength();
+        this.catchupWindowMs = params.catchupWindowMs();
+        this.catchupLatencyCounter = params.catchupLatencyCounter();
+        this.mergeLatencyCounter = params.mergeLatencyCounter();
+
+        sourceCorrelationIds = new long[archives.length];
+        sourcePositions = new long[archives.length];
+        sourceResponseOrder = new int[archives.length];
+        resetSourceSelection();
+        if (1 == archives.length)
+        {
+            sourceIndex = 0;
+        }
 
         replayChannelUri = ChannelUri.parse(replayChannel);
         replayChannelUri.put(CommonContext.LINGER_PARAM_NAME, "0");
@@ -152,7 +252,7 @@ public final class ReplayMerge implements AutoCloseable
         }
 
         subscription.asyncAddDestination(replayDestination);
-        timeOfLastProgressMs = timeOfNextGetMaxRecordedPositionMs = epochClock.time();
+        timeOfStartMs = timeOfLastProgressMs = timeOfNextGetMaxRecordedPositionMs = epochClock.time();
     }
 
     /**
@@ -333,6 +433,36 @@ public final class ReplayMerge implements AutoCloseable
         return isLiveAdded;
     }
 
+    /**
+     * Index of the archive selected as the source of the replay, or {@link Aeron#NULL_VALUE} if not yet selected.
+     *
+     * @return index of the archive selected as the source of the replay or {@link Aeron#NULL_VALUE}.
+     */
+    public int sourceIndex()
+    {
+        return sourceIndex;
+    }
+
+    /**
+     * Time in milliseconds from the start of the merge until the live destinations were added.
+     *
+     * @return time from the start of the merge until the live destinations were added or {@link Aeron#NULL_VALUE}.
+     */
+    public long catchupLatencyMs()
+    {
+        return catchupLatencyMs;
+    }
+
+    /**
+     * Time in milliseconds from the start of the merge until it was merged with the live stream.
+     *
+     * @return time from the start of the merge until it was merged with the live stream or {@link Aeron#NULL_VALUE}.
+     */
+    public long mergeLatencyMs()
+    {
+        return mergeLatencyMs;
+    }
+
     private int resolveReplayPort(final long nowMs)
     {
         int workCount = 0;
@@ -352,6 +482,11 @@ public final class ReplayMerge implements AutoCloseable
 
     private int getRecordingPosition(final long nowMs)
     {
+        if (Aeron.NULL_VALUE == sourceIndex)
+        {
+            return selectSource(nowMs);
+        }
+
         int workCount = 0;
 
         if (Aeron.NULL_VALUE == activeCorrelationId)
@@ -386,13 +521,16 @@ public final class ReplayMerge implements AutoCloseable
         if (Aeron.NULL_VALUE == activeCorrelationId)
         {
             final long correlationId = archive.context().aeron().nextCorrelationId();
+            replayParams
+                .position(startPosition)
+                .length(Long.MAX_VALUE)
+                .fileIoMaxLength(replayFileIoMaxLength);
 
             if (archive.archiveProxy().replay(
                 recordingId,
-                startPosition,
-                Long.MAX_VALUE,
                 replayChannelUri.toString(),
                 subscription.streamId(),
+                replayParams,
                 correlationId,
                 archive.controlSessionId()))
             {
@@ -487,10 +625,18 @@ public final class ReplayMerge implements AutoCloseable
                     final long position = image.position();
                     if (shouldAddLiveDestination(position))
                     {
-                        subscription.asyncAddDestination(liveDestination);
+                        for (final String liveDestination : liveDestinations)
+                        {
+                            subscription.asyncAddDestination(liveDestination);
+                        }
                         timeOfLastProgressMs = nowMs;
                         positionOfLastProgress = position;
                         isLiveAdded = true;
+                        catchupLatencyMs = nowMs - timeOfStartMs;
+                        if (null != catchupLatencyCounter)
+                        {
+                            catchupLatencyCounter.setRelease(catchupLatencyMs);
+                        }
                     }
                     else if (shouldStopAndRemoveReplay(position))
                     {
@@ -499,6 +645,15 @@ public final class ReplayMerge implements AutoCloseable
                         timeOfLastProgressMs = nowMs;
                         positionOfLastProgress = position;
                         nextState = State.MERGED;
+                        mergeLatencyMs = nowMs - timeOfStartMs;
+                        if (null != mergeLatencyCounter)
+                        {
+                            mergeLatencyCounter.setRelease(mergeLatencyMs);
+                        }
+                    }
+                    else if (!isLiveAdded)
+                    {
+                        checkCatchupWindow(nowMs, position);
                     }
                 }
 
@@ -511,6 +666,130 @@ public final class ReplayMerge implements AutoCloseable
         return workCount;
     }
 
+    private int selectSource(final long nowMs)
+    {
+        int workCount = 0;
+
+        for (int i = 0; i < archives.length; i++)
+        {
+            final AeronArchive sourceArchive = archives[i];
+            if (Aeron.NULL_VALUE == sourceCorrelationIds[i])
+            {
+                final long correlationId = sourceArchive.context().aeron().nextCorrelationId();
+                if (sourceArchive.archiveProxy().getMaxRecordedPosition(
+                    recordingIds[i], correlationId, sourceArchive.controlSessionId()))
+                {
+                    sourceCorrelationIds[i] = correlationId;
+                    workCount += 1;
+                }
+            }
+            else if (Aeron.NULL_VALUE == sourceResponseOrder[i])
+            {
+                try
+                {
+                    if (pollForResponse(sourceArchive, sourceCorrelationIds[i]))
+                    {
+                        sourcePositions[i] = polledRelevantId(sourceArchive);
+                        onSourceResponse(i, nowMs);
+                        workCount += 1;
+                    }
+                }
+                catch (final ArchiveException ex)
+                {
+                    if (ex.correlationId() != sourceCorrelationIds[i])
+                    {
+                        throw ex;
+                    }
+
+                    onSourceResponse(i, nowMs);
+                    workCount += 1;
+                }
+            }
+        }
+
+        if (Aeron.NULL_VALUE != timeOfFirstSourceResponseMs &&
+            (archives.length == sourceResponseCount ||
+            nowMs >= (timeOfFirstSourceResponseMs + SOURCE_SELECTION_WINDOW_MS)))
+        {
+            int selectedIndex = Aeron.NULL_VALUE;
+            for (int i = 0; i < archives.length; i++)
+            {
+                if (AeronArchive.NULL_POSITION != sourcePositions[i] &&
+                    (Aeron.NULL_VALUE == selectedIndex ||
+                    sourcePositions[i] > sourcePositions[selectedIndex] ||
+                    (sourcePositions[i] == sourcePositions[selectedIndex] &&
+                    sourceResponseOrder[i] < sourceResponseOrder[selectedIndex])))
+                {
+                    selectedIndex = i;
+                }
+            }
+
+            if (Aeron.NULL_VALUE != selectedIndex)
+            {
+                sourceIndex = selectedIndex;
+                archive = archives[selectedIndex];
+                recordingId = recordingIds[selectedIndex];
+                nextTargetPosition = sourcePositions[selectedIndex];
+                timeOfLastProgressMs = nowMs;
+                state(State.REPLAY);
+            }
+            else if (archives.length == sourceResponseCount)
+            {
+                resetSourceSelection();
+            }
+
+            workCount += 1;
+        }
+
+        return workCount;
+    }
+
+    private void onSourceResponse(final int index, final long nowMs)
+    {
+        if (Aeron.NULL_VALUE == timeOfFirstSourceResponseMs)
+        {
+            timeOfFirstSourceResponseMs = nowMs;
+        }
+
+        sourceResponseOrder[index] = sourceResponseCount++;
+    }
+
+    private void resetSourceSelection()
+    {
+        Arrays.fill(sourceCorrelationIds, Aeron.NULL_VALUE);
+        Arrays.fill(sourcePositions, AeronArchive.NULL_POSITION);
+        Arrays.fill(sourceResponseOrder, Aeron.NULL_VALUE);
+        sourceResponseCount = 0;
+        timeOfFirstSourceResponseMs = Aeron.NULL_VALUE;
+    }
+
+    private void checkCatchupWindow(final long nowMs, final long position)
+    {
+        if (catchupWindowMs <= 0)
+        {
+            return;
+        }
+
+        final long gap = nextTargetPosition - position;
+        if (Aeron.NULL_VALUE == timeOfCatchupWindowStartMs)
+        {
+            timeOfCatchupWindowStartMs = nowMs;
+            gapAtCatchupWindowStart = gap;
+        }
+        else if (nowMs - timeOfCatchupWindowStartMs >= catchupWindowMs)
+        {
+            if (gap >= gapAtCatchupWindowStart)
+            {
+                throw new TimeoutException("ReplayMerge unable to catch up with live: gap=" + gap +
+                    ", gapAtCatchupWindowStart=" + gapAtCatchupWindowStart +
+                    ", replayFileIoMaxLength=" + replayFileIoMaxLength + ", catchupWindowMs=" + catchupWindowMs);
+            }
+
+            timeOfCatchupWindowStartMs = nowMs;
+            gapAtCatchupWindowStart = gap;
+        }
+    }
+
     private boolean callGetMaxRecordedPosition(final long nowMs)
     {
         if (nowMs < timeOfNextGetMaxRecordedPositionMs)
@@ -614,6 +893,8 @@ public final class ReplayMerge implements AutoCloseable
             ", positionOfLastProgress=" + positionOfLastProgress +
             ", isLiveAdded=" + isLiveAdded +
             ", isReplayActive=" + isReplayActive +
+            ", sourceIndex=" + sourceIndex +
+            ", replayFileIoMaxLength=" + replayFileIoMaxLength +
             ", replayChannelUri=" + replayChannelUri +
             ", image=" + image +
             '}';
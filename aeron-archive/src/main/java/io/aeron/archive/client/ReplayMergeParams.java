@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+import io.aeron.AeronCounters;
+import org.agrona.concurrent.status.AtomicCounter;
+
+/**
+ * Fluent API for setting optional parameters of a {@link ReplayMerge}, such as the rate at which the replay catches
+ * up with the live stream and the counters to which the latency of the merge is reported.
+ * <p>
+ * The replay uses {@link #replayFileIoMaxLength()} so it has a bounded impact on the archive. When a
+ * {@link #catchupWindowMs()} is set, the gap between the replay and the live stream must close within each window.
+ * If it does not then the merge fails, rather than chasing the live stream forever, so it can be retried with a
+ * greater file I/O length. The replay is not restarted within a merge as the image of a stopped replay remains until
+ * it times out, which would stall the merge.
+ * <p>
+ * Not threadsafe.
+ */
+public class ReplayMergeParams
+{
+    private int replayFileIoMaxLength;
+    private long catchupWindowMs;
+    private AtomicCounter catchupLatencyCounter;
+    private AtomicCounter mergeLatencyCounter;
+
+    /**
+     * Default, initialise all values to "null" so the replay is not rate controlled and no counters are updated.
+     */
+    @SuppressWarnings("this-escape")
+    public ReplayMergeParams()
+    {
+        reset();
+    }
+
+    /**
+     * Reset all value to "null", allows for an instance to be reused.
+     *
+     * @return this for a fluent API.
+     */
+    public ReplayMergeParams reset()
+    {
+        replayFileIoMaxLength = Aeron.NULL_VALUE;
+        catchupWindowMs = 0;
+        catchupLatencyCounter = null;
+        mergeLatencyCounter = null;
+        return this;
+    }
+
+    /**
+     * The maximum size of a file operation when reading from the archive for the replay of the merge.
+     * If {@link Aeron#NULL_VALUE} (the default) then the value defined in the archive context is used.
+     *
+     * @param replayFileIoMaxLength maximum length of a replay file operation.
+     * @return this for a fluent API.
+     * @see ReplayParams#fileIoMaxLength(int)
+     */
+    public ReplayMergeParams replayFileIoMaxLength(final int replayFileIoMaxLength)
+    {
+        this.replayFileIoMaxLength = replayFileIoMaxLength;
+        return this;
+    }
+
+    /**
+     * The maximum size of a file operation when reading from the archive for the replay of the merge.
+     *
+     * @return maximum length of a replay file operation.
+     * @see ReplayMergeParams#replayFileIoMaxLength(int)
+     */
+    public int replayFileIoMaxLength()
+    {
+        return replayFileIoMaxLength;
+    }
+
+    /**
+     * The window in which the gap between the replay and the live stream must close until the live destinations are
+     * added, or the merge fails. The gap is checked once per window so it should be a number of times greater than
+     * the interval at which the recorded position is polled. Set to 0 (the default) to disable the check.
+     *
+     * @param catchupWindowMs in which the gap between the replay and the live stream must close.
+     * @return this for a fluent API.
+     */
+    public ReplayMergeParams catchupWindowMs(final long catchupWindowMs)
+    {
+        this.catchupWindowMs = catchupWindowMs;
+        return this;
+    }
+
+    /**
+     * The window in which the gap between the replay and the live stream must close.
+     *
+     * @return window in which the gap between the replay and the live stream must close, 0 if disabled.
+     * @see ReplayMergeParams#catchupWindowMs(long)
+     */
+    public long catchupWindowMs()
+    {
+        return catchupWindowMs;
+    }
+
+    /**
+     * Counter to be set with the time in milliseconds from the start of the merge until the replay is close enough for
+     * the live destinations to be added. The counter is not owned by the {@link ReplayMerge} so can be reused for
+     * subsequent merges and should be of type {@link AeronCounters#ARCHIVE_REPLAY_MERGE_CATCHUP_LATENCY_TYPE_ID}.
+     *
+     * @param catchupLatencyCounter to be set or null if not required.
+     * @return this for a fluent API.
+     */
+    public ReplayMergeParams catchupLatencyCounter(final AtomicCounter catchupLatencyCounter)
+    {
+        this.catchupLatencyCounter = catchupLatencyCounter;
+        return this;
+    }
+
+    /**
+     * Counter to be set with the time from the start of the merge until the live destinations are added.
+     *
+     * @return counter to be set with the time from the start of the merge until the live destinations are added.
+     * @see ReplayMergeParams#catchupLatencyCounter(AtomicCounter)
+     */
+    public AtomicCounter catchupLatencyCounter()
+    {
+        return catchupLatencyCounter;
+    }
+
+    /**
+     * Counter to be set with the time in milliseconds from the start of the merge until it is merged with the live
+     * stream and the replay stopped. The counter is not owned by the {@link ReplayMerge} so can be reused for
+     * subsequent merges and should be of type {@link AeronCounters#ARCHIVE_REPLAY_MERGE_LATENCY_TYPE_ID}.
+     *
+     * @param mergeLatencyCounter to be set or null if not required.
+     * @return this for a fluent API.
+     */
+    public ReplayMergeParams mergeLatencyCounter(final AtomicCounter mergeLatencyCounter)
+    {
+        this.mergeLatencyCounter = mergeLatencyCounter;
+        return this;
+    }
+
+    /**
+     * Counter to be set with the time from the start of the merge until it is merged with the live stream.
+     *
+     * @return counter to be set with the time from the start of the merge until it is merged with the live stream.
+     * @see ReplayMergeParams#mergeLatencyCounter(AtomicCounter)
+     */
+    public AtomicCounter mergeLatencyCounter()
+    {
+        return mergeLatencyCounter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "ReplayMergeParams{" +
+            "replayFileIoMaxLength=" + replayFileIoMaxLength +
+            ", catchupWindowMs=" + catchupWindowMs +
+            '}';
+    }
+}
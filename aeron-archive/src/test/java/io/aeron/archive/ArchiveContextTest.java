@@ -113,6 +113,13 @@ class ArchiveContextTest
                 countersReader, ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID, 111, "label"))
             .totalWriteTimeCounter(mockCounter(countersReader, ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID, 222, "label"))
             .maxWriteTimeCounter(mockCounter(countersReader, ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID, 333, "label"))
+            .replicationSessionCounter(mockCounter(
+                countersReader, ARCHIVE_REPLICATION_SESSION_COUNT_TYPE_ID, 103, "label"))
+            .replicationBytesCounter(mockCounter(countersReader, ARCHIVE_REPLICATION_BYTES_TYPE_ID, 104, "label"))
+            .catalogLiveDescriptorsCounter(mockCounter(
+                countersReader, ARCHIVE_CATALOG_LIVE_DESCRIPTORS_TYPE_ID, 105, "label"))
+            .catalogDeadDescriptorsCounter(mockCounter(
+                countersReader, ARCHIVE_CATALOG_DEAD_DESCRIPTORS_TYPE_ID, 106, "label"))
             .totalReadBytesCounter(mockCounter(countersReader, ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID, 77, "label"))
             .totalReadTimeCounter(mockCounter(countersReader, ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID, 88, "label"))
             .maxReadTimeCounter(mockCounter(countersReader, ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID, 99, "label"));
@@ -202,6 +209,18 @@ class ArchiveContextTest
         assertThrows(ConfigurationException.class, context::conclude);
     }
 
+    @Test
+    void shouldThrowIfReplayReadAheadOfMappedSegmentsIsUsedInInvokerMode()
+    {
+        context
+            .threadingMode(ArchiveThreadingMode.INVOKER)
+            .replayMapSegmentFiles(true)
+            .replayReadAheadLength(TERM_MIN_LENGTH);
+
+        final ConfigurationException exception = assertThrows(ConfigurationException.class, context::conclude);
+        assertThat(exception.getMessage(), containsString("replayReadAheadLength"));
+    }
+
     @Test
     void shouldDeriveArchiveClientContextResponseChannelFromArchiveControlChannel()
     {
@@ -410,6 +429,53 @@ class ArchiveContextTest
         assertTrue(exception.getMessage().endsWith("expected=" + ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID));
     }
 
+    @Test
+    void concludeCreatesReplicationBytesCounter()
+    {
+        context.replicationBytesCounter(null);
+
+        final long archiveId = 12;
+        final ArgumentCaptor<DirectBuffer> tempBuffer = ArgumentCaptor.forClass(DirectBuffer.class);
+        final Counter counter = mockArchiveCounter(archiveId, ARCHIVE_REPLICATION_BYTES_TYPE_ID, 19, tempBuffer);
+
+        context.conclude();
+
+        assertSame(counter, context.replicationBytesCounter());
+        final DirectBuffer buffer = tempBuffer.getValue();
+        assertEquals(archiveId, buffer.getLong(0));
+        final String expectedLabel = "archive-conductor replication bytes recorded - archiveId=" + archiveId;
+        assertEquals(expectedLabel, buffer.getStringWithoutLengthAscii(SIZE_OF_LONG, expectedLabel.length()));
+    }
+
+    @Test
+    void concludeCreatesCatalogLiveDescriptorsCounter()
+    {
+        context.catalogLiveDescriptorsCounter(null);
+
+        final long archiveId = 31;
+        final ArgumentCaptor<DirectBuffer> tempBuffer = ArgumentCaptor.forClass(DirectBuffer.class);
+        final Counter counter = mockArchiveCounter(
+            archiveId, ARCHIVE_CATALOG_LIVE_DESCRIPTORS_TYPE_ID, 27, tempBuffer);
+
+        context.conclude();
+
+        assertSame(counter, context.catalogLiveDescriptorsCounter());
+        final DirectBuffer buffer = tempBuffer.getValue();
+        assertEquals(archiveId, buffer.getLong(0));
+        final String expectedLabel = "archive-conductor catalog live descriptors - archiveId=" + archiveId;
+        assertEquals(expectedLabel, buffer.getStringWithoutLengthAscii(SIZE_OF_LONG, expectedLabel.length()));
+    }
+
+    @Test
+    void concludeValidatesCatalogDeadDescriptorsCounter()
+    {
+        final Counter counter = mock(Counter.class);
+        context.catalogDeadDescriptorsCounter(counter);
+
+        final ConfigurationException exception = assertThrowsExactly(ConfigurationException.class, context::conclude);
+        assertTrue(exception.getMessage().endsWith("expected=" + ARCHIVE_CATALOG_DEAD_DESCRIPTORS_TYPE_ID));
+    }
+
     @Test
     void concludeCreatesTotalReadBytesCounter()
     {
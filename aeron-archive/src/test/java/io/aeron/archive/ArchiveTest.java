@@ -48,6 +48,8 @@ import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.agrona.concurrent.SystemEpochClock;
@@ -75,6 +77,7 @@ import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -1004,6 +1007,351 @@ class ArchiveTest
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({ "0, false, 0", "1, false, 0", "1, true, 0", "1, false, 1000000" })
+    @InterruptAfter(20)
+    void shouldRecordAcrossMultipleRecorderThreads(
+        final int fileSyncLevel, final boolean fileSyncAsync, final long fileSyncGroupCommitWindowNs)
+    {
+        final int recorderThreadCount = 3;
+        final int recordingCount = 4;
+        final MediaDriver.Context driverCtx = new MediaDriver.Context()
+            .dirDeleteOnStart(true)
+            .threadingMode(ThreadingMode.SHARED);
+        final Archive.Context archiveCtx = TestContexts.localhostArchive()
+            .threadingMode(DEDICATED)
+            .recorderThreadCount(recorderThreadCount)
+            .fileSyncLevel(fileSyncLevel)
+            .catalogFileSyncLevel(fileSyncLevel)
+            .fileSyncAsync(fileSyncAsync)
+            .fileSyncGroupCommitWindowNs(fileSyncGroupCommitWindowNs);
+
+        try (ArchivingMediaDriver archivingMediaDriver = ArchivingMediaDriver.launch(driverCtx, archiveCtx);
+            AeronArchive aeronArchive = AeronArchive.connect(TestContexts.localhostAeronArchive()))
+        {
+            final CountersReader countersReader = aeronArchive.context().aeron().countersReader();
+            final Publication[] publications = new Publication[recordingCount];
+            final long[] positions = new long[recordingCount];
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[256]);
+
+            for (int i = 0; i < recordingCount; i++)
+            {
+                publications[i] = aeronArchive.addRecordedPublication("aeron:ipc", 1000 + i);
+            }
+
+            for (int m = 0; m < 100; m++)
+            {
+                for (int i = 0; i < recordingCount; i++)
+                {
+                    while ((positions[i] = publications[i].offer(buffer)) < 0)
+                    {
+                        Tests.yield();
+                    }
+                }
+            }
+
+            for (int i = 0; i < recordingCount; i++)
+            {
+                int counterId;
+                while (NULL_COUNTER_ID == (counterId = RecordingPos.findCounterIdBySession(
+                    countersReader, publications[i].sessionId(), aeronArchive.archiveId())))
+                {
+                    Tests.yield();
+                }
+
+                while (countersReader.getCounterValue(counterId) < positions[i])
+                {
+                    Tests.yield();
+                }
+            }
+
+            for (int i = 1; i < recorderThreadCount; i++)
+            {
+                final String label = "archive-recorder-" + i + " max cycle time in ns";
+                final MutableBoolean found = new MutableBoolean();
+                countersReader.forEach(
+                    (counterId, typeId, keyBuffer, counterLabel) -> found.value |= counterLabel.startsWith(label));
+                assertTrue(found.get(), label);
+            }
+
+            for (final Publication publication : publications)
+            {
+                aeronArchive.stopRecording(publication);
+            }
+        }
+        finally
+        {
+            archiveCtx.deleteDirectory();
+            driverCtx.deleteDirectory();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 4096 })
+    @InterruptAfter(20)
+    void shouldReplayAcrossMultipleReplayerThreads(final int replaySessionQuotaLength)
+    {
+        final int replayerThreadCount = 3;
+        final int recordingCount = 4;
+        final MediaDriver.Context driverCtx = new MediaDriver.Context()
+            .dirDeleteOnStart(true)
+            .threadingMode(ThreadingMode.SHARED);
+        final Archive.Context archiveCtx = TestContexts.localhostArchive()
+            .threadingMode(DEDICATED)
+            .replayerThreadCount(replayerThreadCount)
+            .replaySessionQuotaLength(replaySessionQuotaLength);
+
+        try (ArchivingMediaDriver archivingMediaDriver = ArchivingMediaDriver.launch(driverCtx, archiveCtx);
+            AeronArchive aeronArchive = AeronArchive.connect(TestContexts.localhostAeronArchive()))
+        {
+            final CountersReader countersReader = aeronArchive.context().aeron().countersReader();
+            final long[] recordingIds = new long[recordingCount];
+            final long[] stopPositions = new long[recordingCount];
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[256]);
+            long totalRecordedLength = 0;
+
+            for (int i = 0; i < recordingCount; i++)
+            {
+                try (Publication publication = aeronArchive.addRecordedPublication(
+                    "aeron:ipc?term-length=64k", 1000 + i))
+                {
+                    int counterId;
+                    while (NULL_COUNTER_ID == (counterId = RecordingPos.findCounterIdBySession(
+                        countersReader, publication.sessionId(), aeronArchive.archiveId())))
+                    {
+                        Tests.yield();
+                    }
+                    recordingIds[i] = RecordingPos.getRecordingId(countersReader, counterId);
+
+                    for (int m = 0; m < 1000; m++)
+                    {
+                        while ((stopPositions[i] = publication.offer(buffer)) < 0)
+                        {
+                            Tests.yield();
+                        }
+                    }
+
+                    while (countersReader.getCounterValue(counterId) < stopPositions[i])
+                    {
+                        Tests.yield();
+                    }
+
+                    aeronArchive.stopRecording(publication);
+                    totalRecordedLength += stopPositions[i];
+                }
+            }
+
+            final Subscription[] subscriptions = new Subscription[recordingCount];
+            try
+            {
+                for (int i = 0; i < recordingCount; i++)
+                {
+                    subscriptions[i] = aeronArchive.replay(
+                        recordingIds[i], 0, AeronArchive.NULL_LENGTH, "aeron:ipc", 2000 + i);
+                }
+
+                for (int i = 0; i < recordingCount; i++)
+                {
+                    while (0 == subscriptions[i].imageCount())
+                    {
+                        Tests.yield();
+                    }
+
+                    final Image image = subscriptions[i].imageAtIndex(0);
+                    while (image.position() < stopPositions[i])
+                    {
+                        YieldingIdleStrategy.INSTANCE.idle(image.poll(NO_OP_FRAGMENT_HANDLER, 10));
+                        Tests.checkInterruptStatus();
+                    }
+                }
+            }
+            finally
+            {
+                CloseHelper.closeAll(subscriptions);
+            }
+
+            long totalReadBytes = 0;
+            int activeReplayerCount = 0;
+            for (int i = 0; i < replayerThreadCount; i++)
+            {
+                final String label = (0 == i ? "archive-replayer" : "archive-replayer-" + i) + " read bytes";
+                final long readBytes = counterValueByLabel(countersReader, label);
+                assertNotEquals(Aeron.NULL_VALUE, readBytes, label);
+                totalReadBytes += readBytes;
+                activeReplayerCount += readBytes > 0 ? 1 : 0;
+            }
+
+            assertThat(totalReadBytes, greaterThanOrEqualTo(totalRecordedLength));
+            assertEquals(replayerThreadCount, activeReplayerCount);
+        }
+        finally
+        {
+            archiveCtx.deleteDirectory();
+            driverCtx.deleteDirectory();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    @InterruptAfter(20)
+    void shouldMoveColdSegmentsAndReplayAcrossDirectories(final boolean compression)
+    {
+        final int segmentLength = 128 * 1024;
+        final File coldDir = tmpDir.resolve("cold").toFile();
+        final MediaDriver.Context driverCtx = new MediaDriver.Context()
+            .dirDeleteOnStart(true)
+            .threadingMode(ThreadingMode.SHARED);
+        final Archive.Context archiveCtx = TestContexts.localhostArchive()
+            .threadingMode(DEDICATED)
+            .segmentFileLength(segmentLength)
+            .coldDir(coldDir)
+            .coldSegmentHotLength(1)
+            .coldSegmentCompression(compression)
+            .coldCheckIntervalNs(TimeUnit.MILLISECONDS.toNanos(10));
+
+        try (ArchivingMediaDriver archivingMediaDriver = ArchivingMediaDriver.launch(driverCtx, archiveCtx);
+            AeronArchive aeronArchive = AeronArchive.connect(TestContexts.localhostAeronArchive()))
+        {
+            final CountersReader countersReader = aeronArchive.context().aeron().countersReader();
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[256]);
+            final long recordingId;
+            long stopPosition = 0;
+
+            try (Publication publication = aeronArchive.addRecordedPublication("aeron:ipc?term-length=64k", 1001))
+            {
+                int counterId;
+                while (NULL_COUNTER_ID == (counterId = RecordingPos.findCounterIdBySession(
+                    countersReader, publication.sessionId(), aeronArchive.archiveId())))
+                {
+                    Tests.yield();
+                }
+                recordingId = RecordingPos.getRecordingId(countersReader, counterId);
+
+                while (stopPosition < 3L * segmentLength)
+                {
+                    final long position = publication.offer(buffer);
+                    if (position > 0)
+                    {
+                        stopPosition = position;
+                    }
+                    else
+                    {
+                        Tests.yield();
+                    }
+                }
+
+                while (countersReader.getCounterValue(counterId) < stopPosition)
+                {
+                    Tests.yield();
+                }
+
+                aeronArchive.stopRecording(publication);
+            }
+
+            while (archiveCtx.coldSegmentCounter().get() < 3)
+            {
+                Tests.yield();
+            }
+            assertFalse(new File(archiveCtx.archiveDir(), Archive.segmentFileName(recordingId, 0)).exists());
+            final String coldFileName = Archive.segmentFileName(recordingId, 0) +
+                (compression ? CompressedSegmentChannel.FILE_SUFFIX : "");
+            assertTrue(new File(coldDir, coldFileName).exists());
+
+            try (Subscription subscription = aeronArchive.replay(
+                recordingId, 0, AeronArchive.NULL_LENGTH, "aeron:ipc", 2001))
+            {
+                while (0 == subscription.imageCount())
+                {
+                    Tests.yield();
+                }
+
+                final Image image = subscription.imageAtIndex(0);
+                while (image.position() < stopPosition)
+                {
+                    YieldingIdleStrategy.INSTANCE.idle(image.poll(NO_OP_FRAGMENT_HANDLER, 10));
+                    Tests.checkInterruptStatus();
+                }
+            }
+
+            aeronArchive.purgeRecording(recordingId);
+            while (0 != Objects.requireNonNull(coldDir.list((dir, name) -> name.startsWith(recordingId + "-"))).length)
+            {
+                Tests.yield();
+            }
+        }
+        finally
+        {
+            archiveCtx.deleteDirectory();
+            driverCtx.deleteDirectory();
+        }
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldCheckpointActiveRecordingsInCatalog()
+    {
+        final MediaDriver.Context driverCtx = new MediaDriver.Context()
+            .dirDeleteOnStart(true)
+            .threadingMode(ThreadingMode.SHARED);
+        final Archive.Context archiveCtx = TestContexts.localhostArchive()
+            .threadingMode(DEDICATED)
+            .recordingCheckpointIntervalNs(TimeUnit.MILLISECONDS.toNanos(10));
+
+        try (ArchivingMediaDriver archivingMediaDriver = ArchivingMediaDriver.launch(driverCtx, archiveCtx);
+            AeronArchive aeronArchive = AeronArchive.connect(TestContexts.localhostAeronArchive());
+            Publication publication = aeronArchive.addRecordedPublication("aeron:ipc", 1001))
+        {
+            final CountersReader countersReader = aeronArchive.context().aeron().countersReader();
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[256]);
+            int counterId;
+            while (NULL_COUNTER_ID == (counterId = RecordingPos.findCounterIdBySession(
+                countersReader, publication.sessionId(), aeronArchive.archiveId())))
+            {
+                Tests.yield();
+            }
+            final long recordingId = RecordingPos.getRecordingId(countersReader, counterId);
+
+            long checkpointPosition = 0;
+            while (0 == checkpointPosition)
+            {
+                while (publication.offer(buffer) < 0)
+                {
+                    Tests.yield();
+                }
+
+                try (Catalog catalog = new Catalog(archiveCtx.archiveDir(), archiveCtx.epochClock()))
+                {
+                    checkpointPosition = catalog.checkpointPosition(recordingId);
+                }
+            }
+
+            assertEquals(0, checkpointPosition & (FRAME_ALIGNMENT - 1));
+            assertThat(checkpointPosition, lessThan(countersReader.getCounterValue(counterId)));
+
+            aeronArchive.stopRecording(publication);
+        }
+        finally
+        {
+            archiveCtx.deleteDirectory();
+            driverCtx.deleteDirectory();
+        }
+    }
+
+    private static long counterValueByLabel(final CountersReader countersReader, final String label)
+    {
+        final MutableLong value = new MutableLong(Aeron.NULL_VALUE);
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, counterLabel) ->
+            {
+                if (counterLabel.startsWith(label))
+                {
+                    value.set(countersReader.getCounterValue(counterId));
+                }
+            });
+
+        return value.get();
+    }
+
     private static Catalog openCatalog(final String archiveDirectoryName)
     {
         final IntConsumer intConsumer = (version) ->
@@ -31,15 +31,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.aeron.archive.Archive.Configuration.CATALOG_FILE_NAME;
 import static io.aeron.archive.Archive.Configuration.RECORDING_SEGMENT_SUFFIX;
@@ -1236,6 +1241,65 @@ class ArchiveToolTests
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void verifyWithIoConcurrencyShouldProduceSameResultsAsSequentialVerify(final boolean allOptions)
+        throws IOException
+    {
+        final Checksum checksum = crc32();
+        try (Catalog catalog = openCatalogReadWrite(archiveDir, epochClock, MIN_CAPACITY, checksum, null))
+        {
+            catalog.forEach(
+                (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                catalog.updateChecksum(recordingDescriptorOffset));
+        }
+
+        final Set<VerifyOption> options = allOptions ? allOf(VerifyOption.class) : emptySet();
+        final File parallelDir = copyArchiveDir();
+        try
+        {
+            final long timeMs = currentTimeMillis;
+            final ByteArrayOutputStream sequentialOut = new ByteArrayOutputStream();
+            assertFalse(verify(
+                new PrintStream(sequentialOut), archiveDir, options, checksum, epochClock, (file) -> true));
+
+            currentTimeMillis = timeMs;
+            final ByteArrayOutputStream parallelOut = new ByteArrayOutputStream();
+            assertFalse(verify(
+                new PrintStream(parallelOut), parallelDir, options, checksum, epochClock, (file) -> true, 4));
+
+            assertEquals(outputLines(sequentialOut, archiveDir), outputLines(parallelOut, parallelDir));
+            assertSameArchiveContents(archiveDir, parallelDir);
+        }
+        finally
+        {
+            IoUtil.delete(parallelDir, false);
+        }
+    }
+
+    @Test
+    void checksumWithIoConcurrencyShouldProduceSameResultsAsSequentialChecksum() throws IOException
+    {
+        final File parallelDir = copyArchiveDir();
+        try
+        {
+            final long timeMs = currentTimeMillis;
+            final ByteArrayOutputStream sequentialOut = new ByteArrayOutputStream();
+            checksum(new PrintStream(sequentialOut), archiveDir, true, crc32(), epochClock);
+
+            currentTimeMillis = timeMs;
+            final ByteArrayOutputStream parallelOut = new ByteArrayOutputStream();
+            checksum(new PrintStream(parallelOut), parallelDir, true, crc32(), epochClock, 4);
+
+            assertEquals(outputLines(sequentialOut, archiveDir), outputLines(parallelOut, parallelDir));
+            assertSameArchiveContents(archiveDir, parallelDir);
+        }
+        finally
+        {
+            IoUtil.delete(parallelDir, false);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("verifyChecksumClassValidation")
     void verifyWithChecksumFlagThrowsIllegalArgumentExceptionIfClassNameNotSpecified(final String[] args)
@@ -1589,6 +1653,61 @@ class ArchiveToolTests
             ex.getMessage());
     }
 
+    private File copyArchiveDir() throws IOException
+    {
+        final File copyDir = createTempDirectory("archive-tool-copy").toFile();
+        for (final File file : Objects.requireNonNull(archiveDir.listFiles()))
+        {
+            final File copy = new File(copyDir, file.getName());
+            if (file.isDirectory())
+            {
+                assertTrue(copy.mkdir());
+            }
+            else
+            {
+                Files.copy(file.toPath(), copy.toPath());
+            }
+        }
+
+        return copyDir;
+    }
+
+    private static List<String> outputLines(final ByteArrayOutputStream out, final File dir)
+    {
+        return out.toString().lines()
+            .filter((line) -> !line.contains(" progress: ") && !line.startsWith("\tat "))
+            .map((line) -> line.replace(dir.getAbsolutePath(), "<archiveDir>"))
+            .collect(Collectors.toList());
+    }
+
+    private void assertSameArchiveContents(final File expectedDir, final File actualDir) throws IOException
+    {
+        assertEquals(catalogEntries(expectedDir), catalogEntries(actualDir));
+        for (final File file : Objects.requireNonNull(expectedDir.listFiles()))
+        {
+            if (file.isFile() && file.getName().endsWith(RECORDING_SEGMENT_SUFFIX))
+            {
+                assertArrayEquals(
+                    Files.readAllBytes(file.toPath()),
+                    Files.readAllBytes(new File(actualDir, file.getName()).toPath()),
+                    file.getName());
+            }
+        }
+    }
+
+    private List<String> catalogEntries(final File dir)
+    {
+        final List<String> entries = new ArrayList<>();
+        try (Catalog catalog = openCatalogReadOnly(dir, epochClock))
+        {
+            catalog.forEach(
+                (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                entries.add(headerDecoder.state() + "|" + headerDecoder.checksum() + "|" + descriptorDecoder));
+        }
+
+        return entries;
+    }
+
     @FunctionalInterface
     interface SegmentWriter
     {
@@ -316,4 +316,53 @@ class CatalogIndexTest
 
         assertEquals(NULL_VALUE, catalogIndex.recordingOffset(DEFAULT_INDEX_SIZE));
     }
+
+    @Test
+    void updateOffsetReturnsFalseWhenRecordingIdIsNotFound()
+    {
+        catalogIndex.add(0, 500);
+        catalogIndex.add(10, 1000);
+
+        assertFalse(catalogIndex.updateOffset(5, 700));
+        assertEquals(500, catalogIndex.recordingOffset(0));
+        assertEquals(1000, catalogIndex.recordingOffset(10));
+    }
+
+    @Test
+    void updateOffsetOfMiddleElement()
+    {
+        catalogIndex.add(0, 500);
+        catalogIndex.add(10, 1000);
+        catalogIndex.add(20, 1500);
+
+        assertTrue(catalogIndex.updateOffset(10, 700));
+        assertEquals(3, catalogIndex.size());
+
+        assertEquals(500, catalogIndex.recordingOffset(0));
+        assertEquals(700, catalogIndex.recordingOffset(10));
+        assertEquals(1500, catalogIndex.recordingOffset(20));
+    }
+
+    @Test
+    void ceilingPositionOfEmptyIndex()
+    {
+        assertEquals(0, CatalogIndex.ceilingPosition(catalogIndex.index(), 5, catalogIndex.lastPosition()));
+    }
+
+    @Test
+    void ceilingPositionFindsFirstRecordingIdGreaterThanOrEqual()
+    {
+        catalogIndex.add(3, 500);
+        catalogIndex.add(10, 1000);
+        catalogIndex.add(20, 1500);
+
+        final long[] index = catalogIndex.index();
+        final int lastPosition = catalogIndex.lastPosition();
+        assertEquals(0, CatalogIndex.ceilingPosition(index, 0, lastPosition));
+        assertEquals(0, CatalogIndex.ceilingPosition(index, 3, lastPosition));
+        assertEquals(2, CatalogIndex.ceilingPosition(index, 4, lastPosition));
+        assertEquals(2, CatalogIndex.ceilingPosition(index, 10, lastPosition));
+        assertEquals(4, CatalogIndex.ceilingPosition(index, 11, lastPosition));
+        assertEquals(6, CatalogIndex.ceilingPosition(index, 21, lastPosition));
+    }
 }
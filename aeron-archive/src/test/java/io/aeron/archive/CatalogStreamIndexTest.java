@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.collections.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogStreamIndexTest
+{
+    private final CatalogStreamIndex streamIndex = new CatalogStreamIndex();
+
+    @Test
+    void shouldReturnNullForUnknownStream()
+    {
+        assertNull(streamIndex.recordingIds(42));
+        assertEquals(0, streamIndex.streamCount());
+    }
+
+    @Test
+    void shouldGroupRecordingIdsByStream()
+    {
+        streamIndex.add(1, 0);
+        streamIndex.add(2, 1);
+        streamIndex.add(1, 2);
+        streamIndex.add(1, 5);
+
+        assertEquals(2, streamIndex.streamCount());
+        assertEquals(new LongArrayList(new long[]{ 0, 2, 5 }, 3, -1), streamIndex.recordingIds(1));
+        assertEquals(new LongArrayList(new long[]{ 1 }, 1, -1), streamIndex.recordingIds(2));
+    }
+
+    @Test
+    void shouldKeepRecordingIdsOrderedWhenAddedOutOfOrder()
+    {
+        streamIndex.add(1, 10);
+        streamIndex.add(1, 3);
+        streamIndex.add(1, 7);
+        streamIndex.add(1, 7);
+
+        assertEquals(new LongArrayList(new long[]{ 3, 7, 10 }, 3, -1), streamIndex.recordingIds(1));
+    }
+
+    @Test
+    void shouldRemoveRecordingIdAndEmptyStream()
+    {
+        streamIndex.add(1, 3);
+        streamIndex.add(1, 4);
+
+        assertFalse(streamIndex.remove(1, 5));
+        assertFalse(streamIndex.remove(2, 3));
+        assertTrue(streamIndex.remove(1, 3));
+        assertEquals(new LongArrayList(new long[]{ 4 }, 1, -1), streamIndex.recordingIds(1));
+
+        assertTrue(streamIndex.remove(1, 4));
+        assertNull(streamIndex.recordingIds(1));
+        assertEquals(0, streamIndex.streamCount());
+    }
+
+    @Test
+    void shouldFindCeilingIndex()
+    {
+        final LongArrayList recordingIds = new LongArrayList(new long[]{ 2, 4, 8 }, 3, -1);
+
+        assertEquals(0, CatalogStreamIndex.ceilingIndex(recordingIds, 0));
+        assertEquals(0, CatalogStreamIndex.ceilingIndex(recordingIds, 2));
+        assertEquals(1, CatalogStreamIndex.ceilingIndex(recordingIds, 3));
+        assertEquals(2, CatalogStreamIndex.ceilingIndex(recordingIds, 8));
+        assertEquals(3, CatalogStreamIndex.ceilingIndex(recordingIds, 9));
+    }
+}
@@ -25,6 +25,7 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.BufferUtil;
 import org.agrona.IoUtil;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
@@ -66,6 +67,7 @@ class CatalogTest
     private static final int TERM_LENGTH = 2 * PAGE_SIZE;
     private static final int SEGMENT_LENGTH = 2 * TERM_LENGTH;
     private static final int MTU_LENGTH = 1024;
+    private static final int CAPACITY_FOR_SLICE = 64 * 1024;
 
     private final UnsafeBuffer segmentFileBuffer = new UnsafeBuffer(allocate(FILE_IO_MAX_LENGTH_DEFAULT));
     private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer();
@@ -495,6 +497,62 @@ class CatalogTest
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldRecoverStopPositionFromCheckpointIfFrameHeaderMatches(final boolean isValidCheckpoint)
+        throws Exception
+    {
+        final long newRecordingId = newRecording();
+        final File segmentFile = new File(archiveDir, segmentFileName(newRecordingId, SEGMENT_LENGTH));
+        final int checkpointOffset = 1024;
+        final int checkpointChecksum;
+        try (FileChannel log = FileChannel.open(segmentFile.toPath(), READ, WRITE, CREATE))
+        {
+            final ByteBuffer bb = allocate(HEADER_LENGTH);
+            final DataHeaderFlyweight flyweight = new DataHeaderFlyweight(bb);
+            flyweight.frameLength(128);
+            flyweight.termOffset(checkpointOffset).termId(7);
+            log.write(bb, checkpointOffset);
+
+            bb.clear();
+            flyweight.frameLength(256);
+            flyweight.termOffset(checkpointOffset + 128);
+            log.write(bb, checkpointOffset + 128);
+            log.truncate(SEGMENT_LENGTH);
+
+            assertTrue(readCheckpointFrameHeader(log, checkpointOffset, bb));
+            checkpointChecksum = checkpointChecksum(bb);
+        }
+
+        final long checkpointPosition = SEGMENT_LENGTH + checkpointOffset;
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            catalog.extendRecording(newRecordingId, 1, 2, 3);
+            assertEquals(0, catalog.checkpointPosition(newRecordingId));
+            catalog.checkpoint(
+                newRecordingId, checkpointPosition, isValidCheckpoint ? checkpointChecksum : checkpointChecksum + 1);
+            assertEquals(checkpointPosition, catalog.checkpointPosition(newRecordingId));
+        }
+
+        currentTimeMs = 42L;
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertTrue(catalog.forEntry(
+                newRecordingId,
+                (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                {
+                    assertEquals(42L, descriptorDecoder.stopTimestamp());
+                    assertEquals(
+                        isValidCheckpoint ? checkpointPosition + 128 + 256 : SEGMENT_LENGTH,
+                        descriptorDecoder.stopPosition());
+                }));
+
+            catalog.extendRecording(newRecordingId, 1, 2, 3);
+            assertEquals(0, catalog.checkpointPosition(newRecordingId));
+        }
+    }
+
     private long newRecording()
     {
         try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
@@ -809,6 +867,50 @@ class CatalogTest
         }
     }
 
+    @Test
+    void shouldRebuildStreamIndexOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final CatalogStreamIndex streamIndex = catalog.streamIndex();
+
+            assertEquals(3, streamIndex.streamCount());
+            assertEquals(recordingOneId, streamIndex.recordingIds(1).getLong(0));
+            assertEquals(recordingTwoId, streamIndex.recordingIds(2).getLong(0));
+            assertEquals(recordingThreeId, streamIndex.recordingIds(3).getLong(0));
+            assertNull(streamIndex.recordingIds(4));
+        }
+    }
+
+    @Test
+    void shouldMaintainStreamIndexOnAddReplaceAndInvalidate()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final CatalogStreamIndex streamIndex = catalog.streamIndex();
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelG", "channelG?tag=f", "sourceA");
+
+            assertEquals(2, streamIndex.recordingIds(1).size());
+            assertEquals(recordingFourId, streamIndex.recordingIds(1).getLong(1));
+            assertEquals(recordingFourId, catalog.findLast(0, 9, 1, "channelG".getBytes(US_ASCII)));
+
+            catalog.replaceRecording(
+                recordingTwoId, 0L, NULL_POSITION, 0L, NULL_TIMESTAMP, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH,
+                7, 1, "channelH", "channelH?tag=f", "sourceV");
+
+            assertNull(streamIndex.recordingIds(2));
+            assertEquals(3, streamIndex.recordingIds(1).size());
+            assertEquals(recordingTwoId, streamIndex.recordingIds(1).getLong(1));
+            assertEquals(recordingTwoId, catalog.findLast(0, 7, 1, "channelH".getBytes(US_ASCII)));
+
+            assertTrue(catalog.changeState(recordingFourId, INVALID));
+
+            assertEquals(2, streamIndex.recordingIds(1).size());
+            assertEquals(NULL_RECORD_ID, catalog.findLast(0, 9, 1, "channelG".getBytes(US_ASCII)));
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(longs = { -1, Long.MAX_VALUE })
     void changeStateIsANoOpIfUnknownRecordingStateIdIsSpecified(final long recordingId)
@@ -1264,6 +1366,197 @@ class CatalogTest
         }
     }
 
+    @Test
+    void shouldCompactDeletedDescriptorsInSlices()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final long recordingFourId = addRecording(catalog, 9);
+            final long recordingFiveId = addRecording(catalog, 10);
+            final long recordingSixId = addRecording(catalog, 11);
+            final int oneOffset = catalog.recordingDescriptorOffset(recordingOneId);
+            final long capacity = catalog.capacity();
+
+            assertTrue(catalog.changeState(recordingOneId, DELETED));
+            assertTrue(catalog.changeState(recordingThreeId, DELETED));
+            assertTrue(catalog.changeState(recordingFiveId, INVALID));
+            assertEquals(3, catalog.deadEntryCount());
+            assertEquals(2, catalog.deletedEntryCount());
+
+            int slices = 0;
+            do
+            {
+                catalog.compact(192);
+                slices++;
+            }
+            while (catalog.isCompacting());
+
+            assertThat(slices, greaterThan(1));
+            assertEquals(1, catalog.deadEntryCount());
+            assertEquals(0, catalog.deletedEntryCount());
+            assertEquals(192 + 384, catalog.compactedBytes());
+            assertEquals(capacity, catalog.capacity());
+
+            assertEquals(oneOffset, catalog.recordingDescriptorOffset(recordingTwoId));
+            assertEquals(oneOffset + 192, catalog.recordingDescriptorOffset(recordingFourId));
+            assertEquals(oneOffset + 3 * 192, catalog.recordingDescriptorOffset(recordingSixId));
+            verifyRecordingForId(
+                catalog, recordingTwoId, 160, 0L, 0L, 0L, 1L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 7, 2,
+                "channelH", "channelH?tag=f", "sourceV");
+            assertRecordingIds(catalog, recordingTwoId, recordingFourId, recordingFiveId, recordingSixId);
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertEquals(3, catalog.entryCount());
+            assertEquals(1, catalog.deadEntryCount());
+            assertEquals(0, catalog.deletedEntryCount());
+            assertRecordingIds(
+                catalog, recordingTwoId, recordingThreeId + 1, recordingThreeId + 2, recordingThreeId + 3);
+        }
+    }
+
+    @Test
+    void shouldReopenCatalogPartWayThroughCompaction()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            addRecording(catalog, 9);
+            assertTrue(catalog.changeState(recordingOneId, DELETED));
+
+            catalog.compact(192 * 2);
+            assertTrue(catalog.isCompacting());
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertFalse(catalog.isCompacting());
+            assertEquals(3, catalog.entryCount());
+            assertEquals(1, catalog.deadEntryCount());
+            assertEquals(1, catalog.deletedEntryCount());
+            assertRecordingIds(catalog, recordingTwoId, recordingOneId, recordingThreeId, recordingThreeId + 1);
+            assertFalse(catalog.hasRecording(recordingOneId));
+
+            catalog.compact(CAPACITY_FOR_SLICE);
+            assertFalse(catalog.isCompacting());
+
+            assertEquals(0, catalog.deadEntryCount());
+            assertEquals(192, catalog.compactedBytes());
+            assertRecordingIds(catalog, recordingTwoId, recordingThreeId, recordingThreeId + 1);
+        }
+    }
+
+    @Test
+    void shouldShiftCompactionWhenReplacingRecordingWhichHasBeenCompacted()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final long recordingFourId = addRecording(catalog, 9);
+            assertTrue(catalog.changeState(recordingOneId, DELETED));
+            assertTrue(catalog.changeState(recordingThreeId, DELETED));
+            final int oneOffset = catalog.recordingDescriptorOffset(recordingTwoId) - 192;
+
+            catalog.compact(192 * 2);
+            assertTrue(catalog.isCompacting());
+            assertEquals(oneOffset, catalog.recordingDescriptorOffset(recordingTwoId));
+
+            final String longChannel = addSuffix("aeron:udp?endpoint=localhost:8080|alias=", "x", 200);
+            catalog.replaceRecording(
+                recordingTwoId, 0L, NULL_POSITION, 0L, NULL_TIMESTAMP, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH,
+                7, 2, longChannel, longChannel, "sourceV");
+
+            catalog.compact(CAPACITY_FOR_SLICE);
+            assertFalse(catalog.isCompacting());
+
+            assertEquals(192 + 384, catalog.compactedBytes());
+            assertEquals(0, catalog.deadEntryCount());
+            assertRecordingIds(catalog, recordingTwoId, recordingFourId);
+            verifyRecordingForId(
+                catalog, recordingTwoId, 608, 0L, NULL_POSITION, 0L, NULL_TIMESTAMP, 0, SEGMENT_LENGTH, TERM_LENGTH,
+                MTU_LENGTH, 7, 2, longChannel, longChannel, "sourceV");
+            assertEquals(oneOffset + 640, catalog.recordingDescriptorOffset(recordingFourId));
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertEquals(2, catalog.entryCount());
+            assertEquals(0, catalog.deadEntryCount());
+        }
+    }
+
+    @Test
+    void replaceRecordingShouldShiftDeletedDescriptorsWhichFollowTheLastRecording()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertTrue(catalog.changeState(recordingThreeId, DELETED));
+
+            final String longChannel = addSuffix("aeron:udp?endpoint=localhost:8080|alias=", "x", 200);
+            catalog.replaceRecording(
+                recordingTwoId, 0L, NULL_POSITION, 0L, NULL_TIMESTAMP, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH,
+                7, 2, longChannel, longChannel, "sourceV");
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertEquals(2, catalog.entryCount());
+            assertEquals(1, catalog.deletedEntryCount());
+            assertRecordingIds(catalog, recordingOneId, recordingTwoId, recordingThreeId);
+        }
+    }
+
+    @Test
+    void shouldReuseCompactedSpaceForNewRecordings()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final long capacity = catalog.capacity();
+            final int threeOffset = catalog.recordingDescriptorOffset(recordingThreeId);
+            assertTrue(catalog.changeState(recordingThreeId, DELETED));
+
+            catalog.compact(CAPACITY_FOR_SLICE);
+            assertFalse(catalog.isCompacting());
+
+            final long recordingFourId = addRecording(catalog, 9);
+            final long recordingFiveId = addRecording(catalog, 10);
+
+            assertEquals(threeOffset, catalog.recordingDescriptorOffset(recordingFourId));
+            assertEquals(threeOffset + 192, catalog.recordingDescriptorOffset(recordingFiveId));
+            assertEquals(capacity, catalog.capacity());
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertEquals(4, catalog.entryCount());
+            assertEquals(0, catalog.deadEntryCount());
+            assertRecordingIds(
+                catalog, recordingOneId, recordingTwoId, recordingThreeId + 1, recordingThreeId + 2);
+        }
+    }
+
+    private static long addRecording(final Catalog catalog, final int sessionId)
+    {
+        return catalog.addNewRecording(
+            0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, sessionId, 1, "channelG", "channelG?tag=f", "sourceA");
+    }
+
+    private static void assertRecordingIds(final Catalog catalog, final long... expectedRecordingIds)
+    {
+        final LongArrayList recordingIds = new LongArrayList();
+        catalog.forEach(
+            (recordingDescriptorOffset, headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+            {
+                recordingIds.addLong(descriptorDecoder.recordingId());
+                if (VALID == headerDecoder.state())
+                {
+                    assertEquals(recordingDescriptorOffset, catalog.recordingDescriptorOffset(
+                        descriptorDecoder.recordingId()));
+                }
+            });
+
+        assertArrayEquals(expectedRecordingIds, recordingIds.toLongArray());
+    }
+
     private void verifyOldExcessiveDataWasErased(final int oldFrameLength, final int newFrameLength)
     {
         assertTrue(oldFrameLength > newFrameLength);
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.concurrent.CachedEpochClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ColdSegmentMoverTest
+{
+    private static final long RECORDING_ID = 3;
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final int SEGMENT_LENGTH = 2 * TERM_LENGTH;
+
+    @TempDir
+    File tempDir;
+
+    private final CachedEpochClock epochClock = new CachedEpochClock();
+    private final Counter coldSegmentCounter = mock(Counter.class);
+    private final Counter coldBytesCounter = mock(Counter.class);
+    private File archiveDir;
+    private File coldDir;
+    private Archive.Context ctx;
+
+    @BeforeEach
+    void before()
+    {
+        archiveDir = new File(tempDir, "archive");
+        coldDir = new File(tempDir, "cold");
+        assertTrue(archiveDir.mkdir());
+        assertTrue(coldDir.mkdir());
+
+        ctx = new Archive.Context()
+            .archiveDir(archiveDir)
+            .coldDir(coldDir)
+            .epochClock(epochClock)
+            .coldSegmentCounter(coldSegmentCounter)
+            .coldBytesCounter(coldBytesCounter);
+    }
+
+    @Test
+    void shouldMoveSegmentsBehindHotLengthAndKeepLastSegment() throws Exception
+    {
+        createSegments(4);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(SEGMENT_LENGTH));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, 3L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        assertInColdDir(0);
+        assertInColdDir(SEGMENT_LENGTH);
+        assertInArchiveDir(2L * SEGMENT_LENGTH);
+        assertInArchiveDir(3L * SEGMENT_LENGTH);
+        assertFalse(new File(coldDir, segmentFileName(RECORDING_ID, 0) + ColdSegmentMover.TMP_SUFFIX).exists());
+        verify(coldSegmentCounter, times(2)).incrementRelease();
+        verify(coldBytesCounter, times(2)).getAndAddRelease(SEGMENT_LENGTH);
+    }
+
+    @Test
+    void shouldMoveSegmentsOlderThanAgeButNeverTheLastSegment() throws Exception
+    {
+        createSegments(3);
+        final long ageMs = 1000;
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentAgeNs(TimeUnit.MILLISECONDS.toNanos(ageMs)));
+        final long lastModified = new File(archiveDir, segmentFileName(RECORDING_ID, 0)).lastModified();
+
+        epochClock.update(lastModified + ageMs - 1);
+        assertTrue(mover.submit(RECORDING_ID, 0, 2L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+        assertInArchiveDir(0);
+
+        epochClock.update(lastModified + ageMs + 1000);
+        assertTrue(mover.submit(RECORDING_ID, 0, 2L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        assertInColdDir(0);
+        assertInColdDir(SEGMENT_LENGTH);
+        assertInArchiveDir(2L * SEGMENT_LENGTH);
+    }
+
+    @Test
+    void shouldResolveSegmentFileAcrossDirectories() throws Exception
+    {
+        createSegments(2);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        final String coldName = segmentFileName(RECORDING_ID, 0);
+        final String hotName = segmentFileName(RECORDING_ID, SEGMENT_LENGTH);
+        assertEquals(new File(coldDir, coldName), Archive.segmentFile(archiveDir, coldDir, coldName));
+        assertEquals(new File(archiveDir, hotName), Archive.segmentFile(archiveDir, coldDir, hotName));
+        assertEquals(new File(archiveDir, coldName), Archive.segmentFile(archiveDir, null, coldName));
+    }
+
+    @Test
+    void shouldCompressSegmentsMovedToColdDirAndReadFromAnyPosition() throws Exception
+    {
+        createSegments(2);
+        final File hotFile = new File(archiveDir, segmentFileName(RECORDING_ID, 0));
+        final byte[] data = new byte[SEGMENT_LENGTH];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte)((i / 64) % 7);
+        }
+        Files.write(hotFile.toPath(), data);
+
+        final ColdSegmentMover mover = new ColdSegmentMover(
+            ctx.coldSegmentHotLength(1).coldSegmentCompression(true).coldSegmentCompressionBlockLength(4096));
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        final String compressedName = segmentFileName(RECORDING_ID, 0) + CompressedSegmentChannel.FILE_SUFFIX;
+        final File compressedFile = new File(coldDir, compressedName);
+        assertFalse(hotFile.exists());
+        assertFalse(new File(coldDir, segmentFileName(RECORDING_ID, 0)).exists());
+        assertEquals(compressedFile, Archive.segmentFile(archiveDir, coldDir, segmentFileName(RECORDING_ID, 0)));
+        assertTrue(compressedFile.length() < SEGMENT_LENGTH);
+        verify(coldBytesCounter).getAndAddRelease(compressedFile.length());
+
+        try (FileChannel channel = CompressedSegmentChannel.open(compressedFile))
+        {
+            assertEquals(SEGMENT_LENGTH, channel.size());
+            final ByteBuffer buffer = ByteBuffer.allocate(10_000);
+            for (final int offset : new int[]{ 0, 4095, 70_000, SEGMENT_LENGTH - 5000 })
+            {
+                buffer.clear();
+                final int bytesRead = channel.read(buffer, offset);
+                assertEquals(Math.min(buffer.capacity(), SEGMENT_LENGTH - offset), bytesRead);
+                assertArrayEquals(
+                    Arrays.copyOfRange(data, offset, offset + bytesRead),
+                    Arrays.copyOf(buffer.array(), bytesRead));
+            }
+            assertEquals(-1, channel.read(buffer.clear(), SEGMENT_LENGTH));
+        }
+
+        final File decompressedFile = CompressedSegmentChannel.decompress(compressedFile);
+        assertEquals(new File(coldDir, segmentFileName(RECORDING_ID, 0)), decompressedFile);
+        assertFalse(compressedFile.exists());
+        assertArrayEquals(data, Files.readAllBytes(decompressedFile.toPath()));
+    }
+
+    @Test
+    void shouldOnlyMoveSegmentOnceConductorCompletesTheMove() throws Exception
+    {
+        createSegments(2);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        assertEquals(1, mover.doWork());
+
+        final String name = segmentFileName(RECORDING_ID, 0);
+        assertTrue(new File(archiveDir, name).exists());
+        assertTrue(new File(coldDir, name + ColdSegmentMover.TMP_SUFFIX).exists());
+        assertFalse(new File(coldDir, name).exists());
+
+        assertEquals(1, mover.completeMoves((recordingId, segmentPosition) -> true));
+        assertInColdDir(0);
+    }
+
+    @Test
+    void shouldDiscardCopyWhenPurgeRacesMove() throws Exception
+    {
+        createSegments(3);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, 2L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        assertEquals(1, mover.doWork());
+
+        mover.cancel(RECORDING_ID);
+        for (int i = 0; i < 3; i++)
+        {
+            Files.delete(new File(archiveDir, segmentFileName(RECORDING_ID, (long)i * SEGMENT_LENGTH)).toPath());
+        }
+
+        assertEquals(1, mover.completeMoves((recordingId, segmentPosition) -> true));
+        doAllWork(mover);
+
+        final String name = segmentFileName(RECORDING_ID, 0);
+        assertFalse(new File(archiveDir, name).exists());
+        assertFalse(new File(coldDir, name).exists());
+        assertFalse(new File(coldDir, name + ColdSegmentMover.TMP_SUFFIX).exists());
+        verify(coldSegmentCounter, never()).incrementRelease();
+    }
+
+    @Test
+    void shouldNotMoveStaleCopyWhenTruncateRacesMove() throws Exception
+    {
+        createSegments(3);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, 2L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        assertEquals(1, mover.doWork());
+
+        final File hotFile = new File(archiveDir, segmentFileName(RECORDING_ID, 0));
+        mover.cancel(RECORDING_ID);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(hotFile, "rw"))
+        {
+            randomAccessFile.setLength(1024);
+            randomAccessFile.setLength(SEGMENT_LENGTH);
+            randomAccessFile.seek(0);
+            randomAccessFile.writeLong(42);
+        }
+
+        doAllWork(mover);
+        assertInArchiveDir(0);
+        verify(coldSegmentCounter, never()).incrementRelease();
+
+        assertTrue(mover.submit(RECORDING_ID, 0, 2L * SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        assertInColdDir(0);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(
+            new File(coldDir, segmentFileName(RECORDING_ID, 0)), "r"))
+        {
+            assertEquals(42, randomAccessFile.readLong());
+        }
+    }
+
+    @Test
+    void shouldRetrySegmentRejectedByConductor() throws Exception
+    {
+        createSegments(2);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        while (mover.doWork() > 0)
+        {
+            Thread.yield();
+        }
+        assertEquals(1, mover.completeMoves((recordingId, segmentPosition) -> false));
+        assertInArchiveDir(0);
+
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+        assertInColdDir(0);
+    }
+
+    @Test
+    void shouldReuseExtentsOnceTheMoverHasConsideredThem() throws Exception
+    {
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+
+        for (int i = 0; i < ColdSegmentMover.QUEUE_CAPACITY; i++)
+        {
+            assertTrue(mover.submit(RECORDING_ID + 1 + i, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        }
+        assertFalse(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+
+        assertEquals(0, mover.doWork());
+        createSegments(2);
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        assertFalse(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+
+        for (int i = 0; i < 2 * ColdSegmentMover.QUEUE_CAPACITY; i++)
+        {
+            mover.doWork();
+        }
+        assertEquals(1, mover.completeMoves((recordingId, segmentPosition) -> true));
+        assertInColdDir(0);
+        assertInArchiveDir(SEGMENT_LENGTH);
+    }
+
+    @Test
+    void shouldRestoreTruncatedCompressedSegmentInBoundedSteps() throws Exception
+    {
+        createSegments(2);
+        final String name = segmentFileName(RECORDING_ID, 0);
+        final File hotFile = new File(archiveDir, name);
+        final byte[] data = new byte[SEGMENT_LENGTH];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte)((i / 64) % 7 + 1);
+        }
+        Files.write(hotFile.toPath(), data);
+
+        final ColdSegmentMover mover = new ColdSegmentMover(
+            ctx.coldSegmentHotLength(1).coldSegmentCompression(true).coldSegmentCompressionBlockLength(4096));
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+        assertFalse(hotFile.exists());
+
+        final File coldFile = Archive.segmentFile(archiveDir, coldDir, name);
+        final int retainedLength = ColdSegmentRestore.CHUNK_LENGTH + 1024;
+        int steps = 0;
+        try (ColdSegmentRestore restore = new ColdSegmentRestore(
+            coldFile, hotFile, retainedLength, SEGMENT_LENGTH, false))
+        {
+            while (!restore.step())
+            {
+                steps++;
+                assertFalse(hotFile.exists());
+            }
+        }
+
+        assertEquals(2, steps);
+        assertTrue(coldFile.exists());
+        assertFalse(new File(archiveDir, name + ColdSegmentMover.TMP_SUFFIX).exists());
+
+        final byte[] restored = Files.readAllBytes(hotFile.toPath());
+        assertEquals(SEGMENT_LENGTH, restored.length);
+        assertArrayEquals(Arrays.copyOf(data, retainedLength), Arrays.copyOf(restored, retainedLength));
+        assertArrayEquals(
+            new byte[SEGMENT_LENGTH - retainedLength], Arrays.copyOfRange(restored, retainedLength, SEGMENT_LENGTH));
+    }
+
+    @Test
+    void shouldRemovePartialCopyWhenRestoreIsAbandoned() throws Exception
+    {
+        createSegments(2);
+        final ColdSegmentMover mover = new ColdSegmentMover(ctx.coldSegmentHotLength(1));
+        assertTrue(mover.submit(RECORDING_ID, 0, SEGMENT_LENGTH + 100, TERM_LENGTH, SEGMENT_LENGTH));
+        doAllWork(mover);
+
+        final String name = segmentFileName(RECORDING_ID, 0);
+        final File hotFile = new File(archiveDir, name);
+        final ColdSegmentRestore restore = new ColdSegmentRestore(
+            new File(coldDir, name), hotFile, SEGMENT_LENGTH - 1024, SEGMENT_LENGTH, false);
+
+        assertFalse(restore.step());
+        assertTrue(new File(archiveDir, name + ColdSegmentMover.TMP_SUFFIX).exists());
+
+        restore.abandon();
+        assertFalse(new File(archiveDir, name + ColdSegmentMover.TMP_SUFFIX).exists());
+        assertFalse(hotFile.exists());
+        assertInColdDir(0);
+    }
+
+    private void createSegments(final int count) throws IOException
+    {
+        for (int i = 0; i < count; i++)
+        {
+            final File file = new File(archiveDir, segmentFileName(RECORDING_ID, (long)i * SEGMENT_LENGTH));
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw"))
+            {
+                randomAccessFile.setLength(SEGMENT_LENGTH);
+            }
+        }
+    }
+
+    private static void doAllWork(final ColdSegmentMover mover) throws Exception
+    {
+        while (mover.doWork() > 0)
+        {
+            Thread.yield();
+        }
+
+        mover.completeMoves((recordingId, segmentPosition) -> true);
+    }
+
+    private void assertInColdDir(final long segmentPosition)
+    {
+        final String name = segmentFileName(RECORDING_ID, segmentPosition);
+        assertFalse(new File(archiveDir, name).exists(), name);
+        assertEquals(SEGMENT_LENGTH, new File(coldDir, name).length(), name);
+    }
+
+    private void assertInArchiveDir(final long segmentPosition)
+    {
+        final String name = segmentFileName(RECORDING_ID, segmentPosition);
+        assertTrue(new File(archiveDir, name).exists(), name);
+        assertFalse(new File(coldDir, name).exists(), name);
+    }
+}
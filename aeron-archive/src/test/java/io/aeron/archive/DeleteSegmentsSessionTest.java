@@ -15,8 +15,10 @@
  */
 package io.aeron.archive;
 
+import io.aeron.archive.client.ArchiveEvent;
 import org.agrona.ErrorHandler;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 
 import java.io.File;
@@ -26,7 +28,7 @@ import java.util.List;
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.codecs.RecordingSignal.DELETE;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class DeleteSegmentsSessionTest
@@ -74,4 +76,29 @@ class DeleteSegmentsSessionTest
         inOrder.verify(controlSession).sendSignal(correlationId, recordingId, NULL_VALUE, NULL_VALUE, DELETE);
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    void shouldNotRespondToControlSessionWhenInternal(@TempDir final File tempDir)
+    {
+        final long recordingId = 7;
+        final File segmentDir = new File(tempDir, segmentFileName(recordingId, 0));
+        assertTrue(segmentDir.mkdir());
+        assertTrue(new File(segmentDir, "child").mkdir());
+        final ArrayDeque<File> files = new ArrayDeque<>(List.of(segmentDir));
+        final ArchiveConductor conductor = mock(ArchiveConductor.class);
+
+        final DeleteSegmentsSession deleteSegmentsSession = new DeleteSegmentsSession(
+            recordingId, files, null, conductor, errorHandler);
+
+        assertNull(deleteSegmentsSession.errorMessage());
+        assertEquals(1, deleteSegmentsSession.doWork());
+        assertTrue(deleteSegmentsSession.isDone());
+        assertEquals("unable to delete segment file: " + segmentDir, deleteSegmentsSession.errorMessage());
+
+        deleteSegmentsSession.close();
+
+        verify(conductor).removeDeleteSegmentsSession(deleteSegmentsSession);
+        verify(errorHandler).onError(any(ArchiveEvent.class));
+        verifyNoInteractions(controlSession);
+    }
 }
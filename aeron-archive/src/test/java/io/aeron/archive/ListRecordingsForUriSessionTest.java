@@ -184,6 +184,30 @@ class ListRecordingsForUriSessionTest
         verify(controlSession).sendRecordingUnknown(eq(correlationId), eq(5L));
     }
 
+    @Test
+    void shouldOnlyScanRecordingsForRequestedStream()
+    {
+        final long otherStreamRecordingId = catalog.addNewRecording(
+            0L, 0L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 9, 2, "localhost", "localhost?tag=f", "sourceC");
+
+        final ListRecordingsForUriSession session = new ListRecordingsForUriSession(
+            correlationId,
+            0,
+            5,
+            LOCALHOST_BYTES,
+            2,
+            catalog,
+            controlSession,
+            descriptorBuffer,
+            recordingDescriptorDecoder);
+
+        when(controlSession.sendDescriptor(eq(correlationId), any())).thenReturn(true);
+
+        assertEquals(1, session.doWork());
+        verify(controlSession, times(1)).sendDescriptor(eq(correlationId), any());
+        verify(controlSession).sendRecordingUnknown(eq(correlationId), eq(otherStreamRecordingId + 1));
+    }
+
     private Answer<Object> verifySendDescriptor(final MutableLong counter)
     {
         return (invocation) ->
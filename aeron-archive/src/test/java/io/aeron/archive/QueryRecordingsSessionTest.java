@@ -0,0 +1,213 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.ExclusivePublication;
+import io.aeron.archive.codecs.RecordingActivity;
+import io.aeron.archive.codecs.RecordingDescriptorDecoder;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.aeron.Aeron.NULL_VALUE;
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.archive.client.RecordingQueryParams.START_POSITION;
+import static io.aeron.archive.client.RecordingQueryParams.STOP_POSITION;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class QueryRecordingsSessionTest
+{
+    private static final long CAPACITY = 1024 * 1024;
+    private static final int SEGMENT_FILE_SIZE = 128 * 1024 * 1024;
+    private static final byte[] LOCALHOST_BYTES = "localhost".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ANY_CHANNEL = new byte[0];
+
+    private final UnsafeBuffer descriptorBuffer = new UnsafeBuffer();
+    private final RecordingDescriptorDecoder recordingDescriptorDecoder = new RecordingDescriptorDecoder();
+    private final File archiveDir = ArchiveTests.makeTestDirectory();
+    private final EpochClock clock = mock(EpochClock.class);
+    private final ControlSession controlSession = mock(ControlSession.class);
+    private final ArchiveConductor conductor = mock(ArchiveConductor.class);
+    private final ExclusivePublication controlPublication = mock(ExclusivePublication.class);
+    private final List<long[]> batches = new ArrayList<>();
+    private final List<Boolean> lastFlags = new ArrayList<>();
+    private final long correlationId = 1;
+    private Catalog catalog;
+
+    @BeforeEach
+    void before()
+    {
+        catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, null);
+        catalog.addNewRecording(
+            0L, 1024L, 100L, 200L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 1, 6, "localhost", "localhost?tag=f", "sourceA");
+        catalog.addNewRecording(
+            0L, 200L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 2, 7, "channelA", "channelA?tag=f", "sourceV");
+        catalog.addNewRecording(
+            0L, 4096L, 300L, 400L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 3, 8, "localhost", "localhost", "sourceB");
+        catalog.addNewRecording(
+            0L, 400L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 4, 8, "channelB", "channelB?tag=f", "sourceB");
+        catalog.addNewRecording(
+            0L, 0L, 500L, 500L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 5, 8, "localhost", "localhost", "sourceB");
+
+        when(controlSession.controlPublication()).thenReturn(controlPublication);
+        when(controlSession.archiveConductor()).thenReturn(conductor);
+        when(controlPublication.maxPayloadLength()).thenReturn(4096);
+        when(conductor.recordedPosition(anyLong())).thenReturn(NULL_POSITION);
+        when(controlSession.sendRecordingQueryBatch(
+            eq(correlationId), anyInt(), anyLong(), anyBoolean(), any(), anyInt()))
+            .thenAnswer((invocation) ->
+            {
+                final long[] values = invocation.getArgument(4);
+                final int valueCount = invocation.getArgument(5);
+                batches.add(Arrays.copyOf(values, valueCount));
+                lastFlags.add(invocation.getArgument(3));
+                return true;
+            });
+    }
+
+    @AfterEach
+    void after()
+    {
+        CloseHelper.close(catalog);
+        IoUtil.delete(archiveDir, false);
+    }
+
+    @Test
+    void shouldSendRecordingIdsWhichMatchChannelInLastBatch()
+    {
+        final QueryRecordingsSession session = newSession(
+            0, Integer.MAX_VALUE, NULL_VALUE, RecordingActivity.ANY, 0, 0, LOCALHOST_BYTES);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        assertEquals(1, batches.size());
+        assertArrayEquals(new long[]{ 0, 2, 4 }, batches.get(0));
+        assertTrue(lastFlags.get(0));
+    }
+
+    @Test
+    void shouldFilterByStreamIdAndActivityAndProjectFields()
+    {
+        final QueryRecordingsSession session = newSession(
+            0, Integer.MAX_VALUE, 8, RecordingActivity.STOPPED, START_POSITION | STOP_POSITION, 0, ANY_CHANNEL);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        assertArrayEquals(new long[]{ 2, 0, 4096, 4, 0, 0 }, batches.get(0));
+    }
+
+    @Test
+    void shouldUseRecordedPositionForLengthOfActiveRecordings()
+    {
+        when(conductor.recordedPosition(1)).thenReturn(2048L);
+
+        final QueryRecordingsSession session = newSession(
+            0, Integer.MAX_VALUE, NULL_VALUE, RecordingActivity.ANY, 0, 1000, ANY_CHANNEL);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        assertArrayEquals(new long[]{ 0, 1, 2 }, batches.get(0));
+    }
+
+    @Test
+    void shouldStopAfterRecordCountFromRecordingId()
+    {
+        final QueryRecordingsSession session = newSession(
+            1, 2, NULL_VALUE, RecordingActivity.ACTIVE, 0, 0, ANY_CHANNEL);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        assertArrayEquals(new long[]{ 1, 3 }, batches.get(0));
+        verify(controlSession).sendRecordingQueryBatch(eq(correlationId), eq(0), eq(4L), eq(true), any(), eq(2));
+    }
+
+    @Test
+    void shouldSplitMatchesIntoBatchesWhichFitInPayload()
+    {
+        when(controlPublication.maxPayloadLength())
+            .thenReturn(QueryRecordingsSession.BATCH_HEADER_LENGTH + 5 * SIZE_OF_LONG);
+
+        final QueryRecordingsSession session = newSession(
+            0, Integer.MAX_VALUE, NULL_VALUE, RecordingActivity.ANY, START_POSITION, 0, ANY_CHANNEL);
+
+        while (!session.isDone())
+        {
+            session.doWork();
+        }
+
+        assertEquals(3, batches.size());
+        assertArrayEquals(new long[]{ 0, 0, 1, 0 }, batches.get(0));
+        assertArrayEquals(new long[]{ 2, 0, 3, 0 }, batches.get(1));
+        assertArrayEquals(new long[]{ 4, 0 }, batches.get(2));
+        assertEquals(List.of(false, false, true), lastFlags);
+    }
+
+    @Test
+    void shouldSendEmptyLastBatchWhenNothingMatches()
+    {
+        final QueryRecordingsSession session = newSession(
+            0, Integer.MAX_VALUE, 42, RecordingActivity.ANY, 0, 0, ANY_CHANNEL);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        assertArrayEquals(new long[0], batches.get(0));
+        assertTrue(lastFlags.get(0));
+    }
+
+    private QueryRecordingsSession newSession(
+        final long fromRecordingId,
+        final int count,
+        final int streamId,
+        final RecordingActivity activity,
+        final int projection,
+        final long minLength,
+        final byte[] channelFragment)
+    {
+        return new QueryRecordingsSession(
+            correlationId,
+            fromRecordingId,
+            count,
+            streamId,
+            activity,
+            projection,
+            0,
+            Long.MAX_VALUE,
+            minLength,
+            channelFragment,
+            catalog,
+            controlSession,
+            descriptorBuffer,
+            recordingDescriptorDecoder);
+    }
+}
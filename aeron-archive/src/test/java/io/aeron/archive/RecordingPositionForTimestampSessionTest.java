@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class RecordingPositionForTimestampSessionTest
+{
+    private static final long RECORDING_ID = 3;
+    private static final long CORRELATION_ID = 42;
+    private static final int INTERVAL = 1024;
+
+    private final ControlSession controlSession = mock(ControlSession.class);
+
+    @TempDir
+    File archiveDir;
+
+    @Test
+    void shouldRespondWithStartPositionWhenNoIndexExists()
+    {
+        final RecordingPositionForTimestampSession session = new RecordingPositionForTimestampSession(
+            CORRELATION_ID, archiveDir, RECORDING_ID, 100, 2048, 8192, controlSession);
+
+        session.doWork();
+
+        assertTrue(session.isDone());
+        verify(controlSession).sendOkResponse(CORRELATION_ID, 2048);
+        session.close();
+    }
+
+    @Test
+    void shouldSearchIndexOverDutyCyclesBeforeResponding() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            for (int i = 0; i < 8; i++)
+            {
+                index.onBlock(i * INTERVAL, 100 + i);
+            }
+        }
+
+        final RecordingPositionForTimestampSession session = new RecordingPositionForTimestampSession(
+            CORRELATION_ID, archiveDir, RECORDING_ID, 105, 0, 8L * INTERVAL, controlSession);
+
+        session.doWork();
+        assertFalse(session.isDone());
+        verifyNoInteractions(controlSession);
+
+        while (!session.isDone())
+        {
+            session.doWork();
+        }
+
+        verify(controlSession).sendOkResponse(CORRELATION_ID, 5L * INTERVAL);
+        session.close();
+    }
+}
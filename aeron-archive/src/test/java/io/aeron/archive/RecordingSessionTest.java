@@ -144,7 +144,8 @@ class RecordingSessionTest
             context,
             CONTROL_SESSION,
             false,
-            mock(ArchiveConductor.Recorder.class));
+            mock(ArchiveConductor.Recorder.class),
+            null);
 
         assertEquals(RECORDING_ID, session.sessionId());
 
@@ -211,6 +212,58 @@ class RecordingSessionTest
         session.close();
     }
 
+    @Test
+    void shouldOnlyAdvanceRecordedPositionOnGroupCommit()
+    {
+        when(mockPosition.getPlain()).then((invocation) -> positionLong);
+        context.fileSyncLevel(1).fileSyncGroupCommitWindowNs(1000);
+        final ArchiveConductor.Recorder recorder = mock(ArchiveConductor.Recorder.class);
+        final RecordingSession session = new RecordingSession(
+            NULL_VALUE,
+            RECORDING_ID,
+            START_POSITION,
+            SEGMENT_LENGTH,
+            CHANNEL,
+            recordingEventsProxy,
+            image,
+            mockPosition,
+            context,
+            CONTROL_SESSION,
+            false,
+            recorder,
+            null);
+
+        session.doWork();
+
+        when(image.blockPoll(any(), anyInt())).thenAnswer(
+            (invocation) ->
+            {
+                final BlockHandler handle = invocation.getArgument(0);
+                if (null == handle)
+                {
+                    return 0;
+                }
+
+                handle.onBlock(mockLogBufferMapped, TERM_OFFSET, RECORDED_BLOCK_LENGTH, SESSION_ID, 0);
+
+                return RECORDED_BLOCK_LENGTH;
+            });
+
+        assertNotEquals(0, session.doWork());
+        assertEquals(START_POSITION, session.recordedPosition());
+        verify(recorder).addToGroupCommit(session);
+
+        when(image.blockPoll(any(), anyInt())).thenReturn(0);
+        session.doWork();
+        verify(recorder, times(1)).addToGroupCommit(session);
+
+        assertEquals(1, session.onGroupCommit());
+        assertEquals(START_POSITION + RECORDED_BLOCK_LENGTH, session.recordedPosition());
+        assertEquals(0, session.onGroupCommit());
+
+        session.close();
+    }
+
     private static Subscription mockSubscription()
     {
         final Subscription subscription = mock(Subscription.class);
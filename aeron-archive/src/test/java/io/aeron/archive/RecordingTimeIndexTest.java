@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordingTimeIndexTest
+{
+    private static final long RECORDING_ID = 7;
+    private static final int INTERVAL = 1024;
+
+    @TempDir
+    File archiveDir;
+
+    @Test
+    void shouldReturnNullPositionWhenNoIndexExists()
+    {
+        assertEquals(NULL_POSITION, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 100, 0, 4096));
+    }
+
+    @Test
+    void shouldOnlyAddEntryOncePerInterval() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(512, 110);
+            index.onBlock(1024, 120);
+            index.onBlock(1536, 130);
+            index.onBlock(4096, 140);
+        }
+
+        final File file = new File(archiveDir, Archive.recordingIndexFileName(RECORDING_ID));
+        assertEquals(3L * RecordingTimeIndex.ENTRY_LENGTH, file.length());
+    }
+
+    @Test
+    void shouldAddEntryOncePerTimeIntervalWithinByteInterval() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 50))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(64, 120);
+            index.onBlock(128, 150);
+            index.onBlock(192, 160);
+            index.onBlock(256, 210);
+        }
+
+        final File file = new File(archiveDir, Archive.recordingIndexFileName(RECORDING_ID));
+        assertEquals(3L * RecordingTimeIndex.ENTRY_LENGTH, file.length());
+        assertEquals(0, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 149, 0, 4096));
+        assertEquals(128, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 150, 0, 4096));
+        assertEquals(256, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 210, 0, 4096));
+    }
+
+    @Test
+    void shouldFindLatestPositionAtOrBeforeTimestamp() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(1024, 200);
+            index.onBlock(2048, 300);
+            index.onBlock(3072, 400);
+        }
+
+        assertEquals(NULL_POSITION, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 99, 0, 4096));
+        assertEquals(0, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 100, 0, 4096));
+        assertEquals(1024, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 299, 0, 4096));
+        assertEquals(2048, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 300, 0, 4096));
+        assertEquals(3072, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, Long.MAX_VALUE, 0, 4096));
+    }
+
+    @Test
+    void shouldIgnoreEntriesOutsideOfPositionRange() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(1024, 200);
+            index.onBlock(2048, 300);
+            index.onBlock(3072, 400);
+        }
+
+        assertEquals(2048, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 400, 0, 2048));
+        assertEquals(NULL_POSITION, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 150, 1024, 4096));
+    }
+
+    @Test
+    void shouldKeepTimestampsAscendingAndAppendWhenReopened() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 200);
+            index.onBlock(1024, 150);
+        }
+
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(2048, 300);
+        }
+
+        assertEquals(1024, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 299, 0, 4096));
+        assertEquals(2048, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 300, 0, 4096));
+    }
+
+    @Test
+    void shouldRemoveEntriesFromTruncatePositionSoExtendedRecordingStaysAscending() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(1024, 200);
+            index.onBlock(2048, 300);
+            index.onBlock(3072, 400);
+        }
+
+        RecordingTimeIndex.removeEntriesFrom(archiveDir, RECORDING_ID, 2048);
+        assertEquals(2L * RecordingTimeIndex.ENTRY_LENGTH, indexFile().length());
+
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(2048, 500);
+        }
+
+        assertEquals(1024, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 450, 0, 4096));
+        assertEquals(2048, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 500, 0, 4096));
+    }
+
+    @Test
+    void shouldDeleteIndexWhenTruncatedToFirstEntry() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(1024, 100);
+            index.onBlock(2048, 200);
+        }
+
+        RecordingTimeIndex.removeEntriesFrom(archiveDir, RECORDING_ID, 1024);
+
+        assertFalse(indexFile().exists());
+    }
+
+    @Test
+    void shouldRemoveEntriesBeforeNewStartPosition() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            index.onBlock(0, 100);
+            index.onBlock(1024, 200);
+            index.onBlock(2048, 300);
+            index.onBlock(3072, 400);
+        }
+
+        RecordingTimeIndex.removeEntriesBefore(archiveDir, RECORDING_ID, 2048);
+
+        assertEquals(2L * RecordingTimeIndex.ENTRY_LENGTH, indexFile().length());
+        assertEquals(NULL_POSITION, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 250, 0, 4096));
+        assertEquals(2048, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 350, 0, 4096));
+        assertEquals(3072, RecordingTimeIndex.findPosition(archiveDir, RECORDING_ID, 400, 0, 4096));
+
+        RecordingTimeIndex.removeEntriesBefore(archiveDir, RECORDING_ID, 4096);
+
+        assertFalse(indexFile().exists());
+    }
+
+    @Test
+    void shouldSearchOneEntryPerStep() throws IOException
+    {
+        try (RecordingTimeIndex index = new RecordingTimeIndex(archiveDir, RECORDING_ID, INTERVAL, 0))
+        {
+            for (int i = 0; i < 16; i++)
+            {
+                index.onBlock(i * INTERVAL, 100 + i);
+            }
+        }
+
+        try (RecordingTimeIndex.PositionSearch search = new RecordingTimeIndex.PositionSearch(
+            archiveDir, RECORDING_ID, 110, 0, Long.MAX_VALUE))
+        {
+            int steps = 0;
+            boolean isDone = false;
+            while (!isDone)
+            {
+                isDone = search.step();
+                steps++;
+            }
+
+            assertEquals(10L * INTERVAL, search.position());
+            assertTrue(steps <= 5);
+        }
+    }
+
+    private File indexFile()
+    {
+        return new File(archiveDir, Archive.recordingIndexFileName(RECORDING_ID));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Counter;
 import io.aeron.Image;
 import io.aeron.archive.Archive.Context;
 import io.aeron.archive.client.ArchiveException;
@@ -25,22 +26,29 @@ import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.SystemNanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.checksum.Checksums.crc32;
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.archive.client.ArchiveException.GENERIC;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
 import static java.nio.ByteBuffer.allocate;
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.file.Files.delete;
 import static java.nio.file.Files.readAllBytes;
 import static java.util.Arrays.fill;
@@ -396,6 +404,252 @@ class RecordingWriterTest
         assertEquals(sessionId, frameSessionId(fileBuffer, 0));
     }
 
+    @Test
+    void shouldOnlyAdvanceDurablePositionOnceAsyncSyncCompletes() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(1)
+            .fileSyncAsync(true)
+            .nanoClock(SystemNanoClock.INSTANCE);
+        final RecordingFileSyncer fileSyncer = new RecordingFileSyncer(ctx);
+        final ArchiveConductor.Recorder mockRecorder = mock(ArchiveConductor.Recorder.class);
+        when(mockRecorder.fileSyncer()).thenReturn(fileSyncer);
+        final RecordingWriter recordingWriter = new RecordingWriter(1, 0, SEGMENT_LENGTH, image, ctx, mockRecorder);
+        recordingWriter.init();
+
+        try
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(128));
+            frameType(termBuffer, 0, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 0, 128);
+
+            recordingWriter.onBlock(termBuffer, 0, 128, -1, -1);
+            assertEquals(128, recordingWriter.position());
+            assertEquals(0, recordingWriter.durablePosition());
+
+            assertEquals(1, recordingWriter.submitSync());
+            assertEquals(0, recordingWriter.submitSync());
+            assertEquals(0, recordingWriter.durablePosition());
+            assertEquals(NULL_POSITION, recordingWriter.checkpointPosition());
+
+            assertEquals(1, fileSyncer.doWork());
+            assertEquals(128, recordingWriter.durablePosition());
+            assertEquals(0, recordingWriter.checkpointPosition());
+            assertEquals(0, recordingWriter.submitSync());
+            assertEquals(0, fileSyncer.doWork());
+            assertTrue(fileSyncer.maxSyncTimeNs() <= fileSyncer.totalSyncTimeNs());
+        }
+        finally
+        {
+            recordingWriter.close();
+        }
+    }
+
+    @Test
+    void shouldTimeAsyncSyncFromSubmitToDurableAndForceSeparately() throws IOException
+    {
+        final MutableLong time = new MutableLong(0);
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(1)
+            .fileSyncAsync(true)
+            .nanoClock(time::get);
+        final RecordingFileSyncer fileSyncer = new RecordingFileSyncer(ctx);
+        final ArchiveConductor.Recorder mockRecorder = mock(ArchiveConductor.Recorder.class);
+        when(mockRecorder.fileSyncer()).thenReturn(fileSyncer);
+        final RecordingWriter recordingWriter = new RecordingWriter(
+            1, 0, SEGMENT_LENGTH, mockImage(0L), ctx, mockRecorder);
+        recordingWriter.init();
+
+        try
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(128));
+            frameType(termBuffer, 0, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 0, 128);
+
+            recordingWriter.onBlock(termBuffer, 0, 128, -1, -1);
+            assertEquals(1, recordingWriter.submitSync());
+            time.set(TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertEquals(1, fileSyncer.doWork());
+            assertEquals(128, recordingWriter.durablePosition());
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(5), fileSyncer.totalSyncTimeNs());
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(5), fileSyncer.maxSyncTimeNs());
+            assertEquals(0, fileSyncer.totalForceTimeNs());
+            assertEquals(0, fileSyncer.maxForceTimeNs());
+        }
+        finally
+        {
+            recordingWriter.close();
+        }
+    }
+
+    @Test
+    void shouldAccumulateSyncTimeCountersSharedBySyncers() throws IOException
+    {
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(allocateDirect(16 * 1024)), new UnsafeBuffer(allocateDirect(4 * 1024)));
+        final Counter totalSyncTimeCounter = new Counter(countersManager, 1, countersManager.allocate("total"));
+        final Counter maxSyncTimeCounter = new Counter(countersManager, 2, countersManager.allocate("max"));
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(1)
+            .fileSyncAsync(true)
+            .nanoClock(SystemNanoClock.INSTANCE)
+            .totalSyncTimeCounter(totalSyncTimeCounter)
+            .maxSyncTimeCounter(maxSyncTimeCounter);
+
+        final RecordingFileSyncer fileSyncerOne = new RecordingFileSyncer(ctx);
+        final RecordingFileSyncer fileSyncerTwo = new RecordingFileSyncer(ctx);
+        final ArchiveConductor.Recorder recorderOne = mock(ArchiveConductor.Recorder.class);
+        final ArchiveConductor.Recorder recorderTwo = mock(ArchiveConductor.Recorder.class);
+        when(recorderOne.fileSyncer()).thenReturn(fileSyncerOne);
+        when(recorderTwo.fileSyncer()).thenReturn(fileSyncerTwo);
+        final RecordingWriter writerOne = new RecordingWriter(1, 0, SEGMENT_LENGTH, mockImage(0L), ctx, recorderOne);
+        final RecordingWriter writerTwo = new RecordingWriter(2, 0, SEGMENT_LENGTH, mockImage(0L), ctx, recorderTwo);
+        writerOne.init();
+        writerTwo.init();
+
+        try
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(128));
+            frameType(termBuffer, 0, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 0, 128);
+
+            for (int i = 0; i < 3; i++)
+            {
+                writerOne.onBlock(termBuffer, 0, 128, -1, -1);
+                writerTwo.onBlock(termBuffer, 0, 128, -1, -1);
+                assertEquals(1, writerOne.submitSync());
+                assertEquals(1, writerTwo.submitSync());
+                assertEquals(1, fileSyncerOne.doWork());
+                assertEquals(1, fileSyncerTwo.doWork());
+            }
+
+            assertEquals(fileSyncerOne.totalSyncTimeNs() + fileSyncerTwo.totalSyncTimeNs(), totalSyncTimeCounter.get());
+            assertEquals(
+                Math.max(fileSyncerOne.maxSyncTimeNs(), fileSyncerTwo.maxSyncTimeNs()), maxSyncTimeCounter.get());
+        }
+        finally
+        {
+            writerOne.close();
+            writerTwo.close();
+        }
+    }
+
+    @Test
+    void shouldSyncOutstandingDataOnRollOverAndCloseWhenAsync() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(1)
+            .fileSyncAsync(true)
+            .nanoClock(SystemNanoClock.INSTANCE);
+        final ArchiveConductor.Recorder mockRecorder = mock(ArchiveConductor.Recorder.class);
+        when(mockRecorder.fileSyncer()).thenReturn(new RecordingFileSyncer(ctx));
+        final RecordingWriter recordingWriter = new RecordingWriter(1, 0, SEGMENT_LENGTH, image, ctx, mockRecorder);
+        recordingWriter.init();
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(1024));
+        frameType(termBuffer, 0, HDR_TYPE_DATA);
+        frameLengthOrdered(termBuffer, 0, 1024);
+
+        for (int i = 0; i < SEGMENT_LENGTH / 1024; i++)
+        {
+            recordingWriter.onBlock(termBuffer, 0, 1024, -1, -1);
+        }
+        assertEquals(SEGMENT_LENGTH, recordingWriter.durablePosition());
+
+        recordingWriter.onBlock(termBuffer, 0, 1024, -1, -1);
+        assertEquals(SEGMENT_LENGTH, recordingWriter.durablePosition());
+
+        recordingWriter.close();
+        assertEquals(SEGMENT_LENGTH + 1024, recordingWriter.durablePosition());
+    }
+
+    @Test
+    void shouldOnlyAdvanceDurablePositionOnGroupCommit() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(1)
+            .fileSyncGroupCommitWindowNs(1000)
+            .nanoClock(SystemNanoClock.INSTANCE);
+        final RecordingWriter recordingWriter = new RecordingWriter(
+            1, 0, SEGMENT_LENGTH, image, ctx, mock(ArchiveConductor.Recorder.class));
+        recordingWriter.init();
+
+        try
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(128));
+            frameType(termBuffer, 0, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 0, 128);
+
+            assertFalse(recordingWriter.isAwaitingGroupCommit());
+            recordingWriter.onBlock(termBuffer, 0, 128, -1, -1);
+            assertTrue(recordingWriter.isAwaitingGroupCommit());
+            assertEquals(0, recordingWriter.durablePosition());
+            assertEquals(0, recordingWriter.submitSync());
+
+            recordingWriter.onBlock(termBuffer, 0, 128, -1, -1);
+            assertEquals(NULL_POSITION, recordingWriter.checkpointPosition());
+
+            assertEquals(1, recordingWriter.forceSync());
+            assertFalse(recordingWriter.isAwaitingGroupCommit());
+            assertEquals(256, recordingWriter.durablePosition());
+            assertEquals(128, recordingWriter.checkpointPosition());
+            assertEquals(0, recordingWriter.forceSync());
+        }
+        finally
+        {
+            recordingWriter.close();
+        }
+    }
+
+    @Test
+    void shouldTakeCheckpointWhichMatchesFrameHeaderInSegmentFile() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final Context ctx = new Context()
+            .archiveDir(archiveDir)
+            .recordChecksum(crc32())
+            .nanoClock(SystemNanoClock.INSTANCE);
+        final RecordingWriter recordingWriter = new RecordingWriter(
+            1, 0, SEGMENT_LENGTH, image, ctx, mock(ArchiveConductor.Recorder.class));
+        recordingWriter.init();
+
+        try
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocate(256));
+            frameType(termBuffer, 0, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 0, 128);
+            termBuffer.putInt(SESSION_ID_FIELD_OFFSET, 42, LITTLE_ENDIAN);
+            frameType(termBuffer, 128, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, 128, 128);
+            termBuffer.putInt(128 + SESSION_ID_FIELD_OFFSET, 43, LITTLE_ENDIAN);
+
+            recordingWriter.onBlock(termBuffer, 0, 128, -1, -1);
+            assertEquals(0, recordingWriter.checkpointPosition());
+            recordingWriter.onBlock(termBuffer, 128, 128, -1, -1);
+            assertEquals(128, recordingWriter.checkpointPosition());
+        }
+        finally
+        {
+            recordingWriter.close();
+        }
+
+        try (FileChannel channel = FileChannel.open(segmentFile(1, 0).toPath()))
+        {
+            final ByteBuffer byteBuffer = allocate(HEADER_LENGTH).order(LITTLE_ENDIAN);
+            assertTrue(Catalog.readCheckpointFrameHeader(channel, 128, byteBuffer));
+            assertEquals(Catalog.checkpointChecksum(byteBuffer), recordingWriter.checkpointChecksum());
+        }
+    }
+
     private Image mockImage(final long joinPosition)
     {
         final Image image = mock(Image.class);
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static io.aeron.archive.ReplayReadCache.BLOCK_LENGTH;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplayReadCacheTest
+{
+    private static final long RECORDING_ID = 7;
+    private static final int SEGMENT_LENGTH = 4 * BLOCK_LENGTH;
+
+    private final Counter hitBytesCounter = mock(Counter.class);
+    private final Counter missBytesCounter = mock(Counter.class);
+    private final UnsafeBuffer dstBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BLOCK_LENGTH));
+    private final byte[] data = new byte[SEGMENT_LENGTH];
+    private FileChannel fileChannel;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void before() throws IOException
+    {
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte)(i * 31 + (i >> 8));
+        }
+
+        final File file = new File(tempDir, "7-0.rec");
+        Files.write(file.toPath(), data);
+        fileChannel = FileChannel.open(file.toPath(), READ, WRITE);
+    }
+
+    @AfterEach
+    void after() throws IOException
+    {
+        fileChannel.close();
+    }
+
+    @Test
+    void shouldReadBlockFromFileOnceForRepeatedReads() throws IOException
+    {
+        final ReplayReadCache cache = new ReplayReadCache(2 * BLOCK_LENGTH, hitBytesCounter, missBytesCounter);
+        cache.acquire(RECORDING_ID);
+
+        read(cache, 1024, 4096, SEGMENT_LENGTH);
+        read(cache, 1024, 4096, SEGMENT_LENGTH);
+        read(cache, 8192, 1024, SEGMENT_LENGTH);
+
+        verify(missBytesCounter).getAndAdd(BLOCK_LENGTH);
+        verify(hitBytesCounter).getAndAdd(4096);
+        verify(hitBytesCounter).getAndAdd(1024);
+        assertEquals(1, cache.cachedBlockCount(RECORDING_ID));
+    }
+
+    @Test
+    void shouldReadAcrossBlocks() throws IOException
+    {
+        final ReplayReadCache cache = new ReplayReadCache(2 * BLOCK_LENGTH, hitBytesCounter, missBytesCounter);
+        cache.acquire(RECORDING_ID);
+
+        read(cache, BLOCK_LENGTH - 1024, 4096, SEGMENT_LENGTH);
+
+        verify(missBytesCounter).getAndAdd(2L * BLOCK_LENGTH);
+        assertEquals(2, cache.cachedBlockCount(RECORDING_ID));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBlock() throws IOException
+    {
+        final ReplayReadCache cache = new ReplayReadCache(2 * BLOCK_LENGTH, hitBytesCounter, missBytesCounter);
+        cache.acquire(RECORDING_ID);
+
+        read(cache, 0, 1024, SEGMENT_LENGTH);
+        read(cache, BLOCK_LENGTH, 1024, SEGMENT_LENGTH);
+        read(cache, 0, 1024, SEGMENT_LENGTH);
+        read(cache, 2 * BLOCK_LENGTH, 1024, SEGMENT_LENGTH);
+        verify(missBytesCounter, times(3)).getAndAdd(BLOCK_LENGTH);
+
+        read(cache, 0, 1024, SEGMENT_LENGTH);
+        verify(missBytesCounter, times(3)).getAndAdd(BLOCK_LENGTH);
+
+        read(cache, BLOCK_LENGTH, 1024, SEGMENT_LENGTH);
+        verify(missBytesCounter, times(4)).getAndAdd(BLOCK_LENGTH);
+        assertEquals(2, cache.cachedBlockCount(RECORDING_ID));
+    }
+
+    @Test
+    void shouldReadBlockAgainWhenActiveRecordingHasGrown() throws IOException
+    {
+        final ReplayReadCache cache = new ReplayReadCache(2 * BLOCK_LENGTH, hitBytesCounter, missBytesCounter);
+        cache.acquire(RECORDING_ID);
+
+        read(cache, 0, 1024, 2048);
+        verify(missBytesCounter).getAndAdd(2048);
+
+        read(cache, 1024, 1024, 2048);
+        verify(hitBytesCounter).getAndAdd(1024);
+
+        read(cache, 2048, 1024, 8192);
+        verify(missBytesCounter).getAndAdd(8192);
+        assertEquals(1, cache.cachedBlockCount(RECORDING_ID));
+    }
+
+    @Test
+    void shouldDropBlocksWhenLastSessionReleasesRecording() throws IOException
+    {
+        final ReplayReadCache cache = new ReplayReadCache(2 * BLOCK_LENGTH, hitBytesCounter, missBytesCounter);
+        cache.acquire(RECORDING_ID);
+        cache.acquire(RECORDING_ID);
+
+        read(cache, 0, 1024, SEGMENT_LENGTH);
+        read(cache, BLOCK_LENGTH, 1024, SEGMENT_LENGTH);
+
+        cache.release(RECORDING_ID);
+        assertEquals(2, cache.cachedBlockCount(RECORDING_ID));
+
+        cache.release(RECORDING_ID);
+        assertEquals(0, cache.cachedBlockCount(RECORDING_ID));
+
+        data[100]++;
+        fileChannel.write(ByteBuffer.wrap(data, 100, 1), 100);
+
+        cache.acquire(RECORDING_ID);
+        read(cache, 0, 1024, SEGMENT_LENGTH);
+        verify(missBytesCounter, times(3)).getAndAdd(BLOCK_LENGTH);
+    }
+
+    private void read(final ReplayReadCache cache, final int offset, final int length, final int recordedLimit)
+        throws IOException
+    {
+        cache.read(RECORDING_ID, 0, offset, length, recordedLimit, fileChannel, dstBuffer);
+
+        final byte[] expected = new byte[length];
+        final byte[] actual = new byte[length];
+        System.arraycopy(data, offset, expected, 0, length);
+        dstBuffer.getBytes(0, actual);
+        assertArrayEquals(expected, actual);
+    }
+}
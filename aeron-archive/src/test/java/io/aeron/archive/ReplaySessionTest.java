@@ -18,6 +18,7 @@ package io.aeron.archive;
 import io.aeron.Counter;
 import io.aeron.ExclusivePublication;
 import io.aeron.Image;
+import io.aeron.Publication;
 import io.aeron.archive.checksum.Checksum;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ArchiveException;
@@ -36,6 +37,8 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -79,6 +82,7 @@ class ReplaySessionTest
     private final ControlSession mockControlSession = mock(ControlSession.class);
     private final ExclusivePublication mockPublication = mock(ExclusivePublication.class);
     private final ArchiveConductor mockArchiveConductor = mock(ArchiveConductor.class);
+    private final ArchiveConductor.Replayer mockReplayer = mock(ArchiveConductor.Replayer.class);
     private final Counter recordingPositionCounter = mock(Counter.class);
     private final UnsafeBuffer replayBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_BUFFER_LENGTH));
     private int messageCounter = 0;
@@ -288,9 +292,11 @@ class ReplaySessionTest
         verify(mockControlSession).sendErrorResponse(eq(correlationId), anyLong(), anyString());
     }
 
-    @Test
-    void shouldReplayFullDataFromFile()
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void shouldReplayFullDataFromFile(final boolean replayMapSegmentFiles)
     {
+        context.replayMapSegmentFiles(replayMapSegmentFiles);
         final long length = 4 * FRAME_LENGTH;
         final long correlationId = 1L;
 
@@ -326,6 +332,86 @@ class ReplaySessionTest
         }
     }
 
+    @Test
+    void shouldReadAheadMappedSegmentOnPrefetcherUpToRecordedPosition()
+    {
+        final Counter readAheadBytesCounter = mock(Counter.class);
+        context
+            .replayMapSegmentFiles(true)
+            .replayReadAheadLength(TERM_BUFFER_LENGTH)
+            .replayReadAheadBytesCounter(readAheadBytesCounter);
+
+        final SegmentPrefetcher segmentPrefetcher = new SegmentPrefetcher(countedErrorHandler, context);
+        when(mockReplayer.segmentPrefetcher()).thenReturn(segmentPrefetcher);
+
+        try (ReplaySession replaySession = replaySession(
+            RECORDING_POSITION,
+            4 * FRAME_LENGTH,
+            1L,
+            mockReplayPub,
+            mockControlSession,
+            null,
+            null))
+        {
+            when(mockReplayPub.isClosed()).thenReturn(false);
+            when(mockReplayPub.isConnected()).thenReturn(true);
+            when(mockReplayPub.offerBlock(any(MutableDirectBuffer.class), anyInt(), anyInt()))
+                .thenReturn(Publication.BACK_PRESSURED);
+
+            assertNotEquals(0, replaySession.doWork());
+            replaySession.doWork();
+            assertFalse(replaySession.isDone());
+            verifyNoInteractions(readAheadBytesCounter);
+
+            assertEquals(1, segmentPrefetcher.doWork());
+            assertEquals(0, segmentPrefetcher.doWork());
+            verify(readAheadBytesCounter).getAndAdd(4 * FRAME_LENGTH);
+
+            replaySession.doWork();
+            assertEquals(0, segmentPrefetcher.doWork());
+            verifyNoMoreInteractions(readAheadBytesCounter);
+        }
+    }
+
+    @Test
+    void shouldPrefetchNextSegmentWhenWithinPrefetchLengthOfSegmentEnd() throws IOException
+    {
+        final Counter hitsCounter = mock(Counter.class);
+        final Counter missesCounter = mock(Counter.class);
+        context
+            .replaySegmentPrefetchLength(SEGMENT_LENGTH)
+            .replaySegmentPrefetchHitsCounter(hitsCounter)
+            .replaySegmentPrefetchMissesCounter(missesCounter);
+
+        final SegmentPrefetcher segmentPrefetcher = new SegmentPrefetcher(countedErrorHandler, context);
+        when(mockReplayer.segmentPrefetcher()).thenReturn(segmentPrefetcher);
+
+        final long nextSegmentBasePosition = SEGMENT_LENGTH;
+        final File nextSegmentFile = new File(
+            archiveDir, Archive.segmentFileName(RECORDING_ID, nextSegmentBasePosition));
+        assertTrue(nextSegmentFile.createNewFile());
+        recordingSummary.stopPosition = nextSegmentBasePosition + FRAME_LENGTH;
+
+        final ReplaySession replaySession = replaySession(
+            RECORDING_POSITION,
+            2L * SEGMENT_LENGTH,
+            1L,
+            mockReplayPub,
+            mockControlSession,
+            null,
+            null);
+
+        when(mockReplayPub.isConnected()).thenReturn(false);
+        replaySession.doWork();
+        assertEquals(ReplaySession.State.INIT, replaySession.state());
+
+        assertEquals(1, segmentPrefetcher.doWork());
+        assertEquals(0, segmentPrefetcher.doWork());
+
+        replaySession.close();
+        verifyNoInteractions(hitsCounter, missesCounter);
+    }
+
     @Test
     void shouldGiveUpIfPublishersAreNotConnectedAfterTimeout()
     {
@@ -742,7 +828,7 @@ class ReplaySessionTest
             mockCountersReader,
             recordingPositionCounter,
             checksum,
-            mock(ArchiveConductor.Replayer.class));
+            mockReplayer);
     }
 
     static void validateFrame(
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicationThrottleTest
+{
+    private final Counter replicationBytesCounter = mock(Counter.class);
+
+    @Test
+    void shouldNotThrottleWithoutBandwidthLimit()
+    {
+        final ReplicationThrottle throttle = new ReplicationThrottle(0, replicationBytesCounter);
+
+        throttle.onRecorded(1024 * 1024, 0);
+
+        assertFalse(throttle.isThrottled(0));
+        verify(replicationBytesCounter).getAndAddRelease(1024 * 1024);
+    }
+
+    @Test
+    void shouldThrottleUntilBytesRecordedHaveBeenSentAtBandwidth()
+    {
+        final long bandwidth = 1000 * 1000;
+        final ReplicationThrottle throttle = new ReplicationThrottle(bandwidth, replicationBytesCounter);
+        final long nowNs = 5_000_000_000L;
+
+        assertFalse(throttle.isThrottled(nowNs));
+        throttle.onRecorded(1000, nowNs);
+        throttle.onRecorded(1000, nowNs);
+
+        assertTrue(throttle.isThrottled(nowNs));
+        assertTrue(throttle.isThrottled(nowNs + 1_999_999));
+        assertFalse(throttle.isThrottled(nowNs + 2_000_000));
+        verify(replicationBytesCounter, times(2)).getAndAddRelease(1000);
+    }
+
+    @Test
+    void shouldNotAccumulateBandwidthWhileIdle()
+    {
+        final ReplicationThrottle throttle = new ReplicationThrottle(1000 * 1000, replicationBytesCounter);
+
+        throttle.onRecorded(1000, 0);
+        final long nowNs = 1_000_000_000L;
+        throttle.onRecorded(1000, nowNs);
+
+        assertTrue(throttle.isThrottled(nowNs + 999_999));
+        assertFalse(throttle.isThrottled(nowNs + 1_000_000));
+    }
+
+    @Test
+    void shouldIgnoreEmptyPolls()
+    {
+        final ReplicationThrottle throttle = new ReplicationThrottle(1000, replicationBytesCounter);
+
+        throttle.onRecorded(0, 0);
+
+        assertFalse(throttle.isThrottled(0));
+        verifyNoInteractions(replicationBytesCounter);
+    }
+}
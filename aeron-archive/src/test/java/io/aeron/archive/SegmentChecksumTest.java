@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.client.ArchiveException;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentChecksumTest
+{
+    private static final int SEGMENT_LENGTH = 4 * SegmentChecksum.BLOCK_LENGTH;
+    private static final int FRAME_LENGTH = 1376;
+
+    private final UnsafeBuffer blockBuffer = SegmentChecksum.allocateBlockBuffer();
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldComputeSameChecksumForSameData() throws IOException
+    {
+        final File fileOne = writeSegment("one.rec", segmentData(7));
+        final File fileTwo = writeSegment("two.rec", segmentData(7));
+
+        assertEquals(checksum(fileOne, 0, SEGMENT_LENGTH), checksum(fileTwo, 0, SEGMENT_LENGTH));
+        assertEquals(checksum(fileOne, FRAME_LENGTH, 100_000), checksum(fileTwo, FRAME_LENGTH, 100_000));
+    }
+
+    @Test
+    void shouldComputeDifferentChecksumWhenDataDiffers() throws IOException
+    {
+        final byte[] data = segmentData(7);
+        final File fileOne = writeSegment("one.rec", data);
+        data[3 * SegmentChecksum.BLOCK_LENGTH + 100]++;
+        final File fileTwo = writeSegment("two.rec", data);
+
+        assertEquals(
+            checksum(fileOne, 0, 3 * SegmentChecksum.BLOCK_LENGTH),
+            checksum(fileTwo, 0, 3 * SegmentChecksum.BLOCK_LENGTH));
+        assertNotEquals(checksum(fileOne, 0, SEGMENT_LENGTH), checksum(fileTwo, 0, SEGMENT_LENGTH));
+    }
+
+    @Test
+    void shouldComputeSameChecksumWhenOnlyFrameSessionIdsDiffer() throws IOException
+    {
+        final File fileOne = writeSegment("one.rec", segmentData(7));
+        final File fileTwo = writeSegment("two.rec", segmentData(-42));
+
+        assertEquals(checksum(fileOne, 0, SEGMENT_LENGTH), checksum(fileTwo, 0, SEGMENT_LENGTH));
+        assertEquals(checksum(fileOne, FRAME_LENGTH * 3, 100_000), checksum(fileTwo, FRAME_LENGTH * 3, 100_000));
+    }
+
+    @Test
+    void shouldComputeDifferentChecksumForDifferentLengthOfZeros() throws IOException
+    {
+        final File file = writeSegment("zeros.rec", new byte[SEGMENT_LENGTH]);
+
+        assertNotEquals(checksum(file, 0, 1024), checksum(file, 0, 2048));
+    }
+
+    @Test
+    void shouldComputeSameChecksumForCompressedSegment() throws IOException
+    {
+        final File file = writeSegment("0-0.rec", segmentData(7));
+        final File compressedFile = new File(tempDir, "1-0.rec" + CompressedSegmentChannel.FILE_SUFFIX);
+        CompressedSegmentChannel.compress(file, compressedFile, 16 * 1024, false);
+
+        assertEquals(checksum(file, FRAME_LENGTH, 200_000), checksum(compressedFile, FRAME_LENGTH, 200_000));
+    }
+
+    @Test
+    void shouldThrowIfRangeIsBeyondEndOfSegment() throws IOException
+    {
+        final File file = writeSegment("short.rec", new byte[1024]);
+
+        try (SegmentChecksum segmentChecksum = new SegmentChecksum(file, 0, 2048, blockBuffer))
+        {
+            assertThrows(ArchiveException.class, segmentChecksum::doWork);
+        }
+    }
+
+    private long checksum(final File file, final long fileOffset, final long length) throws IOException
+    {
+        try (SegmentChecksum segmentChecksum = new SegmentChecksum(file, fileOffset, length, blockBuffer))
+        {
+            int blocks = 0;
+            while (!segmentChecksum.doWork())
+            {
+                blocks++;
+            }
+
+            assertEquals((length - 1) / SegmentChecksum.BLOCK_LENGTH, blocks);
+            return segmentChecksum.checksum();
+        }
+    }
+
+    private File writeSegment(final String name, final byte[] data) throws IOException
+    {
+        final File file = new File(tempDir, name);
+        Files.write(file.toPath(), data);
+        return file;
+    }
+
+    private static byte[] segmentData(final int sessionId)
+    {
+        final byte[] data = new byte[SEGMENT_LENGTH];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte)(i * 31 + (i >> 8));
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(data).order(LITTLE_ENDIAN);
+        for (int frameOffset = 0; frameOffset + HEADER_LENGTH <= data.length; frameOffset += FRAME_LENGTH)
+        {
+            buffer.putInt(frameOffset, FRAME_LENGTH);
+            buffer.putInt(frameOffset + SESSION_ID_FIELD_OFFSET, sessionId);
+        }
+
+        return data;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.concurrent.CountedErrorHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SegmentPrefetcherTest
+{
+    private static final long RECORDING_ID = 5;
+    private static final int SEGMENT_LENGTH = 128 * 1024;
+    private static final int PREFETCH_LENGTH = 64 * 1024;
+
+    @TempDir
+    File tempDir;
+
+    private final Counter hitsCounter = mock(Counter.class);
+    private final Counter missesCounter = mock(Counter.class);
+    private final Counter readAheadBytesCounter = mock(Counter.class);
+    private final CountedErrorHandler errorHandler = mock(CountedErrorHandler.class);
+    private File archiveDir;
+    private File coldDir;
+    private SegmentPrefetcher prefetcher;
+
+    @BeforeEach
+    void before()
+    {
+        archiveDir = new File(tempDir, "archive");
+        coldDir = new File(tempDir, "cold");
+        assertTrue(archiveDir.mkdir());
+        assertTrue(coldDir.mkdir());
+
+        final Archive.Context ctx = new Archive.Context()
+            .archiveDir(archiveDir)
+            .coldDir(coldDir)
+            .replaySegmentPrefetchLength(PREFETCH_LENGTH)
+            .replaySegmentPrefetchHitsCounter(hitsCounter)
+            .replaySegmentPrefetchMissesCounter(missesCounter)
+            .replayReadAheadBytesCounter(readAheadBytesCounter);
+
+        prefetcher = new SegmentPrefetcher(errorHandler, ctx);
+    }
+
+    @Test
+    void shouldOpenSegmentAndHandOverFileWhenTakenAfterCompletion() throws IOException
+    {
+        createSegment(archiveDir, SEGMENT_LENGTH);
+
+        final SegmentPrefetcher.Prefetch prefetch = prefetcher.submit(RECORDING_ID, SEGMENT_LENGTH);
+        assertNotNull(prefetch);
+        assertEquals(1, prefetcher.doWork());
+        assertFalse(prefetch.isPending());
+
+        assertTrue(prefetcher.take(prefetch));
+        assertEquals(new File(archiveDir, segmentFileName(RECORDING_ID, SEGMENT_LENGTH)), prefetch.segmentFile);
+        assertTrue(prefetch.fileChannel.isOpen());
+        assertEquals(SEGMENT_LENGTH, prefetch.fileChannel.size());
+        verify(hitsCounter).increment();
+        verifyNoInteractions(missesCounter, errorHandler);
+
+        prefetch.fileChannel.close();
+    }
+
+    @Test
+    void shouldResolveSegmentInColdDirectory() throws IOException
+    {
+        createSegment(coldDir, SEGMENT_LENGTH);
+
+        final SegmentPrefetcher.Prefetch prefetch = prefetcher.submit(RECORDING_ID, SEGMENT_LENGTH);
+        prefetcher.doWork();
+
+        assertTrue(prefetcher.take(prefetch));
+        assertEquals(new File(coldDir, segmentFileName(RECORDING_ID, SEGMENT_LENGTH)), prefetch.segmentFile);
+
+        prefetch.fileChannel.close();
+    }
+
+    @Test
+    void shouldCountMissAndSkipPrefetchWhenTakenBeforeCompletion() throws IOException
+    {
+        createSegment(archiveDir, SEGMENT_LENGTH);
+
+        final SegmentPrefetcher.Prefetch prefetch = prefetcher.submit(RECORDING_ID, SEGMENT_LENGTH);
+        assertFalse(prefetcher.take(prefetch));
+        verify(missesCounter).increment();
+
+        prefetcher.doWork();
+        assertNull(prefetch.fileChannel);
+        verifyNoInteractions(hitsCounter);
+    }
+
+    @Test
+    void shouldCountMissWhenSegmentDoesNotExist()
+    {
+        final SegmentPrefetcher.Prefetch prefetch = prefetcher.submit(RECORDING_ID, SEGMENT_LENGTH);
+        prefetcher.doWork();
+
+        assertFalse(prefetch.isPending());
+        assertFalse(prefetcher.take(prefetch));
+        verify(missesCounter).increment();
+        verifyNoInteractions(hitsCounter, errorHandler);
+    }
+
+    @Test
+    void shouldCloseFileWhenCancelledAfterCompletion() throws IOException
+    {
+        createSegment(archiveDir, SEGMENT_LENGTH);
+
+        final SegmentPrefetcher.Prefetch prefetch = prefetcher.submit(RECORDING_ID, SEGMENT_LENGTH);
+        prefetcher.doWork();
+        SegmentPrefetcher.cancel(prefetch);
+
+        assertFalse(prefetch.fileChannel.isOpen());
+        verifyNoInteractions(hitsCounter, missesCounter);
+    }
+
+    @Test
+    void shouldReadAheadWindowAndCompleteWhenChannelIsClosed() throws IOException
+    {
+        createSegment(archiveDir, SEGMENT_LENGTH);
+        final File segmentFile = new File(archiveDir, segmentFileName(RECORDING_ID, SEGMENT_LENGTH));
+        final SegmentPrefetcher.ReadAhead readAhead = new SegmentPrefetcher.ReadAhead();
+
+        final FileChannel fileChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.READ);
+
+        assertTrue(prefetcher.submit(readAhead, fileChannel, 4096, 4096 + PREFETCH_LENGTH));
+        assertTrue(readAhead.isInFlight());
+        assertEquals(1, prefetcher.doWork());
+        assertFalse(readAhead.isInFlight());
+        verify(readAheadBytesCounter).getAndAdd(PREFETCH_LENGTH);
+
+        assertTrue(prefetcher.submit(readAhead, fileChannel, 0, PREFETCH_LENGTH));
+        fileChannel.close();
+        assertEquals(1, prefetcher.doWork());
+        assertFalse(readAhead.isInFlight());
+        verify(readAheadBytesCounter).getAndAdd(0);
+
+        verifyNoInteractions(errorHandler, hitsCounter, missesCounter);
+    }
+
+    private static void createSegment(final File dir, final int length) throws IOException
+    {
+        try (RandomAccessFile file = new RandomAccessFile(
+            new File(dir, segmentFileName(RECORDING_ID, SEGMENT_LENGTH)), "rw"))
+        {
+            file.setLength(length);
+        }
+    }
+}
@@ -15,13 +15,20 @@
  */
 package io.aeron.archive.checksum;
 
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static org.agrona.BitUtil.align;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ChecksumsTest
@@ -102,4 +109,35 @@ class ChecksumsTest
             return 0;
         }
     }
+
+    @Test
+    void shouldComputeAndVerifyChecksumsOfDataFramesInBlock()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final int[] frameLengths = { HEADER_LENGTH + 100, HEADER_LENGTH + 1, HEADER_LENGTH + 8 };
+        int offset = 0;
+        for (final int frameLength : frameLengths)
+        {
+            frameType(buffer, offset, HDR_TYPE_DATA);
+            frameLengthOrdered(buffer, offset, frameLength);
+            buffer.setMemory(offset + HEADER_LENGTH, frameLength - HEADER_LENGTH, (byte)frameLength);
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+        frameType(buffer, offset, HDR_TYPE_PAD);
+        frameLengthOrdered(buffer, offset, HEADER_LENGTH);
+        frameSessionId(buffer, offset, 42);
+        final int length = offset + HEADER_LENGTH;
+
+        final Checksum checksum = Checksums.crc32c();
+        Checksums.computeFrameChecksums(checksum, buffer, 0, length);
+
+        assertEquals(42, frameSessionId(buffer, offset));
+        assertEquals(-1, Checksums.verifyFrameChecksums(checksum, buffer, 0, length));
+        assertEquals(-1, Checksums.verifyFrameChecksums(checksum, buffer, 0, length - 1));
+
+        final int secondFrameOffset = align(frameLengths[0], FRAME_ALIGNMENT);
+        buffer.putByte(secondFrameOffset + HEADER_LENGTH, (byte)0);
+        assertEquals(secondFrameOffset, Checksums.verifyFrameChecksums(checksum, buffer, 0, length));
+        assertEquals(-1, Checksums.verifyFrameChecksums(checksum, buffer, 0, secondFrameOffset));
+    }
 }
@@ -182,7 +182,7 @@ class AeronArchiveTest
             .errorHandler(errorHandler)
             .ownsAeronClient(false);
         final AeronArchive aeronArchive =
-            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId);
+            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId, 0);
 
         aeronArchive.close();
 
@@ -232,7 +232,7 @@ class AeronArchiveTest
             .errorHandler(errorHandler)
             .ownsAeronClient(true);
         final AeronArchive aeronArchive =
-            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId);
+            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId, 0);
 
         final IndexOutOfBoundsException ex = assertThrows(IndexOutOfBoundsException.class, aeronArchive::close);
 
@@ -277,11 +277,40 @@ class AeronArchiveTest
             .ownsAeronClient(true);
 
         final AeronArchive aeronArchive =
-            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId);
+            new AeronArchive(context, controlResponsePoller, archiveProxy, controlSessionId, archiveId, 0);
 
         assertEquals(archiveId, aeronArchive.archiveId());
     }
 
+    @Test
+    void shouldRejectRequestsWhichArchiveProtocolVersionDoesNotSupport()
+    {
+        when(aeron.context()).thenReturn(new Aeron.Context());
+        final Context context = new Context()
+            .aeron(aeron)
+            .idleStrategy(NoOpIdleStrategy.INSTANCE)
+            .messageTimeoutNs(100)
+            .lock(NoOpLock.INSTANCE)
+            .errorHandler(errorHandler)
+            .ownsAeronClient(false);
+
+        final AeronArchive aeronArchive = new AeronArchive(
+            context, controlResponsePoller, archiveProxy, 7, 8, SemanticVersion.compose(1, 11, 0));
+
+        final ArchiveException exception = assertThrowsExactly(
+            ArchiveException.class, () -> aeronArchive.getSegmentChecksum(1, 0, 1024));
+        assertEquals(
+            "ERROR - get segment checksum requires archive protocol 1.12.0, archive is 1.11.0", exception.getMessage());
+        assertThrowsExactly(ArchiveException.class, () -> aeronArchive.getRecordingPositionForTimestamp(1, 0));
+        assertThrowsExactly(
+            ArchiveException.class,
+            () -> aeronArchive.queryRecordings(new RecordingQueryParams(), mock(RecordingQueryConsumer.class)));
+
+        verify(archiveProxy, never()).getSegmentChecksum(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(archiveProxy, never()).getRecordingPositionForTimestamp(anyLong(), anyLong(), anyLong(), anyLong());
+        verify(archiveProxy, never()).queryRecordings(any(), anyLong(), anyLong());
+    }
+
     @Test
     void shouldAsyncConnectWithoutAuthChallenge()
     {
@@ -371,6 +400,7 @@ class AeronArchiveTest
             assertEquals(controlSessionIdArchiveId, asyncConnect.controlSessionId());
             assertEquals(controlSessionIdArchiveId, aeronArchive.controlSessionId());
             assertEquals(archiveId, aeronArchive.archiveId());
+            assertEquals(AeronArchive.Configuration.PROTOCOL_SEMANTIC_VERSION, aeronArchive.archiveProtocolVersion());
         }
 
         verify(publication, never()).close();
@@ -503,6 +533,8 @@ class AeronArchiveTest
             assertEquals(controlSessionIdArchiveId, asyncConnect.controlSessionId());
             assertEquals(controlSessionIdArchiveId, aeronArchive.controlSessionId());
             assertEquals(archiveId, aeronArchive.archiveId());
+            assertEquals(
+                AeronArchive.AsyncConnect.PROTOCOL_VERSION_WITH_ARCHIVE_ID, aeronArchive.archiveProtocolVersion());
         }
 
         verify(publication, never()).close();
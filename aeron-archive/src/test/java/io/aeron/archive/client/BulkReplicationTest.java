@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.archive.codecs.ControlResponseCode;
+import io.aeron.archive.codecs.ControlResponseDecoder;
+import io.aeron.archive.codecs.RecordingSignal;
+import io.aeron.archive.codecs.RecordingSignalEventDecoder;
+import org.agrona.ErrorHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BulkReplicationTest
+{
+    private static final long CONTROL_SESSION_ID = 7;
+    private static final int SRC_CONTROL_STREAM_ID = 10;
+    private static final String SRC_CONTROL_CHANNEL = "aeron:udp?endpoint=localhost:8010";
+
+    private final Aeron aeron = mock(Aeron.class);
+    private final AeronArchive archive = mock(AeronArchive.class);
+    private final AeronArchive.Context context = mock(AeronArchive.Context.class);
+    private final ArchiveProxy archiveProxy = mock(ArchiveProxy.class);
+    private final ControlResponsePoller poller = mock(ControlResponsePoller.class);
+    private final RecordingSignalConsumer recordingSignalConsumer = mock(RecordingSignalConsumer.class);
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final ReplicationParams replicationParams = new ReplicationParams();
+    private long nextCorrelationId = 100;
+
+    @BeforeEach
+    void before()
+    {
+        when(archive.context()).thenReturn(context);
+        when(archive.archiveProxy()).thenReturn(archiveProxy);
+        when(archive.controlResponsePoller()).thenReturn(poller);
+        when(archive.controlSessionId()).thenReturn(CONTROL_SESSION_ID);
+        when(context.aeron()).thenReturn(aeron);
+        when(context.recordingSignalConsumer()).thenReturn(recordingSignalConsumer);
+        when(context.errorHandler()).thenReturn(errorHandler);
+        when(aeron.nextCorrelationId()).thenAnswer((invocation) -> nextCorrelationId++);
+        when(archiveProxy.replicate(anyLong(), anyInt(), anyString(), any(), anyLong(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void shouldBoundReplicationsInFlightAndStartNextAsEachEnds()
+    {
+        final BulkReplication bulkReplication = new BulkReplication(
+            archive, SRC_CONTROL_STREAM_ID, SRC_CONTROL_CHANNEL, replicationParams, 2);
+        bulkReplication.add(1);
+        bulkReplication.add(2);
+        bulkReplication.add(3, 33);
+        assertEquals(3, bulkReplication.pendingCount());
+
+        assertEquals(1, bulkReplication.doWork());
+        verify(archiveProxy).replicate(
+            eq(1L), eq(SRC_CONTROL_STREAM_ID), eq(SRC_CONTROL_CHANNEL), same(replicationParams), eq(100L), anyLong());
+
+        assertEquals(0, bulkReplication.doWork());
+        respondOk(100, 1000);
+        bulkReplication.doWork();
+        respondOk(101, 1001);
+        bulkReplication.doWork();
+
+        assertEquals(1, bulkReplication.pendingCount());
+        assertEquals(2, bulkReplication.inFlightCount());
+        verify(archiveProxy, times(2)).replicate(anyLong(), anyInt(), anyString(), any(), anyLong(), anyLong());
+
+        signal(1001, RecordingSignal.REPLICATE_END);
+        bulkReplication.doWork();
+        verify(archiveProxy).replicate(
+            eq(3L), eq(SRC_CONTROL_STREAM_ID), eq(SRC_CONTROL_CHANNEL), same(replicationParams), eq(102L), anyLong());
+        assertEquals(33, replicationParams.dstRecordingId());
+        assertEquals(1, bulkReplication.completedCount());
+        verify(recordingSignalConsumer).onSignal(
+            CONTROL_SESSION_ID, 1001, 0, Aeron.NULL_VALUE, Aeron.NULL_VALUE, RecordingSignal.REPLICATE_END);
+
+        respondOk(102, 1002);
+        bulkReplication.doWork();
+        signal(1000, RecordingSignal.REPLICATE_END);
+        bulkReplication.doWork();
+        signal(1002, RecordingSignal.REPLICATE_END);
+        bulkReplication.doWork();
+
+        assertTrue(bulkReplication.isComplete());
+        assertEquals(3, bulkReplication.completedCount());
+        assertEquals(0, bulkReplication.failedCount());
+    }
+
+    @Test
+    void shouldCountRejectedAndErroredReplicationsAsFailed()
+    {
+        final BulkReplication bulkReplication = new BulkReplication(
+            archive, SRC_CONTROL_STREAM_ID, SRC_CONTROL_CHANNEL, replicationParams, 1);
+        bulkReplication.add(1);
+        bulkReplication.add(2);
+
+        bulkReplication.doWork();
+        respondError(100);
+        bulkReplication.doWork();
+        assertEquals(1, bulkReplication.failedCount());
+
+        respondOk(101, 1001);
+        bulkReplication.doWork();
+        respondError(1001);
+        bulkReplication.doWork();
+        assertEquals(1, bulkReplication.inFlightCount());
+
+        signal(1001, RecordingSignal.REPLICATE_END);
+        bulkReplication.doWork();
+
+        assertTrue(bulkReplication.isComplete());
+        assertEquals(0, bulkReplication.completedCount());
+        assertEquals(2, bulkReplication.failedCount());
+        verify(errorHandler, times(2)).onError(any(ArchiveException.class));
+    }
+
+    @Test
+    void shouldStopReplicationsInFlightOnClose()
+    {
+        final Publication publication = mock(Publication.class);
+        when(publication.isConnected()).thenReturn(true);
+        when(archiveProxy.publication()).thenReturn(publication);
+
+        final BulkReplication bulkReplication = new BulkReplication(
+            archive, SRC_CONTROL_STREAM_ID, SRC_CONTROL_CHANNEL, replicationParams, 4);
+        bulkReplication.add(1);
+        bulkReplication.add(2);
+
+        bulkReplication.doWork();
+        respondOk(100, 1000);
+        bulkReplication.doWork();
+
+        bulkReplication.close();
+
+        verify(archiveProxy).stopReplication(eq(1000L), anyLong(), eq(CONTROL_SESSION_ID));
+        assertTrue(bulkReplication.isComplete());
+        assertThrows(ArchiveException.class, () -> bulkReplication.add(3));
+    }
+
+    private void respondOk(final long correlationId, final long replicationId)
+    {
+        response(correlationId, replicationId, ControlResponseCode.OK);
+    }
+
+    private void respondError(final long correlationId)
+    {
+        response(correlationId, ArchiveException.GENERIC, ControlResponseCode.ERROR);
+    }
+
+    private void response(final long correlationId, final long relevantId, final ControlResponseCode code)
+    {
+        reset(poller);
+        when(poller.poll()).thenReturn(1).thenReturn(0);
+        when(poller.isPollComplete()).thenReturn(true);
+        when(poller.controlSessionId()).thenReturn(CONTROL_SESSION_ID);
+        when(poller.templateId()).thenReturn(ControlResponseDecoder.TEMPLATE_ID);
+        when(poller.correlationId()).thenReturn(correlationId);
+        when(poller.relevantId()).thenReturn(relevantId);
+        when(poller.code()).thenReturn(code);
+        when(poller.errorMessage()).thenReturn(ControlResponseCode.ERROR == code ? "failed" : "");
+    }
+
+    private void signal(final long replicationId, final RecordingSignal signal)
+    {
+        reset(poller);
+        when(poller.poll()).thenReturn(1).thenReturn(0);
+        when(poller.isPollComplete()).thenReturn(true);
+        when(poller.controlSessionId()).thenReturn(CONTROL_SESSION_ID);
+        when(poller.templateId()).thenReturn(RecordingSignalEventDecoder.TEMPLATE_ID);
+        when(poller.correlationId()).thenReturn(replicationId);
+        when(poller.recordingId()).thenReturn(0L);
+        when(poller.subscriptionId()).thenReturn((long)Aeron.NULL_VALUE);
+        when(poller.position()).thenReturn((long)Aeron.NULL_VALUE);
+        when(poller.recordingSignal()).thenReturn(signal);
+    }
+}
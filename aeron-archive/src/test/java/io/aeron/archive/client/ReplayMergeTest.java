@@ -0,0 +1,295 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive.client;
+
+import io.aeron.Aeron;
+import io.aeron.Image;
+import io.aeron.Subscription;
+import io.aeron.archive.codecs.ControlResponseCode;
+import io.aeron.exceptions.TimeoutException;
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.aeron.Aeron.NULL_VALUE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReplayMergeTest
+{
+    private static final long CONTROL_SESSION_ID = 7;
+    private static final long REPLAY_SESSION_ID = (5L << 32) | 42;
+    private static final int STREAM_ID = 1001;
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final String REPLAY_CHANNEL = "aeron:udp?session-id=42";
+    private static final String REPLAY_DESTINATION = "aeron:udp?endpoint=localhost:20001";
+    private static final String LIVE_DESTINATION = "aeron:udp?endpoint=localhost:20002|control=localhost:20000";
+    private static final String OTHER_LIVE_DESTINATION = "aeron:udp?endpoint=localhost:20003|control=localhost:20000";
+
+    private final AtomicLong nextCorrelationId = new AtomicLong(100);
+    private final Aeron aeron = mock(Aeron.class);
+    private final AeronArchive.Context archiveContext = mock(AeronArchive.Context.class);
+    private final Subscription subscription = mock(Subscription.class);
+    private final Image image = mock(Image.class);
+    private final CachedEpochClock epochClock = new CachedEpochClock();
+    private long imagePosition;
+    private int activeTransportCount = 1;
+
+    @BeforeEach
+    void before()
+    {
+        when(aeron.nextCorrelationId()).thenAnswer((invocation) -> nextCorrelationId.incrementAndGet());
+        when(archiveContext.aeron()).thenReturn(aeron);
+        when(subscription.channel()).thenReturn("aeron:udp?control-mode=manual|session-id=42");
+        when(subscription.streamId()).thenReturn(STREAM_ID);
+        when(subscription.isConnected()).thenReturn(true);
+        when(subscription.imageBySessionId(42)).thenReturn(image);
+        when(image.position()).thenAnswer((invocation) -> imagePosition);
+        when(image.termBufferLength()).thenReturn(TERM_LENGTH);
+        when(image.activeTransportCount()).thenAnswer((invocation) -> activeTransportCount);
+        epochClock.update(1000);
+    }
+
+    @Test
+    void shouldSelectSourceWithHighestRecordedPosition()
+    {
+        final TestArchive archiveOne = new TestArchive(1000);
+        final TestArchive archiveTwo = new TestArchive(2000);
+        final TestArchive archiveThree = new TestArchive(2000);
+
+        final ReplayMerge replayMerge = newReplayMerge(
+            new ReplayMergeParams(), archiveOne, archiveTwo, archiveThree);
+
+        assertEquals(NULL_VALUE, replayMerge.sourceIndex());
+        doWork(replayMerge, 3);
+
+        assertEquals(1, replayMerge.sourceIndex());
+        assertEquals(0, archiveOne.replays.size());
+        assertEquals(1, archiveTwo.replays.size());
+        assertEquals(0, archiveThree.replays.size());
+        verify(archiveTwo.archiveProxy).replay(
+            eq(12L), anyString(), eq(STREAM_ID), any(ReplayParams.class), anyLong(), eq(CONTROL_SESSION_ID));
+    }
+
+    @Test
+    void shouldSelectSourceWhichRespondedWithinWindow()
+    {
+        final TestArchive archiveOne = new TestArchive(1000);
+        final TestArchive archiveTwo = new TestArchive(2000);
+        archiveTwo.isResponsive = false;
+
+        final ReplayMerge replayMerge = newReplayMerge(new ReplayMergeParams(), archiveOne, archiveTwo);
+
+        doWork(replayMerge, 2);
+        assertEquals(NULL_VALUE, replayMerge.sourceIndex());
+
+        epochClock.advance(100);
+        replayMerge.doWork();
+
+        assertEquals(0, replayMerge.sourceIndex());
+    }
+
+    @Test
+    void shouldContinueReplayWhenGapClosesWithinCatchupWindow()
+    {
+        final TestArchive testArchive = new TestArchive(10_000);
+        final ReplayMergeParams params = new ReplayMergeParams()
+            .replayFileIoMaxLength(4096)
+            .catchupWindowMs(100);
+
+        final ReplayMerge replayMerge = newReplayMerge(params, testArchive);
+        imagePosition = 10_000;
+        doWork(replayMerge, 5);
+
+        testArchive.recordedPosition = 1_000_000;
+        doWork(replayMerge, 2);
+
+        epochClock.advance(100);
+        imagePosition = 1_000_000;
+        testArchive.recordedPosition = 1_500_000;
+        doWork(replayMerge, 3);
+
+        assertFalse(replayMerge.hasFailed());
+        assertEquals(1, testArchive.replays.size());
+        assertArrayEquals(new long[]{ 0, 4096 }, testArchive.replays.get(0));
+        verify(testArchive.archiveProxy, never()).stopReplay(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldFailWhenGapDoesNotCloseWithinCatchupWindow()
+    {
+        final TestArchive testArchive = new TestArchive(10_000);
+        final ReplayMergeParams params = new ReplayMergeParams()
+            .replayFileIoMaxLength(4096)
+            .catchupWindowMs(100);
+
+        final ReplayMerge replayMerge = newReplayMerge(params, testArchive);
+        imagePosition = 10_000;
+        doWork(replayMerge, 5);
+
+        testArchive.recordedPosition = 1_000_000;
+        doWork(replayMerge, 2);
+
+        epochClock.advance(100);
+        imagePosition = 1_000_000;
+        testArchive.recordedPosition = 2_500_000;
+        doWork(replayMerge, 2);
+
+        assertThrowsExactly(TimeoutException.class, replayMerge::doWork);
+        assertTrue(replayMerge.hasFailed());
+        assertEquals(1, testArchive.replays.size());
+    }
+
+    @Test
+    void shouldAddAllLiveDestinationsAndSetLatencyCounters()
+    {
+        final TestArchive testArchive = new TestArchive(10_000);
+        final AtomicCounter catchupLatencyCounter = mock(AtomicCounter.class);
+        final AtomicCounter mergeLatencyCounter = mock(AtomicCounter.class);
+        final ReplayMergeParams params = new ReplayMergeParams()
+            .catchupLatencyCounter(catchupLatencyCounter)
+            .mergeLatencyCounter(mergeLatencyCounter);
+
+        final ReplayMerge replayMerge = new ReplayMerge(
+            subscription,
+            new AeronArchive[]{ testArchive.archive },
+            new long[]{ 11 },
+            REPLAY_CHANNEL,
+            REPLAY_DESTINATION,
+            new String[]{ LIVE_DESTINATION, OTHER_LIVE_DESTINATION },
+            0,
+            epochClock,
+            5000,
+            params);
+
+        epochClock.advance(30);
+        imagePosition = 10_000;
+        doWork(replayMerge, 5);
+
+        testArchive.recordedPosition = 12_000;
+        doWork(replayMerge, 2);
+
+        assertTrue(replayMerge.isLiveAdded());
+        verify(subscription).asyncAddDestination(LIVE_DESTINATION);
+        verify(subscription).asyncAddDestination(OTHER_LIVE_DESTINATION);
+        verify(catchupLatencyCounter).setRelease(30);
+        assertEquals(30, replayMerge.catchupLatencyMs());
+
+        epochClock.advance(20);
+        imagePosition = 12_000;
+        activeTransportCount = 2;
+        doWork(replayMerge, 3);
+
+        assertTrue(replayMerge.isMerged());
+        verify(subscription).asyncRemoveDestination(REPLAY_DESTINATION);
+        verify(mergeLatencyCounter).setRelease(50);
+        assertEquals(50, replayMerge.mergeLatencyMs());
+    }
+
+    private static void doWork(final ReplayMerge replayMerge, final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            replayMerge.doWork();
+        }
+    }
+
+    private ReplayMerge newReplayMerge(final ReplayMergeParams params, final TestArchive... testArchives)
+    {
+        final AeronArchive[] archives = new AeronArchive[testArchives.length];
+        final long[] recordingIds = new long[testArchives.length];
+        for (int i = 0; i < testArchives.length; i++)
+        {
+            archives[i] = testArchives[i].archive;
+            recordingIds[i] = 11 + i;
+        }
+
+        return new ReplayMerge(
+            subscription,
+            archives,
+            recordingIds,
+            REPLAY_CHANNEL,
+            REPLAY_DESTINATION,
+            new String[]{ LIVE_DESTINATION },
+            0,
+            epochClock,
+            5000,
+            params);
+    }
+
+    final class TestArchive
+    {
+        final AeronArchive archive = mock(AeronArchive.class);
+        final ArchiveProxy archiveProxy = mock(ArchiveProxy.class);
+        final ControlResponsePoller poller = mock(ControlResponsePoller.class);
+        final List<long[]> replays = new ArrayList<>();
+        long recordedPosition;
+        long correlationId = NULL_VALUE;
+        long relevantId;
+        boolean hasResponse;
+        boolean isResponsive = true;
+
+        TestArchive(final long recordedPosition)
+        {
+            this.recordedPosition = recordedPosition;
+
+            when(archive.context()).thenReturn(archiveContext);
+            when(archive.archiveProxy()).thenReturn(archiveProxy);
+            when(archive.controlSessionId()).thenReturn(CONTROL_SESSION_ID);
+            when(archive.controlResponsePoller()).thenReturn(poller);
+
+            when(archiveProxy.getMaxRecordedPosition(anyLong(), anyLong(), anyLong())).thenAnswer((invocation) ->
+            {
+                onRequest(invocation.getArgument(1), this.recordedPosition);
+                return true;
+            });
+            when(archiveProxy.replay(anyLong(), anyString(), anyInt(), any(ReplayParams.class), anyLong(), anyLong()))
+                .thenAnswer((invocation) ->
+                {
+                    final ReplayParams replayParams = invocation.getArgument(3);
+                    replays.add(new long[]{ replayParams.position(), replayParams.fileIoMaxLength() });
+                    onRequest(invocation.getArgument(4), REPLAY_SESSION_ID);
+                    return true;
+                });
+            when(archiveProxy.stopReplay(anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+            when(poller.poll()).thenAnswer((invocation) ->
+            {
+                final boolean hasResponse = this.hasResponse && isResponsive;
+                this.hasResponse = false;
+                return hasResponse ? 1 : 0;
+            });
+            when(poller.isPollComplete()).thenReturn(true);
+            when(poller.controlSessionId()).thenReturn(CONTROL_SESSION_ID);
+            when(poller.code()).thenReturn(ControlResponseCode.OK);
+            when(poller.correlationId()).thenAnswer((invocation) -> correlationId);
+            when(poller.relevantId()).thenAnswer((invocation) -> relevantId);
+        }
+
+        private void onRequest(final long correlationId, final long relevantId)
+        {
+            this.correlationId = correlationId;
+            this.relevantId = relevantId;
+            hasResponse = true;
+        }
+    }
+}
@@ -91,6 +91,7 @@ public class Aeron implements AutoCloseable
     private final RingBuffer commandBuffer;
     private final AgentInvoker conductorInvoker;
     private final AgentRunner conductorRunner;
+    private final ClientConductorPool.Entry conductorPoolEntry;
     private final Context ctx;
 
     Aeron(final Context ctx)
@@ -108,11 +109,19 @@ public class Aeron implements AutoCloseable
             {
                 conductorInvoker = new AgentInvoker(ctx.errorHandler(), null, conductor);
                 conductorRunner = null;
+                conductorPoolEntry = null;
+            }
+            else if (null != ctx.conductorPool())
+            {
+                conductorInvoker = null;
+                conductorRunner = null;
+                conductorPoolEntry = ctx.conductorPool().add(conductor, ctx.errorHandler());
             }
             else
             {
                 conductorInvoker = null;
                 conductorRunner = new AgentRunner(ctx.idleStrategy(), ctx.errorHandler(), null, conductor);
+                conductorPoolEntry = null;
             }
         }
         catch (final ConcurrentConcludeException ex)
@@ -159,7 +168,7 @@ public class Aeron implements AutoCloseable
             {
                 aeron.conductorInvoker.start();
             }
-            else
+            else if (null != aeron.conductorRunner)
             {
                 AgentRunner.startOnThread(aeron.conductorRunner, ctx.threadFactory());
             }
@@ -272,6 +281,10 @@ public class Aeron implements AutoCloseable
             {
                 CloseHelper.close(errorHandler, conductorRunner);
             }
+            else if (null != conductorPoolEntry)
+            {
+                ctx.conductorPool().remove(conductorPoolEntry);
+            }
             else
             {
                 CloseHelper.close(errorHandler, conductorInvoker);
@@ -330,6 +343,46 @@ public class Aeron implements AutoCloseable
         return conductor.asyncAddExclusivePublication(channel, streamId);
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers and be notified via a
+     * {@link RegistrationHandler} when the media driver has responded. The added publication is threadsafe.
+     * <p>
+     * This does not block awaiting the response from the media driver so many resources can be added in a pipelined
+     * fashion. The handler is called from the client conductor duty cycle.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @param handler  to be notified when the publication is available or the add fails.
+     * @return the registration id of the publication which can be used to get or remove the added publication.
+     * @see #getPublication(long)
+     * @see #asyncRemovePublication(long)
+     */
+    public long asyncAddPublication(
+        final String channel, final int streamId, final RegistrationHandler<ConcurrentPublication> handler)
+    {
+        return conductor.asyncAddPublication(channel, streamId, Objects.requireNonNull(handler, "handler"));
+    }
+
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers from a single thread and be
+     * notified via a {@link RegistrationHandler} when the media driver has responded.
+     * <p>
+     * This does not block awaiting the response from the media driver so many resources can be added in a pipelined
+     * fashion. The handler is called from the client conductor duty cycle.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @param handler  to be notified when the publication is available or the add fails.
+     * @return the registration id of the publication which can be used to get or remove the added publication.
+     * @see #getExclusivePublication(long)
+     * @see #asyncRemovePublication(long)
+     */
+    public long asyncAddExclusivePublication(
+        final String channel, final int streamId, final RegistrationHandler<ExclusivePublication> handler)
+    {
+        return conductor.asyncAddExclusivePublication(channel, streamId, Objects.requireNonNull(handler, "handler"));
+    }
+
     /**
      * Asynchronously remove a {@link Publication}.
      *
@@ -443,6 +496,57 @@ public class Aeron implements AutoCloseable
         return conductor.asyncAddSubscription(channel, streamId);
     }
 
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers and be notified via a
+     * {@link RegistrationHandler} when the media driver has responded.
+     * <p>
+     * This does not block awaiting the response from the media driver so many resources can be added in a pipelined
+     * fashion. The handler is called from the client conductor duty cycle.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @param handler  to be notified when the subscription is available or the add fails.
+     * @return the registration id of the subscription which can be used to get or remove the added subscription.
+     * @see #getSubscription(long)
+     * @see #asyncRemoveSubscription(long)
+     */
+    public long asyncAddSubscription(
+        final String channel, final int streamId, final RegistrationHandler<Subscription> handler)
+    {
+        return asyncAddSubscription(
+            channel, streamId, ctx.availableImageHandler(), ctx.unavailableImageHandler(), handler);
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers and be notified via a
+     * {@link RegistrationHandler} when the media driver has responded.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param handler                 to be notified when the subscription is available or the add fails.
+     * @return the registration id of the subscription which can be used to get or remove the added subscription.
+     * @see #getSubscription(long)
+     * @see #asyncRemoveSubscription(long)
+     */
+    public long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler,
+        final RegistrationHandler<Subscription> handler)
+    {
+        return conductor.asyncAddSubscription(
+            channel,
+            streamId,
+            availableImageHandler,
+            unavailableImageHandler,
+            Objects.requireNonNull(handler, "handler"));
+    }
+
     /**
      * Asynchronously remove a {@link Subscription}.
      *
@@ -968,6 +1072,7 @@ public class Aeron implements AutoCloseable
         private long closeLingerDurationNs = Configuration.closeLingerDurationNs();
 
         private ThreadFactory threadFactory = Thread::new;
+        private ClientConductorPool conductorPool;
 
         /**
          * Perform a shallow copy of the object.
@@ -1002,6 +1107,21 @@ public class Aeron implements AutoCloseable
                     "is using a NoOpLock");
             }
 
+            if (null != conductorPool)
+            {
+                if (useConductorAgentInvoker)
+                {
+                    throw new AeronException(
+                        "Aeron.Context.conductorPool(...) cannot be used with " +
+                        "Aeron.Context.useConductorAgentInvoker(true)");
+                }
+
+                if (conductorPool.isClosed())
+                {
+                    throw new AeronException("Aeron.Context.conductorPool(...) is closed");
+                }
+            }
+
             if (null != clientName && clientName.length() > MAX_CLIENT_NAME_LENGTH)
             {
                 throw new AeronException("clientName length must <= " + MAX_CLIENT_NAME_LENGTH);
@@ -1748,6 +1868,31 @@ public class Aeron implements AutoCloseable
             return threadFactory;
         }
 
+        /**
+         * Run the {@link ClientConductor} duty cycle on a shared {@link ClientConductorPool} rather than on a
+         * dedicated thread. When set the {@link #idleStrategy()} and {@link #threadFactory()} are not used for the
+         * conductor as the pool provides its own.
+         *
+         * @param conductorPool to run the client conductor or null for a dedicated thread.
+         * @return this for a fluent API.
+         * @see ClientConductorPool
+         */
+        public Context conductorPool(final ClientConductorPool conductorPool)
+        {
+            this.conductorPool = conductorPool;
+            return this;
+        }
+
+        /**
+         * The {@link ClientConductorPool} used to run the client conductor duty cycle, if any.
+         *
+         * @return the {@link ClientConductorPool} used to run the client conductor or null for a dedicated thread.
+         */
+        public ClientConductorPool conductorPool()
+        {
+            return conductorPool;
+        }
+
         /**
          * Set the handler to receive error frames that have been received by the local driver for publications added by
          * this client.
@@ -1827,6 +1972,7 @@ public class Aeron implements AutoCloseable
                 "\n    resourceLingerDurationNs=" + resourceLingerDurationNs +
                 "\n    closeLingerDurationNs=" + closeLingerDurationNs +
                 "\n    threadFactory=" + threadFactory +
+                "\n    conductorPool=" + conductorPool +
                 "\n}";
         }
 
@@ -244,6 +244,139 @@ public final class AeronCounters
     @AeronCounter
     public static final int ARCHIVE_REPLAY_SESSION_COUNT_TYPE_ID = 112;
 
+    /**
+     * The type id of the {@link Counter} used for keeping track of the max time from a recorder submitting a file
+     * sync to the data being durable when file syncs are performed asynchronously or by group commit.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_RECORDER_MAX_SYNC_TIME_TYPE_ID = 113;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the total time from a recorder submitting file
+     * syncs to the data being durable when file syncs are performed asynchronously or by group commit.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_RECORDER_TOTAL_SYNC_TIME_TYPE_ID = 114;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes read by an individual replayer when
+     * the archive runs more than one replayer thread.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAYER_WORKER_READ_BYTES_TYPE_ID = 115;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of recording segments moved to the
+     * cold storage directory.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_COLD_SEGMENT_COUNT_TYPE_ID = 116;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes of recording segments moved to the
+     * cold storage directory.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_COLD_BYTES_TYPE_ID = 117;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of active replication sessions into
+     * an archive.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLICATION_SESSION_COUNT_TYPE_ID = 118;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes recorded by replication sessions into
+     * an archive.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLICATION_BYTES_TYPE_ID = 119;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes served to replays from the replay read
+     * cache of an archive.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAY_READ_CACHE_HIT_BYTES_TYPE_ID = 120;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes read from segment files into the replay
+     * read cache of an archive.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAY_READ_CACHE_MISS_BYTES_TYPE_ID = 121;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the bytes of mapped segment files which have been
+     * read ahead of replays, with positional file reads on the segment prefetcher thread of the replayer.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAYER_READ_AHEAD_BYTES_TYPE_ID = 122;
+
+    /**
+     * The type id of the {@link Counter} used by a client for keeping track of the time in milliseconds a replay merge
+     * took to catch up with the live stream before the live destinations were added.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAY_MERGE_CATCHUP_LATENCY_TYPE_ID = 123;
+
+    /**
+     * The type id of the {@link Counter} used by a client for keeping track of the time in milliseconds a replay merge
+     * took to merge with the live stream.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAY_MERGE_LATENCY_TYPE_ID = 124;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of times a replay crossed into a
+     * segment file which had already been opened and read ahead by the segment prefetcher of its replayer.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAYER_SEGMENT_PREFETCH_HITS_TYPE_ID = 125;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of times a replay crossed into a
+     * segment file before its prefetch had completed, or when the segment file could not be opened by the prefetch.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_REPLAYER_SEGMENT_PREFETCH_MISSES_TYPE_ID = 126;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of valid recording descriptors in the
+     * archive catalog.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_CATALOG_LIVE_DESCRIPTORS_TYPE_ID = 127;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of invalid or deleted recording
+     * descriptors which occupy space in the archive catalog.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_CATALOG_DEAD_DESCRIPTORS_TYPE_ID = 128;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the total number of bytes reclaimed from the
+     * archive catalog by online compaction.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_CATALOG_COMPACTED_BYTES_TYPE_ID = 129;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the max time a recorder spends forcing recording
+     * files to storage in a single sync when file syncs are performed asynchronously or by group commit.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_RECORDER_MAX_FORCE_TIME_TYPE_ID = 130;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the total time a recorder spends forcing recording
+     * files to storage when file syncs are performed asynchronously or by group commit.
+     */
+    @AeronCounter(existsInC = false)
+    public static final int ARCHIVE_RECORDER_TOTAL_FORCE_TIME_TYPE_ID = 131;
+
     // Cluster counters
 
     /**
@@ -75,6 +75,8 @@ final class ClientConductor implements Agent
     final Long2ObjectHashMap<Object> resourceByRegIdMap = new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<RegistrationException> asyncExceptionByRegIdMap = new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<String> stashedChannelByRegistrationId = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<RegistrationHandler<?>> registrationHandlerByIdMap =
+        new Long2ObjectHashMap<>();
     final LongHashSet asyncCommandIdSet = new LongHashSet();
     private final AvailableImageHandler defaultAvailableImageHandler;
     private final UnavailableImageHandler defaultUnavailableImageHandler;
@@ -239,7 +241,10 @@ final class ClientConductor implements Agent
     {
         stashedChannelByRegistrationId.remove(correlationId);
         final RegistrationException ex = new RegistrationException(correlationId, codeValue, errorCode, message);
-        asyncExceptionByRegIdMap.put(correlationId, ex);
+        if (!notifyRegistrationError(correlationId, ex))
+        {
+            asyncExceptionByRegIdMap.put(correlationId, ex);
+        }
     }
 
     void onChannelEndpointError(final long correlationId, final String message)
@@ -267,8 +272,13 @@ final class ClientConductor implements Agent
         if (asyncCommandIdSet.remove(correlationId))
         {
             stashedChannelByRegistrationId.remove(correlationId);
-            handleError(new RegistrationException(
-                correlationId, CHANNEL_ENDPOINT_ERROR.value(), CHANNEL_ENDPOINT_ERROR, message));
+            final RegistrationException ex = new RegistrationException(
+                correlationId, CHANNEL_ENDPOINT_ERROR.value(), CHANNEL_ENDPOINT_ERROR, message);
+
+            if (!notifyRegistrationError(correlationId, ex))
+            {
+                handleError(ex);
+            }
         }
     }
 
@@ -310,6 +320,7 @@ final class ClientConductor implements Agent
             correlationId);
 
         resourceByRegIdMap.put(correlationId, publication);
+        notifyRegistered(correlationId, publication);
     }
 
     void onNewExclusivePublication(
@@ -340,6 +351,7 @@ final class ClientConductor implements Agent
             correlationId);
 
         resourceByRegIdMap.put(correlationId, publication);
+        notifyRegistered(correlationId, publication);
     }
 
     void onNewSubscription(final long correlationId, final int statusIndicatorId)
@@ -357,6 +369,7 @@ final class ClientConductor implements Agent
         }
 
         subscription.channelStatusId(statusIndicatorId);
+        notifyRegistered(correlationId, subscription);
     }
 
     void onAvailableImage(
@@ -501,25 +514,28 @@ final class ClientConductor implements Agent
 
     long asyncAddPublication(final String channel, final int streamId)
     {
-        clientLock.lock();
-        try
-        {
-            ensureActive();
-            ensureNotReentrant();
+        return asyncAddPublication(channel, streamId, null);
+    }
 
-            final long registrationId = driverProxy.addPublication(channel, streamId);
-            stashedChannelByRegistrationId.put(registrationId, channel);
-            asyncCommandIdSet.add(registrationId);
+    long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        return asyncAddExclusivePublication(channel, streamId, null);
+    }
 
-            return registrationId;
-        }
-        finally
-        {
-            clientLock.unlock();
-        }
+    long asyncAddPublication(
+        final String channel, final int streamId, final RegistrationHandler<ConcurrentPublication> handler)
+    {
+        return asyncAddPublication(channel, streamId, false, handler);
     }
 
-    long asyncAddExclusivePublication(final String channel, final int streamId)
+    long asyncAddExclusivePublication(
+        final String channel, final int streamId, final RegistrationHandler<ExclusivePublication> handler)
+    {
+        return asyncAddPublication(channel, streamId, true, handler);
+    }
+
+    private long asyncAddPublication(
+        final String channel, final int streamId, final boolean isExclusive, final RegistrationHandler<?> handler)
     {
         clientLock.lock();
         try
@@ -527,8 +543,13 @@ final class ClientConductor implements Agent
             ensureActive();
             ensureNotReentrant();
 
-            final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
+            final long registrationId = isExclusive ?
+                driverProxy.addExclusivePublication(channel, streamId) : driverProxy.addPublication(channel, streamId);
             stashedChannelByRegistrationId.put(registrationId, channel);
+            if (null != handler)
+            {
+                registrationHandlerByIdMap.put(registrationId, handler);
+            }
             asyncCommandIdSet.add(registrationId);
 
             return registrationId;
@@ -642,6 +663,7 @@ final class ClientConductor implements Agent
             {
                 asyncCommandIdSet.add(driverProxy.removePublication(publicationRegistrationId));
                 stashedChannelByRegistrationId.remove(publicationRegistrationId);
+                registrationHandlerByIdMap.remove(publicationRegistrationId);
             }
         }
         finally
@@ -697,6 +719,16 @@ final class ClientConductor implements Agent
         final int streamId,
         final AvailableImageHandler availableImageHandler,
         final UnavailableImageHandler unavailableImageHandler)
+    {
+        return asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler, null);
+    }
+
+    long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler,
+        final RegistrationHandler<Subscription> handler)
     {
         clientLock.lock();
         try
@@ -714,6 +746,10 @@ final class ClientConductor implements Agent
                 unavailableImageHandler));
 
             resourceByRegIdMap.put(registrationId, subscription);
+            if (null != handler)
+            {
+                registrationHandlerByIdMap.put(registrationId, handler);
+            }
             asyncCommandIdSet.add(registrationId);
 
             return registrationId;
@@ -803,6 +839,7 @@ final class ClientConductor implements Agent
             if (asyncCommandIdSet.remove(subscriptionRegistrationId) || null != subscription)
             {
                 asyncCommandIdSet.add(driverProxy.removeSubscription(subscriptionRegistrationId));
+                registrationHandlerByIdMap.remove(subscriptionRegistrationId);
             }
         }
         finally
@@ -1727,6 +1764,15 @@ final class ClientConductor implements Agent
         }
 
         resourceByRegIdMap.clear();
+
+        if (!registrationHandlerByIdMap.isEmpty())
+        {
+            for (final long registrationId : new ArrayList<>(registrationHandlerByIdMap.keySet()))
+            {
+                notifyRegistrationError(
+                    registrationId, new AeronException("client closed before registration completed"));
+            }
+        }
     }
 
     private void notifyUnavailableCounterHandlers(final long registrationId, final int counterId)
@@ -1804,6 +1850,74 @@ final class ClientConductor implements Agent
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void notifyRegistered(final long registrationId, final Object resource)
+    {
+        final RegistrationHandler<Object> handler =
+            (RegistrationHandler<Object>)registrationHandlerByIdMap.remove(registrationId);
+
+        if (null != handler)
+        {
+            isInCallback = true;
+            try
+            {
+                handler.onRegistered(registrationId, resource);
+            }
+            catch (final AgentTerminationException ex)
+            {
+                throw ex;
+            }
+            catch (final Exception ex)
+            {
+                handleError(ex);
+            }
+            finally
+            {
+                isInCallback = false;
+            }
+        }
+    }
+
+    private boolean notifyRegistrationError(final long registrationId, final AeronException error)
+    {
+        final RegistrationHandler<?> handler = registrationHandlerByIdMap.remove(registrationId);
+        if (null == handler)
+        {
+            return false;
+        }
+
+        final Object resource = resourceByRegIdMap.get(registrationId);
+        if (resource instanceof PendingSubscription)
+        {
+            resourceByRegIdMap.remove(registrationId);
+            ((PendingSubscription)resource).subscription.internalClose(NULL_VALUE);
+        }
+
+        isInCallback = true;
+        try
+        {
+            handler.onRegistrationError(registrationId, error);
+        }
+        catch (final AgentTerminationException ex)
+        {
+            if (!isTerminating)
+            {
+                throw ex;
+            }
+            handleError(ex);
+        }
+        catch (final Exception ex)
+        {
+            handleError(ex);
+        }
+        finally
+        {
+            isInCallback = false;
+        }
+
+        return true;
+    }
+
     private void notifyCloseHandlers()
     {
         for (final Runnable closeHandler : closeHandlerByIdMap.values())
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.exceptions.AeronException;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.AgentTerminationException;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
+
+/**
+ * Pool of threads which run the duty cycles of many {@link Aeron} client conductors, rather than each client
+ * starting a dedicated conductor thread. This is useful when hosting a large number of lightweight clients within
+ * a single JVM.
+ * <p>
+ * Clients are assigned to the least loaded thread in the pool when connected with
+ * {@link Aeron.Context#conductorPool(ClientConductorPool)}. Keep alive and timeout semantics of each client are
+ * unchanged, however each thread must be able to service all the clients assigned to it within the
+ * {@link Aeron.Context#interServiceTimeoutNs()}.
+ * <p>
+ * The {@link ThreadFactory} can be used to run the pool on virtual threads, e.g. {@code Thread.ofVirtual().factory()}
+ * when running on Java 21 or later.
+ * <p>
+ * The pool must outlive the clients assigned to it. Closing the pool will close any clients still assigned to it.
+ */
+public final class ClientConductorPool implements AutoCloseable
+{
+    private final Worker[] workers;
+    private final AgentRunner[] runners;
+    private volatile boolean isClosed;
+
+    /**
+     * Construct a pool of threads which use the default idle strategy and thread factory of the client.
+     *
+     * @param threadCount  number of threads in the pool.
+     * @param errorHandler for errors which cannot be attributed to an individual client.
+     */
+    public ClientConductorPool(final int threadCount, final ErrorHandler errorHandler)
+    {
+        this(
+            threadCount,
+            () -> new SleepingMillisIdleStrategy(Aeron.Configuration.IDLE_SLEEP_DEFAULT_MS),
+            Thread::new,
+            errorHandler);
+    }
+
+    /**
+     * Construct a pool of threads for running client conductors.
+     *
+     * @param threadCount           number of threads in the pool.
+     * @param idleStrategySupplier  to provide an {@link IdleStrategy} for each thread in the pool.
+     * @param threadFactory         to construct the threads of the pool.
+     * @param errorHandler          for errors which cannot be attributed to an individual client.
+     */
+    public ClientConductorPool(
+        final int threadCount,
+        final Supplier<IdleStrategy> idleStrategySupplier,
+        final ThreadFactory threadFactory,
+        final ErrorHandler errorHandler)
+    {
+        if (threadCount < 1)
+        {
+            throw new IllegalArgumentException("threadCount must be >= 1: " + threadCount);
+        }
+
+        Objects.requireNonNull(idleStrategySupplier, "idleStrategySupplier");
+        Objects.requireNonNull(threadFactory, "threadFactory");
+        Objects.requireNonNull(errorHandler, "errorHandler");
+
+        workers = new Worker[threadCount];
+        runners = new AgentRunner[threadCount];
+
+        for (int i = 0; i < threadCount; i++)
+        {
+            workers[i] = new Worker(i);
+            runners[i] = new AgentRunner(idleStrategySupplier.get(), errorHandler, null, workers[i]);
+        }
+
+        for (final AgentRunner runner : runners)
+        {
+            AgentRunner.startOnThread(runner, threadFactory);
+        }
+    }
+
+    /**
+     * Number of threads in the pool.
+     *
+     * @return number of threads in the pool.
+     */
+    public int threadCount()
+    {
+        return workers.length;
+    }
+
+    /**
+     * Number of clients currently assigned to the pool.
+     *
+     * @return number of clients currently assigned to the pool.
+     */
+    public int clientCount()
+    {
+        int count = 0;
+        for (final Worker worker : workers)
+        {
+            count += worker.clientCount.get();
+        }
+
+        return count;
+    }
+
+    /**
+     * Has the pool been closed?
+     *
+     * @return true if the pool has been closed otherwise false.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * Close the threads of the pool and any clients still assigned to it.
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            CloseHelper.closeAll(runners);
+        }
+    }
+
+    Entry add(final ClientConductor conductor, final ErrorHandler errorHandler)
+    {
+        if (isClosed)
+        {
+            throw new AeronException("ClientConductorPool is closed");
+        }
+
+        Worker leastLoaded = workers[0];
+        for (int i = 1; i < workers.length; i++)
+        {
+            if (workers[i].clientCount.get() < leastLoaded.clientCount.get())
+            {
+                leastLoaded = workers[i];
+            }
+        }
+
+        final Entry entry = new Entry(conductor, errorHandler, leastLoaded);
+        leastLoaded.clientCount.incrementAndGet();
+        leastLoaded.addQueue.offer(entry);
+
+        return entry;
+    }
+
+    void remove(final Entry entry)
+    {
+        entry.isCloseRequested = true;
+
+        final Worker worker = entry.worker;
+        if (Thread.currentThread() == worker.thread)
+        {
+            worker.close(entry);
+            return;
+        }
+
+        final AgentRunner runner = runners[worker.index];
+        while (!entry.isClosed)
+        {
+            if (runner.isClosed())
+            {
+                worker.close(entry);
+                continue;
+            }
+
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+
+    static final class Entry
+    {
+        private static final VarHandle IS_CLOSING_VH;
+        static
+        {
+            try
+            {
+                IS_CLOSING_VH = MethodHandles.lookup().findVarHandle(Entry.class, "isClosing", boolean.class);
+            }
+            catch (final ReflectiveOperationException ex)
+            {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        final ClientConductor conductor;
+        final ErrorHandler errorHandler;
+        final Worker worker;
+        volatile boolean isCloseRequested;
+        private volatile boolean isClosing;
+        volatile boolean isClosed;
+
+        Entry(final ClientConductor conductor, final ErrorHandler errorHandler, final Worker worker)
+        {
+            this.conductor = conductor;
+            this.errorHandler = errorHandler;
+            this.worker = worker;
+        }
+
+        /**
+         * Claim the exclusive right to close this entry so only one thread runs the close of the conductor.
+         *
+         * @return true if the caller now owns the close, false if another thread has already claimed it.
+         */
+        boolean tryClaimClose()
+        {
+            return IS_CLOSING_VH.compareAndSet(this, false, true);
+        }
+    }
+
+    static final class Worker implements Agent
+    {
+        final int index;
+        final ManyToOneConcurrentLinkedQueue<Entry> addQueue = new ManyToOneConcurrentLinkedQueue<>();
+        final ArrayList<Entry> entries = new ArrayList<>();
+        final AtomicInteger clientCount = new AtomicInteger();
+        volatile Thread thread;
+
+        Worker(final int index)
+        {
+            this.index = index;
+        }
+
+        public void onStart()
+        {
+            thread = Thread.currentThread();
+        }
+
+        public int doWork()
+        {
+            int workCount = 0;
+
+            Entry added;
+            while (null != (added = addQueue.poll()))
+            {
+                try
+                {
+                    added.conductor.onStart();
+                    entries.add(added);
+                }
+                catch (final Throwable ex)
+                {
+                    added.errorHandler.onError(ex);
+                    close(added);
+                }
+            }
+
+            final ArrayList<Entry> entries = this.entries;
+            for (int lastIndex = entries.size() - 1, i = lastIndex; i >= 0; i--)
+            {
+                final Entry entry = entries.get(i);
+                if (entry.isCloseRequested)
+                {
+                    fastUnorderedRemove(entries, i, lastIndex--);
+                    close(entry);
+                    continue;
+                }
+
+                try
+                {
+                    workCount += entry.conductor.doWork();
+                }
+                catch (final AgentTerminationException ex)
+                {
+                    fastUnorderedRemove(entries, i, lastIndex--);
+                    close(entry);
+                }
+                catch (final Throwable ex)
+                {
+                    entry.errorHandler.onError(ex);
+                }
+            }
+
+            return workCount;
+        }
+
+        public void onClose()
+        {
+            Entry added;
+            while (null != (added = addQueue.poll()))
+            {
+                entries.add(added);
+            }
+
+            for (final Entry entry : entries)
+            {
+                close(entry);
+            }
+
+            entries.clear();
+        }
+
+        public String roleName()
+        {
+            return "aeron-client-conductor-pool-" + index;
+        }
+
+        void close(final Entry entry)
+        {
+            if (entry.tryClaimClose())
+            {
+                try
+                {
+                    if (!entry.conductor.isClosed())
+                    {
+                        entry.conductor.onClose();
+                    }
+                }
+                catch (final Throwable ex)
+                {
+                    entry.errorHandler.onError(ex);
+                }
+                finally
+                {
+                    entry.isClosed = true;
+                    clientCount.decrementAndGet();
+                }
+            }
+        }
+    }
+}
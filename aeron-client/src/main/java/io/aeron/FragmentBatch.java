@@ -0,0 +1,276 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+
+/**
+ * Reusable batch of message fragments which have been scanned from a single {@link Image} but not yet consumed.
+ * <p>
+ * A batch is filled by {@link Image#poll(FragmentBatch, int)} or {@link Subscription#poll(FragmentBatch, int)}
+ * which record the frame boundaries without invoking a callback per fragment. The application can then iterate
+ * the fragments in a tight loop, reading the payload from {@link #buffer()} between {@link #offset(int)} and
+ * {@link #offset(int)} + {@link #length(int)}, and the header fields via {@link #header(int)}.
+ * <p>
+ * The subscriber position is not advanced until {@link #commit()} is called so the fragments remain valid in the
+ * term buffer while the batch is being processed. A batch must be committed before the same {@link Image} is polled
+ * again otherwise the same fragments will be delivered again.
+ * <p>
+ * <b>Note:</b> Batches are not threadsafe and should not be shared between subscribers.
+ *
+ * @see Image#poll(FragmentBatch, int)
+ * @see Subscription#poll(FragmentBatch, int)
+ */
+public final class FragmentBatch
+{
+    private final int[] frameOffsets;
+    private final int[] frameLengths;
+    private final Header header = new Header(0, 0);
+    private Image image;
+    private UnsafeBuffer termBuffer;
+    private int count;
+    private long position;
+    private long limitPosition;
+
+    /**
+     * Construct a batch which can hold up to a maximum number of fragments.
+     *
+     * @param capacity maximum number of fragments which can be held in the batch.
+     */
+    public FragmentBatch(final int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("capacity must be greater than zero: " + capacity);
+        }
+
+        frameOffsets = new int[capacity];
+        frameLengths = new int[capacity];
+    }
+
+    /**
+     * Maximum number of fragments which can be held in the batch.
+     *
+     * @return maximum number of fragments which can be held in the batch.
+     */
+    public int capacity()
+    {
+        return frameOffsets.length;
+    }
+
+    /**
+     * Number of fragments currently held in the batch.
+     *
+     * @return number of fragments currently held in the batch.
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Is the batch empty of fragments.
+     *
+     * @return true if the batch holds no fragments otherwise false.
+     */
+    public boolean isEmpty()
+    {
+        return 0 == count;
+    }
+
+    /**
+     * The {@link Image} from which the fragments were scanned.
+     *
+     * @return the {@link Image} from which the fragments were scanned or null if the batch is empty.
+     */
+    public Image image()
+    {
+        return image;
+    }
+
+    /**
+     * The term buffer containing the fragments in the batch.
+     *
+     * @return the term buffer containing the fragments in the batch or null if the batch is empty.
+     */
+    public DirectBuffer buffer()
+    {
+        return termBuffer;
+    }
+
+    /**
+     * Position of the {@link Image} before the first fragment in the batch.
+     *
+     * @return position of the {@link Image} before the first fragment in the batch.
+     */
+    public long position()
+    {
+        return position;
+    }
+
+    /**
+     * Position the {@link Image} will be advanced to when the batch is committed.
+     *
+     * @return position the {@link Image} will be advanced to when the batch is committed.
+     */
+    public long limitPosition()
+    {
+        return limitPosition;
+    }
+
+    /**
+     * Offset in the {@link #buffer()} at which the payload of a fragment begins.
+     *
+     * @param index of the fragment in the batch.
+     * @return offset in the {@link #buffer()} at which the payload of a fragment begins.
+     */
+    public int offset(final int index)
+    {
+        checkIndex(index);
+        return frameOffsets[index] + HEADER_LENGTH;
+    }
+
+    /**
+     * Length of the payload for a fragment.
+     *
+     * @param index of the fragment in the batch.
+     * @return length of the payload for a fragment.
+     */
+    public int length(final int index)
+    {
+        checkIndex(index);
+        return frameLengths[index] - HEADER_LENGTH;
+    }
+
+    /**
+     * Offset in the {@link #buffer()} at which the header of a fragment begins.
+     *
+     * @param index of the fragment in the batch.
+     * @return offset in the {@link #buffer()} at which the header of a fragment begins.
+     */
+    public int frameOffset(final int index)
+    {
+        checkIndex(index);
+        return frameOffsets[index];
+    }
+
+    /**
+     * Position the shared {@link Header} flyweight over the header of a fragment in the batch.
+     * <p>
+     * The same {@link Header} instance is returned for each call so it is only valid until the next call.
+     *
+     * @param index of the fragment in the batch.
+     * @return the shared {@link Header} flyweight positioned over the fragment.
+     */
+    public Header header(final int index)
+    {
+        checkIndex(index);
+        return header.offset(frameOffsets[index]);
+    }
+
+    /**
+     * Commit the batch by advancing the position of the {@link Image} past the fragments in the batch.
+     * <p>
+     * The batch is reset after commit so it can be filled again.
+     *
+     * @return true if the position was advanced, otherwise false if the batch was empty or the {@link Image} has
+     * since been closed.
+     */
+    public boolean commit()
+    {
+        final Image image = this.image;
+        final long limitPosition = this.limitPosition;
+        final boolean canCommit = null != image && limitPosition > position && !image.isClosed();
+        reset();
+
+        if (canCommit)
+        {
+            image.position(limitPosition);
+        }
+
+        return canCommit;
+    }
+
+    /**
+     * Clear the batch without advancing the position of the {@link Image} so the same fragments will be delivered
+     * by the next poll.
+     */
+    public void reset()
+    {
+        count = 0;
+        image = null;
+        termBuffer = null;
+        position = 0;
+        limitPosition = 0;
+    }
+
+    void wrap(
+        final Image image,
+        final UnsafeBuffer termBuffer,
+        final int initialTermId,
+        final int positionBitsToShift,
+        final long position)
+    {
+        this.image = image;
+        this.termBuffer = termBuffer;
+        this.position = position;
+        this.limitPosition = position;
+        count = 0;
+
+        header
+            .initialTermId(initialTermId)
+            .positionBitsToShift(positionBitsToShift)
+            .context(image)
+            .buffer(termBuffer);
+    }
+
+    void add(final int frameOffset, final int frameLength)
+    {
+        frameOffsets[count] = frameOffset;
+        frameLengths[count] = frameLength;
+        ++count;
+    }
+
+    void limitPosition(final long limitPosition)
+    {
+        this.limitPosition = limitPosition;
+    }
+
+    private void checkIndex(final int index)
+    {
+        if (index < 0 || index >= count)
+        {
+            throw new IndexOutOfBoundsException("index=" + index + " count=" + count);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "FragmentBatch{" +
+            "capacity=" + frameOffsets.length +
+            ", count=" + count +
+            ", position=" + position +
+            ", limitPosition=" + limitPosition +
+            '}';
+    }
+}
@@ -373,6 +373,71 @@ public final class Image
         return fragmentsRead;
     }
 
+    /**
+     * Poll for new messages in a stream. If new messages are found beyond the last consumed position then the
+     * frame boundaries are recorded in the {@link FragmentBatch} up to a limited number of fragments as specified
+     * or the {@link FragmentBatch#capacity()}.
+     * <p>
+     * The position is not advanced until {@link FragmentBatch#commit()} is called. Padding at the end of a term is
+     * consumed immediately when no fragments precede it in the batch.
+     *
+     * @param batch         to be filled with the fragments that are available.
+     * @param fragmentLimit for the number of fragments to be added to the batch during one polling operation.
+     * @return the number of fragments that have been added to the batch.
+     * @see FragmentBatch
+     */
+    public int poll(final FragmentBatch batch, final int fragmentLimit)
+    {
+        batch.reset();
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
+        final long initialPosition = subscriberPosition.get();
+        final int initialOffset = (int)initialPosition & termLengthMask;
+        int offset = initialOffset;
+        final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
+        final int capacity = termBuffer.capacity();
+        final int limit = Math.min(fragmentLimit, batch.capacity());
+        batch.wrap(this, termBuffer, initialTermId, positionBitsToShift, initialPosition);
+
+        while (fragmentsRead < limit && offset < capacity && !isClosed)
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            final int frameOffset = offset;
+            offset += BitUtil.align(frameLength, FRAME_ALIGNMENT);
+
+            if (!isPaddingFrame(termBuffer, frameOffset))
+            {
+                ++fragmentsRead;
+                batch.add(frameOffset, frameLength);
+            }
+        }
+
+        final long newPosition = initialPosition + (offset - initialOffset);
+        if (0 == fragmentsRead)
+        {
+            batch.reset();
+            if (newPosition > initialPosition && !isClosed)
+            {
+                subscriberPosition.setRelease(newPosition);
+            }
+        }
+        else
+        {
+            batch.limitPosition(newPosition);
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link ControlledFragmentHandler} up to a limited number of fragments as specified.
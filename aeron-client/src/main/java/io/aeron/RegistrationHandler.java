@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.exceptions.AeronException;
+
+/**
+ * Interface for notification of the completion of an asynchronous add of a resource such as a {@link Publication}
+ * or {@link Subscription}.
+ * <p>
+ * Within this callback reentrant calls to the {@link Aeron} client are not permitted and will result in undefined
+ * behaviour. The callback is made from the client conductor duty cycle, or from the thread invoking the
+ * {@link Aeron#conductorAgentInvoker()} if using {@link Aeron.Context#useConductorAgentInvoker(boolean)}.
+ *
+ * @param <T> type of the resource being added.
+ * @see Aeron#asyncAddPublication(String, int, RegistrationHandler)
+ * @see Aeron#asyncAddExclusivePublication(String, int, RegistrationHandler)
+ * @see Aeron#asyncAddSubscription(String, int, RegistrationHandler)
+ */
+@FunctionalInterface
+public interface RegistrationHandler<T>
+{
+    /**
+     * Called when the media driver has successfully registered the resource.
+     *
+     * @param registrationId returned from the asynchronous add.
+     * @param resource       which is now available for use.
+     */
+    void onRegistered(long registrationId, T resource);
+
+    /**
+     * Called when the resource could not be registered, e.g. the media driver rejected the command or the client
+     * was closed before a response was received.
+     * <p>
+     * The default implementation rethrows the exception so it is delivered to the
+     * {@link Aeron.Context#errorHandler()}.
+     *
+     * @param registrationId returned from the asynchronous add.
+     * @param ex             describing the reason for failure.
+     */
+    default void onRegistrationError(final long registrationId, final AeronException ex)
+    {
+        throw ex;
+    }
+}
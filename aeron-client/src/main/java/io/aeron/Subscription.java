@@ -203,6 +203,45 @@ public final class Subscription extends SubscriptionFields implements AutoClosea
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments and record them in a
+     * {@link FragmentBatch} for iteration by the application.
+     * <p>
+     * A batch holds fragments from a single {@link Image}. The {@link Image}s are scanned in round-robin order and
+     * the batch is filled from the first one with fragments available. The batch must be committed with
+     * {@link FragmentBatch#commit()} before the fragments are consumed.
+     *
+     * @param batch         to be filled with the fragments that are available.
+     * @param fragmentLimit number of message fragments to limit in the batch.
+     * @return the number of fragments added to the batch.
+     * @see Image#poll(FragmentBatch, int)
+     */
+    public int poll(final FragmentBatch batch, final int fragmentLimit)
+    {
+        batch.reset();
+        final Image[] images = this.images;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        for (int i = startingIndex; i < length && 0 == fragmentsRead; i++)
+        {
+            fragmentsRead = images[i].poll(batch, fragmentLimit);
+        }
+
+        for (int i = 0; i < startingIndex && 0 == fragmentsRead; i++)
+        {
+            fragmentsRead = images[i].poll(batch, fragmentLimit);
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll in a controlled manner the {@link Image}s under the subscription for available message fragments.
      * Control is applied to message fragments in the stream. If more fragments can be read on another stream
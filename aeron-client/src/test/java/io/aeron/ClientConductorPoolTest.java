@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.exceptions.AeronException;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.AgentTerminationException;
+import org.agrona.concurrent.YieldingIdleStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClientConductorPoolTest
+{
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final ClientConductorPool pool = new ClientConductorPool(
+        2, YieldingIdleStrategy::new, Thread::new, errorHandler);
+
+    @AfterEach
+    void after()
+    {
+        pool.close();
+    }
+
+    @Test
+    void shouldRunConductorsAssignedToThePool()
+    {
+        final ClientConductor conductorOne = mock(ClientConductor.class);
+        final ClientConductor conductorTwo = mock(ClientConductor.class);
+        final ClientConductor conductorThree = mock(ClientConductor.class);
+
+        pool.add(conductorOne, errorHandler);
+        pool.add(conductorTwo, errorHandler);
+        pool.add(conductorThree, errorHandler);
+
+        assertEquals(2, pool.threadCount());
+        assertEquals(3, pool.clientCount());
+
+        verify(conductorOne, timeout(TIMEOUT_MS)).onStart();
+        verify(conductorOne, timeout(TIMEOUT_MS).atLeast(2)).doWork();
+        verify(conductorTwo, timeout(TIMEOUT_MS).atLeast(2)).doWork();
+        verify(conductorThree, timeout(TIMEOUT_MS).atLeast(2)).doWork();
+    }
+
+    @Test
+    void shouldCloseConductorWhenRemoved()
+    {
+        final ClientConductor conductor = mock(ClientConductor.class);
+        final ClientConductorPool.Entry entry = pool.add(conductor, errorHandler);
+
+        verify(conductor, timeout(TIMEOUT_MS).atLeastOnce()).doWork();
+        pool.remove(entry);
+
+        assertTrue(entry.isClosed);
+        assertEquals(0, pool.clientCount());
+        verify(conductor).onClose();
+    }
+
+    @Test
+    void shouldCloseConductorOnceWhenClosedConcurrently() throws InterruptedException
+    {
+        final ClientConductor conductor = mock(ClientConductor.class);
+        final ClientConductorPool.Entry entry = pool.add(conductor, errorHandler);
+        verify(conductor, timeout(TIMEOUT_MS).atLeastOnce()).doWork();
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread(
+                () ->
+                {
+                    try
+                    {
+                        startLatch.await();
+                        entry.worker.close(entry);
+                    }
+                    catch (final InterruptedException ignore)
+                    {
+                    }
+                });
+            threads[i].start();
+        }
+
+        startLatch.countDown();
+        pool.remove(entry);
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertTrue(entry.isClosed);
+        assertEquals(0, pool.clientCount());
+        verify(conductor, times(1)).onClose();
+    }
+
+    @Test
+    void shouldCloseConductorWhenTerminatedWithoutAffectingOthers()
+    {
+        final ClientConductor terminating = mock(ClientConductor.class);
+        final ClientConductor running = mock(ClientConductor.class);
+        when(terminating.doWork()).thenThrow(new AgentTerminationException());
+
+        final ClientConductorPool.Entry terminatingEntry = pool.add(terminating, errorHandler);
+        pool.add(running, errorHandler);
+
+        verify(terminating, timeout(TIMEOUT_MS)).onClose();
+        verify(running, timeout(TIMEOUT_MS).atLeast(10)).doWork();
+        verify(running, never()).onClose();
+        verify(terminating, times(1)).doWork();
+        assertTrue(terminatingEntry.isClosed);
+        assertEquals(1, pool.clientCount());
+    }
+
+    @Test
+    void shouldReportErrorsToClientErrorHandlerAndContinue()
+    {
+        final ErrorHandler clientErrorHandler = mock(ErrorHandler.class);
+        final ClientConductor conductor = mock(ClientConductor.class);
+        final AeronException error = new AeronException("test");
+        when(conductor.doWork()).thenThrow(error).thenReturn(0);
+
+        pool.add(conductor, clientErrorHandler);
+
+        verify(clientErrorHandler, timeout(TIMEOUT_MS)).onError(error);
+        verify(conductor, timeout(TIMEOUT_MS).atLeast(2)).doWork();
+        verifyNoInteractions(errorHandler);
+    }
+
+    @Test
+    void shouldCloseRemainingConductorsWhenPoolClosed()
+    {
+        final ClientConductor conductor = mock(ClientConductor.class);
+        final ClientConductorPool.Entry entry = pool.add(conductor, errorHandler);
+
+        pool.close();
+
+        assertTrue(pool.isClosed());
+        assertTrue(entry.isClosed);
+        verify(conductor).onClose();
+        assertThrows(AeronException.class, () -> pool.add(mock(ClientConductor.class), errorHandler));
+    }
+}
@@ -623,6 +623,101 @@ class ClientConductorTest
         verify(driverProxy, only()).removeSubscription(subscriptionId);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotifyRegistrationHandlerWhenAsyncPublicationIsReady()
+    {
+        final RegistrationHandler<ConcurrentPublication> handler = mock(RegistrationHandler.class);
+
+        assertEquals(CORRELATION_ID, conductor.asyncAddPublication(CHANNEL, STREAM_ID_1, handler));
+        verify(handler, never()).onRegistered(anyLong(), any());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+        conductor.doWork();
+
+        final ConcurrentPublication publication = conductor.getPublication(CORRELATION_ID);
+        assertNotNull(publication);
+        verify(handler).onRegistered(CORRELATION_ID, publication);
+        verify(handler, never()).onRegistrationError(anyLong(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotifyRegistrationHandlerWhenAsyncPublicationFails()
+    {
+        final RegistrationHandler<ConcurrentPublication> handler = mock(RegistrationHandler.class);
+
+        conductor.asyncAddPublication(CHANNEL, STREAM_ID_1, handler);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+        conductor.doWork();
+
+        verify(handler).onRegistrationError(eq(CORRELATION_ID), any(RegistrationException.class));
+        verify(handler, never()).onRegistered(anyLong(), any());
+        verify(mockClientErrorHandler, never()).onError(any());
+        assertNull(conductor.getPublication(CORRELATION_ID));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotifyRegistrationHandlerWhenAsyncSubscriptionIsReady()
+    {
+        final RegistrationHandler<Subscription> handler = mock(RegistrationHandler.class);
+        final long subscriptionId = 472394234579L;
+        when(driverProxy.addSubscription(CHANNEL, STREAM_ID_1)).thenReturn(subscriptionId);
+
+        assertEquals(subscriptionId, conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1, null, null, handler));
+        conductor.onNewSubscription(subscriptionId, 7);
+
+        final Subscription subscription = (Subscription)conductor.resourceByRegIdMap.get(subscriptionId);
+        assertNotNull(subscription);
+        verify(handler).onRegistered(subscriptionId, subscription);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCloseAndRemovePendingSubscriptionWhenAsyncSubscriptionFails()
+    {
+        final RegistrationHandler<Subscription> handler = mock(RegistrationHandler.class);
+        final long subscriptionId = 472394234579L;
+        when(driverProxy.addSubscription(CHANNEL, STREAM_ID_1)).thenReturn(subscriptionId);
+
+        conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1, null, null, handler);
+        final ClientConductor.PendingSubscription pendingSubscription =
+            (ClientConductor.PendingSubscription)conductor.resourceByRegIdMap.get(subscriptionId);
+
+        conductor.onAsyncError(subscriptionId, INVALID_CHANNEL.value(), INVALID_CHANNEL, "invalid channel");
+
+        verify(handler).onRegistrationError(eq(subscriptionId), any(RegistrationException.class));
+        assertNull(conductor.resourceByRegIdMap.get(subscriptionId));
+        assertTrue(pendingSubscription.subscription.isClosed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotifyPendingRegistrationHandlersOnClose()
+    {
+        final RegistrationHandler<Subscription> handler = mock(RegistrationHandler.class);
+        final long subscriptionId = 472394234579L;
+        when(driverProxy.addSubscription(CHANNEL, STREAM_ID_1)).thenReturn(subscriptionId);
+
+        conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1, null, null, handler);
+        conductor.onClose();
+
+        verify(handler).onRegistrationError(eq(subscriptionId), any(AeronException.class));
+        verify(handler, never()).onRegistered(anyLong(), any());
+    }
+
     @Test
     void removeSubscriptionByRegistrationIdIsANoOpIfIdIsUnknown()
     {
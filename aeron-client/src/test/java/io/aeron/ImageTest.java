@@ -753,6 +753,89 @@ class ImageTest
         verify(position, never()).setRelease(AdditionalMatchers.not(eq(initialPosition)));
     }
 
+    @Test
+    void shouldPollFragmentsIntoBatchWithoutAdvancingPositionUntilCommit()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setRelease(initialPosition);
+        final Image image = createImage();
+        final FragmentBatch batch = new FragmentBatch(8);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(2));
+        assertThat(batch.count(), is(2));
+        assertThat(batch.image(), is(image));
+        assertThat(batch.position(), is(initialPosition));
+        assertThat(batch.limitPosition(), is(initialPosition + offsetForFrame(2)));
+        assertThat(image.position(), is(initialPosition));
+
+        for (int i = 0; i < batch.count(); i++)
+        {
+            assertThat(batch.offset(i), is(offsetForFrame(i) + HEADER_LENGTH));
+            assertThat(batch.length(i), is(DATA.length));
+            assertThat(batch.header(i).sessionId(), is(SESSION_ID));
+            assertThat(batch.header(i).termOffset(), is(offsetForFrame(i)));
+            assertThat(batch.buffer().getByte(batch.offset(i) + 1), is(DATA[1]));
+        }
+
+        assertTrue(batch.commit());
+        assertTrue(batch.isEmpty());
+        assertThat(image.position(), is(initialPosition + offsetForFrame(2)));
+    }
+
+    @Test
+    void shouldLimitBatchToCapacity()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setRelease(initialPosition);
+        final Image image = createImage();
+        final FragmentBatch batch = new FragmentBatch(1);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(1));
+        assertThat(batch.limitPosition(), is(initialPosition + offsetForFrame(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.offset(1));
+    }
+
+    @Test
+    void shouldRedeliverBatchWhenNotCommitted()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setRelease(initialPosition);
+        final Image image = createImage();
+        final FragmentBatch batch = new FragmentBatch(8);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(1));
+        batch.reset();
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(1));
+        assertThat(batch.offset(0), is(HEADER_LENGTH));
+        assertThat(image.position(), is(initialPosition));
+    }
+
+    @Test
+    void shouldNotCommitBatchWhenImageClosed()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setRelease(initialPosition);
+        final Image image = createImage();
+        final FragmentBatch batch = new FragmentBatch(8);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(1));
+        image.close();
+
+        assertThat(batch.commit(), is(false));
+        assertThat(image.poll(batch, Integer.MAX_VALUE), is(0));
+        assertThat(position.get(), is(initialPosition));
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.RegistrationHandler;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.exceptions.AeronException;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.YieldingIdleStrategy;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the time taken to create a large number of {@link Subscription}s at startup, comparing the blocking
+ * {@link Aeron#addSubscription(String, int)} with pipelined
+ * {@link Aeron#asyncAddSubscription(String, int, RegistrationHandler)} calls.
+ */
+public class EmbeddedResourceCreation
+{
+    private static final int RESOURCE_COUNT = Integer.getInteger("aeron.sample.resource.count", 10_000);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("aeron.sample.resource.maxInFlight", 256);
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     */
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver mediaDriver = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName())))
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                final long blockingNs = blocking(aeron);
+                final long pipelinedNs = pipelined(aeron);
+
+                System.out.format(
+                    "resources=%,d blocking=%,dms pipelined=%,dms (maxInFlight=%d)%n",
+                    RESOURCE_COUNT,
+                    TimeUnit.NANOSECONDS.toMillis(blockingNs),
+                    TimeUnit.NANOSECONDS.toMillis(pipelinedNs),
+                    MAX_IN_FLIGHT);
+            }
+        }
+    }
+
+    private static long blocking(final Aeron aeron)
+    {
+        final ArrayList<Subscription> subscriptions = new ArrayList<>(RESOURCE_COUNT);
+        final long startNs = System.nanoTime();
+
+        for (int i = 0; i < RESOURCE_COUNT; i++)
+        {
+            subscriptions.add(aeron.addSubscription(CHANNEL, STREAM_ID + i));
+        }
+
+        final long durationNs = System.nanoTime() - startNs;
+        subscriptions.forEach(CloseHelper::close);
+
+        return durationNs;
+    }
+
+    private static long pipelined(final Aeron aeron)
+    {
+        final ArrayList<Subscription> subscriptions = new ArrayList<>(RESOURCE_COUNT);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final IdleStrategy idleStrategy = new YieldingIdleStrategy();
+        final RegistrationHandler<Subscription> handler = new RegistrationHandler<>()
+        {
+            public void onRegistered(final long registrationId, final Subscription subscription)
+            {
+                subscriptions.add(subscription);
+                inFlight.decrementAndGet();
+            }
+
+            public void onRegistrationError(final long registrationId, final AeronException ex)
+            {
+                inFlight.decrementAndGet();
+                throw ex;
+            }
+        };
+
+        final long startNs = System.nanoTime();
+
+        for (int i = 0; i < RESOURCE_COUNT; i++)
+        {
+            idleStrategy.reset();
+            while (inFlight.get() >= MAX_IN_FLIGHT)
+            {
+                idleStrategy.idle();
+            }
+
+            inFlight.incrementAndGet();
+            aeron.asyncAddSubscription(CHANNEL, STREAM_ID + i, handler);
+        }
+
+        idleStrategy.reset();
+        while (inFlight.get() > 0)
+        {
+            idleStrategy.idle();
+        }
+
+        final long durationNs = System.nanoTime() - startNs;
+        subscriptions.forEach(CloseHelper::close);
+
+        return durationNs;
+    }
+}
@@ -15,7 +15,10 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Aeron;
 import io.aeron.archive.client.AeronArchive;
+import io.aeron.archive.client.RecordingQueryParams;
+import io.aeron.archive.codecs.RecordingActivity;
 import io.aeron.driver.MediaDriver;
 import io.aeron.samples.archive.RecordingDescriptorCollector;
 import io.aeron.test.InterruptAfter;
@@ -31,8 +34,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import static io.aeron.archive.ArchiveSystemTests.recordData;
+import static io.aeron.archive.client.RecordingQueryParams.STOP_POSITION;
+import static io.aeron.archive.client.RecordingQueryParams.STREAM_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ArchiveListRecordingsTest
@@ -102,4 +109,41 @@ public class ArchiveListRecordingsTest
                 0, Integer.MAX_VALUE, "alias=snapshot-id:1", result1.streamId(), collector.reset()));
         }
     }
+
+    @Test
+    @InterruptAfter(5)
+    void shouldQueryRecordingsWithFilterAndProjection()
+    {
+        try (AeronArchive aeronArchive = AeronArchive.connect(TestContexts.ipcAeronArchive()))
+        {
+            final ArchiveSystemTests.RecordingResult result1 = recordData(aeronArchive, 1, "query-a");
+            recordData(aeronArchive, 1, "query-b");
+            final ArchiveSystemTests.RecordingResult result3 = recordData(aeronArchive, 1, "query-a");
+
+            final List<long[]> recordings = new ArrayList<>();
+            final RecordingQueryParams params = new RecordingQueryParams()
+                .channelFragment("alias=query-a")
+                .activity(RecordingActivity.STOPPED)
+                .projection(STOP_POSITION | STREAM_ID);
+
+            assertEquals(2, aeronArchive.queryRecordings(
+                params,
+                (controlSessionId, correlationId, recordingId, startTimestamp, stopTimestamp,
+                startPosition, stopPosition, streamId, sessionId) ->
+                {
+                    assertEquals(Aeron.NULL_VALUE, startTimestamp);
+                    assertEquals(Aeron.NULL_VALUE, sessionId);
+                    recordings.add(new long[]{ recordingId, stopPosition, streamId });
+                }));
+
+            assertEquals(result1.recordingId(), recordings.get(0)[0]);
+            assertEquals(result1.position(), recordings.get(0)[1]);
+            assertEquals(result1.streamId(), recordings.get(0)[2]);
+            assertEquals(result3.recordingId(), recordings.get(1)[0]);
+
+            assertEquals(0, aeronArchive.queryRecordings(
+                params.reset().activity(RecordingActivity.ACTIVE), (controlSessionId, correlationId, recordingId,
+                startTimestamp, stopTimestamp, startPosition, stopPosition, streamId, sessionId) -> {}));
+        }
+    }
 }
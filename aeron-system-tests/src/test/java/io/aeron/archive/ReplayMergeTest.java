@@ -18,9 +18,11 @@ package io.aeron.archive;
 import io.aeron.*;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ReplayMerge;
+import io.aeron.archive.client.ReplayMergeParams;
 import io.aeron.archive.status.RecordingPos;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
+import io.aeron.exceptions.TimeoutException;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.test.*;
@@ -38,10 +40,15 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import java.io.File;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import static io.aeron.archive.ArchiveSystemTests.*;
 import static io.aeron.archive.codecs.SourceLocation.REMOTE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith({ EventLogExtension.class, InterruptingTestCallback.class })
@@ -56,6 +63,9 @@ class ReplayMergeTest
     private static final String CONTROL_ENDPOINT = "localhost:23265";
     private static final String RECORDING_ENDPOINT = "localhost:23266";
     private static final String LIVE_ENDPOINT = "localhost:23267";
+    private static final String SECOND_LIVE_ENDPOINT = "localhost:23268";
+    private static final String SECOND_RECORDING_ENDPOINT = "localhost:23269";
+    private static final String SECOND_CONTROL_REQUEST_CHANNEL = "aeron:udp?endpoint=localhost:8011";
     private static final String REPLAY_ENDPOINT = "localhost:0";
     private static final long GROUP_TAG = 99901L;
 
@@ -77,6 +87,12 @@ class ReplayMergeTest
         .controlEndpoint(CONTROL_ENDPOINT)
         .build();
 
+    private final String secondLiveDestination = new ChannelUriStringBuilder()
+        .media(CommonContext.UDP_MEDIA)
+        .endpoint(SECOND_LIVE_ENDPOINT)
+        .controlEndpoint(CONTROL_ENDPOINT)
+        .build();
+
     private final String replayDestination = new ChannelUriStringBuilder()
         .media(CommonContext.UDP_MEDIA)
         .endpoint(REPLAY_ENDPOINT)
@@ -89,9 +105,11 @@ class ReplayMergeTest
 
     private TestMediaDriver driver;
     private Archive archive;
+    private Archive secondArchive;
     private Aeron aeron;
     private AeronArchive aeronArchive;
     private int messagesPublished = 0;
+    private int totalMessageCount = TOTAL_MESSAGE_COUNT;
 
     private final FragmentHandler fragmentHandler = new FragmentAssembler(
         (buffer, offset, length, header) ->
@@ -137,26 +155,18 @@ class ReplayMergeTest
             new Aeron.Context()
                 .aeronDirectoryName(mediaDriverContext.aeronDirectoryName()));
 
-        aeronArchive = AeronArchive.connect(
-            new AeronArchive.Context()
-                .errorHandler(Tests::onError)
-                .controlRequestChannel(archive.context().localControlChannel())
-                .controlRequestStreamId(archive.context().localControlStreamId())
-                .controlResponseChannel(archive.context().localControlChannel())
-                .aeron(aeron));
+        aeronArchive = AeronArchive.connect(newAeronArchiveContext(archive));
     }
 
     @AfterEach
     void after()
     {
-        if (receivedMessageCount.get() != MIN_MESSAGES_PER_TERM * 6L)
+        if (receivedMessageCount.get() != messagesPublished)
         {
-            System.out.println(
-                "received " + receivedMessageCount.get() + ", sent " + messagesPublished +
-                ", total " + (MIN_MESSAGES_PER_TERM * 6L));
+            System.out.println("received " + receivedMessageCount.get() + ", sent " + messagesPublished);
         }
 
-        CloseHelper.closeAll(aeronArchive, aeron, archive, driver);
+        CloseHelper.closeAll(aeronArchive, aeron, secondArchive, archive, driver);
     }
 
     @Test
@@ -165,72 +175,189 @@ class ReplayMergeTest
     {
         try (Publication publication = aeron.addPublication(publicationChannel, STREAM_ID))
         {
-            final String recordingChannel = new ChannelUriStringBuilder()
-                .media(CommonContext.UDP_MEDIA)
-                .endpoint(RECORDING_ENDPOINT)
-                .controlEndpoint(CONTROL_ENDPOINT)
-                .sessionId(publication.sessionId())
-                .groupTag(GROUP_TAG)
-                .build();
-
-            final String subscriptionChannel = new ChannelUriStringBuilder()
-                .media(CommonContext.UDP_MEDIA)
-                .controlMode(CommonContext.MDC_CONTROL_MODE_MANUAL)
-                .sessionId(publication.sessionId())
-                .build();
-
-            aeronArchive.startRecording(recordingChannel, STREAM_ID, REMOTE, true);
             final CountersReader counters = aeron.countersReader();
-            final int recordingCounterId =
-                Tests.awaitRecordingCounterId(counters, publication.sessionId(), aeronArchive.archiveId());
+            final int recordingCounterId = startRecording(aeronArchive, publication, RECORDING_ENDPOINT);
+            final long recordingId = RecordingPos.getRecordingId(counters, recordingCounterId);
+
+            publishMessages(publication, INITIAL_MESSAGE_COUNT);
+            Tests.awaitPosition(counters, recordingCounterId, publication.position());
+
+            final BiFunction<Subscription, String, ReplayMerge> factory = (sub, channel) -> new ReplayMerge(
+                sub,
+                aeronArchive,
+                channel,
+                replayDestination,
+                liveDestination,
+                recordingId,
+                receivedPosition.get());
+
+            replayMergeToLive(publication, recordingCounterId, recordingId, factory);
+        }
+    }
+
+    @Test
+    @InterruptAfter(30)
+    void shouldMergeFromSourceFurthestAheadToMultipleLiveDestinations()
+    {
+        secondArchive = Archive.launch(
+            TestContexts.localhostArchive()
+                .catalogCapacity(CATALOG_CAPACITY)
+                .aeronDirectoryName(driver.context().aeronDirectoryName())
+                .controlChannel(SECOND_CONTROL_REQUEST_CHANNEL)
+                .localControlStreamId(archive.context().localControlStreamId() + 1)
+                .archiveDir(new File(SystemUtil.tmpDirName(), "second-archive"))
+                .recordingEventsEnabled(false)
+                .threadingMode(ArchiveThreadingMode.SHARED)
+                .deleteArchiveOnStart(true));
+        systemTestWatcher.dataCollector().add(secondArchive.context().archiveDir());
+
+        try (AeronArchive secondAeronArchive = AeronArchive.connect(newAeronArchiveContext(secondArchive));
+            Counter catchupLatencyCounter = aeron.addCounter(
+                AeronCounters.ARCHIVE_REPLAY_MERGE_CATCHUP_LATENCY_TYPE_ID, "catchup latency");
+            Counter mergeLatencyCounter = aeron.addCounter(
+                AeronCounters.ARCHIVE_REPLAY_MERGE_LATENCY_TYPE_ID, "merge latency");
+            Publication publication = aeron.addPublication(publicationChannel, STREAM_ID))
+        {
+            assertNotEquals(aeronArchive.archiveId(), secondAeronArchive.archiveId());
+            catchupLatencyCounter.set(Aeron.NULL_VALUE);
+            mergeLatencyCounter.set(Aeron.NULL_VALUE);
+
+            final CountersReader counters = aeron.countersReader();
+            final int recordingCounterId = startRecording(aeronArchive, publication, RECORDING_ENDPOINT);
+            final long recordingId = RecordingPos.getRecordingId(counters, recordingCounterId);
+            final int secondRecordingCounterId =
+                startRecording(secondAeronArchive, publication, SECOND_RECORDING_ENDPOINT);
+            final long secondRecordingId = RecordingPos.getRecordingId(counters, secondRecordingCounterId);
+
+            publishMessages(publication, INITIAL_MESSAGE_COUNT);
+            Tests.awaitPosition(counters, recordingCounterId, publication.position());
+            aeronArchive.stopRecording(recordingChannel(publication, RECORDING_ENDPOINT), STREAM_ID);
+
+            publishMessages(publication, MIN_MESSAGES_PER_TERM);
+            Tests.awaitPosition(counters, secondRecordingCounterId, publication.position());
+            assertThat(
+                secondAeronArchive.getMaxRecordedPosition(secondRecordingId),
+                greaterThan(aeronArchive.getMaxRecordedPosition(recordingId)));
+
+            final ReplayMergeParams params = new ReplayMergeParams()
+                .catchupLatencyCounter(catchupLatencyCounter)
+                .mergeLatencyCounter(mergeLatencyCounter);
+
+            final BiFunction<Subscription, String, ReplayMerge> factory = (sub, channel) -> new ReplayMerge(
+                sub,
+                new AeronArchive[]{ aeronArchive, secondAeronArchive },
+                new long[]{ recordingId, secondRecordingId },
+                channel,
+                replayDestination,
+                new String[]{ liveDestination, secondLiveDestination },
+                receivedPosition.get(),
+                aeron.context().epochClock(),
+                TimeUnit.SECONDS.toMillis(5),
+                params);
+
+            final ReplayMerge replayMerge =
+                replayMergeToLive(publication, secondRecordingCounterId, secondRecordingId, factory);
+
+            assertEquals(1, replayMerge.sourceIndex());
+            assertNotEquals(Aeron.NULL_VALUE, catchupLatencyCounter.get());
+            assertThat(mergeLatencyCounter.get(), greaterThanOrEqualTo(catchupLatencyCounter.get()));
+        }
+    }
+
+    @Test
+    @InterruptAfter(30)
+    void shouldFailMergeWhenReplayDoesNotCatchUpWithinWindowThenMergeOnRetry()
+    {
+        try (Publication publication = aeron.addPublication(publicationChannel, STREAM_ID))
+        {
+            final CountersReader counters = aeron.countersReader();
+            final int recordingCounterId = startRecording(aeronArchive, publication, RECORDING_ENDPOINT);
             final long recordingId = RecordingPos.getRecordingId(counters, recordingCounterId);
 
-            publishMessages(publication);
+            publishMessages(publication, MIN_MESSAGES_PER_TERM);
             Tests.awaitPosition(counters, recordingCounterId, publication.position());
-            int attempt = 1;
 
-            while (!attemptReplayMerge(
-                attempt, recordingId, recordingCounterId, counters, publication, subscriptionChannel))
+            final ReplayMergeParams params = new ReplayMergeParams()
+                .replayFileIoMaxLength(4096)
+                .catchupWindowMs(50);
+
+            try (Subscription subscription = aeron.addSubscription(subscriptionChannel(publication), STREAM_ID);
+                ReplayMerge replayMerge = new ReplayMerge(
+                    subscription,
+                    new AeronArchive[]{ aeronArchive },
+                    new long[]{ recordingId },
+                    replayChannel(publication),
+                    replayDestination,
+                    new String[]{ liveDestination },
+                    receivedPosition.get(),
+                    aeron.context().epochClock(),
+                    TimeUnit.SECONDS.toMillis(5),
+                    params))
             {
-                Tests.yield();
-                attempt++;
+                final TimeoutException exception = assertThrowsExactly(
+                    TimeoutException.class, () -> consumeAtHalfPublicationRate(publication, replayMerge));
+
+                assertThat(exception.getMessage(), containsString("unable to catch up with live"));
+                assertTrue(replayMerge.hasFailed());
+                assertFalse(replayMerge.isLiveAdded());
             }
 
-            assertEquals(TOTAL_MESSAGE_COUNT, receivedMessageCount.get());
-            assertEquals(publication.position(), receivedPosition.get());
+            totalMessageCount = messagesPublished;
+
+            final BiFunction<Subscription, String, ReplayMerge> factory = (sub, channel) -> new ReplayMerge(
+                sub,
+                aeronArchive,
+                channel,
+                replayDestination,
+                liveDestination,
+                recordingId,
+                receivedPosition.get());
+
+            replayMergeToLive(publication, recordingCounterId, recordingId, factory);
         }
     }
 
-    private boolean attemptReplayMerge(
-        final int attempt,
+    private ReplayMerge replayMergeToLive(
+        final Publication publication,
+        final int recordingCounterId,
         final long recordingId,
+        final BiFunction<Subscription, String, ReplayMerge> replayMergeFactory)
+    {
+        final CountersReader counters = aeron.countersReader();
+        int attempt = 1;
+        ReplayMerge replayMerge;
+
+        while (null == (replayMerge = attemptReplayMerge(
+            attempt, recordingCounterId, recordingId, counters, publication, replayMergeFactory)))
+        {
+            Tests.yield();
+            attempt++;
+        }
+
+        assertEquals(totalMessageCount, receivedMessageCount.get());
+        assertEquals(publication.position(), receivedPosition.get());
+
+        return replayMerge;
+    }
+
+    private ReplayMerge attemptReplayMerge(
+        final int attempt,
         final int recordingCounterId,
+        final long recordingId,
         final CountersReader counters,
         final Publication publication,
-        final String subscriptionChannel)
+        final BiFunction<Subscription, String, ReplayMerge> replayMergeFactory)
     {
-        final String replayChannel = new ChannelUriStringBuilder()
-            .media(CommonContext.UDP_MEDIA)
-            .sessionId(publication.sessionId())
-            .build();
-
-        try (Subscription subscription = aeron.addSubscription(subscriptionChannel, STREAM_ID);
-            ReplayMerge replayMerge = new ReplayMerge(
-                subscription,
-                aeronArchive,
-                replayChannel,
-                replayDestination,
-                liveDestination,
-                recordingId,
-                receivedPosition.get()))
+        try (Subscription subscription = aeron.addSubscription(subscriptionChannel(publication), STREAM_ID);
+            ReplayMerge replayMerge = replayMergeFactory.apply(subscription, replayChannel(publication)))
         {
             final Supplier<String> msgOne = () -> String.format(
                 "replay did not merge: attempt=%d %s", attempt, replayMerge);
             final Supplier<String> msgTwo = () -> String.format(
                 "receivedMessageCount=%d < totalMessageCount=%d: attempt=%d %s",
-                receivedMessageCount.get(), TOTAL_MESSAGE_COUNT, attempt, replayMerge);
+                receivedMessageCount.get(), totalMessageCount, attempt, replayMerge);
 
-            for (int i = messagesPublished; i < TOTAL_MESSAGE_COUNT; i++)
+            for (int i = messagesPublished; i < totalMessageCount; i++)
             {
                 while (true)
                 {
@@ -247,7 +374,7 @@ class ReplayMergeTest
 
                         if (0 == replayMerge.poll(fragmentHandler, FRAGMENT_LIMIT) && replayMerge.hasFailed())
                         {
-                            return false;
+                            return null;
                         }
                     }
                     else if (Publication.NOT_CONNECTED == offerResult)
@@ -262,7 +389,7 @@ class ReplayMergeTest
 
                 if (0 == replayMerge.poll(fragmentHandler, FRAGMENT_LIMIT) && replayMerge.hasFailed())
                 {
-                    return false;
+                    return null;
                 }
             }
 
@@ -272,20 +399,20 @@ class ReplayMergeTest
                 {
                     if (replayMerge.hasFailed())
                     {
-                        return false;
+                        return null;
                     }
                     Tests.yieldingIdle(msgOne);
                 }
             }
 
             final Image image = replayMerge.image();
-            while (receivedMessageCount.get() < TOTAL_MESSAGE_COUNT)
+            while (receivedMessageCount.get() < totalMessageCount)
             {
                 if (0 == image.poll(fragmentHandler, FRAGMENT_LIMIT))
                 {
                     if (image.isClosed())
                     {
-                        return false;
+                        return null;
                     }
                     Tests.yieldingIdle(msgTwo);
                 }
@@ -294,9 +421,32 @@ class ReplayMergeTest
             assertTrue(replayMerge.isMerged());
             assertTrue(replayMerge.isLiveAdded());
             assertFalse(replayMerge.hasFailed());
+
+            return replayMerge;
         }
+    }
 
-        return true;
+    private void consumeAtHalfPublicationRate(final Publication publication, final ReplayMerge replayMerge)
+    {
+        final Supplier<String> msg = () -> String.format(
+            "replay did not fail: messagesPublished=%d receivedMessageCount=%d %s",
+            messagesPublished, receivedMessageCount.get(), replayMerge);
+
+        while (true)
+        {
+            if (offerMessage(publication, messagesPublished) > 0)
+            {
+                messagesPublished++;
+                if (0 == (messagesPublished & 1))
+                {
+                    replayMerge.poll(fragmentHandler, 1);
+                }
+            }
+            else
+            {
+                Tests.yieldingIdle(msg);
+            }
+        }
     }
 
     static void awaitRecordingPositionChange(
@@ -330,6 +480,53 @@ class ReplayMergeTest
         while (currentPosition == counters.getCounterValue(counterId) && currentPosition < position);
     }
 
+    private int startRecording(
+        final AeronArchive aeronArchive, final Publication publication, final String recordingEndpoint)
+    {
+        aeronArchive.startRecording(recordingChannel(publication, recordingEndpoint), STREAM_ID, REMOTE, true);
+
+        return Tests.awaitRecordingCounterId(
+            aeron.countersReader(), publication.sessionId(), aeronArchive.archiveId());
+    }
+
+    private static String recordingChannel(final Publication publication, final String recordingEndpoint)
+    {
+        return new ChannelUriStringBuilder()
+            .media(CommonContext.UDP_MEDIA)
+            .endpoint(recordingEndpoint)
+            .controlEndpoint(CONTROL_ENDPOINT)
+            .sessionId(publication.sessionId())
+            .groupTag(GROUP_TAG)
+            .build();
+    }
+
+    private static String subscriptionChannel(final Publication publication)
+    {
+        return new ChannelUriStringBuilder()
+            .media(CommonContext.UDP_MEDIA)
+            .controlMode(CommonContext.MDC_CONTROL_MODE_MANUAL)
+            .sessionId(publication.sessionId())
+            .build();
+    }
+
+    private static String replayChannel(final Publication publication)
+    {
+        return new ChannelUriStringBuilder()
+            .media(CommonContext.UDP_MEDIA)
+            .sessionId(publication.sessionId())
+            .build();
+    }
+
+    private AeronArchive.Context newAeronArchiveContext(final Archive archive)
+    {
+        return new AeronArchive.Context()
+            .errorHandler(Tests::onError)
+            .controlRequestChannel(archive.context().localControlChannel())
+            .controlRequestStreamId(archive.context().localControlStreamId())
+            .controlResponseChannel(archive.context().localControlChannel())
+            .aeron(aeron);
+    }
+
     private long offerMessage(final Publication publication, final int index)
     {
         int length = buffer.putStringWithoutLengthAscii(0, MESSAGE_PREFIX);
@@ -338,19 +535,16 @@ class ReplayMergeTest
         return publication.offer(buffer, 0, length);
     }
 
-    private void publishMessages(final Publication publication)
+    private void publishMessages(final Publication publication, final int count)
     {
-        for (int i = 0; i < INITIAL_MESSAGE_COUNT; i++)
+        for (int i = 0; i < count; i++)
         {
-            int length = buffer.putStringWithoutLengthAscii(0, MESSAGE_PREFIX);
-            length += buffer.putIntAscii(length, i);
-
-            while (publication.offer(buffer, 0, length) <= 0)
+            while (offerMessage(publication, messagesPublished) <= 0)
             {
                 Tests.yield();
             }
-        }
 
-        messagesPublished = INITIAL_MESSAGE_COUNT;
+            messagesPublished++;
+        }
     }
 }
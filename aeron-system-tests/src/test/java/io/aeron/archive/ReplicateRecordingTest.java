@@ -57,6 +57,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -797,6 +799,60 @@ class ReplicateRecordingTest
         }
     }
 
+    @Test
+    @InterruptAfter(10)
+    void shouldVerifySegmentsAndReplicateFromFirstSegmentWhichDiffers() throws IOException
+    {
+        final long srcRecordingId = createStoppedRecording(
+            srcAeronArchive, srcRecordingSignalConsumer, "aeron:ipc?term-length=64K", 3333, "verify segments", 20);
+
+        dstRecordingSignalConsumer.reset();
+        dstAeronArchive.replicate(
+            srcRecordingId, SRC_CONTROL_STREAM_ID, SRC_CONTROL_REQUEST_CHANNEL, new ReplicationParams());
+        awaitSignal(dstAeronArchive, dstRecordingSignalConsumer, REPLICATE);
+        final long dstRecordingId = dstRecordingSignalConsumer.recordingId;
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, SYNC);
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, REPLICATE_END);
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, STOP);
+
+        final long startPosition = dstAeronArchive.getStartPosition(dstRecordingId);
+        final long stopPosition = dstAeronArchive.getStopPosition(dstRecordingId);
+        final long length = stopPosition - startPosition;
+        final long checksum = srcAeronArchive.getSegmentChecksum(srcRecordingId, startPosition, length);
+        assertEquals(checksum, dstAeronArchive.getSegmentChecksum(dstRecordingId, startPosition, length));
+
+        final File segmentFile = new File(
+            dstArchive.context().archiveDir(), Archive.segmentFileName(dstRecordingId, startPosition));
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw"))
+        {
+            final long payloadOffset = 40;
+            file.seek(payloadOffset);
+            final int value = file.read();
+            file.seek(payloadOffset);
+            file.write(value + 1);
+        }
+        assertNotEquals(checksum, dstAeronArchive.getSegmentChecksum(dstRecordingId, startPosition, length));
+
+        dstArchive.context().replicationSegmentVerification(true);
+        dstRecordingSignalConsumer.reset();
+        dstAeronArchive.replicate(
+            srcRecordingId,
+            SRC_CONTROL_STREAM_ID,
+            SRC_CONTROL_REQUEST_CHANNEL,
+            new ReplicationParams()
+            .dstRecordingId(dstRecordingId)
+            .replicationSessionId((int)dstAeronArchive.context().aeron().nextCorrelationId()));
+
+        awaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, EXTEND);
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, SYNC);
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, REPLICATE_END);
+        resetAndAwaitSignal(dstAeronArchive, dstRecordingSignalConsumer, dstRecordingId, STOP);
+
+        assertEquals(stopPosition, dstAeronArchive.getStopPosition(dstRecordingId));
+        assertEquals(checksum, dstAeronArchive.getSegmentChecksum(dstRecordingId, startPosition, length));
+        validateRecordingAreEqual(srcRecordingId, dstRecordingId);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     @InterruptAfter(10)